@@ -0,0 +1,124 @@
+package io.github.felseje.benchmark;
+
+import io.github.felseje.cnpj.Cnpj;
+import io.github.felseje.cnpj.CnpjType;
+import io.github.felseje.cnpj.CnpjUtils;
+import io.github.felseje.cpf.Cpf;
+import io.github.felseje.cpf.CpfUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the batch validation of fixed-length records and of string arrays, compared with validating one
+ * value per call.
+ *
+ * <p> The {@code Vector} benchmarks fork with {@code --add-modules jdk.incubator.vector}, so the vectorized kernel is
+ * used; the others run on the scalar kernel. Each batch mixes valid records with wrong check digits. </p>
+ *
+ * @author felseje
+ * @since 1.0.0-alpha
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BatchValidationBenchmark {
+
+    private static final String VECTOR_MODULE = "--add-modules=jdk.incubator.vector";
+
+    @Param({"1024", "65536"})
+    private int count;
+
+    private byte[] cpfs;
+    private byte[] cnpjs;
+    private String[] cpfStrings;
+    private long[] validity;
+
+    /**
+     * Lays out {@code count} CPF and CNPJ records back to back, one in four with a wrong last check digit.
+     */
+    @Setup
+    public void setup() {
+        cpfs = new byte[count * Cpf.LENGTH];
+        cnpjs = new byte[count * Cnpj.LENGTH];
+        cpfStrings = new String[count];
+        validity = new long[(count + 63) / 64];
+        for (int i = 0; i < count; i++) {
+            final var cpf = CpfUtils.generate().getBytes(StandardCharsets.US_ASCII);
+            final var cnpj = CnpjUtils.generate(CnpjType.values()[i % 2]).getBytes(StandardCharsets.US_ASCII);
+            if (i % 4 == 0) {
+                cpf[Cpf.LENGTH - 1] = (byte) ('0' + (cpf[Cpf.LENGTH - 1] - '0' + 1) % 10);
+                cnpj[Cnpj.LENGTH - 1] = (byte) ('0' + (cnpj[Cnpj.LENGTH - 1] - '0' + 1) % 10);
+            }
+            System.arraycopy(cpf, 0, cpfs, i * Cpf.LENGTH, Cpf.LENGTH);
+            cpfStrings[i] = CpfUtils.format(new String(cpf, StandardCharsets.US_ASCII));
+            System.arraycopy(cnpj, 0, cnpjs, i * Cnpj.LENGTH, Cnpj.LENGTH);
+        }
+    }
+
+    @Benchmark
+    public int cpfOneByOne() {
+        var valid = 0;
+        for (int i = 0; i < count; i++) {
+            valid += CpfUtils.isValid(cpfs, i * Cpf.LENGTH, Cpf.LENGTH) ? 1 : 0;
+        }
+        return valid;
+    }
+
+    @Benchmark
+    public int cpfBatch() {
+        return CpfUtils.isValidBatch(cpfs, 0, Cpf.LENGTH, count, validity);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = VECTOR_MODULE)
+    public int cpfBatchVector() {
+        return CpfUtils.isValidBatch(cpfs, 0, Cpf.LENGTH, count, validity);
+    }
+
+    @Benchmark
+    public int cpfStringsValidateAll() {
+        return CpfUtils.validateAll(cpfStrings, validity);
+    }
+
+    @Benchmark
+    public long cpfStringsParallelStream() {
+        return Arrays.stream(cpfStrings).parallel().map(CpfUtils::isValid).filter(Boolean::booleanValue).count();
+    }
+
+    @Benchmark
+    public int cnpjOneByOne() {
+        var valid = 0;
+        for (int i = 0; i < count; i++) {
+            valid += CnpjUtils.isValid(cnpjs, i * Cnpj.LENGTH, Cnpj.LENGTH, CnpjType.ALPHANUMERIC) ? 1 : 0;
+        }
+        return valid;
+    }
+
+    @Benchmark
+    public int cnpjBatch() {
+        return CnpjUtils.isValidBatch(cnpjs, 0, Cnpj.LENGTH, count, validity);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = VECTOR_MODULE)
+    public int cnpjBatchVector() {
+        return CnpjUtils.isValidBatch(cnpjs, 0, Cnpj.LENGTH, count, validity);
+    }
+
+}
@@ -0,0 +1,104 @@
+package io.github.felseje.benchmark;
+
+import io.github.felseje.cnpj.Cnpj;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the {@link Cnpj} model: construction from every input shape, and the accessors of an
+ * already built alphanumeric instance.
+ *
+ * @author felseje
+ * @since 1.0.0-alpha
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CnpjBenchmark {
+
+    @Param
+    private CnpjInput input;
+
+    private String value;
+    private Cnpj cnpj;
+    private Cnpj other;
+
+    /**
+     * Resolves the raw input and builds the instances used by the accessor benchmarks.
+     */
+    @Setup
+    public void setup() {
+        value = input.value();
+        cnpj = new Cnpj(CnpjInput.ALPHANUMERIC_FORMATTED.value());
+        other = new Cnpj(CnpjInput.ALPHANUMERIC_UNFORMATTED.value());
+    }
+
+    @Benchmark
+    public Object construct() {
+        try {
+            return new Cnpj(value);
+        } catch (RuntimeException exception) {
+            return exception;
+        }
+    }
+
+    @Benchmark
+    public String getRoot() {
+        return cnpj.getRoot();
+    }
+
+    @Benchmark
+    public String getOrder() {
+        return cnpj.getOrder();
+    }
+
+    @Benchmark
+    public String getCheckDigits() {
+        return cnpj.getCheckDigits();
+    }
+
+    @Benchmark
+    public Object getType() {
+        return cnpj.getType();
+    }
+
+    @Benchmark
+    public String getBase() {
+        return cnpj.getBase();
+    }
+
+    @Benchmark
+    public String getValue() {
+        return cnpj.getValue();
+    }
+
+    @Benchmark
+    public String toStringFormatted() {
+        return cnpj.toString();
+    }
+
+    @Benchmark
+    public int hashCodeOf() {
+        return cnpj.hashCode();
+    }
+
+    @Benchmark
+    public boolean equalsOther() {
+        return cnpj.equals(other);
+    }
+
+}
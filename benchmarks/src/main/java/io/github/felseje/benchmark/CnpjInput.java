@@ -0,0 +1,82 @@
+package io.github.felseje.benchmark;
+
+import io.github.felseje.cnpj.CnpjType;
+
+/**
+ * Representative CNPJ inputs used as JMH parameters.
+ *
+ * <p> Covers both {@link CnpjType#NUMERIC} and {@link CnpjType#ALPHANUMERIC} values in formatted, unformatted and
+ * dirty shapes, as well as the usual rejection cases. </p>
+ *
+ * @author felseje
+ * @since 1.0.0-alpha
+ */
+public enum CnpjInput {
+
+    /**
+     * A valid numeric CNPJ in the standard mask.
+     */
+    NUMERIC_FORMATTED("12.345.678/0001-95", CnpjType.NUMERIC),
+
+    /**
+     * A valid numeric CNPJ containing only digits.
+     */
+    NUMERIC_UNFORMATTED("12345678000195", CnpjType.NUMERIC),
+
+    /**
+     * A valid numeric CNPJ with surrounding and interleaved spaces.
+     */
+    NUMERIC_DIRTY(" 12.345.678 / 0001-95 ", CnpjType.NUMERIC),
+
+    /**
+     * A valid alphanumeric CNPJ in the standard mask.
+     */
+    ALPHANUMERIC_FORMATTED("12.ABC.345/01DE-35", CnpjType.ALPHANUMERIC),
+
+    /**
+     * A valid alphanumeric CNPJ without separators.
+     */
+    ALPHANUMERIC_UNFORMATTED("12ABC34501DE35", CnpjType.ALPHANUMERIC),
+
+    /**
+     * A valid alphanumeric CNPJ written in lowercase and padded with spaces.
+     */
+    ALPHANUMERIC_DIRTY(" 12.abc.345/01de-35 ", CnpjType.ALPHANUMERIC),
+
+    /**
+     * A numeric CNPJ with one digit missing.
+     */
+    INVALID_LENGTH("12.345.678/0001-9", CnpjType.NUMERIC),
+
+    /**
+     * A well-formed numeric CNPJ whose last check digit is wrong.
+     */
+    WRONG_CHECK_DIGIT("12.345.678/0001-96", CnpjType.NUMERIC);
+
+    private final String value;
+    private final CnpjType type;
+
+    CnpjInput(final String value, final CnpjType type) {
+        this.value = value;
+        this.type = type;
+    }
+
+    /**
+     * Returns the raw input string.
+     *
+     * @return the CNPJ input.
+     */
+    public String value() {
+        return value;
+    }
+
+    /**
+     * Returns the CNPJ type the input is meant to be validated against.
+     *
+     * @return the expected CNPJ type.
+     */
+    public CnpjType type() {
+        return type;
+    }
+
+}
@@ -0,0 +1,159 @@
+package io.github.felseje.benchmark;
+
+import io.github.felseje.cnpj.CnpjType;
+import io.github.felseje.cnpj.CnpjUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the input-dependent methods of {@link CnpjUtils} and {@link CnpjType}.
+ *
+ * <p> Methods that throw on invalid input return the thrown exception instead, so the cost of the
+ * rejection path (including the stack trace) is part of the measurement. </p>
+ *
+ * @author felseje
+ * @since 1.0.0-alpha
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CnpjUtilsBenchmark {
+
+    @Param
+    private CnpjInput input;
+
+    private String value;
+    private CnpjType type;
+    private String normalized;
+    private byte[] bytes;
+    private ByteBuffer direct;
+
+    /**
+     * Resolves the raw input, also as ASCII bytes on and off the heap, its expected type and, when possible,
+     * its normalized form.
+     */
+    @Setup
+    public void setup() {
+        value = input.value();
+        bytes = value.getBytes(StandardCharsets.US_ASCII);
+        direct = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+        type = input.type();
+        try {
+            normalized = CnpjUtils.normalize(value);
+        } catch (RuntimeException exception) {
+            normalized = value;
+        }
+    }
+
+    @Benchmark
+    public Object isValid() {
+        try {
+            return CnpjUtils.isValid(value);
+        } catch (RuntimeException exception) {
+            return exception;
+        }
+    }
+
+    @Benchmark
+    public boolean isValidWithType() {
+        return CnpjUtils.isValid(value, type);
+    }
+
+    @Benchmark
+    public boolean isValidWithTypeDecodedBytes() {
+        return CnpjUtils.isValid(new String(bytes, StandardCharsets.US_ASCII), type);
+    }
+
+    @Benchmark
+    public boolean isValidWithTypeBytes() {
+        return CnpjUtils.isValid(bytes, 0, bytes.length, type);
+    }
+
+    @Benchmark
+    public boolean isValidWithTypeDirectBuffer() {
+        return CnpjUtils.isValid(direct, 0, bytes.length, type);
+    }
+
+    @Benchmark
+    public Object validate() {
+        try {
+            CnpjUtils.validate(value);
+            return Boolean.TRUE;
+        } catch (RuntimeException exception) {
+            return exception;
+        }
+    }
+
+    @Benchmark
+    public Object validateWithType() {
+        try {
+            CnpjUtils.validate(value, type);
+            return Boolean.TRUE;
+        } catch (RuntimeException exception) {
+            return exception;
+        }
+    }
+
+    @Benchmark
+    public Object classify() {
+        try {
+            return CnpjUtils.classify(normalized);
+        } catch (RuntimeException exception) {
+            return exception;
+        }
+    }
+
+    @Benchmark
+    public Object format() {
+        try {
+            return CnpjUtils.format(value);
+        } catch (RuntimeException exception) {
+            return exception;
+        }
+    }
+
+    @Benchmark
+    public Object clear() {
+        try {
+            return CnpjUtils.clear(value);
+        } catch (RuntimeException exception) {
+            return exception;
+        }
+    }
+
+    @Benchmark
+    public Object normalize() {
+        try {
+            return CnpjUtils.normalize(value);
+        } catch (RuntimeException exception) {
+            return exception;
+        }
+    }
+
+    @Benchmark
+    public Object detectFrom() {
+        return CnpjType.detectFrom(value);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return type.matches(value);
+    }
+
+}
@@ -0,0 +1,89 @@
+package io.github.felseje.benchmark;
+
+import io.github.felseje.cpf.Cpf;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the {@link Cpf} model: construction from every input shape, and the accessors of an
+ * already built instance.
+ *
+ * @author felseje
+ * @since 1.0.0-alpha
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CpfBenchmark {
+
+    @Param
+    private CpfInput input;
+
+    private String value;
+    private Cpf cpf;
+    private Cpf other;
+
+    /**
+     * Resolves the raw input and builds the instances used by the accessor benchmarks.
+     */
+    @Setup
+    public void setup() {
+        value = input.value();
+        cpf = new Cpf(CpfInput.FORMATTED.value());
+        other = new Cpf(CpfInput.UNFORMATTED.value());
+    }
+
+    @Benchmark
+    public Object construct() {
+        try {
+            return new Cpf(value);
+        } catch (RuntimeException exception) {
+            return exception;
+        }
+    }
+
+    @Benchmark
+    public String getBase() {
+        return cpf.getBase();
+    }
+
+    @Benchmark
+    public String getCheckDigits() {
+        return cpf.getCheckDigits();
+    }
+
+    @Benchmark
+    public String getValue() {
+        return cpf.getValue();
+    }
+
+    @Benchmark
+    public String toStringFormatted() {
+        return cpf.toString();
+    }
+
+    @Benchmark
+    public int hashCodeOf() {
+        return cpf.hashCode();
+    }
+
+    @Benchmark
+    public boolean equalsOther() {
+        return cpf.equals(other);
+    }
+
+}
@@ -0,0 +1,54 @@
+package io.github.felseje.benchmark;
+
+/**
+ * Representative CPF inputs used as JMH parameters.
+ *
+ * <p> Each constant covers one input shape seen in production feeds, so that the happy path,
+ * the cleaning path and the rejection paths are all measured against the same baseline. </p>
+ *
+ * @author felseje
+ * @since 1.0.0-alpha
+ */
+public enum CpfInput {
+
+    /**
+     * A valid CPF in the standard mask, e.g. {@code 012.345.678-90}.
+     */
+    FORMATTED("012.345.678-90"),
+
+    /**
+     * A valid CPF containing only digits, e.g. {@code 01234567890}.
+     */
+    UNFORMATTED("01234567890"),
+
+    /**
+     * A valid CPF surrounded and interleaved with noise (spaces and stray letters).
+     */
+    DIRTY(" 012 .345. 678 -x 90 "),
+
+    /**
+     * A CPF with one digit missing.
+     */
+    INVALID_LENGTH("012.345.678-9"),
+
+    /**
+     * A well-formed CPF whose last check digit is wrong.
+     */
+    WRONG_CHECK_DIGIT("012.345.678-91");
+
+    private final String value;
+
+    CpfInput(final String value) {
+        this.value = value;
+    }
+
+    /**
+     * Returns the raw input string.
+     *
+     * @return the CPF input.
+     */
+    public String value() {
+        return value;
+    }
+
+}
@@ -0,0 +1,111 @@
+package io.github.felseje.benchmark;
+
+import io.github.felseje.cpf.CpfUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the input-dependent methods of {@link CpfUtils}.
+ *
+ * <p> Methods that throw on invalid input return the thrown exception instead, so the cost of the
+ * rejection path (including the stack trace) is part of the measurement. </p>
+ *
+ * @author felseje
+ * @since 1.0.0-alpha
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CpfUtilsBenchmark {
+
+    @Param
+    private CpfInput input;
+
+    private String value;
+    private byte[] bytes;
+    private ByteBuffer direct;
+
+    /**
+     * Resolves the raw input for the current parameter, also as ASCII bytes on and off the heap.
+     */
+    @Setup
+    public void setup() {
+        value = input.value();
+        bytes = value.getBytes(StandardCharsets.US_ASCII);
+        direct = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+    }
+
+    @Benchmark
+    public boolean isValid() {
+        return CpfUtils.isValid(value);
+    }
+
+    @Benchmark
+    public boolean isValidDecodedBytes() {
+        return CpfUtils.isValid(new String(bytes, StandardCharsets.US_ASCII));
+    }
+
+    @Benchmark
+    public boolean isValidBytes() {
+        return CpfUtils.isValid(bytes, 0, bytes.length);
+    }
+
+    @Benchmark
+    public boolean isValidDirectBuffer() {
+        return CpfUtils.isValid(direct, 0, bytes.length);
+    }
+
+    @Benchmark
+    public Object validate() {
+        try {
+            CpfUtils.validate(value);
+            return Boolean.TRUE;
+        } catch (RuntimeException exception) {
+            return exception;
+        }
+    }
+
+    @Benchmark
+    public Object clear() {
+        try {
+            return CpfUtils.clear(value);
+        } catch (RuntimeException exception) {
+            return exception;
+        }
+    }
+
+    @Benchmark
+    public Object normalize() {
+        try {
+            return CpfUtils.normalize(value);
+        } catch (RuntimeException exception) {
+            return exception;
+        }
+    }
+
+    @Benchmark
+    public Object format() {
+        try {
+            return CpfUtils.format(value);
+        } catch (RuntimeException exception) {
+            return exception;
+        }
+    }
+
+}
@@ -0,0 +1,51 @@
+package io.github.felseje.benchmark;
+
+import io.github.felseje.cnpj.CnpjType;
+import io.github.felseje.cnpj.CnpjUtils;
+import io.github.felseje.cpf.CpfUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the input-independent generation methods of {@link CpfUtils} and {@link CnpjUtils}.
+ *
+ * @author felseje
+ * @since 1.0.0-alpha
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GenerationBenchmark {
+
+    @Param({"false", "true"})
+    private boolean formatted;
+
+    @Benchmark
+    public String generateCpf() {
+        return formatted ? CpfUtils.generate(true) : CpfUtils.generate();
+    }
+
+    @Benchmark
+    public String generateNumericCnpj() {
+        return formatted ? CnpjUtils.generate(CnpjType.NUMERIC, true) : CnpjUtils.generate(CnpjType.NUMERIC);
+    }
+
+    @Benchmark
+    public String generateAlphanumericCnpj() {
+        return formatted ? CnpjUtils.generate(CnpjType.ALPHANUMERIC, true) : CnpjUtils.generate(CnpjType.ALPHANUMERIC);
+    }
+
+}
@@ -0,0 +1,259 @@
+package io.github.felseje.bulk;
+
+/**
+ * A document field of a CNAB record: a document-type flag followed by a zero-padded document number, both at fixed
+ * positions of the records of a given type and, for CNAB 240, segment.
+ *
+ * <p>Positions are one-based and inclusive, as in the FEBRABAN and bank layout manuals. The flag is read as a number:
+ * {@code 1} means a CPF, held in the last 11 characters of the number; {@code 2} means a CNPJ, held in the last 14
+ * characters; {@code 0} or blanks mean that no document is informed.</p>
+ *
+ * <p>Example, the payer of a CNAB 240 segment Q:</p>
+ * <pre>{@code
+ * CnabField payer = CnabField.builder("pagador")
+ *         .recordType('3')
+ *         .segment('Q')
+ *         .flag(18, 1)
+ *         .number(19, 15)
+ *         .build();
+ * }</pre>
+ *
+ * <p>Instances are immutable.</p>
+ *
+ * @author felseje
+ * @since 1.0.0-alpha
+ */
+public final class CnabField {
+
+    /**
+     * The segment of a field read from records of any segment.
+     */
+    public static final char ANY_SEGMENT = '\0';
+
+    /**
+     * The maximum width of a document-type flag.
+     */
+    public static final int MAX_FLAG_WIDTH = 2;
+
+    /**
+     * The minimum width of a document number, the length of a CNPJ.
+     */
+    public static final int MIN_NUMBER_WIDTH = 14;
+
+    private final String name;
+    private final char recordType;
+    private final char segment;
+    private final int flagPosition;
+    private final int flagWidth;
+    private final int numberPosition;
+    private final int numberWidth;
+
+    private CnabField(final Builder builder) {
+        this.name = builder.name;
+        this.recordType = builder.recordType;
+        this.segment = builder.segment;
+        this.flagPosition = builder.flagPosition;
+        this.flagWidth = builder.flagWidth;
+        this.numberPosition = builder.numberPosition;
+        this.numberWidth = builder.numberWidth;
+    }
+
+    /**
+     * Creates a builder for a field.
+     *
+     * @param name the name of the field, as reported for invalid records.
+     * @return a new builder.
+     * @throws IllegalArgumentException if {@code name} is {@code null} or blank.
+     */
+    public static Builder builder(String name) throws IllegalArgumentException {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("The field name must not be null or blank");
+        }
+        return new Builder(name);
+    }
+
+    /**
+     * Returns the name of the field.
+     *
+     * @return the name.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the type of the records holding the field.
+     *
+     * @return the record type character.
+     */
+    public char getRecordType() {
+        return recordType;
+    }
+
+    /**
+     * Returns the segment of the records holding the field.
+     *
+     * @return the segment code, or {@link #ANY_SEGMENT}.
+     */
+    public char getSegment() {
+        return segment;
+    }
+
+    /**
+     * Returns the position of the document-type flag.
+     *
+     * @return the one-based position of the first character of the flag.
+     */
+    public int getFlagPosition() {
+        return flagPosition;
+    }
+
+    /**
+     * Returns the width of the document-type flag.
+     *
+     * @return the number of characters of the flag.
+     */
+    public int getFlagWidth() {
+        return flagWidth;
+    }
+
+    /**
+     * Returns the position of the document number.
+     *
+     * @return the one-based position of the first character of the number.
+     */
+    public int getNumberPosition() {
+        return numberPosition;
+    }
+
+    /**
+     * Returns the width of the document number.
+     *
+     * @return the number of characters of the number.
+     */
+    public int getNumberWidth() {
+        return numberWidth;
+    }
+
+    @Override
+    public String toString() {
+        return "CnabField{name=" + name + ", recordType=" + recordType
+                + (segment == ANY_SEGMENT ? "" : ", segment=" + segment)
+                + ", flag=" + flagPosition + "-" + (flagPosition + flagWidth - 1)
+                + ", number=" + numberPosition + "-" + (numberPosition + numberWidth - 1) + "}";
+    }
+
+    /**
+     * Builds a {@link CnabField}.
+     *
+     * <p>Builders are not thread-safe.</p>
+     */
+    public static final class Builder {
+
+        private final String name;
+        private char recordType;
+        private char segment = ANY_SEGMENT;
+        private int flagPosition;
+        private int flagWidth;
+        private int numberPosition;
+        private int numberWidth;
+
+        private Builder(final String name) {
+            this.name = name;
+        }
+
+        /**
+         * Sets the type of the records holding the field.
+         *
+         * @param recordType the record type, an ASCII character.
+         * @return this builder.
+         * @throws IllegalArgumentException if {@code recordType} is not a printable ASCII character.
+         */
+        public Builder recordType(char recordType) throws IllegalArgumentException {
+            this.recordType = requireCode(recordType, "record type");
+            return this;
+        }
+
+        /**
+         * Sets the segment of the records holding the field, for layouts with segments.
+         *
+         * @param segment the segment code, an ASCII character.
+         * @return this builder.
+         * @throws IllegalArgumentException if {@code segment} is not a printable ASCII character.
+         */
+        public Builder segment(char segment) throws IllegalArgumentException {
+            this.segment = requireCode(segment, "segment");
+            return this;
+        }
+
+        /**
+         * Sets the position of the document-type flag.
+         *
+         * @param position the one-based position of the first character of the flag.
+         * @param width    the number of characters of the flag, at most {@link #MAX_FLAG_WIDTH}.
+         * @return this builder.
+         * @throws IllegalArgumentException if {@code position} is not positive or {@code width} is out of range.
+         */
+        public Builder flag(int position, int width) throws IllegalArgumentException {
+            if (position < 1) {
+                throw new IllegalArgumentException("The flag position must be positive");
+            }
+            if (width < 1 || width > MAX_FLAG_WIDTH) {
+                throw new IllegalArgumentException("The flag width must be between 1 and " + MAX_FLAG_WIDTH);
+            }
+            this.flagPosition = position;
+            this.flagWidth = width;
+            return this;
+        }
+
+        /**
+         * Sets the position of the zero-padded document number.
+         *
+         * @param position the one-based position of the first character of the number.
+         * @param width    the number of characters of the number, at least {@link #MIN_NUMBER_WIDTH}.
+         * @return this builder.
+         * @throws IllegalArgumentException if {@code position} is not positive or {@code width} is too small.
+         */
+        public Builder number(int position, int width) throws IllegalArgumentException {
+            if (position < 1) {
+                throw new IllegalArgumentException("The number position must be positive");
+            }
+            if (width < MIN_NUMBER_WIDTH) {
+                throw new IllegalArgumentException("The number width must be at least " + MIN_NUMBER_WIDTH);
+            }
+            this.numberPosition = position;
+            this.numberWidth = width;
+            return this;
+        }
+
+        /**
+         * Builds the field.
+         *
+         * @return the field.
+         * @throws IllegalArgumentException if the record type, the flag or the number is not set, or the flag and the
+         *                                  number overlap.
+         */
+        public CnabField build() throws IllegalArgumentException {
+            if (recordType == 0) {
+                throw new IllegalArgumentException("The record type of the field " + name + " must be set");
+            }
+            if (flagWidth == 0 || numberWidth == 0) {
+                throw new IllegalArgumentException("The flag and the number of the field " + name + " must be set");
+            }
+            if (flagPosition < numberPosition + numberWidth && numberPosition < flagPosition + flagWidth) {
+                throw new IllegalArgumentException("The flag and the number of the field " + name
+                        + " must not overlap");
+            }
+            return new CnabField(this);
+        }
+
+        private static char requireCode(final char code, final String name) {
+            if (code <= ' ' || code >= Byte.MAX_VALUE) {
+                throw new IllegalArgumentException("The " + name + " must be a printable ASCII character");
+            }
+            return code;
+        }
+
+    }
+
+}
@@ -0,0 +1,241 @@
+package io.github.felseje.bulk;
+
+import io.github.felseje.internal.bulk.CnabPlan;
+import io.github.felseje.spi.ValidationEngines;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The layout of a CNAB remittance or return file: its record length, the positions of the record type and segment
+ * codes, and the document fields of its records.
+ *
+ * <p>A layout is declared once with a {@link Builder}, or taken from the presets, and compiled into a
+ * {@link CnabValidator}. Document fields are numbered in declaration order, and field {@code i} is reported by bit
+ * {@code i} of a record mask.</p>
+ *
+ * <p>The presets cover the documents of the FEBRABAN CNAB 240 layout, and of the CNAB 400 detail record shared by
+ * most banks; other bank-specific fields can be declared on a custom layout.</p>
+ *
+ * <p>Instances are immutable.</p>
+ *
+ * @author felseje
+ * @since 1.0.0-alpha
+ */
+public final class CnabLayout {
+
+    /**
+     * The maximum number of document fields of a layout, one per bit of a record mask but the sign bit.
+     */
+    public static final int MAX_FIELDS = Integer.SIZE - 1;
+
+    /**
+     * The FEBRABAN CNAB 240 layout: record type at position 8 and segment at position 14, with the company of the file
+     * header ({@code 0}), the payer and guarantor of segment Q, the payee of segment B and the payer of segment T.
+     */
+    public static final CnabLayout CNAB_240 = builder(240)
+            .recordTypeAt(8)
+            .segmentAt(14)
+            .field(CnabField.builder("empresa").recordType('0').flag(18, 1).number(19, 14).build())
+            .field(CnabField.builder("pagador").recordType('3').segment('Q').flag(18, 1).number(19, 15).build())
+            .field(CnabField.builder("sacador_avalista").recordType('3').segment('Q').flag(154, 1).number(155, 15)
+                    .build())
+            .field(CnabField.builder("favorecido").recordType('3').segment('B').flag(18, 1).number(19, 14).build())
+            .field(CnabField.builder("pagador").recordType('3').segment('T').flag(133, 1).number(134, 15).build())
+            .build();
+
+    /**
+     * The CNAB 400 layout: record type at position 1, with the company and the payer of the detail record
+     * ({@code 1}).
+     */
+    public static final CnabLayout CNAB_400 = builder(400)
+            .recordTypeAt(1)
+            .field(CnabField.builder("empresa").recordType('1').flag(2, 2).number(4, 14).build())
+            .field(CnabField.builder("pagador").recordType('1').flag(219, 2).number(221, 14).build())
+            .build();
+
+    private final int recordLength;
+    private final int recordTypePosition;
+    private final int segmentPosition;
+    private final List<CnabField> fields;
+
+    private CnabLayout(final int recordLength, final int recordTypePosition, final int segmentPosition,
+                       final List<CnabField> fields) {
+        this.recordLength = recordLength;
+        this.recordTypePosition = recordTypePosition;
+        this.segmentPosition = segmentPosition;
+        this.fields = fields;
+    }
+
+    /**
+     * Creates a builder for a layout whose record type is at position 1 and which has no segment.
+     *
+     * @param recordLength the length of every record, line break excluded.
+     * @return a new builder.
+     * @throws IllegalArgumentException if {@code recordLength} is not positive.
+     */
+    public static Builder builder(int recordLength) throws IllegalArgumentException {
+        if (recordLength < 1) {
+            throw new IllegalArgumentException("The record length must be positive");
+        }
+        return new Builder(recordLength);
+    }
+
+    /**
+     * Returns the length of every record.
+     *
+     * @return the record length, line break excluded.
+     */
+    public int getRecordLength() {
+        return recordLength;
+    }
+
+    /**
+     * Returns the position of the record type.
+     *
+     * @return the one-based position of the record type.
+     */
+    public int getRecordTypePosition() {
+        return recordTypePosition;
+    }
+
+    /**
+     * Returns the position of the segment code.
+     *
+     * @return the one-based position of the segment code, or {@code 0} if the layout has no segment.
+     */
+    public int getSegmentPosition() {
+        return segmentPosition;
+    }
+
+    /**
+     * Returns the document fields of the layout, in declaration order.
+     *
+     * @return an unmodifiable list of fields.
+     */
+    public List<CnabField> getFields() {
+        return fields;
+    }
+
+    /**
+     * Compiles the layout into a validator using the active {@link io.github.felseje.spi.ValidationEngine}.
+     *
+     * @return a validator for files of this layout.
+     */
+    public CnabValidator compile() {
+        final var count = fields.size();
+        final var recordTypes = new byte[count];
+        final var segments = new byte[count];
+        final var flagIndexes = new int[count];
+        final var flagWidths = new int[count];
+        final var numberIndexes = new int[count];
+        final var numberWidths = new int[count];
+        for (int index = 0; index < count; index++) {
+            final var field = fields.get(index);
+            recordTypes[index] = (byte) field.getRecordType();
+            segments[index] = (byte) field.getSegment();
+            flagIndexes[index] = field.getFlagPosition() - 1;
+            flagWidths[index] = field.getFlagWidth();
+            numberIndexes[index] = field.getNumberPosition() - 1;
+            numberWidths[index] = field.getNumberWidth();
+        }
+        final var segmentIndex = segmentPosition == 0 ? CnabPlan.NO_SEGMENT : segmentPosition - 1;
+        return new CnabValidator(this, new CnabPlan(ValidationEngines.active(), recordLength, recordTypePosition - 1,
+                segmentIndex, recordTypes, segments, flagIndexes, flagWidths, numberIndexes, numberWidths));
+    }
+
+    /**
+     * Builds a {@link CnabLayout}.
+     *
+     * <p>Builders are not thread-safe.</p>
+     */
+    public static final class Builder {
+
+        private final int recordLength;
+        private final List<CnabField> fields = new ArrayList<>();
+        private int recordTypePosition = 1;
+        private int segmentPosition;
+
+        private Builder(final int recordLength) {
+            this.recordLength = recordLength;
+        }
+
+        /**
+         * Sets the position of the record type.
+         *
+         * @param position the one-based position of the record type.
+         * @return this builder.
+         * @throws IllegalArgumentException if {@code position} is out of the record.
+         */
+        public Builder recordTypeAt(int position) throws IllegalArgumentException {
+            this.recordTypePosition = requirePosition(position, "record type");
+            return this;
+        }
+
+        /**
+         * Sets the position of the segment code.
+         *
+         * @param position the one-based position of the segment code.
+         * @return this builder.
+         * @throws IllegalArgumentException if {@code position} is out of the record.
+         */
+        public Builder segmentAt(int position) throws IllegalArgumentException {
+            this.segmentPosition = requirePosition(position, "segment");
+            return this;
+        }
+
+        /**
+         * Declares a document field.
+         *
+         * @param field the field.
+         * @return this builder.
+         * @throws IllegalArgumentException if {@code field} is {@code null} or exceeds the record, or there are too
+         *                                  many fields.
+         */
+        public Builder field(CnabField field) throws IllegalArgumentException {
+            if (field == null) {
+                throw new IllegalArgumentException("The field must not be null");
+            }
+            if (field.getFlagPosition() + field.getFlagWidth() - 1 > recordLength
+                    || field.getNumberPosition() + field.getNumberWidth() - 1 > recordLength) {
+                throw new IllegalArgumentException("The field " + field.getName() + " must fit in a record of "
+                        + recordLength + " characters");
+            }
+            if (fields.size() == MAX_FIELDS) {
+                throw new IllegalArgumentException("The layout must not declare more than " + MAX_FIELDS + " fields");
+            }
+            fields.add(field);
+            return this;
+        }
+
+        /**
+         * Builds the layout.
+         *
+         * @return the layout.
+         * @throws IllegalArgumentException if no field is declared, or a field has a segment while the layout has
+         *                                  none.
+         */
+        public CnabLayout build() throws IllegalArgumentException {
+            if (fields.isEmpty()) {
+                throw new IllegalArgumentException("The layout must declare at least one field");
+            }
+            for (final var field : fields) {
+                if (field.getSegment() != CnabField.ANY_SEGMENT && segmentPosition == 0) {
+                    throw new IllegalArgumentException("The field " + field.getName()
+                            + " has a segment, but the layout has no segment position");
+                }
+            }
+            return new CnabLayout(recordLength, recordTypePosition, segmentPosition, List.copyOf(fields));
+        }
+
+        private int requirePosition(final int position, final String name) {
+            if (position < 1 || position > recordLength) {
+                throw new IllegalArgumentException("The " + name + " position must be between 1 and "
+                        + recordLength);
+            }
+            return position;
+        }
+
+    }
+
+}
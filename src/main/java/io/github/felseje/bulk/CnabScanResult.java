@@ -0,0 +1,173 @@
+package io.github.felseje.bulk;
+
+import io.github.felseje.internal.bulk.CnabPlan;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The outcome of validating the records of a CNAB file or region with a {@link CnabValidator}.
+ *
+ * <p>Instances are immutable.</p>
+ *
+ * @author felseje
+ * @since 1.0.0-alpha
+ */
+public final class CnabScanResult {
+
+    private final long lines;
+    private final long records;
+    private final List<InvalidRecord> invalidRecords;
+
+    CnabScanResult(final CnabLayout layout, final List<CnabPlan.Chunk> chunks) {
+        final var invalid = new ArrayList<InvalidRecord>();
+        var lineCount = 0L;
+        var recordCount = 0L;
+        for (final var chunk : chunks) {
+            for (int index = 0; index < chunk.invalidCount(); index++) {
+                invalid.add(new InvalidRecord(layout, lineCount + chunk.invalidLine(index) + 1,
+                        (char) chunk.recordType(index), (char) chunk.segment(index), chunk.invalidFields(index)));
+            }
+            lineCount += chunk.lines();
+            recordCount += chunk.records();
+        }
+        this.lines = lineCount;
+        this.records = recordCount;
+        this.invalidRecords = List.copyOf(invalid);
+    }
+
+    /**
+     * Returns the number of lines.
+     *
+     * @return the number of lines, blank ones included.
+     */
+    public long getLines() {
+        return lines;
+    }
+
+    /**
+     * Returns the number of records.
+     *
+     * @return the number of non-blank lines.
+     */
+    public long getRecords() {
+        return records;
+    }
+
+    /**
+     * Returns the number of valid records.
+     *
+     * @return the number of records whose fields are all valid.
+     */
+    public long getValidRecords() {
+        return records - invalidRecords.size();
+    }
+
+    /**
+     * Returns the invalid records, in file order.
+     *
+     * @return an unmodifiable list of invalid records.
+     */
+    public List<InvalidRecord> getInvalidRecords() {
+        return invalidRecords;
+    }
+
+    @Override
+    public String toString() {
+        return "CnabScanResult{lines=" + lines + ", records=" + records + ", invalidRecords=" + invalidRecords.size()
+                + "}";
+    }
+
+    /**
+     * A record with an invalid document field or a length not matching the layout.
+     */
+    public static final class InvalidRecord {
+
+        private final CnabLayout layout;
+        private final long line;
+        private final char recordType;
+        private final char segment;
+        private final int mask;
+
+        private InvalidRecord(final CnabLayout layout, final long line, final char recordType, final char segment,
+                              final int mask) {
+            this.layout = layout;
+            this.line = line;
+            this.recordType = recordType;
+            this.segment = segment;
+            this.mask = mask;
+        }
+
+        /**
+         * Returns the line of the record.
+         *
+         * @return the one-based line number.
+         */
+        public long getLine() {
+            return line;
+        }
+
+        /**
+         * Returns the type of the record.
+         *
+         * @return the record type character, or {@code '\0'} if the record is too short to hold it.
+         */
+        public char getRecordType() {
+            return recordType;
+        }
+
+        /**
+         * Returns the segment of the record.
+         *
+         * @return the segment code, or {@link CnabField#ANY_SEGMENT} if the layout has no segment or the record is too
+         * short to hold it.
+         */
+        public char getSegment() {
+            return segment;
+        }
+
+        /**
+         * Tells whether the record length does not match the layout.
+         *
+         * @return {@code true} if the record is malformed, its fields being left unchecked; {@code false} otherwise.
+         */
+        public boolean isMalformed() {
+            return mask == CnabValidator.MALFORMED;
+        }
+
+        /**
+         * Returns the record mask, as returned by {@link CnabValidator#validate(byte[], int, int)}.
+         *
+         * @return the mask of the invalid fields, or {@link CnabValidator#MALFORMED}.
+         */
+        public int getMask() {
+            return mask;
+        }
+
+        /**
+         * Returns the invalid fields of the record.
+         *
+         * @return the invalid fields in declaration order, or an empty list if the record is malformed.
+         */
+        public List<CnabField> getInvalidFields() {
+            if (isMalformed()) {
+                return List.of();
+            }
+            final var fields = new ArrayList<CnabField>(Integer.bitCount(mask));
+            for (var bits = mask; bits != 0; bits &= bits - 1) {
+                fields.add(layout.getFields().get(Integer.numberOfTrailingZeros(bits)));
+            }
+            return List.copyOf(fields);
+        }
+
+        @Override
+        public String toString() {
+            return "InvalidRecord{line=" + line + ", recordType=" + recordType
+                    + (segment == CnabField.ANY_SEGMENT ? "" : ", segment=" + segment)
+                    + (isMalformed() ? ", malformed" : ", fields=" + getInvalidFields().stream()
+                    .map(CnabField::getName).toList()) + "}";
+        }
+
+    }
+
+}
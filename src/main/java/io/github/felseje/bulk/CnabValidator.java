@@ -0,0 +1,144 @@
+package io.github.felseje.bulk;
+
+import io.github.felseje.internal.bulk.CnabPlan;
+import io.github.felseje.internal.bulk.MappedLines;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Validates the document fields of the fixed-width records of CNAB files, as compiled from a {@link CnabLayout}.
+ *
+ * <p>Records are read in place: the record type, segment and document-type flag are read from their positions, and
+ * the zero-padded number is handed to the CPF or CNPJ check digits according to the flag, without building any
+ * {@link String}. The outcome of a record is a mask whose bit {@code i} is set if the {@code i}-th declared field is
+ * invalid; records whose length does not match the layout are reported as {@link #MALFORMED}.</p>
+ *
+ * <p>{@link #scan(Path)} validates a whole file of one record per line, ending at {@code '\n'} optionally preceded by
+ * {@code '\r'}, in memory-mapped chunks spread across the common {@link java.util.concurrent.ForkJoinPool}. Blank
+ * lines are counted but skipped.</p>
+ *
+ * <p>Example:</p>
+ * <pre>{@code
+ * CnabScanResult result = CnabLayout.CNAB_240.compile().scan(Path.of("COB240.REM"));
+ * for (CnabScanResult.InvalidRecord record : result.getInvalidRecords()) {
+ *     System.out.println(record.getLine() + " " + record.getSegment() + " " + record.getInvalidFields());
+ * }
+ * }</pre>
+ *
+ * <p>Instances are immutable and thread-safe.</p>
+ *
+ * @author felseje
+ * @since 1.0.0-alpha
+ */
+public final class CnabValidator {
+
+    /**
+     * The record mask of a record whose length does not match the layout.
+     */
+    public static final int MALFORMED = CnabPlan.MALFORMED;
+
+    private final CnabLayout layout;
+    private final CnabPlan plan;
+
+    CnabValidator(final CnabLayout layout, final CnabPlan plan) {
+        this.layout = layout;
+        this.plan = plan;
+    }
+
+    /**
+     * Returns the layout this validator was compiled from.
+     *
+     * @return the layout.
+     */
+    public CnabLayout getLayout() {
+        return layout;
+    }
+
+    /**
+     * Validates the document fields of a record held in ASCII bytes.
+     *
+     * @param record the bytes holding the record.
+     * @param offset the index of the first byte of the record.
+     * @param length the number of bytes of the record, line break excluded.
+     * @return the record mask, whose bit {@code i} is set if the {@code i}-th declared field is invalid, or
+     * {@link #MALFORMED}; {@code 0} if the record is valid.
+     * @throws IllegalArgumentException  if {@code record} is {@code null}.
+     * @throws IndexOutOfBoundsException if the region is out of the array bounds.
+     */
+    public int validate(byte[] record, int offset, int length)
+            throws IllegalArgumentException, IndexOutOfBoundsException {
+        if (record == null) {
+            throw new IllegalArgumentException("The record must not be null");
+        }
+        Objects.checkFromIndexSize(offset, length, record.length);
+        return plan.check(ByteBuffer.wrap(record), offset, length);
+    }
+
+    /**
+     * Validates the document fields of a record held in an ASCII byte buffer.
+     *
+     * <p>The region is given in absolute indexes; the buffer position and limit are left untouched.</p>
+     *
+     * @param record the buffer holding the record.
+     * @param offset the absolute index of the first byte of the record.
+     * @param length the number of bytes of the record, line break excluded.
+     * @return the record mask, whose bit {@code i} is set if the {@code i}-th declared field is invalid, or
+     * {@link #MALFORMED}; {@code 0} if the record is valid.
+     * @throws IllegalArgumentException  if {@code record} is {@code null}.
+     * @throws IndexOutOfBoundsException if the region is out of the buffer limit.
+     */
+    public int validate(ByteBuffer record, int offset, int length)
+            throws IllegalArgumentException, IndexOutOfBoundsException {
+        if (record == null) {
+            throw new IllegalArgumentException("The record must not be null");
+        }
+        Objects.checkFromIndexSize(offset, length, record.limit());
+        return plan.check(record, offset, length);
+    }
+
+    /**
+     * Validates every record of a region of ASCII bytes, one record per line.
+     *
+     * @param records the bytes holding the records.
+     * @param offset  the index of the first byte of the first record.
+     * @param length  the number of bytes of the records.
+     * @return the record counts and the invalid records.
+     * @throws IllegalArgumentException  if {@code records} is {@code null}.
+     * @throws IndexOutOfBoundsException if the region is out of the array bounds.
+     */
+    public CnabScanResult scan(byte[] records, int offset, int length)
+            throws IllegalArgumentException, IndexOutOfBoundsException {
+        if (records == null) {
+            throw new IllegalArgumentException("The records must not be null");
+        }
+        Objects.checkFromIndexSize(offset, length, records.length);
+        return new CnabScanResult(layout, List.of(plan.scan(ByteBuffer.wrap(records, offset, length).slice())));
+    }
+
+    /**
+     * Validates every record of a file, one record per line.
+     *
+     * <p>Files of a single chunk, or scans on a single-threaded common pool, run in the calling thread.</p>
+     *
+     * @param file the file to validate.
+     * @return the record counts and the invalid records.
+     * @throws IllegalArgumentException if {@code file} is {@code null}.
+     * @throws IOException              if the file cannot be read or a record is longer than a mapped region allows.
+     */
+    public CnabScanResult scan(Path file) throws IllegalArgumentException, IOException {
+        if (file == null) {
+            throw new IllegalArgumentException("The file must not be null");
+        }
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return new CnabScanResult(layout, MappedLines.scanChunks(channel, channel.size(),
+                    (buffer, start) -> plan.scan(buffer)));
+        }
+    }
+
+}
@@ -0,0 +1,37 @@
+package io.github.felseje.bulk;
+
+import io.github.felseje.internal.batch.BatchDocument;
+
+/**
+ * The kind of document expected by a bulk scanner.
+ *
+ * <p>Documents are validated as by {@link io.github.felseje.cpf.CpfUtils#isValid(CharSequence)} for {@link #CPF}
+ * and by {@link io.github.felseje.cnpj.CnpjUtils#isValid(CharSequence, io.github.felseje.cnpj.CnpjType)} for
+ * {@link #CNPJ}, formatted or not.</p>
+ *
+ * @author felseje
+ * @since 1.0.0-alpha
+ */
+public enum DocumentKind {
+
+    /**
+     * A CPF.
+     */
+    CPF(BatchDocument.CPF),
+
+    /**
+     * A CNPJ, numeric or alphanumeric.
+     */
+    CNPJ(BatchDocument.CNPJ);
+
+    private final BatchDocument document;
+
+    DocumentKind(final BatchDocument document) {
+        this.document = document;
+    }
+
+    BatchDocument document() {
+        return document;
+    }
+
+}
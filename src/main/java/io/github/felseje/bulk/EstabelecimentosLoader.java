@@ -0,0 +1,183 @@
+package io.github.felseje.bulk;
+
+import io.github.felseje.cnpj.Cnpj;
+import io.github.felseje.internal.bulk.BlockSource;
+import io.github.felseje.internal.bulk.BlockSpliterator;
+import io.github.felseje.internal.bulk.MappedBlockSource;
+import io.github.felseje.internal.bulk.MappedLines;
+import io.github.felseje.internal.bulk.SplitCnpjRows;
+import io.github.felseje.internal.bulk.StreamBlockSource;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Loads the CNPJs of the Receita Federal open CNPJ dataset "Estabelecimentos" files, plain or zipped.
+ *
+ * <p>Those files are {@code ';'}-delimited, {@code '"'}-quoted, Latin-1 encoded and hold no header; their first three
+ * fields, {@code cnpj_basico}, {@code cnpj_ordem} and {@code cnpj_dv}, are the root, order and check digits of the
+ * establishment CNPJ. Each row is read in place: the root and order are packed into a CNPJ key while their check
+ * digits are rebuilt, in the same pass, and compared with {@code cnpj_dv}; no {@link String} is built per row and the
+ * remaining fields are never decoded. Alphanumeric roots and orders are supported.</p>
+ *
+ * <p>Plain files are memory-mapped in chunks. Zip archives, whose entries are read in order, are inflated in blocks
+ * by one thread while other threads decode the blocks already inflated. Either way, parallel streams and
+ * {@link #scan()} spread the rows across the common {@link ForkJoinPool}, keeping the file order.</p>
+ *
+ * <p>Example:</p>
+ * <pre>{@code
+ * try (EstabelecimentosLoader loader = EstabelecimentosLoader.open(Path.of("Estabelecimentos0.zip"))) {
+ *     long[] keys = loader.keys(true).toArray(); // packed keys of the valid rows, in file order
+ * }
+ * }</pre>
+ *
+ * <p>A loader is thread-safe and every call reads the file anew; it must be closed to release the file. Streams fail
+ * with {@link UncheckedIOException} if the file cannot be read.</p>
+ *
+ * @author felseje
+ * @since 1.0.0-alpha
+ */
+public final class EstabelecimentosLoader implements AutoCloseable {
+
+    private static final int ZIP_SIGNATURE = 0x504B0304;
+    private static final int ZIPPED_BLOCK_SIZE = 8 << 20;
+    private static final int INPUT_BUFFER_SIZE = 1 << 16;
+
+    private final Path file;
+    private final FileChannel channel;
+    private final long size;
+    private final boolean zipped;
+
+    private EstabelecimentosLoader(final Path file, final FileChannel channel, final long size,
+                                   final boolean zipped) {
+        this.file = file;
+        this.channel = channel;
+        this.size = size;
+        this.zipped = zipped;
+    }
+
+    /**
+     * Opens a file for loading, telling zip archives from plain files by their signature.
+     *
+     * <p>The file size is read once; bytes appended afterwards are not read.</p>
+     *
+     * @param file the plain or zipped file.
+     * @return a loader over the file.
+     * @throws IllegalArgumentException if {@code file} is {@code null}.
+     * @throws IOException              if the file cannot be opened.
+     */
+    public static EstabelecimentosLoader open(Path file) throws IllegalArgumentException, IOException {
+        if (file == null) {
+            throw new IllegalArgumentException("The file must not be null");
+        }
+        final var channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            final var size = channel.size();
+            final var signature = ByteBuffer.allocate(Integer.BYTES);
+            final var zipped = channel.read(signature, 0) == Integer.BYTES && signature.getInt(0) == ZIP_SIGNATURE;
+            return new EstabelecimentosLoader(file, channel, size, zipped);
+        } catch (IOException | RuntimeException exception) {
+            channel.close();
+            throw exception;
+        }
+    }
+
+    /**
+     * Tells whether the file is a zip archive.
+     *
+     * @return {@code true} if the file is read as a zip archive; {@code false} if it is read as plain text.
+     */
+    public boolean isZipped() {
+        return zipped;
+    }
+
+    /**
+     * Returns the keys of the CNPJs of the valid rows, in file order.
+     *
+     * <p>Keys are packed as by {@link io.github.felseje.cnpj.CnpjUtils#toKey(CharSequence)}; rows whose check digits
+     * do not match are skipped.</p>
+     *
+     * @param parallel whether the rows are decoded in parallel.
+     * @return a stream of CNPJ keys.
+     */
+    public LongStream keys(boolean parallel) {
+        return blocks(parallel, (block, start) -> SplitCnpjRows.decode(block, start, true).keys())
+                .flatMapToLong(LongStream::of);
+    }
+
+    /**
+     * Returns the CNPJs of the valid rows, in file order.
+     *
+     * @param parallel whether the rows are decoded in parallel.
+     * @return a stream of CNPJs.
+     * @see #keys(boolean)
+     */
+    public Stream<Cnpj> cnpjs(boolean parallel) {
+        return keys(parallel).mapToObj(Cnpj::fromKey);
+    }
+
+    /**
+     * Validates every row of the file.
+     *
+     * <p>Offsets count bytes of the data: the file itself when plain, or the inflated entries, in order, when
+     * zipped.</p>
+     *
+     * @return the row counts and the offsets of the invalid rows.
+     * @throws IOException if the file cannot be read or a row is longer than a mapped region allows.
+     */
+    public LineScanResult scan() throws IOException {
+        if (!zipped) {
+            return LineScanResult.merge(MappedLines.scanChunks(channel, size,
+                    (block, start) -> SplitCnpjRows.decode(block, start, false).chunk()));
+        }
+        try (var chunks = blocks(true, (block, start) -> SplitCnpjRows.decode(block, start, false).chunk())) {
+            return LineScanResult.merge(chunks.collect(Collectors.toList()));
+        } catch (UncheckedIOException exception) {
+            throw exception.getCause();
+        }
+    }
+
+    /**
+     * Closes the file.
+     *
+     * @throws IOException if the file cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private <T> Stream<T> blocks(final boolean parallel, final MappedLines.ChunkScanner<T> scanner) {
+        final BlockSource source;
+        if (zipped) {
+            try {
+                final var input = new BufferedInputStream(Files.newInputStream(file), INPUT_BUFFER_SIZE);
+                source = new StreamBlockSource(input, true, ZIPPED_BLOCK_SIZE);
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+        } else {
+            final var chunkSize = MappedLines.chunkSizeFor(size, ForkJoinPool.getCommonPoolParallelism());
+            source = new MappedBlockSource(channel, size, chunkSize);
+        }
+        return StreamSupport.stream(new BlockSpliterator<>(source, scanner), parallel).onClose(() -> {
+            try {
+                source.close();
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+        });
+    }
+
+}
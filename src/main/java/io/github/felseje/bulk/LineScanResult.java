@@ -0,0 +1,93 @@
+package io.github.felseje.bulk;
+
+import io.github.felseje.internal.bulk.MappedLines;
+
+import java.util.List;
+
+/**
+ * The outcome of validating every line of a file with a {@link LineScanner} or an {@link EstabelecimentosLoader}.
+ *
+ * <p>Instances are immutable.</p>
+ *
+ * @author felseje
+ * @since 1.0.0-alpha
+ */
+public final class LineScanResult {
+
+    private final long lines;
+    private final long validLines;
+    private final long[] invalidOffsets;
+
+    LineScanResult(final long lines, final long validLines, final long[] invalidOffsets) {
+        this.lines = lines;
+        this.validLines = validLines;
+        this.invalidOffsets = invalidOffsets;
+    }
+
+    /**
+     * Merges the outcomes of consecutive chunks, in order.
+     *
+     * @param chunks the outcome of each chunk.
+     * @return the outcome of the whole file.
+     */
+    static LineScanResult merge(final List<MappedLines.Chunk> chunks) {
+        long lines = 0;
+        long validLines = 0;
+        var invalidCount = 0;
+        for (final var chunk : chunks) {
+            lines += chunk.lines();
+            validLines += chunk.validLines();
+            invalidCount = Math.addExact(invalidCount, chunk.invalidCount());
+        }
+        final var invalidOffsets = new long[invalidCount];
+        var at = 0;
+        for (final var chunk : chunks) {
+            chunk.copyInvalidOffsets(invalidOffsets, at);
+            at += chunk.invalidCount();
+        }
+        return new LineScanResult(lines, validLines, invalidOffsets);
+    }
+
+    /**
+     * Returns the number of lines of the file.
+     *
+     * @return the number of lines, including blank ones.
+     */
+    public long getLines() {
+        return lines;
+    }
+
+    /**
+     * Returns the number of lines holding a valid document.
+     *
+     * @return the number of valid lines.
+     */
+    public long getValidLines() {
+        return validLines;
+    }
+
+    /**
+     * Returns the number of lines not holding a valid document.
+     *
+     * @return the number of invalid lines, blank ones included.
+     */
+    public long getInvalidLines() {
+        return lines - validLines;
+    }
+
+    /**
+     * Returns the byte offsets where the invalid lines start, in ascending order.
+     *
+     * @return a copy of the offsets of the first byte of every invalid line.
+     */
+    public long[] getInvalidOffsets() {
+        return invalidOffsets.clone();
+    }
+
+    @Override
+    public String toString() {
+        return "LineScanResult{lines=" + lines + ", validLines=" + validLines + ", invalidLines=" + getInvalidLines()
+                + '}';
+    }
+
+}
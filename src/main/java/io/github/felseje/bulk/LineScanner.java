@@ -0,0 +1,140 @@
+package io.github.felseje.bulk;
+
+import io.github.felseje.internal.bulk.InvalidLineSpliterator;
+import io.github.felseje.internal.bulk.MappedLines;
+import io.github.felseje.spi.ValidationEngines;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Validates files holding one CPF or CNPJ per line, in place in memory-mapped bytes.
+ *
+ * <p>The file is read as ASCII (UTF-8 without multibyte characters in the documents) and split into chunks at line
+ * boundaries. Each chunk is memory-mapped and its lines are validated directly in the mapped bytes, as
+ * {@link DocumentKind} describes; no {@link String} is built per line. Lines end at {@code '\n'}, optionally preceded
+ * by {@code '\r'}; blank lines are invalid.</p>
+ *
+ * <p>{@link #scan()} validates the whole file, spreading the chunks across the common {@link ForkJoinPool}, and
+ * reports the line counts and the byte offsets of the invalid lines. {@link #invalidLines()} streams those offsets
+ * lazily instead, validating one chunk at a time, sequentially or in parallel.</p>
+ *
+ * <p>Example:</p>
+ * <pre>{@code
+ * try (LineScanner scanner = LineScanner.open(Path.of("cnpjs.txt"), DocumentKind.CNPJ)) {
+ *     LineScanResult result = scanner.scan();
+ *     result.getInvalidLines();   // e.g. 12
+ *     result.getInvalidOffsets(); // e.g. [0, 4815, ...]
+ * }
+ * }</pre>
+ *
+ * <p>A scanner is thread-safe; it must be closed to release the file.</p>
+ *
+ * @author felseje
+ * @since 1.0.0-alpha
+ */
+public final class LineScanner implements AutoCloseable {
+
+    private final FileChannel channel;
+    private final DocumentKind kind;
+    private final long size;
+
+    private LineScanner(final FileChannel channel, final DocumentKind kind, final long size) {
+        this.channel = channel;
+        this.kind = kind;
+        this.size = size;
+    }
+
+    /**
+     * Opens a file for scanning.
+     *
+     * <p>The file size is read once; bytes appended afterwards are not scanned.</p>
+     *
+     * @param file the file to scan.
+     * @param kind the kind of document expected on every line.
+     * @return a scanner over the file.
+     * @throws IllegalArgumentException if {@code file} or {@code kind} is {@code null}.
+     * @throws IOException              if the file cannot be opened.
+     */
+    public static LineScanner open(Path file, DocumentKind kind) throws IllegalArgumentException, IOException {
+        if (file == null) {
+            throw new IllegalArgumentException("The file must not be null");
+        }
+        if (kind == null) {
+            throw new IllegalArgumentException("The document kind must not be null");
+        }
+        final var channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            return new LineScanner(channel, kind, channel.size());
+        } catch (RuntimeException exception) {
+            channel.close();
+            throw exception;
+        }
+    }
+
+    /**
+     * Returns the size of the scanned file.
+     *
+     * @return the file size in bytes, as read when the scanner was opened.
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Validates every line of the file.
+     *
+     * <p>Files of a single chunk, or scans on a single-threaded common pool, run in the calling thread.</p>
+     *
+     * @return the line counts and the offsets of the invalid lines.
+     * @throws IOException if the file cannot be read or a line is longer than a mapped region allows.
+     */
+    public LineScanResult scan() throws IOException {
+        final var engine = ValidationEngines.active();
+        final var document = kind.document();
+        return LineScanResult.merge(MappedLines.scanChunks(channel, size,
+                (buffer, start) -> MappedLines.scan(document, engine, buffer, start)));
+    }
+
+    /**
+     * Returns a spliterator over the byte offsets of the invalid lines, in ascending order.
+     *
+     * <p>Lines are validated lazily, as the spliterator advances; splitting it validates disjoint parts of the file
+     * on different threads. Read failures are thrown as {@link UncheckedIOException}.</p>
+     *
+     * @return a spliterator over the offsets of the first byte of every invalid line.
+     */
+    public Spliterator.OfLong invalidLines() {
+        final var chunkSize = MappedLines.chunkSizeFor(size, ForkJoinPool.getCommonPoolParallelism());
+        return new InvalidLineSpliterator(kind.document(), ValidationEngines.active(), channel, chunkSize, 0, size);
+    }
+
+    /**
+     * Returns a stream of the byte offsets of the invalid lines, in ascending order.
+     *
+     * @param parallel whether the stream validates the file in parallel.
+     * @return a stream over the offsets of the first byte of every invalid line.
+     * @see #invalidLines()
+     */
+    public LongStream invalidLineStream(boolean parallel) {
+        return StreamSupport.longStream(invalidLines(), parallel);
+    }
+
+    /**
+     * Closes the file.
+     *
+     * @throws IOException if the file cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+}
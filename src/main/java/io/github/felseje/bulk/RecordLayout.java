@@ -0,0 +1,244 @@
+package io.github.felseje.bulk;
+
+import io.github.felseje.cnpj.CnpjType;
+import io.github.felseje.internal.bulk.RecordPlan;
+import io.github.felseje.spi.ValidationEngines;
+
+import java.util.Arrays;
+
+/**
+ * The layout of the records of a delimited file: its delimiter, its quoting and the fields holding documents.
+ *
+ * <p>A layout is declared once with a {@link Builder} and compiled into a {@link RecordValidator}, which validates
+ * every document field of a record in a single pass over its bytes. Fields are indexed from {@code 0}; the document
+ * fields are numbered in declaration order, and document field {@code i} is reported by bit {@code i} of a record
+ * mask.</p>
+ *
+ * <p>Example:</p>
+ * <pre>{@code
+ * RecordLayout layout = RecordLayout.builder()
+ *         .delimiter(';')
+ *         .cpfOrCnpj(2)                  // payer, bit 0
+ *         .cnpj(5, CnpjType.NUMERIC)     // payee, bit 1
+ *         .cpf(7)                        // beneficiary, bit 2
+ *         .build();
+ * RecordValidator validator = layout.compile();
+ * }</pre>
+ *
+ * <p>Instances are immutable.</p>
+ *
+ * @author felseje
+ * @since 1.0.0-alpha
+ */
+public final class RecordLayout {
+
+    /**
+     * The maximum number of document fields of a layout, one per bit of a record mask.
+     */
+    public static final int MAX_DOCUMENT_FIELDS = Long.SIZE;
+
+    private final byte delimiter;
+    private final int quote;
+    private final int[] fields;
+    private final byte[] kinds;
+
+    private RecordLayout(final byte delimiter, final int quote, final int[] fields, final byte[] kinds) {
+        this.delimiter = delimiter;
+        this.quote = quote;
+        this.fields = fields;
+        this.kinds = kinds;
+    }
+
+    /**
+     * Creates a builder for a layout delimited by {@code ','} and quoted by {@code '"'}.
+     *
+     * @return a new builder.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the number of document fields of the layout.
+     *
+     * @return the number of document fields.
+     */
+    public int getDocumentFieldCount() {
+        return fields.length;
+    }
+
+    /**
+     * Returns the index of a document field among all the fields of a record.
+     *
+     * @param documentField the index of the document field, in declaration order.
+     * @return the zero-based index of the field in a record.
+     * @throws IndexOutOfBoundsException if {@code documentField} is out of bounds.
+     */
+    public int getFieldIndex(int documentField) throws IndexOutOfBoundsException {
+        return fields[documentField];
+    }
+
+    /**
+     * Compiles the layout into a validator using the active {@link io.github.felseje.spi.ValidationEngine}.
+     *
+     * @return a validator for records of this layout.
+     */
+    public RecordValidator compile() {
+        return new RecordValidator(this, new RecordPlan(ValidationEngines.active(), delimiter, quote, fields, kinds));
+    }
+
+    /**
+     * Builds a {@link RecordLayout}.
+     *
+     * <p>Builders are not thread-safe.</p>
+     */
+    public static final class Builder {
+
+        private byte delimiter = ',';
+        private int quote = '"';
+        private int[] fields = new int[4];
+        private byte[] kinds = new byte[4];
+        private int count;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the field delimiter.
+         *
+         * @param delimiter the delimiter, an ASCII character other than a line break.
+         * @return this builder.
+         * @throws IllegalArgumentException if {@code delimiter} is not ASCII or is a line break.
+         */
+        public Builder delimiter(char delimiter) throws IllegalArgumentException {
+            this.delimiter = (byte) requireSeparator(delimiter, "delimiter");
+            return this;
+        }
+
+        /**
+         * Sets the quote character; a field starting with it ends at the next quote not doubled.
+         *
+         * @param quote the quote, an ASCII character other than a line break.
+         * @return this builder.
+         * @throws IllegalArgumentException if {@code quote} is not ASCII or is a line break.
+         */
+        public Builder quote(char quote) throws IllegalArgumentException {
+            this.quote = requireSeparator(quote, "quote");
+            return this;
+        }
+
+        /**
+         * Declares that fields are never quoted.
+         *
+         * @return this builder.
+         */
+        public Builder noQuote() {
+            this.quote = RecordPlan.NO_QUOTE;
+            return this;
+        }
+
+        /**
+         * Declares a field holding a CPF, formatted or not.
+         *
+         * @param field the zero-based index of the field.
+         * @return this builder.
+         * @throws IllegalArgumentException if the field is negative or already declared, or there are too many
+         *                                  document fields.
+         */
+        public Builder cpf(int field) throws IllegalArgumentException {
+            return add(field, RecordPlan.CPF);
+        }
+
+        /**
+         * Declares a field holding a numeric or alphanumeric CNPJ, formatted or not.
+         *
+         * @param field the zero-based index of the field.
+         * @return this builder.
+         * @throws IllegalArgumentException if the field is negative or already declared, or there are too many
+         *                                  document fields.
+         */
+        public Builder cnpj(int field) throws IllegalArgumentException {
+            return add(field, RecordPlan.CNPJ);
+        }
+
+        /**
+         * Declares a field holding a CNPJ of a given type, formatted or not.
+         *
+         * <p>A {@link CnpjType#NUMERIC} field only accepts digits; a {@link CnpjType#ALPHANUMERIC} field also accepts
+         * numeric CNPJs, which are a subset of the alphanumeric ones.</p>
+         *
+         * @param field the zero-based index of the field.
+         * @param type  the expected CNPJ type.
+         * @return this builder.
+         * @throws IllegalArgumentException if {@code type} is {@code null}, the field is negative or already declared,
+         *                                  or there are too many document fields.
+         */
+        public Builder cnpj(int field, CnpjType type) throws IllegalArgumentException {
+            if (type == null) {
+                throw new IllegalArgumentException("The CNPJ type must not be null");
+            }
+            return add(field, type == CnpjType.NUMERIC ? RecordPlan.CNPJ_NUMERIC : RecordPlan.CNPJ);
+        }
+
+        /**
+         * Declares a field holding either a CPF or a numeric or alphanumeric CNPJ, formatted or not.
+         *
+         * @param field the zero-based index of the field.
+         * @return this builder.
+         * @throws IllegalArgumentException if the field is negative or already declared, or there are too many
+         *                                  document fields.
+         */
+        public Builder cpfOrCnpj(int field) throws IllegalArgumentException {
+            return add(field, RecordPlan.CPF_OR_CNPJ);
+        }
+
+        /**
+         * Builds the layout.
+         *
+         * @return the layout.
+         * @throws IllegalArgumentException if no document field is declared, or the delimiter and the quote are the
+         *                                  same character.
+         */
+        public RecordLayout build() throws IllegalArgumentException {
+            if (count == 0) {
+                throw new IllegalArgumentException("The layout must declare at least one document field");
+            }
+            if (quote == delimiter) {
+                throw new IllegalArgumentException("The delimiter and the quote must differ");
+            }
+            return new RecordLayout(delimiter, quote, Arrays.copyOf(fields, count), Arrays.copyOf(kinds, count));
+        }
+
+        private Builder add(final int field, final byte kind) {
+            if (field < 0) {
+                throw new IllegalArgumentException("The field index must not be negative");
+            }
+            if (count == MAX_DOCUMENT_FIELDS) {
+                throw new IllegalArgumentException("The layout must not declare more than " + MAX_DOCUMENT_FIELDS
+                        + " document fields");
+            }
+            for (int index = 0; index < count; index++) {
+                if (fields[index] == field) {
+                    throw new IllegalArgumentException("The field " + field + " is already declared");
+                }
+            }
+            if (count == fields.length) {
+                fields = Arrays.copyOf(fields, count << 1);
+                kinds = Arrays.copyOf(kinds, count << 1);
+            }
+            fields[count] = field;
+            kinds[count++] = kind;
+            return this;
+        }
+
+        private static int requireSeparator(final char separator, final String name) {
+            if (separator > Byte.MAX_VALUE || separator == '\n' || separator == '\r') {
+                throw new IllegalArgumentException("The " + name + " must be an ASCII character other than a line "
+                        + "break");
+            }
+            return separator;
+        }
+
+    }
+
+}
@@ -0,0 +1,122 @@
+package io.github.felseje.bulk;
+
+import io.github.felseje.internal.bulk.RecordPlan;
+
+import java.util.BitSet;
+import java.util.Objects;
+
+/**
+ * The outcome of validating the records of a file or a region with a {@link RecordValidator}.
+ *
+ * <p>Outcomes are kept as one bitmask per document field: bit {@code r % 64} of word {@code r / 64} of field
+ * {@code i} tells whether the {@code i}-th declared document field of record {@code r} is valid.</p>
+ *
+ * <p>Instances are immutable.</p>
+ *
+ * @author felseje
+ * @since 1.0.0-alpha
+ */
+public final class RecordScanResult {
+
+    private final long records;
+    private final long[] validCounts;
+    private final long[][] masks;
+
+    RecordScanResult(final RecordPlan.Records outcome) {
+        this.records = outcome.count();
+        this.validCounts = new long[outcome.columns()];
+        this.masks = new long[validCounts.length][];
+        for (int field = 0; field < validCounts.length; field++) {
+            validCounts[field] = outcome.validCount(field);
+            masks[field] = outcome.mask(field);
+        }
+    }
+
+    /**
+     * Returns the number of records.
+     *
+     * @return the number of records, including blank lines.
+     */
+    public long getRecords() {
+        return records;
+    }
+
+    /**
+     * Returns the number of document fields of each record.
+     *
+     * @return the number of document fields.
+     */
+    public int getDocumentFieldCount() {
+        return masks.length;
+    }
+
+    /**
+     * Returns the number of records whose document field is valid.
+     *
+     * @param documentField the index of the document field, in declaration order.
+     * @return the number of valid fields.
+     * @throws IndexOutOfBoundsException if {@code documentField} is out of bounds.
+     */
+    public long getValidCount(int documentField) throws IndexOutOfBoundsException {
+        return validCounts[documentField];
+    }
+
+    /**
+     * Tells whether a document field of a record is valid.
+     *
+     * @param record        the index of the record.
+     * @param documentField the index of the document field, in declaration order.
+     * @return {@code true} if the field is valid; {@code false} otherwise.
+     * @throws IndexOutOfBoundsException if {@code record} or {@code documentField} is out of bounds.
+     */
+    public boolean isValid(long record, int documentField) throws IndexOutOfBoundsException {
+        Objects.checkIndex(record, records);
+        return (masks[documentField][(int) (record >>> 6)] & 1L << record) != 0;
+    }
+
+    /**
+     * Returns the mask of a record, as returned by {@link RecordValidator#validate(byte[], int, int)}.
+     *
+     * @param record the index of the record.
+     * @return the record mask, whose bit {@code i} is set if the {@code i}-th declared document field is valid.
+     * @throws IndexOutOfBoundsException if {@code record} is out of bounds.
+     */
+    public long getRecordMask(long record) throws IndexOutOfBoundsException {
+        Objects.checkIndex(record, records);
+        final var word = (int) (record >>> 6);
+        var mask = 0L;
+        for (int field = 0; field < masks.length; field++) {
+            mask |= (masks[field][word] >>> record & 1L) << field;
+        }
+        return mask;
+    }
+
+    /**
+     * Returns the records whose document field is valid.
+     *
+     * @param documentField the index of the document field, in declaration order.
+     * @return a new {@link BitSet} with a bit set for every record whose field is valid.
+     * @throws IndexOutOfBoundsException if {@code documentField} is out of bounds.
+     */
+    public BitSet getValidRecords(int documentField) throws IndexOutOfBoundsException {
+        return BitSet.valueOf(masks[documentField]);
+    }
+
+    /**
+     * Returns a copy of the bitmask of a document field.
+     *
+     * @param documentField the index of the document field, in declaration order.
+     * @return a copy of the mask, with bit {@code r % 64} of word {@code r / 64} set if the field of record
+     * {@code r} is valid.
+     * @throws IndexOutOfBoundsException if {@code documentField} is out of bounds.
+     */
+    public long[] getMask(int documentField) throws IndexOutOfBoundsException {
+        return masks[documentField].clone();
+    }
+
+    @Override
+    public String toString() {
+        return "RecordScanResult{records=" + records + ", documentFields=" + masks.length + '}';
+    }
+
+}
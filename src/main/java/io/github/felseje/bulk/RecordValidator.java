@@ -0,0 +1,142 @@
+package io.github.felseje.bulk;
+
+import io.github.felseje.internal.bulk.MappedLines;
+import io.github.felseje.internal.bulk.RecordPlan;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Validates every document field of delimited records in a single pass over their bytes, as compiled from a
+ * {@link RecordLayout}.
+ *
+ * <p>A record is never split into fields nor decoded: fields are located in place and each document field is
+ * validated where it lies, formatted or not. Quoted fields are validated between their quotes; missing, empty and
+ * malformed quoted fields are invalid. The outcome of a record is a mask whose bit {@code i} tells whether the
+ * {@code i}-th declared document field is valid.</p>
+ *
+ * <p>{@link #scan(Path)} validates a whole file of one record per line, ending at {@code '\n'} optionally preceded by
+ * {@code '\r'}, in memory-mapped chunks spread across the common {@link java.util.concurrent.ForkJoinPool}. Line
+ * breaks inside quoted fields are not supported, and every line is a record, header included.</p>
+ *
+ * <p>Example:</p>
+ * <pre>{@code
+ * RecordValidator validator = RecordLayout.builder().delimiter(';').cpf(0).cnpj(3).build().compile();
+ * byte[] row = "012.345.678-90;Ana;10.50;11.222.333/0001-81".getBytes(StandardCharsets.US_ASCII);
+ * validator.validate(row, 0, row.length); // 0b11
+ * }</pre>
+ *
+ * <p>Instances are immutable and thread-safe.</p>
+ *
+ * @author felseje
+ * @since 1.0.0-alpha
+ */
+public final class RecordValidator {
+
+    private final RecordLayout layout;
+    private final RecordPlan plan;
+
+    RecordValidator(final RecordLayout layout, final RecordPlan plan) {
+        this.layout = layout;
+        this.plan = plan;
+    }
+
+    /**
+     * Returns the layout this validator was compiled from.
+     *
+     * @return the layout.
+     */
+    public RecordLayout getLayout() {
+        return layout;
+    }
+
+    /**
+     * Validates the document fields of a record held in ASCII bytes.
+     *
+     * @param record the bytes holding the record.
+     * @param offset the index of the first byte of the record.
+     * @param length the number of bytes of the record, line break excluded.
+     * @return the record mask, whose bit {@code i} is set if the {@code i}-th declared document field is valid.
+     * @throws IllegalArgumentException  if {@code record} is {@code null}.
+     * @throws IndexOutOfBoundsException if the region is out of the array bounds.
+     */
+    public long validate(byte[] record, int offset, int length)
+            throws IllegalArgumentException, IndexOutOfBoundsException {
+        if (record == null) {
+            throw new IllegalArgumentException("The record must not be null");
+        }
+        Objects.checkFromIndexSize(offset, length, record.length);
+        return plan.validate(ByteBuffer.wrap(record), offset, length);
+    }
+
+    /**
+     * Validates the document fields of a record held in an ASCII byte buffer.
+     *
+     * <p>The region is given in absolute indexes; the buffer position and limit are left untouched.</p>
+     *
+     * @param record the buffer holding the record.
+     * @param offset the absolute index of the first byte of the record.
+     * @param length the number of bytes of the record, line break excluded.
+     * @return the record mask, whose bit {@code i} is set if the {@code i}-th declared document field is valid.
+     * @throws IllegalArgumentException  if {@code record} is {@code null}.
+     * @throws IndexOutOfBoundsException if the region is out of the buffer limit.
+     */
+    public long validate(ByteBuffer record, int offset, int length)
+            throws IllegalArgumentException, IndexOutOfBoundsException {
+        if (record == null) {
+            throw new IllegalArgumentException("The record must not be null");
+        }
+        return plan.validate(record, offset, length);
+    }
+
+    /**
+     * Validates every record of a region of ASCII bytes, one record per line.
+     *
+     * @param records the bytes holding the records.
+     * @param offset  the index of the first byte of the first record.
+     * @param length  the number of bytes of the records.
+     * @return the per-record, per-field outcome.
+     * @throws IllegalArgumentException  if {@code records} is {@code null}.
+     * @throws IndexOutOfBoundsException if the region is out of the array bounds.
+     */
+    public RecordScanResult scan(byte[] records, int offset, int length)
+            throws IllegalArgumentException, IndexOutOfBoundsException {
+        if (records == null) {
+            throw new IllegalArgumentException("The records must not be null");
+        }
+        Objects.checkFromIndexSize(offset, length, records.length);
+        return new RecordScanResult(plan.scan(ByteBuffer.wrap(records, offset, length).slice()));
+    }
+
+    /**
+     * Validates every record of a file, one record per line.
+     *
+     * <p>Files of a single chunk, or scans on a single-threaded common pool, run in the calling thread.</p>
+     *
+     * @param file the file to validate.
+     * @return the per-record, per-field outcome.
+     * @throws IllegalArgumentException if {@code file} is {@code null}.
+     * @throws IOException              if the file cannot be read, a record is longer than a mapped region allows,
+     *                                  or the file has too many records to index them.
+     */
+    public RecordScanResult scan(Path file) throws IllegalArgumentException, IOException {
+        if (file == null) {
+            throw new IllegalArgumentException("The file must not be null");
+        }
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final List<RecordPlan.Records> chunks = MappedLines.scanChunks(channel, channel.size(),
+                    (buffer, start) -> plan.scan(buffer));
+            try {
+                return new RecordScanResult(RecordPlan.Records.concat(plan.columns(), chunks));
+            } catch (ArithmeticException exception) {
+                throw new IOException("The file " + file + " has too many records", exception);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,11 @@
+/**
+ * Bulk validation of CPF and CNPJ documents held in files.
+ *
+ * <p>Includes scanners that validate documents in place, without building a {@link java.lang.String} per value, and
+ * spread large files across worker threads, for files of one document per line, for delimited records with several
+ * document fields and for the fixed-width records of CNAB files.</p>
+ *
+ * @author felseje
+ * @since 1.0.0-alpha
+ */
+package io.github.felseje.bulk;
@@ -1,8 +1,10 @@
 package io.github.felseje.cnpj;
 
 import io.github.felseje.cnpj.exception.InvalidCnpjException;
-
-import java.util.Objects;
+import io.github.felseje.internal.cnpj.util.CnpjCodec;
+import io.github.felseje.internal.cnpj.validation.CnpjScanner;
+import io.github.felseje.internal.util.DocumentExceptions;
+import io.github.felseje.internal.util.StringUtils;
 
 /**
  * Represents a CNPJ (Cadastro Nacional da Pessoa Jurídica), which is the Brazilian
@@ -10,6 +12,9 @@ import java.util.Objects;
  *
  * <p> This class is responsible for storing, validating, and formatting CNPJ numbers. </p>
  * <p> A valid CNPJ consists of 18 characters formatted (e.g., "12.345.678/0001-95", "12.ABC.345/01DE-35") or 14 characters unformatted (e.g., "12345678000195", "12ABC34501DE35"). </p>
+ * <p> The CNPJ is stored as a single {@code long} holding its 12-character base in base 36, which covers both
+ * numeric and alphanumeric CNPJs. The check digits are derived from the base, and every textual part is computed
+ * on demand. </p>
  *
  * @author felseje
  * @since 1.0.0-alpha
@@ -26,10 +31,8 @@ public class Cnpj {
      */
     public static final int FORMATTED_LENGTH = 18;
 
-    private final String root;
-    private final String order;
+    private final long base;
     private final CnpjType type;
-    private final String checkDigits;
 
     /**
      * Build an instance of the {@link Cnpj} using a string representation.
@@ -39,12 +42,57 @@ public class Cnpj {
      * @throws InvalidCnpjException     if the {@code raw} is not a valid CNPJ.
      */
     public Cnpj(String raw) throws IllegalArgumentException, InvalidCnpjException {
-        CnpjUtils.validate(raw);
-        final var normalized = CnpjUtils.normalize(raw);
-        this.type = CnpjType.detectFrom(normalized).orElseThrow();
-        this.root = normalized.substring(0, 8);
-        this.order = normalized.substring(8, 12);
-        this.checkDigits = normalized.substring(12);
+        final var length = StringUtils.lengthOf(raw);
+        final var key = CnpjScanner.toKeyStrict(raw, 0, length);
+        if (key < 0) {
+            StringUtils.requireNonBlank(raw, 0, length, "The CNPJ cannot be null or blank");
+            throw key == CnpjScanner.NO_MATCH_KEY
+                    ? DocumentExceptions.unmatchedCnpj()
+                    : DocumentExceptions.invalidCnpj();
+        }
+        this.type = CnpjCodec.isNumeric(key) ? CnpjType.NUMERIC : CnpjType.ALPHANUMERIC;
+        this.base = key;
+    }
+
+    /**
+     * Build an instance of a numeric {@link Cnpj} using a numeric representation, as stored in numeric database
+     * columns.
+     *
+     * <p>Missing leading zeros are implied, so {@code new Cnpj(191L)} equals {@code new Cnpj("00.000.000/0001-91")}.</p>
+     *
+     * @param number the numeric CNPJ as a number.
+     * @throws InvalidCnpjException if the {@code number} is not a valid CNPJ.
+     */
+    public Cnpj(long number) throws InvalidCnpjException {
+        CnpjUtils.validate(number);
+        this.type = CnpjType.NUMERIC;
+        this.base = CnpjCodec.encodeNumericBase(number / 100);
+    }
+
+    private Cnpj(final long base, final CnpjType type) {
+        this.base = base;
+        this.type = type;
+    }
+
+    /**
+     * Build an instance of the {@link Cnpj} from its canonical key, as returned by
+     * {@link CnpjUtils#toKey(CharSequence)} or {@link #getKey()}, without going through text.
+     *
+     * <p>Example:</p>
+     * <pre>{@code
+     * Cnpj cnpj = Cnpj.fromKey(CnpjUtils.toKey("12.ABC.345/01DE-35"));
+     * System.out.println(cnpj.getValue()); // prints "12ABC34501DE35"
+     * }</pre>
+     *
+     * @param key the CNPJ key.
+     * @return the CNPJ whose key is {@code key}.
+     * @throws IllegalArgumentException if {@code key} is negative or exceeds twelve base-36 digits.
+     */
+    public static Cnpj fromKey(long key) throws IllegalArgumentException {
+        if (!CnpjCodec.isInRange(key)) {
+            throw new IllegalArgumentException("The CNPJ key is out of range");
+        }
+        return new Cnpj(key, CnpjCodec.isNumeric(key) ? CnpjType.NUMERIC : CnpjType.ALPHANUMERIC);
     }
 
     /**
@@ -59,7 +107,7 @@ public class Cnpj {
      * @return the CNPJ root.
      */
     public String getRoot() {
-        return root;
+        return CnpjCodec.substring(base, 0, 8);
     }
 
     /**
@@ -74,7 +122,7 @@ public class Cnpj {
      * @return the CNPJ order.
      */
     public String getOrder() {
-        return order;
+        return CnpjCodec.substring(base, 8, 12);
     }
 
     /**
@@ -89,7 +137,7 @@ public class Cnpj {
      * @return the CNPJ check digits.
      */
     public String getCheckDigits() {
-        return checkDigits;
+        return CnpjCodec.substring(base, 12, LENGTH);
     }
 
     /**
@@ -121,7 +169,7 @@ public class Cnpj {
      * @return the CNPJ base.
      */
     public String getBase() {
-        return root + order;
+        return CnpjCodec.substring(base, 0, 12);
     }
 
     /**
@@ -136,7 +184,22 @@ public class Cnpj {
      * @return the normalized CNPJ value.
      */
     public String getValue() {
-        return getBase() + checkDigits;
+        return CnpjCodec.toString(base);
+    }
+
+    /**
+     * Returns the canonical key of this CNPJ, as produced by {@link CnpjUtils#toKey(CharSequence)}.
+     *
+     * <p>Example:</p>
+     * <pre>{@code
+     * Cnpj cnpj = new Cnpj("12.ABC.345/01DE-35");
+     * System.out.println(CnpjUtils.fromKey(cnpj.getKey())); // prints "12ABC34501DE35"
+     * }</pre>
+     *
+     * @return the CNPJ key.
+     */
+    public long getKey() {
+        return base;
     }
 
     /**
@@ -148,12 +211,7 @@ public class Cnpj {
      */
     @Override
     public int hashCode() {
-        int result = 71;
-        result = 61 * result + (root == null ? 0 : root.hashCode());
-        result = 61 * result + (order == null ? 0 : order.hashCode());
-        result = 61 * result + (type == null ? 0 : type.hashCode());
-        result = 61 * result + (checkDigits == null ? 0 : checkDigits.hashCode());
-        return result;
+        return Long.hashCode(base);
     }
 
     /**
@@ -161,10 +219,10 @@ public class Cnpj {
      * <p>Two {@code Cnpj} instances are considered equal if and only if:</p>
      * <ul>
      *     <li>Both are instances of {@code Cnpj}</li>
-     *     <li>The values of {@code root}, {@code order}, {@code checkDigits} and {@code type} are equal</li>
+     *     <li>Their packed bases, and therefore their {@code root}, {@code order}, {@code checkDigits} and {@code type}, are equal</li>
      * </ul>
      *
-     * <p> The comparison is strictly based on these four internal attributes, which represent the normalized form of the CNPJ. Original formatting, punctuation, and input casing are not considered. </p>
+     * <p> The comparison is strictly based on the packed base, which represents the normalized form of the CNPJ. Original formatting, punctuation, and input casing are not considered. </p>
      *
      * <p>Example:</p>
      * <pre>{@code
@@ -182,10 +240,7 @@ public class Cnpj {
         if (!(object instanceof Cnpj other)) {
             return false;
         }
-        return this.type == other.type
-                && Objects.equals(this.root, other.root)
-                && Objects.equals(this.order, other.order)
-                && Objects.equals(this.checkDigits, other.checkDigits);
+        return this.base == other.base;
     }
 
     /**
@@ -201,7 +256,7 @@ public class Cnpj {
      */
     @Override
     public String toString() {
-        return CnpjUtils.format(getValue());
+        return CnpjCodec.toFormattedString(base);
     }
 
 }
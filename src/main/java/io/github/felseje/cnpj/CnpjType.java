@@ -1,13 +1,15 @@
 package io.github.felseje.cnpj;
 
-import java.util.Arrays;
+import io.github.felseje.internal.cnpj.validation.CnpjScanner;
+
 import java.util.Optional;
 import java.util.regex.Pattern;
 
 /**
  * Enum representing the supported CNPJ types: {@code NUMERIC} and {@code ALPHANUMERIC}.
  * <p>
- * Provides regex matching and automatic type detection based on input format.
+ * Provides pattern matching and automatic type detection based on input format. Matching is performed by a
+ * single pass over the input; the regex patterns are kept as the reference description of each format.
  *
  * <p><strong>Examples of usage:</strong></p>
  * <pre><code>
@@ -37,10 +39,9 @@ public enum CnpjType {
             Pattern.compile("[A-Z0-9]{12}[0-9]{2}")
     );
 
-    private static final CnpjType[] VALUES = values();
-
     private final Pattern formattedPattern;
     private final Pattern unformattedPattern;
+    private final Optional<CnpjType> detected = Optional.of(this);
 
     /**
      * Constructs a {@code CnpjType} with a predefined regex {@link Pattern}.
@@ -55,18 +56,43 @@ public enum CnpjType {
     /**
      * Attempts to detect the {@code CnpjType} from the given input string.
      * <p>
-     * The detection is based on full regex match against known patterns.
+     * The detection is based on a full match against known patterns, checked in a single pass.
      *
      * @param input the CNPJ string to analyze
      * @return the corresponding {@code CnpjType}, if a match is found; {@link Optional#empty()} otherwise.
      */
     public static Optional<CnpjType> detectFrom(String input) {
-        if (input == null) {
-            return Optional.empty();
-        }
-        return Arrays.stream(VALUES)
-                .filter(type -> type.matches(input))
-                .findFirst();
+        return detectFrom((CharSequence) input);
+    }
+
+    /**
+     * Attempts to detect the {@code CnpjType} from the given character sequence.
+     *
+     * @param input the CNPJ character sequence to analyze
+     * @return the corresponding {@code CnpjType}, if a match is found; {@link Optional#empty()} otherwise.
+     * @see #detectFrom(String)
+     */
+    public static Optional<CnpjType> detectFrom(CharSequence input) {
+        return fromScan(CnpjScanner.scanStrict(input));
+    }
+
+    /**
+     * Attempts to detect the {@code CnpjType} from a region of the given character sequence, reading it in place.
+     *
+     * @param input  the character sequence holding the CNPJ to analyze
+     * @param offset the index of the first character of the region
+     * @param length the number of characters in the region
+     * @return the corresponding {@code CnpjType}, if a match is found; {@link Optional#empty()} otherwise.
+     * @throws IndexOutOfBoundsException if {@code input} is not {@code null} and the region is out of its bounds
+     * @see #detectFrom(String)
+     */
+    public static Optional<CnpjType> detectFrom(CharSequence input, int offset, int length) throws IndexOutOfBoundsException {
+        return fromScan(CnpjScanner.scanStrict(input, offset, length));
+    }
+
+    private static Optional<CnpjType> fromScan(final int result) {
+        final var type = CnpjScanner.typeOf(result);
+        return type == null ? Optional.empty() : type.detected;
     }
 
     /**
@@ -94,7 +120,39 @@ public enum CnpjType {
      * @return {@code true} if the input matches the pattern, {@code false} otherwise
      */
     public boolean matches(String input) {
-        return input != null && (formattedPattern.matcher(input).matches() || unformattedPattern.matcher(input).matches());
+        return matches((CharSequence) input);
+    }
+
+    /**
+     * Checks if the given character sequence matches one pattern of this {@code CnpjType}.
+     *
+     * @param input the character sequence to validate
+     * @return {@code true} if the input matches the pattern, {@code false} otherwise
+     * @see #matches(String)
+     */
+    public boolean matches(CharSequence input) {
+        return matchesScan(CnpjScanner.scanStrict(input));
+    }
+
+    /**
+     * Checks if a region of the given character sequence matches one pattern of this {@code CnpjType}.
+     *
+     * @param input  the character sequence holding the value to validate
+     * @param offset the index of the first character of the region
+     * @param length the number of characters in the region
+     * @return {@code true} if the region matches the pattern, {@code false} otherwise
+     * @throws IndexOutOfBoundsException if {@code input} is not {@code null} and the region is out of its bounds
+     * @see #matches(String)
+     */
+    public boolean matches(CharSequence input, int offset, int length) throws IndexOutOfBoundsException {
+        return matchesScan(CnpjScanner.scanStrict(input, offset, length));
+    }
+
+    private boolean matchesScan(final int result) {
+        return switch (this) {
+            case NUMERIC -> (result & CnpjScanner.NUMERIC) != 0;
+            case ALPHANUMERIC -> result != CnpjScanner.NO_MATCH;
+        };
     }
 
 }
@@ -2,15 +2,29 @@ package io.github.felseje.cnpj;
 
 import io.github.felseje.internal.core.Normalizer;
 import io.github.felseje.cnpj.exception.InvalidCnpjException;
+import io.github.felseje.internal.batch.BatchDocument;
+import io.github.felseje.internal.batch.BatchValidator;
+import io.github.felseje.internal.batch.SequenceValidator;
 import io.github.felseje.cnpj.exception.UnrecognizedCnpjTypeException;
+import io.github.felseje.document.ParseProfile;
 import io.github.felseje.internal.cnpj.generation.AlphanumericGenerator;
 import io.github.felseje.internal.cnpj.generation.NumericGenerator;
 import io.github.felseje.internal.cnpj.helper.CnpjClassifier;
 import io.github.felseje.internal.cnpj.helper.CnpjFormatter;
 import io.github.felseje.internal.cnpj.helper.CnpjNormalizer;
+import io.github.felseje.internal.cnpj.util.CnpjCodec;
 import io.github.felseje.internal.cnpj.validation.AlphanumericValidator;
+import io.github.felseje.internal.cnpj.validation.CnpjScanner;
 import io.github.felseje.internal.cnpj.validation.NumericValidator;
+import io.github.felseje.internal.document.DocumentWriter;
+import io.github.felseje.internal.util.DocumentExceptions;
 import io.github.felseje.internal.util.StringUtils;
+import io.github.felseje.spi.ValidationEngines;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.BitSet;
+import java.util.List;
 
 import static io.github.felseje.internal.Constants.NOT_ALLOWED_INSTANTIATION_ERROR;
 
@@ -19,6 +33,31 @@ import static io.github.felseje.internal.Constants.NOT_ALLOWED_INSTANTIATION_ERR
  *
  * <p> Provides static methods for validating, formatting, normalizing, classifying, and generating CNPJ values based on their format, in compliance with upcoming 2026 standards. </p>
  *
+ * <p> Every operation that reads a CNPJ also accepts any {@link CharSequence} (e.g. {@link StringBuilder} or
+ * {@link java.nio.CharBuffer}) and a region of it, given by an offset and a length. Regions are read in place, so a
+ * CNPJ embedded in a larger record does not need to be copied into a {@link String} first. </p>
+ *
+ * <p> CNPJs held as ASCII (or UTF-8) bytes in a {@code byte[]} or a {@link ByteBuffer}, heap or direct, can be
+ * validated, classified and normalized in place as well, without decoding them. Buffer regions are given in
+ * absolute indexes and never change the buffer position or limit. </p>
+ *
+ * <p> A valid CNPJ, numeric or alphanumeric, can also be turned into a canonical {@code long} key for use in
+ * primitive maps, hash joins and sorting. The key is the 12-character base read as a base-36 number; the check
+ * digits are derived from it. Keys are never negative, order like the normalized strings and turn back into text
+ * without any intermediate string. </p>
+ *
+ * <p> Numeric CNPJs read from numeric database columns ({@code NUMBER}, {@code BIGINT}) have lost their leading
+ * zeros. They can be validated, formatted, keyed and generated as {@code long} values directly; the zero padding is
+ * implied and no intermediate string is built. Alphanumeric CNPJs have no numeric form. </p>
+ *
+ * <p> Large volumes of normalized CNPJs laid out as fixed-length records can be validated in batches into a
+ * bitmask, see {@link #isValidBatch(byte[], int, int, int, long[])}. Arrays and lists of CNPJs as text are validated
+ * at once, in parallel when large, see {@link #validateAll(CharSequence[])}. </p>
+ *
+ * <p> Validation runs on the engine selected at startup among the registered
+ * {@link io.github.felseje.spi.ValidationEngine} providers; see {@link io.github.felseje.spi.ValidationEngines} to
+ * query or override it. </p>
+ *
  * <p> This class is not intended to be instantiated and should only be used in a static context. </p>
  *
  * @author felseje
@@ -27,6 +66,11 @@ import static io.github.felseje.internal.Constants.NOT_ALLOWED_INSTANTIATION_ERR
 
 public final class CnpjUtils {
 
+    /**
+     * The key returned by {@link #toKey(CharSequence)} for input that is not a valid CNPJ.
+     */
+    public static final long INVALID_KEY = CnpjCodec.INVALID;
+
     /**
      * Prevents instantiation of this utility class.
      *
@@ -49,16 +93,15 @@ public final class CnpjUtils {
     }
 
     /**
-     * Detects the type of CNPJ based on its string representation.
+     * Ensures that the given parse profile is not {@code null}.
      *
-     * @param cnpj the string representing the CNPJ to be analyzed
-     * @return the detected {@link CnpjType} corresponding to the given CNPJ
-     * @throws InvalidCnpjException if the CNPJ does not match any valid format
+     * @param profile the parse profile to check
+     * @throws IllegalArgumentException if {@code profile} is {@code null}
      */
-    private static CnpjType getType(final String cnpj) throws InvalidCnpjException {
-        return CnpjType.detectFrom(cnpj).orElseThrow(
-                () -> new InvalidCnpjException("The CNPJ does not match any valid format")
-        );
+    private static void requireProfileNonNull(final ParseProfile profile) throws IllegalArgumentException {
+        if (profile == null) {
+            throw new IllegalArgumentException("The parse profile cannot be null");
+        }
     }
 
     /**
@@ -93,6 +136,15 @@ public final class CnpjUtils {
         return normalized;
     }
 
+    /**
+     * Generates a valid numeric CNPJ as a number, as stored in numeric database columns.
+     *
+     * @return the 14 CNPJ digits as a number; leading zeros are implied
+     */
+    public static long generateNumber() {
+        return NumericGeneratorHolder.INSTANCE.generateNumber();
+    }
+
     /**
      * Validates a CNPJ string using a specific {@link CnpjType}.
      *
@@ -105,25 +157,265 @@ public final class CnpjUtils {
      * @throws IllegalArgumentException if the provided {@code type} is {@code null}
      */
     public static boolean isValid(String cnpj, CnpjType type) throws IllegalArgumentException {
+        return isValid(cnpj, 0, StringUtils.lengthOf(cnpj), type);
+    }
+
+    /**
+     * Validates a CNPJ character sequence using a specific {@link CnpjType}.
+     *
+     * @param cnpj the CNPJ character sequence to validate
+     * @param type the {@link CnpjType} that defines the expected format of the CNPJ
+     * @return {@code true} if the CNPJ is valid according to the specified type; {@code false} otherwise
+     * @throws IllegalArgumentException if the provided {@code type} is {@code null}
+     * @see #isValid(String, CnpjType)
+     */
+    public static boolean isValid(CharSequence cnpj, CnpjType type) throws IllegalArgumentException {
+        return isValid(cnpj, 0, StringUtils.lengthOf(cnpj), type);
+    }
+
+    /**
+     * Validates the CNPJ found in a region of the given character sequence using a specific {@link CnpjType}.
+     *
+     * @param cnpj   the character sequence holding the CNPJ
+     * @param offset the index of the first character of the region
+     * @param length the number of characters in the region
+     * @param type   the {@link CnpjType} that defines the expected format of the CNPJ
+     * @return {@code true} if the region holds a valid CNPJ according to the specified type; {@code false} otherwise
+     * @throws IllegalArgumentException  if the provided {@code type} is {@code null}
+     * @throws IndexOutOfBoundsException if {@code cnpj} is not {@code null} and the region is out of its bounds
+     * @see #isValid(String, CnpjType)
+     */
+    public static boolean isValid(CharSequence cnpj, int offset, int length, CnpjType type)
+            throws IllegalArgumentException, IndexOutOfBoundsException {
+        requireTypeNonNull(type);
+        return switch (type) {
+            case NUMERIC -> NumericValidatorHolder.INSTANCE.isValid(cnpj, offset, length);
+            case ALPHANUMERIC -> AlphanumericValidatorHolder.INSTANCE.isValid(cnpj, offset, length);
+        };
+    }
+
+    /**
+     * Validates the CNPJ found in a region of ASCII bytes using a specific {@link CnpjType}.
+     *
+     * @param cnpj   the bytes holding the CNPJ
+     * @param offset the index of the first byte of the region
+     * @param length the number of bytes in the region
+     * @param type   the {@link CnpjType} that defines the expected format of the CNPJ
+     * @return {@code true} if the region holds a valid CNPJ according to the specified type; {@code false} otherwise
+     * @throws IllegalArgumentException  if the provided {@code type} is {@code null}
+     * @throws IndexOutOfBoundsException if {@code cnpj} is not {@code null} and the region is out of its bounds
+     * @see #isValid(String, CnpjType)
+     */
+    public static boolean isValid(byte[] cnpj, int offset, int length, CnpjType type)
+            throws IllegalArgumentException, IndexOutOfBoundsException {
+        requireTypeNonNull(type);
+        return switch (type) {
+            case NUMERIC -> NumericValidatorHolder.INSTANCE.isValid(cnpj, offset, length);
+            case ALPHANUMERIC -> AlphanumericValidatorHolder.INSTANCE.isValid(cnpj, offset, length);
+        };
+    }
+
+    /**
+     * Validates the CNPJ found in a region of an ASCII byte buffer using a specific {@link CnpjType}.
+     *
+     * @param cnpj   the buffer holding the CNPJ
+     * @param offset the absolute index of the first byte of the region
+     * @param length the number of bytes in the region
+     * @param type   the {@link CnpjType} that defines the expected format of the CNPJ
+     * @return {@code true} if the region holds a valid CNPJ according to the specified type; {@code false} otherwise
+     * @throws IllegalArgumentException  if the provided {@code type} is {@code null}
+     * @throws IndexOutOfBoundsException if {@code cnpj} is not {@code null} and the region is out of its limit
+     * @see #isValid(String, CnpjType)
+     */
+    public static boolean isValid(ByteBuffer cnpj, int offset, int length, CnpjType type)
+            throws IllegalArgumentException, IndexOutOfBoundsException {
         requireTypeNonNull(type);
         return switch (type) {
-            case NUMERIC -> NumericValidatorHolder.INSTANCE.isValid(cnpj);
-            case ALPHANUMERIC -> AlphanumericValidatorHolder.INSTANCE.isValid(cnpj);
+            case NUMERIC -> NumericValidatorHolder.INSTANCE.isValid(cnpj, offset, length);
+            case ALPHANUMERIC -> AlphanumericValidatorHolder.INSTANCE.isValid(cnpj, offset, length);
         };
     }
 
     /**
      * Validates a CNPJ string by automatically detecting its type.
      *
-     * <p> This method attempts to detect the {@link CnpjType} from the provided CNPJ string
-     * and then performs validation accordingly. </p>
+     * <p> This method detects the {@link CnpjType} from the provided CNPJ string and validates it
+     * in the same pass. Input in neither the formatted nor the unformatted shape is not valid; nothing is thrown. </p>
      *
-     * @param cnpj the CNPJ string to validate
+     * @param cnpj the CNPJ string to validate; may be {@code null}
+     * @return {@code true} if the CNPJ is valid according to its detected format; {@code false} otherwise
+     */
+    public static boolean isValid(String cnpj) {
+        return isValid(cnpj, 0, StringUtils.lengthOf(cnpj));
+    }
+
+    /**
+     * Validates a CNPJ character sequence by automatically detecting its type.
+     *
+     * @param cnpj the CNPJ character sequence to validate; may be {@code null}
      * @return {@code true} if the CNPJ is valid according to its detected format; {@code false} otherwise
-     * @throws InvalidCnpjException if the CNPJ format cannot be detected or is not valid
+     * @see #isValid(String)
+     */
+    public static boolean isValid(CharSequence cnpj) {
+        return isValid(cnpj, 0, StringUtils.lengthOf(cnpj));
+    }
+
+    /**
+     * Validates the CNPJ found in a region of the given character sequence by automatically detecting its type.
+     *
+     * @param cnpj   the character sequence holding the CNPJ
+     * @param offset the index of the first character of the region
+     * @param length the number of characters in the region
+     * @return {@code true} if the region holds a valid CNPJ according to its detected format; {@code false} otherwise
+     * @throws IndexOutOfBoundsException if {@code cnpj} is not {@code null} and the region is out of its bounds
+     * @see #isValid(String)
+     */
+    public static boolean isValid(CharSequence cnpj, int offset, int length) throws IndexOutOfBoundsException {
+        return ValidationEngines.active().isValidStrictCnpj(cnpj, offset, length);
+    }
+
+    /**
+     * Validates the CNPJ found in a region of ASCII bytes by automatically detecting its type.
+     *
+     * @param cnpj   the bytes holding the CNPJ
+     * @param offset the index of the first byte of the region
+     * @param length the number of bytes in the region
+     * @return {@code true} if the region holds a valid CNPJ according to its detected format; {@code false} otherwise
+     * @throws IndexOutOfBoundsException if {@code cnpj} is not {@code null} and the region is out of its bounds
+     * @see #isValid(String)
+     */
+    public static boolean isValid(byte[] cnpj, int offset, int length) throws IndexOutOfBoundsException {
+        return ValidationEngines.active().isValidStrictCnpj(cnpj, offset, length);
+    }
+
+    /**
+     * Validates the CNPJ found in a region of an ASCII byte buffer by automatically detecting its type.
+     *
+     * @param cnpj   the buffer holding the CNPJ
+     * @param offset the absolute index of the first byte of the region
+     * @param length the number of bytes in the region
+     * @return {@code true} if the region holds a valid CNPJ according to its detected format; {@code false} otherwise
+     * @throws IndexOutOfBoundsException if {@code cnpj} is not {@code null} and the region is out of its limit
+     * @see #isValid(String)
+     */
+    public static boolean isValid(ByteBuffer cnpj, int offset, int length) throws IndexOutOfBoundsException {
+        return ValidationEngines.active().isValidStrictCnpj(cnpj, offset, length);
+    }
+
+    /**
+     * Validates a numeric CNPJ given as a number, as read from a numeric database column.
+     *
+     * <p> Missing leading zeros are implied, so {@code 191L} stands for {@code "00000000000191"}. The check digits are
+     * computed on the number itself; no string is built. </p>
+     *
+     * @param cnpj the numeric CNPJ as a number
+     * @return {@code true} if the number is a valid CNPJ; {@code false} otherwise, including negative numbers and
+     * numbers with more than 14 digits
+     * @see #isValid(String, CnpjType)
+     */
+    public static boolean isValid(long cnpj) {
+        return CnpjScanner.isValid(cnpj);
+    }
+
+    /**
+     * Validates a batch of normalized CNPJs, numeric or alphanumeric, laid out as fixed-length ASCII records.
+     *
+     * <p> Record {@code i} is the 14 bytes starting at {@code offset + i * stride}; bytes between records, such as
+     * separators or line breaks, are ignored. Bit {@code i % 64} of {@code validity[i / 64]} is set when record
+     * {@code i} is a valid CNPJ of either {@link CnpjType}, with uppercase letters only. </p>
+     *
+     * <p> When the JVM runs with {@code --add-modules jdk.incubator.vector}, several records are validated per
+     * instruction with the Vector API; otherwise records are validated one at a time, with the same results. </p>
+     *
+     * @param batch    the bytes holding the records
+     * @param offset   the index of the first byte of the first record
+     * @param stride   the distance, in bytes, between the starts of two consecutive records; at least 14
+     * @param count    the number of records
+     * @param validity the bitmask receiving one bit per record; its first {@code (count + 63) / 64} words are
+     *                 overwritten
+     * @return the number of valid records
+     * @throws IllegalArgumentException  if {@code batch} or {@code validity} is {@code null}, or {@code stride} is
+     *                                   smaller than 14
+     * @throws IndexOutOfBoundsException if {@code count} is negative, the records do not fit in {@code batch}, or
+     *                                   {@code validity} is too short
+     * @see io.github.felseje.cpf.CpfUtils#isValidBatch(byte[], int, int, int, long[])
+     */
+    public static int isValidBatch(byte[] batch, int offset, int stride, int count, long[] validity)
+            throws IllegalArgumentException, IndexOutOfBoundsException {
+        return BatchValidator.validate(BatchDocument.CNPJ, batch, offset, stride, count, validity);
+    }
+
+    /**
+     * Validates every CNPJ of an array, numeric or alphanumeric, formatted or not, into a validity bitmask.
+     *
+     * <p> Bit {@code i % 64} of {@code validity[i / 64]} is set when {@code cnpjs[i]} is a valid CNPJ of either
+     * {@link CnpjType}, as {@link #isValid(CharSequence)} would tell, so only the exact formatted or unformatted shapes
+     * are accepted; {@code null} elements and values matching no CNPJ format are invalid, and no exception is thrown
+     * for them. A {@code String[]} is accepted as is.
+     * Large arrays are validated in parallel on the common {@link java.util.concurrent.ForkJoinPool}, small ones in
+     * the calling thread. </p>
+     *
+     * @param cnpjs    the CNPJs to validate
+     * @param validity the bitmask receiving one bit per CNPJ; its first {@code (cnpjs.length + 63) / 64} words are
+     *                 overwritten
+     * @return the number of valid CNPJs
+     * @throws IllegalArgumentException  if {@code cnpjs} or {@code validity} is {@code null}
+     * @throws IndexOutOfBoundsException if {@code validity} is too short
+     */
+    public static int validateAll(CharSequence[] cnpjs, long[] validity)
+            throws IllegalArgumentException, IndexOutOfBoundsException {
+        return SequenceValidator.validate(BatchDocument.CNPJ, cnpjs, validity);
+    }
+
+    /**
+     * Validates every CNPJ of a list, numeric or alphanumeric, formatted or not, into a validity bitmask.
+     *
+     * @param cnpjs    the CNPJs to validate
+     * @param validity the bitmask receiving one bit per CNPJ; its first {@code (cnpjs.size() + 63) / 64} words are
+     *                 overwritten
+     * @return the number of valid CNPJs
+     * @throws IllegalArgumentException  if {@code cnpjs} or {@code validity} is {@code null}
+     * @throws IndexOutOfBoundsException if {@code validity} is too short
+     * @see #validateAll(CharSequence[], long[])
+     */
+    public static int validateAll(List<? extends CharSequence> cnpjs, long[] validity)
+            throws IllegalArgumentException, IndexOutOfBoundsException {
+        return SequenceValidator.validate(BatchDocument.CNPJ, cnpjs, validity);
+    }
+
+    /**
+     * Validates every CNPJ of an array, numeric or alphanumeric, formatted or not, into a {@link BitSet}.
+     *
+     * <p> Example: </p>
+     * <pre>{@code
+     * BitSet valid = CnpjUtils.validateAll(new String[]{"11.222.333/0001-81", "12ABC34501DE35", "12ABC34501DE36"});
+     * valid.cardinality(); // 2
+     * valid.get(2);        // false
+     * }</pre>
+     *
+     * @param cnpjs the CNPJs to validate
+     * @return the set of the indexes of the valid CNPJs; its cardinality is the number of valid CNPJs
+     * @throws IllegalArgumentException if {@code cnpjs} is {@code null}
+     * @see #validateAll(CharSequence[], long[])
      */
-    public static boolean isValid(String cnpj) throws InvalidCnpjException {
-        return isValid(cnpj, getType(cnpj));
+    public static BitSet validateAll(CharSequence[] cnpjs) throws IllegalArgumentException {
+        final var validity = new long[BatchValidator.wordsFor(cnpjs == null ? 0 : cnpjs.length)];
+        validateAll(cnpjs, validity);
+        return BitSet.valueOf(validity);
+    }
+
+    /**
+     * Validates every CNPJ of a list, numeric or alphanumeric, formatted or not, into a {@link BitSet}.
+     *
+     * @param cnpjs the CNPJs to validate
+     * @return the set of the indexes of the valid CNPJs; its cardinality is the number of valid CNPJs
+     * @throws IllegalArgumentException if {@code cnpjs} is {@code null}
+     * @see #validateAll(CharSequence[], long[])
+     */
+    public static BitSet validateAll(List<? extends CharSequence> cnpjs) throws IllegalArgumentException {
+        final var validity = new long[BatchValidator.wordsFor(cnpjs == null ? 0 : cnpjs.size())];
+        validateAll(cnpjs, validity);
+        return BitSet.valueOf(validity);
     }
 
     /**
@@ -135,10 +427,40 @@ public final class CnpjUtils {
      * @throws InvalidCnpjException     if {@code cnpj} is not valid.
      */
     public static void validate(String cnpj, CnpjType type) throws IllegalArgumentException, InvalidCnpjException {
+        validate(cnpj, 0, StringUtils.lengthOf(cnpj), type);
+    }
+
+    /**
+     * Validates the given CNPJ character sequence according to its specified {@link CnpjType}.
+     *
+     * @param cnpj the CNPJ character sequence to validate; may be formatted or unformatted.
+     * @param type the CNPJ type (numeric or alphanumeric).
+     * @throws IllegalArgumentException if {@code cnpj} is null or blank; if {@code type} is null.
+     * @throws InvalidCnpjException     if {@code cnpj} is not valid.
+     * @see #validate(String, CnpjType)
+     */
+    public static void validate(CharSequence cnpj, CnpjType type) throws IllegalArgumentException, InvalidCnpjException {
+        validate(cnpj, 0, StringUtils.lengthOf(cnpj), type);
+    }
+
+    /**
+     * Validates the CNPJ found in a region of the given character sequence according to its specified {@link CnpjType}.
+     *
+     * @param cnpj   the character sequence holding the CNPJ; may be formatted or unformatted.
+     * @param offset the index of the first character of the region.
+     * @param length the number of characters in the region.
+     * @param type   the CNPJ type (numeric or alphanumeric).
+     * @throws IllegalArgumentException  if {@code cnpj} is null or the region is blank; if {@code type} is null.
+     * @throws IndexOutOfBoundsException if the region is out of the {@code cnpj} bounds.
+     * @throws InvalidCnpjException      if the region does not hold a valid CNPJ.
+     * @see #validate(String, CnpjType)
+     */
+    public static void validate(CharSequence cnpj, int offset, int length, CnpjType type)
+            throws IllegalArgumentException, IndexOutOfBoundsException, InvalidCnpjException {
         requireTypeNonNull(type);
-        StringUtils.requireNonBlank(cnpj, "The CNPJ must be not null or blank");
-        if (!isValid(cnpj, type)) {
-            throw new InvalidCnpjException("The CNPJ is not valid");
+        StringUtils.requireNonBlank(cnpj, offset, length, "The CNPJ must be not null or blank");
+        if (!isValid(cnpj, offset, length, type)) {
+            throw DocumentExceptions.invalidCnpj();
         }
     }
 
@@ -150,8 +472,95 @@ public final class CnpjUtils {
      * @throws InvalidCnpjException if {@code cnpj} is not valid.
      */
     public static void validate(String cnpj) throws IllegalArgumentException, InvalidCnpjException {
-        StringUtils.requireNonBlank(cnpj, "The CNPJ cannot be null or blank");
-        validate(cnpj, getType(cnpj));
+        validate(cnpj, 0, StringUtils.lengthOf(cnpj));
+    }
+
+    /**
+     * Attempts to classify the given CNPJ character sequence and validates according to its specific type.
+     *
+     * @param cnpj the CNPJ character sequence to validate; may be formatted or unformatted.
+     * @throws IllegalArgumentException if {@code cnpj} is null or blank.
+     * @throws InvalidCnpjException if {@code cnpj} is not valid.
+     * @see #validate(String)
+     */
+    public static void validate(CharSequence cnpj) throws IllegalArgumentException, InvalidCnpjException {
+        validate(cnpj, 0, StringUtils.lengthOf(cnpj));
+    }
+
+    /**
+     * Attempts to classify the CNPJ found in a region of the given character sequence and validates according to its
+     * specific type.
+     *
+     * @param cnpj   the character sequence holding the CNPJ; may be formatted or unformatted.
+     * @param offset the index of the first character of the region.
+     * @param length the number of characters in the region.
+     * @throws IllegalArgumentException  if {@code cnpj} is null or the region is blank.
+     * @throws IndexOutOfBoundsException if the region is out of the {@code cnpj} bounds.
+     * @throws InvalidCnpjException      if the region does not hold a valid CNPJ.
+     * @see #validate(String)
+     */
+    public static void validate(CharSequence cnpj, int offset, int length)
+            throws IllegalArgumentException, IndexOutOfBoundsException, InvalidCnpjException {
+        StringUtils.requireNonBlank(cnpj, offset, length, "The CNPJ cannot be null or blank");
+        if (ValidationEngines.active().isValidStrictCnpj(cnpj, offset, length)) {
+            return;
+        }
+        if (CnpjScanner.scanStrict(cnpj, offset, length) == CnpjScanner.NO_MATCH) {
+            throw DocumentExceptions.unmatchedCnpj();
+        }
+        throw DocumentExceptions.invalidCnpj();
+    }
+
+    /**
+     * Validates a numeric CNPJ given as a number, as read from a numeric database column.
+     *
+     * @param cnpj the numeric CNPJ as a number; leading zeros are implied
+     * @throws InvalidCnpjException if the given CNPJ is not valid
+     * @see #isValid(long)
+     */
+    public static void validate(long cnpj) throws InvalidCnpjException {
+        if (!CnpjScanner.isValid(cnpj)) {
+            throw DocumentExceptions.invalidCnpj();
+        }
+    }
+
+    /**
+     * Diagnoses a CNPJ without throwing, telling why it is not valid.
+     *
+     * <p> The input is read once, in the exact shapes accepted by {@link #isValid(CharSequence)}, and nothing is
+     * allocated. The result is a primitive value packing the {@link io.github.felseje.document.ValidationReason}, the
+     * position of the offending character and the expected check digits; it is read with
+     * {@link io.github.felseje.document.Diagnostics}. Inputs without an exact CNPJ shape, for which
+     * {@link #isValid(CharSequence)} returns {@code false} before reaching the check digits, are reported as
+     * {@code BLANK}, {@code WRONG_LENGTH}, {@code ILLEGAL_CHARACTER} or {@code UNKNOWN_CNPJ_TYPE}. </p>
+     *
+     * <p> Example: </p>
+     * <pre>{@code
+     * long diagnosis = CnpjUtils.diagnose("11.222.333/0001-8X");
+     * Diagnostics.reasonOf(diagnosis);   // UNKNOWN_CNPJ_TYPE
+     * Diagnostics.positionOf(diagnosis); // 17
+     * }</pre>
+     *
+     * @param cnpj the CNPJ to diagnose, formatted or unformatted; may be {@code null}
+     * @return the diagnosis; its reason is {@code VALID} exactly when {@link #isValid(CharSequence)} returns
+     * {@code true}
+     */
+    public static long diagnose(CharSequence cnpj) {
+        return CnpjScanner.diagnose(cnpj, 0, StringUtils.lengthOf(cnpj));
+    }
+
+    /**
+     * Diagnoses the CNPJ found in a region of the given character sequence without throwing.
+     *
+     * @param cnpj   the character sequence holding the CNPJ, formatted or unformatted; may be {@code null}
+     * @param offset the index of the first character of the region
+     * @param length the number of characters in the region
+     * @return the diagnosis, with positions relative to {@code offset}
+     * @throws IndexOutOfBoundsException if {@code cnpj} is not {@code null} and the region is out of its bounds
+     * @see #diagnose(CharSequence)
+     */
+    public static long diagnose(CharSequence cnpj, int offset, int length) throws IndexOutOfBoundsException {
+        return CnpjScanner.diagnose(cnpj, offset, length);
     }
 
     /**
@@ -174,6 +583,70 @@ public final class CnpjUtils {
         return ClassifierHolder.INSTANCE.classify(input);
     }
 
+    /**
+     * Attempts to classify the given normalized CNPJ character sequence into a {@link CnpjType}.
+     *
+     * @param input the normalized CNPJ character sequence to classify
+     * @return a {@link CnpjType} representing the classification result
+     * @throws IllegalArgumentException      if the input is null or blank
+     * @throws UnrecognizedCnpjTypeException if the input does not match any known CNPJ format
+     * @see #classify(String)
+     */
+    public static CnpjType classify(CharSequence input) throws IllegalArgumentException, UnrecognizedCnpjTypeException {
+        return ClassifierHolder.INSTANCE.classify(input);
+    }
+
+    /**
+     * Attempts to classify the normalized CNPJ found in a region of the given character sequence into a {@link CnpjType}.
+     *
+     * @param input  the character sequence holding the normalized CNPJ
+     * @param offset the index of the first character of the region
+     * @param length the number of characters in the region
+     * @return a {@link CnpjType} representing the classification result
+     * @throws IllegalArgumentException      if the input is null or the region is blank
+     * @throws IndexOutOfBoundsException     if the region is out of the input bounds
+     * @throws UnrecognizedCnpjTypeException if the region does not match any known CNPJ format
+     * @see #classify(String)
+     */
+    public static CnpjType classify(CharSequence input, int offset, int length)
+            throws IllegalArgumentException, IndexOutOfBoundsException, UnrecognizedCnpjTypeException {
+        return ClassifierHolder.INSTANCE.classify(input, offset, length);
+    }
+
+    /**
+     * Attempts to classify the normalized CNPJ found in a region of ASCII bytes into a {@link CnpjType}.
+     *
+     * @param input  the bytes holding the normalized CNPJ
+     * @param offset the index of the first byte of the region
+     * @param length the number of bytes in the region
+     * @return a {@link CnpjType} representing the classification result
+     * @throws IllegalArgumentException      if the input is null or the region is blank
+     * @throws IndexOutOfBoundsException     if the region is out of the input bounds
+     * @throws UnrecognizedCnpjTypeException if the region does not match any known CNPJ format
+     * @see #classify(String)
+     */
+    public static CnpjType classify(byte[] input, int offset, int length)
+            throws IllegalArgumentException, IndexOutOfBoundsException, UnrecognizedCnpjTypeException {
+        return ClassifierHolder.INSTANCE.classify(input, offset, length);
+    }
+
+    /**
+     * Attempts to classify the normalized CNPJ found in a region of an ASCII byte buffer into a {@link CnpjType}.
+     *
+     * @param input  the buffer holding the normalized CNPJ
+     * @param offset the absolute index of the first byte of the region
+     * @param length the number of bytes in the region
+     * @return a {@link CnpjType} representing the classification result
+     * @throws IllegalArgumentException      if the input is null or the region is blank
+     * @throws IndexOutOfBoundsException     if the region is out of the input limit
+     * @throws UnrecognizedCnpjTypeException if the region does not match any known CNPJ format
+     * @see #classify(String)
+     */
+    public static CnpjType classify(ByteBuffer input, int offset, int length)
+            throws IllegalArgumentException, IndexOutOfBoundsException, UnrecognizedCnpjTypeException {
+        return ClassifierHolder.INSTANCE.classify(input, offset, length);
+    }
+
     /**
      * Attempts to format the given raw CNPJ string into a valid CNPJ pattern.
      *
@@ -194,6 +667,57 @@ public final class CnpjUtils {
         return FormatterHolder.INSTANCE.format(input);
     }
 
+    /**
+     * Attempts to format the given raw CNPJ character sequence into a valid CNPJ pattern.
+     *
+     * @param input the raw CNPJ character sequence, which may be numeric or alphanumeric
+     * @return a formatted CNPJ string
+     * @throws IllegalArgumentException if {@code input} is {@code null} or blank
+     * @throws InvalidCnpjException     if {@code input} cannot be normalized or formatted properly
+     * @see #format(String)
+     */
+    public static String format(CharSequence input) throws IllegalArgumentException, InvalidCnpjException {
+        return FormatterHolder.INSTANCE.format(input);
+    }
+
+    /**
+     * Attempts to format the raw CNPJ found in a region of the given character sequence into a valid CNPJ pattern.
+     *
+     * @param input  the character sequence holding the raw CNPJ
+     * @param offset the index of the first character of the region
+     * @param length the number of characters in the region
+     * @return a formatted CNPJ string
+     * @throws IllegalArgumentException  if {@code input} is {@code null} or the region is blank
+     * @throws IndexOutOfBoundsException if the region is out of the input bounds
+     * @throws InvalidCnpjException      if the region cannot be normalized or formatted properly
+     * @see #format(String)
+     */
+    public static String format(CharSequence input, int offset, int length)
+            throws IllegalArgumentException, IndexOutOfBoundsException, InvalidCnpjException {
+        return FormatterHolder.INSTANCE.format(input, offset, length);
+    }
+
+    /**
+     * Formats a numeric CNPJ given as a number into the standard CNPJ pattern, restoring its leading zeros.
+     *
+     * <p> As with {@link #format(String)}, the check digits are not verified. </p>
+     *
+     * <p>Example:</p>
+     * <pre>{@code
+     * CnpjUtils.format(191L); // "00.000.000/0001-91"
+     * }</pre>
+     *
+     * @param cnpj the numeric CNPJ as a number
+     * @return a formatted CNPJ string
+     * @throws InvalidCnpjException if {@code cnpj} is negative or has more than 14 digits
+     */
+    public static String format(long cnpj) throws InvalidCnpjException {
+        if (!CnpjCodec.isNumberInRange(cnpj)) {
+            throw DocumentExceptions.cnpjOutOfRange();
+        }
+        return CnpjCodec.toFormattedNumber(cnpj);
+    }
+
     /**
      * Removes all invalid characters from a given CNPJ string.
      *
@@ -207,6 +731,34 @@ public final class CnpjUtils {
         return NormalizerHolder.INSTANCE.clear(input);
     }
 
+    /**
+     * Removes all invalid characters from a given CNPJ character sequence.
+     *
+     * @param input the CNPJ character sequence to clean; must not be null or blank
+     * @return a string containing only the alphanumeric characters from the input
+     * @throws IllegalArgumentException if the input is null or blank
+     * @see #clear(String)
+     */
+    public static String clear(CharSequence input) throws IllegalArgumentException {
+        return NormalizerHolder.INSTANCE.clear(input);
+    }
+
+    /**
+     * Removes all invalid characters from a region of the given character sequence.
+     *
+     * @param input  the character sequence holding the CNPJ; must not be null
+     * @param offset the index of the first character of the region
+     * @param length the number of characters in the region
+     * @return a string containing only the alphanumeric characters from the region
+     * @throws IllegalArgumentException  if the input is null or the region is blank
+     * @throws IndexOutOfBoundsException if the region is out of the input bounds
+     * @see #clear(String)
+     */
+    public static String clear(CharSequence input, int offset, int length)
+            throws IllegalArgumentException, IndexOutOfBoundsException {
+        return NormalizerHolder.INSTANCE.clear(input, offset, length);
+    }
+
     /**
      * Normalizes a raw CNPJ string by removing formatting symbols and converting it to uppercase.
      *
@@ -228,6 +780,401 @@ public final class CnpjUtils {
         return NormalizerHolder.INSTANCE.normalize(input);
     }
 
+    /**
+     * Normalizes a raw CNPJ character sequence by removing formatting symbols and converting it to uppercase.
+     *
+     * @param input the raw CNPJ character sequence, formatted or unformatted
+     * @return the normalized CNPJ string
+     * @throws IllegalArgumentException if the input is null or blank
+     * @throws InvalidCnpjException     if the result is not exactly 14 characters long
+     * @see #normalize(String)
+     */
+    public static String normalize(CharSequence input) throws IllegalArgumentException, InvalidCnpjException {
+        return NormalizerHolder.INSTANCE.normalize(input);
+    }
+
+    /**
+     * Normalizes the raw CNPJ found in a region of the given character sequence.
+     *
+     * @param input  the character sequence holding the raw CNPJ, formatted or unformatted
+     * @param offset the index of the first character of the region
+     * @param length the number of characters in the region
+     * @return the normalized CNPJ string
+     * @throws IllegalArgumentException  if the input is null or the region is blank
+     * @throws IndexOutOfBoundsException if the region is out of the input bounds
+     * @throws InvalidCnpjException      if the result is not exactly 14 characters long
+     * @see #normalize(String)
+     */
+    public static String normalize(CharSequence input, int offset, int length)
+            throws IllegalArgumentException, IndexOutOfBoundsException, InvalidCnpjException {
+        return NormalizerHolder.INSTANCE.normalize(input, offset, length);
+    }
+
+    /**
+     * Normalizes the raw CNPJ found in a region of ASCII bytes, without decoding the region first.
+     *
+     * @param input  the bytes holding the raw CNPJ, formatted or unformatted
+     * @param offset the index of the first byte of the region
+     * @param length the number of bytes in the region
+     * @return the normalized CNPJ string
+     * @throws IllegalArgumentException  if the input is null or the region is blank
+     * @throws IndexOutOfBoundsException if the region is out of the input bounds
+     * @throws InvalidCnpjException      if the result is not exactly 14 characters long
+     * @see #normalize(String)
+     */
+    public static String normalize(byte[] input, int offset, int length)
+            throws IllegalArgumentException, IndexOutOfBoundsException, InvalidCnpjException {
+        return NormalizerHolder.INSTANCE.normalize(input, offset, length);
+    }
+
+    /**
+     * Normalizes the raw CNPJ found in a region of an ASCII byte buffer, without decoding the region first.
+     *
+     * @param input  the buffer holding the raw CNPJ, formatted or unformatted
+     * @param offset the absolute index of the first byte of the region
+     * @param length the number of bytes in the region
+     * @return the normalized CNPJ string
+     * @throws IllegalArgumentException  if the input is null or the region is blank
+     * @throws IndexOutOfBoundsException if the region is out of the input limit
+     * @throws InvalidCnpjException      if the result is not exactly 14 characters long
+     * @see #normalize(String)
+     */
+    public static String normalize(ByteBuffer input, int offset, int length)
+            throws IllegalArgumentException, IndexOutOfBoundsException, InvalidCnpjException {
+        return NormalizerHolder.INSTANCE.normalize(input, offset, length);
+    }
+
+    /**
+     * Turns a raw CNPJ into its canonical key, validating it in the same pass.
+     *
+     * <p> The input may be formatted or unformatted and numeric or alphanumeric; characters other than ASCII letters
+     * and digits are ignored, as in {@link #isValid(String, CnpjType)}. </p>
+     *
+     * <p>Example:</p>
+     * <pre>{@code
+     * long key = CnpjUtils.toKey("12.ABC.345/01DE-35");
+     * CnpjUtils.fromKey(key);                   // "12ABC34501DE35"
+     * CnpjUtils.toKey("12.ABC.345/01DE-36");    // CnpjUtils.INVALID_KEY
+     * }</pre>
+     *
+     * @param cnpj the raw CNPJ; may be {@code null}
+     * @return the CNPJ key, or {@link #INVALID_KEY} if the input is not a valid CNPJ
+     */
+    public static long toKey(CharSequence cnpj) {
+        return cnpj == null ? INVALID_KEY : CnpjScanner.toKey(cnpj, 0, cnpj.length());
+    }
+
+    /**
+     * Turns the raw CNPJ found in a region of the given character sequence into its canonical key.
+     *
+     * @param cnpj   the character sequence holding the raw CNPJ; may be {@code null}
+     * @param offset the index of the first character of the region
+     * @param length the number of characters in the region
+     * @return the CNPJ key, or {@link #INVALID_KEY} if the region is not a valid CNPJ
+     * @throws IndexOutOfBoundsException if {@code cnpj} is not {@code null} and the region is out of its bounds
+     * @see #toKey(CharSequence)
+     */
+    public static long toKey(CharSequence cnpj, int offset, int length) throws IndexOutOfBoundsException {
+        return CnpjScanner.toKey(cnpj, offset, length);
+    }
+
+    /**
+     * Turns a raw CNPJ read with the given parse profile into its canonical key, validating it in the same pass.
+     *
+     * <p> Strict profiles accept only the shapes they name and stop at the first character breaking them, without
+     * cleaning the input first. {@link ParseProfile#LENIENT} reads the input as {@link #toKey(CharSequence)} does,
+     * skipping every character that is not an ASCII letter or digit and rejecting lowercase letters. </p>
+     *
+     * <p>Example:</p>
+     * <pre>{@code
+     * CnpjUtils.toKey("12ABC34501DE35", ParseProfile.CANONICAL);       // same key as "12.ABC.345/01DE-35"
+     * CnpjUtils.toKey("12.ABC.345/01DE-35", ParseProfile.CANONICAL);   // CnpjUtils.INVALID_KEY
+     * CnpjUtils.toKey("12.abc.345/01de-35", ParseProfile.STANDARD);    // CnpjUtils.INVALID_KEY
+     * CnpjUtils.toKey("12 ABC 345 01DE 35", ParseProfile.LENIENT);     // same key as "12.ABC.345/01DE-35"
+     * CnpjUtils.toKey("12.abc.345/01de-35", ParseProfile.LENIENT);     // CnpjUtils.INVALID_KEY
+     * }</pre>
+     *
+     * @param cnpj     the raw CNPJ; may be {@code null}
+     * @param profile the profile telling which shapes are accepted
+     * @return the CNPJ key, or {@link #INVALID_KEY} if the input is not a valid CNPJ in a shape accepted by the
+     * profile
+     * @throws IllegalArgumentException if {@code profile} is {@code null}
+     */
+    public static long toKey(CharSequence cnpj, ParseProfile profile) throws IllegalArgumentException {
+        return toKey(cnpj, 0, StringUtils.lengthOf(cnpj), profile);
+    }
+
+    /**
+     * Turns the raw CNPJ found in a region of the given character sequence, read with the given parse profile, into
+     * its canonical key.
+     *
+     * @param cnpj     the character sequence holding the raw CNPJ; may be {@code null}
+     * @param offset  the index of the first character of the region
+     * @param length  the number of characters in the region
+     * @param profile the profile telling which shapes are accepted
+     * @return the CNPJ key, or {@link #INVALID_KEY} if the region is not a valid CNPJ in a shape accepted by the
+     * profile
+     * @throws IllegalArgumentException  if {@code profile} is {@code null}
+     * @throws IndexOutOfBoundsException if {@code cnpj} is not {@code null} and the region is out of its bounds
+     * @see #toKey(CharSequence, ParseProfile)
+     */
+    public static long toKey(CharSequence cnpj, int offset, int length, ParseProfile profile)
+            throws IllegalArgumentException, IndexOutOfBoundsException {
+        requireProfileNonNull(profile);
+        return CnpjScanner.toKey(cnpj, offset, length, profile);
+    }
+
+    /**
+     * Validates a CNPJ read with the given parse profile.
+     *
+     * @param cnpj     the CNPJ to validate; may be {@code null}
+     * @param profile the profile telling which shapes are accepted
+     * @return {@code true} if the input is a valid CNPJ in a shape accepted by the profile; {@code false} otherwise
+     * @throws IllegalArgumentException if {@code profile} is {@code null}
+     * @see #toKey(CharSequence, ParseProfile)
+     */
+    public static boolean isValid(CharSequence cnpj, ParseProfile profile) throws IllegalArgumentException {
+        return toKey(cnpj, profile) != INVALID_KEY;
+    }
+
+    /**
+     * Turns a numeric CNPJ given as a number into its canonical key, validating it in the same step.
+     *
+     * <p> The result equals {@link #toKey(CharSequence)} applied to the zero-padded text of the number. </p>
+     *
+     * @param cnpj the numeric CNPJ as a number; leading zeros are implied
+     * @return the CNPJ key, or {@link #INVALID_KEY} if the number is not a valid CNPJ
+     */
+    public static long toKey(long cnpj) {
+        return CnpjScanner.toKey(cnpj);
+    }
+
+    /**
+     * Turns a CNPJ key back into the normalized CNPJ (14 characters, check digits included).
+     *
+     * @param key a key returned by {@link #toKey(CharSequence)}
+     * @return the normalized CNPJ
+     * @throws IllegalArgumentException if {@code key} is negative or exceeds twelve base-36 digits
+     */
+    public static String fromKey(long key) throws IllegalArgumentException {
+        return CnpjCodec.toString(requireKeyInRange(key));
+    }
+
+    /**
+     * Turns a CNPJ key back into the formatted CNPJ.
+     *
+     * @param key a key returned by {@link #toKey(CharSequence)}
+     * @return the CNPJ formatted as {@code ##.###.###/####-##}
+     * @throws IllegalArgumentException if {@code key} is negative or exceeds twelve base-36 digits
+     */
+    public static String formatKey(long key) throws IllegalArgumentException {
+        return CnpjCodec.toFormattedString(requireKeyInRange(key));
+    }
+
+    /**
+     * Writes the formatted CNPJ of a key into a character buffer, without allocating.
+     *
+     * <p>Example:</p>
+     * <pre>{@code
+     * char[] row = new char[18];
+     * int end = CnpjUtils.formatKey(CnpjUtils.toKey("12ABC34501DE35"), row, 0); // 18
+     * }</pre>
+     *
+     * @param key         a key returned by {@link #toKey(CharSequence)}
+     * @param destination the buffer receiving the CNPJ formatted as {@code ##.###.###/####-##}
+     * @param offset      the index where the first character is written
+     * @return the index following the last character written
+     * @throws IllegalArgumentException  if {@code key} is out of range or {@code destination} is {@code null}
+     * @throws IndexOutOfBoundsException if the 18 characters do not fit in {@code destination} at {@code offset}
+     */
+    public static int formatKey(long key, char[] destination, int offset)
+            throws IllegalArgumentException, IndexOutOfBoundsException {
+        return DocumentWriter.CNPJ.write(key, destination, offset);
+    }
+
+    /**
+     * Writes the formatted CNPJ of a key into a byte buffer, as ASCII, without allocating.
+     *
+     * @param key         a key returned by {@link #toKey(CharSequence)}
+     * @param destination the buffer receiving the CNPJ formatted as {@code ##.###.###/####-##}
+     * @param offset      the index where the first byte is written
+     * @return the index following the last byte written
+     * @throws IllegalArgumentException  if {@code key} is out of range or {@code destination} is {@code null}
+     * @throws IndexOutOfBoundsException if the 18 bytes do not fit in {@code destination} at {@code offset}
+     */
+    public static int formatKey(long key, byte[] destination, int offset)
+            throws IllegalArgumentException, IndexOutOfBoundsException {
+        return DocumentWriter.CNPJ.write(key, destination, offset);
+    }
+
+    /**
+     * Appends the formatted CNPJ of a key to a string builder, without any intermediate string.
+     *
+     * @param key         a key returned by {@link #toKey(CharSequence)}
+     * @param destination the builder receiving the CNPJ formatted as {@code ##.###.###/####-##}
+     * @return {@code destination}
+     * @throws IllegalArgumentException if {@code key} is out of range or {@code destination} is {@code null}
+     */
+    public static StringBuilder formatKey(long key, StringBuilder destination) throws IllegalArgumentException {
+        return DocumentWriter.CNPJ.append(key, destination);
+    }
+
+    /**
+     * Appends the formatted CNPJ of a key to any {@link Appendable}, such as a {@link java.io.Writer}, one character
+     * at a time and without any intermediate string.
+     *
+     * @param key         a key returned by {@link #toKey(CharSequence)}
+     * @param destination the target receiving the CNPJ formatted as {@code ##.###.###/####-##}
+     * @return {@code destination}
+     * @throws IllegalArgumentException if {@code key} is out of range or {@code destination} is {@code null}
+     * @throws IOException              if {@code destination} fails to append a character
+     */
+    public static Appendable formatKey(long key, Appendable destination) throws IllegalArgumentException, IOException {
+        return DocumentWriter.CNPJ.append(key, destination);
+    }
+
+    /**
+     * Writes the formatted CNPJ held normalized in a region of a character sequence into a character buffer.
+     *
+     * <p> The region must already hold the normalized CNPJ (12 ASCII digits or uppercase letters followed by 2 digits), as returned by
+     * {@link #normalize(CharSequence)}; its characters are copied around the separators, so normalization is
+     * skipped. The check digits are not validated. </p>
+     *
+     * <p>Example:</p>
+     * <pre>{@code
+     * char[] row = new char[18];
+     * CnpjUtils.formatNormalized("12ABC34501DE35", 0, row, 0); // 18
+     * }</pre>
+     *
+     * @param cnpj               the character sequence holding the normalized CNPJ
+     * @param offset            the index of the first character of the normalized CNPJ
+     * @param destination       the buffer receiving the CNPJ formatted as {@code ##.###.###/####-##}
+     * @param destinationOffset the index where the first character is written
+     * @return the index following the last character written
+     * @throws IllegalArgumentException  if {@code cnpj} or {@code destination} is {@code null}
+     * @throws IndexOutOfBoundsException if the region or the formatted CNPJ is out of bounds
+     * @throws InvalidCnpjException      if the region does not hold a normalized CNPJ
+     */
+    public static int formatNormalized(CharSequence cnpj, int offset, char[] destination, int destinationOffset)
+            throws IllegalArgumentException, IndexOutOfBoundsException, InvalidCnpjException {
+        return DocumentWriter.CNPJ.writeNormalized(cnpj, offset, destination, destinationOffset);
+    }
+
+    /**
+     * Writes the formatted CNPJ held normalized in a region of a character sequence into a byte buffer, as ASCII.
+     *
+     * <p> Normalization is skipped, see {@link #formatNormalized(CharSequence, int, char[], int)}. </p>
+     *
+     * @param cnpj               the character sequence holding the normalized CNPJ
+     * @param offset            the index of the first character of the normalized CNPJ
+     * @param destination       the buffer receiving the CNPJ formatted as {@code ##.###.###/####-##}
+     * @param destinationOffset the index where the first byte is written
+     * @return the index following the last byte written
+     * @throws IllegalArgumentException  if {@code cnpj} or {@code destination} is {@code null}
+     * @throws IndexOutOfBoundsException if the region or the formatted CNPJ is out of bounds
+     * @throws InvalidCnpjException      if the region does not hold a normalized CNPJ
+     */
+    public static int formatNormalized(CharSequence cnpj, int offset, byte[] destination, int destinationOffset)
+            throws IllegalArgumentException, IndexOutOfBoundsException, InvalidCnpjException {
+        return DocumentWriter.CNPJ.writeNormalized(cnpj, offset, destination, destinationOffset);
+    }
+
+    /**
+     * Appends the formatted CNPJ held normalized in a region of a character sequence to a string builder.
+     *
+     * <p> Normalization is skipped, see {@link #formatNormalized(CharSequence, int, char[], int)}. </p>
+     *
+     * @param cnpj         the character sequence holding the normalized CNPJ
+     * @param offset      the index of the first character of the normalized CNPJ
+     * @param destination the builder receiving the CNPJ formatted as {@code ##.###.###/####-##}
+     * @return {@code destination}
+     * @throws IllegalArgumentException  if {@code cnpj} or {@code destination} is {@code null}
+     * @throws IndexOutOfBoundsException if the region is out of the bounds of {@code cnpj}
+     * @throws InvalidCnpjException      if the region does not hold a normalized CNPJ
+     */
+    public static StringBuilder formatNormalized(CharSequence cnpj, int offset, StringBuilder destination)
+            throws IllegalArgumentException, IndexOutOfBoundsException, InvalidCnpjException {
+        return DocumentWriter.CNPJ.appendNormalized(cnpj, offset, destination);
+    }
+
+    /**
+     * Appends the formatted CNPJ held normalized in a region of a character sequence to any {@link Appendable}, one
+     * character at a time.
+     *
+     * <p> Normalization is skipped, see {@link #formatNormalized(CharSequence, int, char[], int)}. </p>
+     *
+     * @param cnpj         the character sequence holding the normalized CNPJ
+     * @param offset      the index of the first character of the normalized CNPJ
+     * @param destination the target receiving the CNPJ formatted as {@code ##.###.###/####-##}
+     * @return {@code destination}
+     * @throws IllegalArgumentException  if {@code cnpj} or {@code destination} is {@code null}
+     * @throws IndexOutOfBoundsException if the region is out of the bounds of {@code cnpj}
+     * @throws InvalidCnpjException      if the region does not hold a normalized CNPJ
+     * @throws IOException               if {@code destination} fails to append a character
+     */
+    public static Appendable formatNormalized(CharSequence cnpj, int offset, Appendable destination)
+            throws IllegalArgumentException, IndexOutOfBoundsException, InvalidCnpjException, IOException {
+        return DocumentWriter.CNPJ.appendNormalized(cnpj, offset, destination);
+    }
+
+    /**
+     * Formats a whole column of keys into one contiguous character buffer, as fixed-length records.
+     *
+     * <p> Record {@code i} is the formatted CNPJ of {@code keys[i]}, written at {@code offset + i * stride}.
+     * Characters between records are left untouched, so separators or line breaks laid out once are kept across
+     * calls and the same buffer can be reused for every chunk of an export. Every key is checked before anything is
+     * written. </p>
+     *
+     * <p>Example:</p>
+     * <pre>{@code
+     * char[] column = new char[keys.length * 19];
+     * for (int i = 18; i < column.length; i += 19) {
+     *     column[i] = '\n';
+     * }
+     * CnpjUtils.formatKeys(keys, column, 0, 19);
+     * }</pre>
+     *
+     * @param keys        keys returned by {@link #toKey(CharSequence)}
+     * @param destination the buffer receiving the records
+     * @param offset      the index where the first record is written
+     * @param stride      the distance, in characters, between the starts of two consecutive records; at least 18
+     * @return the index following the last character written, or {@code offset} if {@code keys} is empty
+     * @throws IllegalArgumentException  if {@code keys} or {@code destination} is {@code null}, {@code stride} is
+     *                                   smaller than 18 or a key is out of range
+     * @throws IndexOutOfBoundsException if the records do not fit in {@code destination}
+     */
+    public static int formatKeys(long[] keys, char[] destination, int offset, int stride)
+            throws IllegalArgumentException, IndexOutOfBoundsException {
+        return DocumentWriter.CNPJ.writeAll(keys, destination, offset, stride);
+    }
+
+    /**
+     * Formats a whole column of keys into one contiguous byte buffer, as fixed-length ASCII records.
+     *
+     * <p> Record {@code i} is written at {@code offset + i * stride} and bytes between records are left untouched,
+     * see {@link #formatKeys(long[], char[], int, int)}. </p>
+     *
+     * @param keys        keys returned by {@link #toKey(CharSequence)}
+     * @param destination the buffer receiving the records
+     * @param offset      the index where the first record is written
+     * @param stride      the distance, in bytes, between the starts of two consecutive records; at least 18
+     * @return the index following the last byte written, or {@code offset} if {@code keys} is empty
+     * @throws IllegalArgumentException  if {@code keys} or {@code destination} is {@code null}, {@code stride} is
+     *                                   smaller than 18 or a key is out of range
+     * @throws IndexOutOfBoundsException if the records do not fit in {@code destination}
+     */
+    public static int formatKeys(long[] keys, byte[] destination, int offset, int stride)
+            throws IllegalArgumentException, IndexOutOfBoundsException {
+        return DocumentWriter.CNPJ.writeAll(keys, destination, offset, stride);
+    }
+
+    private static long requireKeyInRange(final long key) throws IllegalArgumentException {
+        if (!CnpjCodec.isInRange(key)) {
+            throw new IllegalArgumentException("The CNPJ key is out of range");
+        }
+        return key;
+    }
+
     /**
      * Holds a lazily-initialized singleton instance of {@link CnpjClassifier}.
      *
@@ -272,11 +1219,11 @@ public final class CnpjUtils {
     /**
      * Holds a lazily-initialized singleton instance of {@link AlphanumericValidator}.
      *
-     * <p> Validates alphanumeric CNPJ values using the shared normalizer. </p>
+     * <p> Validates alphanumeric CNPJ values in a single pass over the raw input. </p>
      *
      */
     private static final class AlphanumericValidatorHolder {
-        private static final AlphanumericValidator INSTANCE = new AlphanumericValidator(NormalizerHolder.INSTANCE);
+        private static final AlphanumericValidator INSTANCE = new AlphanumericValidator();
     }
 
     /**
@@ -292,11 +1239,11 @@ public final class CnpjUtils {
     /**
      * Holds a lazily-initialized singleton instance of {@link NumericValidator}.
      *
-     * <p> Validates numeric CNPJ values using the shared normalizer. </p>
+     * <p> Validates numeric CNPJ values in a single pass over the raw input. </p>
      *
      */
     private static final class NumericValidatorHolder {
-        private static final NumericValidator INSTANCE = new NumericValidator(NormalizerHolder.INSTANCE);
+        private static final NumericValidator INSTANCE = new NumericValidator();
     }
 
 }
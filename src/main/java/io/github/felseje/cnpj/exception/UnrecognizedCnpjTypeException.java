@@ -1,5 +1,7 @@
 package io.github.felseje.cnpj.exception;
 
+import io.github.felseje.internal.util.DocumentExceptions;
+
 import java.io.Serial;
 
 /**
@@ -23,7 +25,7 @@ public class UnrecognizedCnpjTypeException extends RuntimeException {
      * @param message the detail message explaining the reason for the exception
      */
     public UnrecognizedCnpjTypeException(String message) {
-        super(message);
+        super(message, null, DocumentExceptions.WRITABLE, DocumentExceptions.WRITABLE);
     }
 
     /**
@@ -33,7 +35,21 @@ public class UnrecognizedCnpjTypeException extends RuntimeException {
      * @param cause   the cause of this exception (which can be retrieved later by {@link #getCause()})
      */
     public UnrecognizedCnpjTypeException(String message, Throwable cause) {
-        super(message, cause);
+        super(message, cause, DocumentExceptions.WRITABLE, DocumentExceptions.WRITABLE);
+    }
+
+    /**
+     * Constructs a new {@link UnrecognizedCnpjTypeException} with the specified detail message and cause, choosing
+     * whether suppression and stack trace writing are enabled.
+     *
+     * @param message            the detail message
+     * @param cause              the cause of this exception, possibly {@code null}
+     * @param enableSuppression  whether suppressed exceptions are recorded
+     * @param writableStackTrace whether the stack trace is filled in
+     */
+    protected UnrecognizedCnpjTypeException(String message, Throwable cause, boolean enableSuppression,
+            boolean writableStackTrace) {
+        super(message, cause, enableSuppression, writableStackTrace);
     }
 
 }
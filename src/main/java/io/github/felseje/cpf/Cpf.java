@@ -1,8 +1,10 @@
 package io.github.felseje.cpf;
 
 import io.github.felseje.cpf.exception.InvalidCpfException;
-
-import java.util.Objects;
+import io.github.felseje.internal.cpf.util.CpfCodec;
+import io.github.felseje.internal.cpf.validation.CpfScanner;
+import io.github.felseje.internal.util.DocumentExceptions;
+import io.github.felseje.internal.util.StringUtils;
 
 /**
  * Represents a CPF (Cadastro de Pessoas Físicas), which is the Brazilian
@@ -10,6 +12,8 @@ import java.util.Objects;
  *
  * <p> This class is responsible for storing, validating, and formatting CPF numbers. </p>
  * <p> A valid CPF consists of 11 digits and may be represented in formatted (e.g., "012.345.678-90") or unformatted form (e.g., "01234567890"). </p>
+ * <p> The CPF is stored as a single {@code long} holding the decimal value of its 11 digits. Its textual parts are
+ * computed on demand, so an instance is as small as a boxed {@code Long}. </p>
  *
  * @author felseje
  * @since 1.0.0-alpha
@@ -26,8 +30,7 @@ public class Cpf {
      */
     public static final int FORMATTED_LENGTH = 14;
 
-    private final String base;
-    private final String checkDigits;
+    private final long value;
 
     /**
      * Build an instance of the {@link Cpf} using a string representation.
@@ -37,10 +40,26 @@ public class Cpf {
      * @throws InvalidCpfException      if the {@code raw} is not a valid CPF.
      */
     public Cpf(String raw) throws IllegalArgumentException, InvalidCpfException {
-        CpfUtils.validate(raw);
-        String normalized = CpfUtils.normalize(raw);
-        this.base = normalized.substring(0, 9);
-        this.checkDigits = normalized.substring(9);
+        final var length = StringUtils.lengthOf(raw);
+        final var key = CpfScanner.toKey(raw, 0, length);
+        if (key == CpfCodec.INVALID) {
+            StringUtils.requireNonBlank(raw, 0, length, "The CPF cannot be null or blank");
+            throw DocumentExceptions.invalidCpf();
+        }
+        this.value = key;
+    }
+
+    /**
+     * Build an instance of the {@link Cpf} using a numeric representation, as stored in numeric database columns.
+     *
+     * <p>Missing leading zeros are implied, so {@code new Cpf(1234567890L)} equals {@code new Cpf("012.345.678-90")}.</p>
+     *
+     * @param number the CPF as a number.
+     * @throws InvalidCpfException if the {@code number} is not a valid CPF.
+     */
+    public Cpf(long number) throws InvalidCpfException {
+        CpfUtils.validate(number);
+        this.value = number;
     }
 
     /**
@@ -55,7 +74,7 @@ public class Cpf {
      * @return the CPF base.
      */
     public String getBase() {
-        return base;
+        return CpfCodec.substring(value, 0, 9);
     }
 
     /**
@@ -70,7 +89,7 @@ public class Cpf {
      * @return the CNPJ check digits.
      */
     public String getCheckDigits() {
-        return checkDigits;
+        return CpfCodec.substring(value, 9, LENGTH);
     }
 
     /**
@@ -85,23 +104,35 @@ public class Cpf {
      * @return the normalized CNPJ value.
      */
     public String getValue() {
-        return base + checkDigits;
+        return CpfCodec.toString(value);
+    }
+
+    /**
+     * Returns the canonical key of this CPF, as produced by {@link CpfUtils#toKey(CharSequence)}.
+     *
+     * <p>Example:</p>
+     * <pre>{@code
+     * Cpf cpf = new Cpf("012.345.678-90");
+     * System.out.println(cpf.getKey()); // prints 1234567890
+     * }</pre>
+     *
+     * @return the CPF key.
+     */
+    public long getKey() {
+        return value;
     }
 
     /**
      * Returns a hash code value for this CPF.
      *
-     * <p> The hash code is computed based on the {@code value} field. </p>
+     * <p> The hash code is computed based on the packed {@code value} field. </p>
      * <p> This ensures consistency with the {@link #equals(Object)} method. </p>
      *
      * @return the hash code value for this CPF.
      */
     @Override
     public int hashCode() {
-        int result = 41;
-        result = 31 * result + (base == null ? 0 : base.hashCode());
-        result = 31 * result + (checkDigits == null ? 0 : checkDigits.hashCode());
-        return result;
+        return Long.hashCode(value);
     }
 
     /**
@@ -117,8 +148,7 @@ public class Cpf {
         if (!(object instanceof Cpf other)) {
             return false;
         }
-        return Objects.equals(this.base, other.base)
-                && Objects.equals(this.checkDigits, other.checkDigits);
+        return this.value == other.value;
     }
 
     /**
@@ -128,7 +158,7 @@ public class Cpf {
      */
     @Override
     public String toString() {
-        return CpfUtils.format(getValue());
+        return CpfCodec.toFormattedString(value);
     }
 
 }
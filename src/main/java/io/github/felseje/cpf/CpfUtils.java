@@ -1,12 +1,25 @@
 package io.github.felseje.cpf;
 
 import io.github.felseje.cpf.exception.InvalidCpfException;
+import io.github.felseje.document.ParseProfile;
+import io.github.felseje.internal.batch.BatchDocument;
+import io.github.felseje.internal.batch.BatchValidator;
+import io.github.felseje.internal.batch.SequenceValidator;
 import io.github.felseje.internal.cpf.generation.CpfGenerator;
 import io.github.felseje.internal.cpf.helper.CpfFormatter;
 import io.github.felseje.internal.cpf.helper.CpfNormalizer;
+import io.github.felseje.internal.cpf.util.CpfCodec;
+import io.github.felseje.internal.cpf.validation.CpfScanner;
 import io.github.felseje.internal.cpf.validation.CpfValidator;
+import io.github.felseje.internal.document.DocumentWriter;
+import io.github.felseje.internal.util.DocumentExceptions;
 import io.github.felseje.internal.util.StringUtils;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.BitSet;
+import java.util.List;
+
 import static io.github.felseje.internal.Constants.NOT_ALLOWED_INSTANTIATION_ERROR;
 
 /**
@@ -14,6 +27,30 @@ import static io.github.felseje.internal.Constants.NOT_ALLOWED_INSTANTIATION_ERR
  *
  * <p> Provides static methods for validating, formatting, normalizing, and generating CPF numbers, following the standard Brazilian individual taxpayer identification format. </p>
  *
+ * <p> Every operation that reads a CPF also accepts any {@link CharSequence} (e.g. {@link StringBuilder} or
+ * {@link java.nio.CharBuffer}) and a region of it, given by an offset and a length. Regions are read in place, so a
+ * CPF embedded in a larger record does not need to be copied into a {@link String} first. </p>
+ *
+ * <p> CPFs held as ASCII (or UTF-8) bytes in a {@code byte[]} or a {@link ByteBuffer}, heap or direct, can be
+ * validated and normalized in place as well, without decoding them. Buffer regions are given in absolute indexes
+ * and never change the buffer position or limit. </p>
+ *
+ * <p> A valid CPF can also be turned into a canonical {@code long} key, the decimal value of its 11 digits, for use
+ * in primitive maps, hash joins and sorting. Keys are never negative, order like the normalized strings and turn
+ * back into text without any intermediate string. </p>
+ *
+ * <p> CPFs read from numeric database columns ({@code NUMBER}, {@code BIGINT}) have lost their leading zeros. They can
+ * be validated, formatted and generated as {@code long} values directly; the zero padding is implied and no
+ * intermediate string is built. An {@code int} column widens to {@code long} and needs no overload of its own. </p>
+ *
+ * <p> Large volumes of normalized CPFs laid out as fixed-length records can be validated in batches into a bitmask,
+ * see {@link #isValidBatch(byte[], int, int, int, long[])}. Arrays and lists of CPFs as text are validated at once,
+ * in parallel when large, see {@link #validateAll(CharSequence[])}. </p>
+ *
+ * <p> Validation runs on the engine selected at startup among the registered
+ * {@link io.github.felseje.spi.ValidationEngine} providers; see {@link io.github.felseje.spi.ValidationEngines} to
+ * query or override it. </p>
+ *
  * <p> This class is not intended to be instantiated and should only be used in a static context. </p>
  *
  * @author felseje
@@ -21,6 +58,11 @@ import static io.github.felseje.internal.Constants.NOT_ALLOWED_INSTANTIATION_ERR
  */
 public final class CpfUtils {
 
+    /**
+     * The key returned by {@link #toKey(CharSequence)} for input that is not a valid CPF.
+     */
+    public static final long INVALID_KEY = CpfCodec.INVALID;
+
     private CpfUtils() {
         throw new IllegalStateException(NOT_ALLOWED_INSTANTIATION_ERROR);
     }
@@ -44,6 +86,21 @@ public final class CpfUtils {
         return GeneratorHolder.INSTANCE.generate(formatted);
     }
 
+    /**
+     * Generates a valid CPF as a number, as stored in numeric database columns.
+     *
+     * <p>Example:</p>
+     * <pre>{@code
+     * long cpf = CpfUtils.generateNumber();
+     * CpfUtils.format(cpf); // e.g. "012.345.678-90"
+     * }</pre>
+     *
+     * @return the 11 CPF digits as a number; leading zeros are implied.
+     */
+    public static long generateNumber() {
+        return GeneratorHolder.INSTANCE.generateNumber();
+    }
+
     /**
      * Validates if the given CPF string is valid according to the CPF rules.
      *
@@ -54,6 +111,176 @@ public final class CpfUtils {
         return ValidatorHolder.INSTANCE.isValid(cpf);
     }
 
+    /**
+     * Validates if the given CPF character sequence is valid according to the CPF rules.
+     *
+     * @param cpf the CPF character sequence to validate
+     * @return {@code true} if the CPF is valid, {@code false} otherwise
+     */
+    public static boolean isValid(CharSequence cpf) {
+        return ValidatorHolder.INSTANCE.isValid(cpf);
+    }
+
+    /**
+     * Validates if the CPF found in a region of the given character sequence is valid according to the CPF rules.
+     *
+     * @param cpf    the character sequence holding the CPF
+     * @param offset the index of the first character of the region
+     * @param length the number of characters in the region
+     * @return {@code true} if the region holds a valid CPF, {@code false} otherwise
+     * @throws IndexOutOfBoundsException if {@code cpf} is not {@code null} and the region is out of its bounds
+     */
+    public static boolean isValid(CharSequence cpf, int offset, int length) throws IndexOutOfBoundsException {
+        return ValidatorHolder.INSTANCE.isValid(cpf, offset, length);
+    }
+
+    /**
+     * Validates if the CPF found in a region of ASCII bytes is valid according to the CPF rules.
+     *
+     * @param cpf    the bytes holding the CPF
+     * @param offset the index of the first byte of the region
+     * @param length the number of bytes in the region
+     * @return {@code true} if the region holds a valid CPF, {@code false} otherwise
+     * @throws IndexOutOfBoundsException if {@code cpf} is not {@code null} and the region is out of its bounds
+     */
+    public static boolean isValid(byte[] cpf, int offset, int length) throws IndexOutOfBoundsException {
+        return ValidatorHolder.INSTANCE.isValid(cpf, offset, length);
+    }
+
+    /**
+     * Validates if the CPF found in a region of an ASCII byte buffer is valid according to the CPF rules.
+     *
+     * @param cpf    the buffer holding the CPF
+     * @param offset the absolute index of the first byte of the region
+     * @param length the number of bytes in the region
+     * @return {@code true} if the region holds a valid CPF, {@code false} otherwise
+     * @throws IndexOutOfBoundsException if {@code cpf} is not {@code null} and the region is out of its limit
+     */
+    public static boolean isValid(ByteBuffer cpf, int offset, int length) throws IndexOutOfBoundsException {
+        return ValidatorHolder.INSTANCE.isValid(cpf, offset, length);
+    }
+
+    /**
+     * Validates a CPF given as a number, as read from a numeric database column.
+     *
+     * <p>Missing leading zeros are implied, so {@code 1234567890L} stands for {@code "01234567890"}. The check digits
+     * are computed on the number itself; no string is built.</p>
+     *
+     * @param cpf the CPF as a number.
+     * @return {@code true} if the number is a valid CPF; {@code false} otherwise, including negative numbers and
+     * numbers with more than 11 digits.
+     * @see #isValid(String)
+     */
+    public static boolean isValid(long cpf) {
+        return CpfScanner.isValid(cpf);
+    }
+
+    /**
+     * Validates a batch of normalized CPFs laid out as fixed-length ASCII records.
+     *
+     * <p>Record {@code i} is the 11 bytes starting at {@code offset + i * stride}; bytes between records, such as
+     * separators or line breaks, are ignored. Bit {@code i % 64} of {@code validity[i / 64]} is set when record
+     * {@code i} is valid, exactly as {@link #isValid(byte[], int, int) isValid(batch, offset + i * stride, 11)} would
+     * tell. </p>
+     *
+     * <p> When the JVM runs with {@code --add-modules jdk.incubator.vector}, several records are validated per
+     * instruction with the Vector API; otherwise records are validated one at a time, with the same results. </p>
+     *
+     * <p>Example:</p>
+     * <pre>{@code
+     * byte[] batch = "01234567890\n52998224725\n11111111111\n".getBytes(StandardCharsets.US_ASCII);
+     * long[] validity = new long[1];
+     * int valid = CpfUtils.isValidBatch(batch, 0, 12, 3, validity); // 2, validity[0] == 0b011
+     * }</pre>
+     *
+     * @param batch    the bytes holding the records.
+     * @param offset   the index of the first byte of the first record.
+     * @param stride   the distance, in bytes, between the starts of two consecutive records; at least 11.
+     * @param count    the number of records.
+     * @param validity the bitmask receiving one bit per record; its first {@code (count + 63) / 64} words are
+     *                 overwritten.
+     * @return the number of valid records.
+     * @throws IllegalArgumentException  if {@code batch} or {@code validity} is {@code null}, or {@code stride} is
+     *                                   smaller than 11.
+     * @throws IndexOutOfBoundsException if {@code count} is negative, the records do not fit in {@code batch}, or
+     *                                   {@code validity} is too short.
+     */
+    public static int isValidBatch(byte[] batch, int offset, int stride, int count, long[] validity)
+            throws IllegalArgumentException, IndexOutOfBoundsException {
+        return BatchValidator.validate(BatchDocument.CPF, batch, offset, stride, count, validity);
+    }
+
+    /**
+     * Validates every CPF of an array, formatted or not, into a validity bitmask.
+     *
+     * <p>Bit {@code i % 64} of {@code validity[i / 64]} is set when {@code cpfs[i]} is valid, exactly as
+     * {@link #isValid(CharSequence)} would tell; {@code null} elements are invalid. A {@code String[]} is accepted as
+     * is. Large arrays are validated in parallel on the common {@link java.util.concurrent.ForkJoinPool}, small ones
+     * in the calling thread. </p>
+     *
+     * @param cpfs     the CPFs to validate.
+     * @param validity the bitmask receiving one bit per CPF; its first {@code (cpfs.length + 63) / 64} words are
+     *                 overwritten.
+     * @return the number of valid CPFs.
+     * @throws IllegalArgumentException  if {@code cpfs} or {@code validity} is {@code null}.
+     * @throws IndexOutOfBoundsException if {@code validity} is too short.
+     */
+    public static int validateAll(CharSequence[] cpfs, long[] validity)
+            throws IllegalArgumentException, IndexOutOfBoundsException {
+        return SequenceValidator.validate(BatchDocument.CPF, cpfs, validity);
+    }
+
+    /**
+     * Validates every CPF of a list, formatted or not, into a validity bitmask.
+     *
+     * @param cpfs     the CPFs to validate.
+     * @param validity the bitmask receiving one bit per CPF; its first {@code (cpfs.size() + 63) / 64} words are
+     *                 overwritten.
+     * @return the number of valid CPFs.
+     * @throws IllegalArgumentException  if {@code cpfs} or {@code validity} is {@code null}.
+     * @throws IndexOutOfBoundsException if {@code validity} is too short.
+     * @see #validateAll(CharSequence[], long[])
+     */
+    public static int validateAll(List<? extends CharSequence> cpfs, long[] validity)
+            throws IllegalArgumentException, IndexOutOfBoundsException {
+        return SequenceValidator.validate(BatchDocument.CPF, cpfs, validity);
+    }
+
+    /**
+     * Validates every CPF of an array, formatted or not, into a {@link BitSet}.
+     *
+     * <p>Example:</p>
+     * <pre>{@code
+     * BitSet valid = CpfUtils.validateAll(new String[]{"012.345.678-90", "111.111.111-11", null});
+     * valid.cardinality(); // 1
+     * valid.get(0);        // true
+     * }</pre>
+     *
+     * @param cpfs the CPFs to validate.
+     * @return the set of the indexes of the valid CPFs; its cardinality is the number of valid CPFs.
+     * @throws IllegalArgumentException if {@code cpfs} is {@code null}.
+     * @see #validateAll(CharSequence[], long[])
+     */
+    public static BitSet validateAll(CharSequence[] cpfs) throws IllegalArgumentException {
+        final var validity = new long[BatchValidator.wordsFor(cpfs == null ? 0 : cpfs.length)];
+        validateAll(cpfs, validity);
+        return BitSet.valueOf(validity);
+    }
+
+    /**
+     * Validates every CPF of a list, formatted or not, into a {@link BitSet}.
+     *
+     * @param cpfs the CPFs to validate.
+     * @return the set of the indexes of the valid CPFs; its cardinality is the number of valid CPFs.
+     * @throws IllegalArgumentException if {@code cpfs} is {@code null}.
+     * @see #validateAll(CharSequence[], long[])
+     */
+    public static BitSet validateAll(List<? extends CharSequence> cpfs) throws IllegalArgumentException {
+        final var validity = new long[BatchValidator.wordsFor(cpfs == null ? 0 : cpfs.size())];
+        validateAll(cpfs, validity);
+        return BitSet.valueOf(validity);
+    }
+
     /**
      * Validates a CPF string.
      *
@@ -66,12 +293,91 @@ public final class CpfUtils {
      * @throws InvalidCpfException if the given cpf is not valid.
      */
     public static void validate(String cpf) throws IllegalArgumentException, InvalidCpfException {
-        StringUtils.requireNonBlank(cpf, "The CPF cannot be null or blank");
-        if (!ValidatorHolder.INSTANCE.isValid(cpf)) {
-            throw new InvalidCpfException("The CPF is not valid");
+        validate(cpf, 0, StringUtils.lengthOf(cpf));
+    }
+
+    /**
+     * Validates a CPF character sequence.
+     *
+     * @param cpf the CPF character sequence to validate (formatted or unformatted).
+     * @throws IllegalArgumentException if the given cpf is null or blank.
+     * @throws InvalidCpfException if the given cpf is not valid.
+     * @see #validate(String)
+     */
+    public static void validate(CharSequence cpf) throws IllegalArgumentException, InvalidCpfException {
+        validate(cpf, 0, StringUtils.lengthOf(cpf));
+    }
+
+    /**
+     * Validates the CPF found in a region of the given character sequence.
+     *
+     * @param cpf    the character sequence holding the CPF (formatted or unformatted).
+     * @param offset the index of the first character of the region.
+     * @param length the number of characters in the region.
+     * @throws IllegalArgumentException  if the given cpf is null or the region is blank.
+     * @throws IndexOutOfBoundsException if the region is out of the cpf bounds.
+     * @throws InvalidCpfException       if the region does not hold a valid CPF.
+     * @see #validate(String)
+     */
+    public static void validate(CharSequence cpf, int offset, int length)
+            throws IllegalArgumentException, IndexOutOfBoundsException, InvalidCpfException {
+        StringUtils.requireNonBlank(cpf, offset, length, "The CPF cannot be null or blank");
+        if (!ValidatorHolder.INSTANCE.isValid(cpf, offset, length)) {
+            throw DocumentExceptions.invalidCpf();
+        }
+    }
+
+    /**
+     * Validates a CPF given as a number, as read from a numeric database column.
+     *
+     * @param cpf the CPF as a number; leading zeros are implied.
+     * @throws InvalidCpfException if the given cpf is not valid.
+     * @see #isValid(long)
+     */
+    public static void validate(long cpf) throws InvalidCpfException {
+        if (!CpfScanner.isValid(cpf)) {
+            throw DocumentExceptions.invalidCpf();
         }
     }
 
+    /**
+     * Diagnoses a CPF without throwing, telling why it is not valid.
+     *
+     * <p> The input is read once, as by {@link #isValid(CharSequence)}, and nothing is allocated. The result is a
+     * primitive value packing the {@link io.github.felseje.document.ValidationReason}, the position of the offending
+     * character and the expected check digits; it is read with {@link io.github.felseje.document.Diagnostics}. Since
+     * non-digit characters are skipped, a CPF is never reported with an illegal character. </p>
+     *
+     * <p> Example: </p>
+     * <pre>{@code
+     * long diagnosis = CpfUtils.diagnose("529.982.247-35");
+     * Diagnostics.reasonOf(diagnosis);              // FIRST_CHECK_DIGIT_MISMATCH
+     * Diagnostics.positionOf(diagnosis);            // 12
+     * Diagnostics.expectedCheckDigitsOf(diagnosis); // 25
+     * }</pre>
+     *
+     * @param cpf the CPF to diagnose (formatted or unformatted); may be {@code null}.
+     * @return the diagnosis; its reason is {@code VALID} exactly when {@link #isValid(CharSequence)} returns
+     * {@code true}.
+     */
+    public static long diagnose(CharSequence cpf) {
+        return CpfScanner.diagnose(cpf, 0, StringUtils.lengthOf(cpf));
+    }
+
+    /**
+     * Diagnoses the CPF found in a region of the given character sequence without throwing.
+     *
+     * @param cpf    the character sequence holding the CPF (formatted or unformatted); may be {@code null}.
+     * @param offset the index of the first character of the region.
+     * @param length the number of characters in the region.
+     * @return the diagnosis, with positions relative to {@code offset}.
+     * @throws IndexOutOfBoundsException if {@code cpf} is not {@code null} and the region is out of its bounds.
+     * @see #diagnose(CharSequence)
+     */
+    public static long diagnose(CharSequence cpf, int offset, int length) throws IndexOutOfBoundsException {
+        return CpfScanner.diagnose(cpf, offset, length);
+    }
+
     /**
      * Removes all non-digit characters from a given CPF string.
      *
@@ -83,6 +389,32 @@ public final class CpfUtils {
         return NormalizerHolder.INSTANCE.clear(input);
     }
 
+    /**
+     * Removes all non-digit characters from a given CPF character sequence.
+     *
+     * @param input the CPF character sequence to clean; must not be {@code null} or blank.
+     * @return a string containing only numeric digits.
+     * @throws IllegalArgumentException if the input is {@code null} or blank.
+     */
+    public static String clear(CharSequence input) throws IllegalArgumentException {
+        return NormalizerHolder.INSTANCE.clear(input);
+    }
+
+    /**
+     * Removes all non-digit characters from a region of the given character sequence.
+     *
+     * @param input  the character sequence holding the CPF; must not be {@code null}.
+     * @param offset the index of the first character of the region.
+     * @param length the number of characters in the region.
+     * @return a string containing only the numeric digits of the region.
+     * @throws IllegalArgumentException  if the input is {@code null} or the region is blank.
+     * @throws IndexOutOfBoundsException if the region is out of the input bounds.
+     */
+    public static String clear(CharSequence input, int offset, int length)
+            throws IllegalArgumentException, IndexOutOfBoundsException {
+        return NormalizerHolder.INSTANCE.clear(input, offset, length);
+    }
+
     /**
      * Normalizes a raw CPF string by removing all non-digit characters and verifying its length.
      *
@@ -95,6 +427,66 @@ public final class CpfUtils {
         return NormalizerHolder.INSTANCE.normalize(input);
     }
 
+    /**
+     * Normalizes a raw CPF character sequence by removing all non-digit characters and verifying its length.
+     *
+     * @param input the CPF character sequence to normalize; may be formatted or unformatted.
+     * @return a normalized CPF string containing exactly 11 digits.
+     * @throws IllegalArgumentException if the input is {@code null} or blank.
+     * @throws InvalidCpfException      if the normalized CPF does not contain exactly 11 digits.
+     */
+    public static String normalize(CharSequence input) throws IllegalArgumentException, InvalidCpfException {
+        return NormalizerHolder.INSTANCE.normalize(input);
+    }
+
+    /**
+     * Normalizes the CPF found in a region of the given character sequence.
+     *
+     * @param input  the character sequence holding the CPF; may be formatted or unformatted.
+     * @param offset the index of the first character of the region.
+     * @param length the number of characters in the region.
+     * @return a normalized CPF string containing exactly 11 digits.
+     * @throws IllegalArgumentException  if the input is {@code null} or the region is blank.
+     * @throws IndexOutOfBoundsException if the region is out of the input bounds.
+     * @throws InvalidCpfException       if the region does not contain exactly 11 digits.
+     */
+    public static String normalize(CharSequence input, int offset, int length)
+            throws IllegalArgumentException, IndexOutOfBoundsException, InvalidCpfException {
+        return NormalizerHolder.INSTANCE.normalize(input, offset, length);
+    }
+
+    /**
+     * Normalizes the CPF found in a region of ASCII bytes, without decoding the region first.
+     *
+     * @param input  the bytes holding the CPF; may be formatted or unformatted.
+     * @param offset the index of the first byte of the region.
+     * @param length the number of bytes in the region.
+     * @return a normalized CPF string containing exactly 11 digits.
+     * @throws IllegalArgumentException  if the input is {@code null} or the region is blank.
+     * @throws IndexOutOfBoundsException if the region is out of the input bounds.
+     * @throws InvalidCpfException       if the region does not contain exactly 11 digits.
+     */
+    public static String normalize(byte[] input, int offset, int length)
+            throws IllegalArgumentException, IndexOutOfBoundsException, InvalidCpfException {
+        return NormalizerHolder.INSTANCE.normalize(input, offset, length);
+    }
+
+    /**
+     * Normalizes the CPF found in a region of an ASCII byte buffer, without decoding the region first.
+     *
+     * @param input  the buffer holding the CPF; may be formatted or unformatted.
+     * @param offset the absolute index of the first byte of the region.
+     * @param length the number of bytes in the region.
+     * @return a normalized CPF string containing exactly 11 digits.
+     * @throws IllegalArgumentException  if the input is {@code null} or the region is blank.
+     * @throws IndexOutOfBoundsException if the region is out of the input limit.
+     * @throws InvalidCpfException       if the region does not contain exactly 11 digits.
+     */
+    public static String normalize(ByteBuffer input, int offset, int length)
+            throws IllegalArgumentException, IndexOutOfBoundsException, InvalidCpfException {
+        return NormalizerHolder.INSTANCE.normalize(input, offset, length);
+    }
+
     /**
      * Formats the given raw CPF string into the standard CPF pattern.
      *
@@ -116,6 +508,403 @@ public final class CpfUtils {
         return FormatterHolder.INSTANCE.format(input);
     }
 
+    /**
+     * Formats the given raw CPF character sequence into the standard CPF pattern.
+     *
+     * @param input the raw CPF character sequence to format; must not be {@code null} or blank.
+     * @return a formatted CPF string.
+     * @throws IllegalArgumentException if {@code input} is {@code null} or blank.
+     * @throws InvalidCpfException      if the {@code input} cannot be normalized into a valid CPF.
+     * @see #format(String)
+     */
+    public static String format(CharSequence input) throws IllegalArgumentException, InvalidCpfException {
+        return FormatterHolder.INSTANCE.format(input);
+    }
+
+    /**
+     * Formats the CPF found in a region of the given character sequence into the standard CPF pattern.
+     *
+     * @param input  the character sequence holding the raw CPF; must not be {@code null}.
+     * @param offset the index of the first character of the region.
+     * @param length the number of characters in the region.
+     * @return a formatted CPF string.
+     * @throws IllegalArgumentException  if {@code input} is {@code null} or the region is blank.
+     * @throws IndexOutOfBoundsException if the region is out of the input bounds.
+     * @throws InvalidCpfException       if the region cannot be normalized into a valid CPF.
+     * @see #format(String)
+     */
+    public static String format(CharSequence input, int offset, int length)
+            throws IllegalArgumentException, IndexOutOfBoundsException, InvalidCpfException {
+        return FormatterHolder.INSTANCE.format(input, offset, length);
+    }
+
+    /**
+     * Formats a CPF given as a number into the standard CPF pattern, restoring its leading zeros.
+     *
+     * <p>As with {@link #format(String)}, the check digits are not verified.</p>
+     *
+     * <p>Example:</p>
+     * <pre>{@code
+     * CpfUtils.format(1234567890L); // "012.345.678-90"
+     * }</pre>
+     *
+     * @param cpf the CPF as a number.
+     * @return a formatted CPF string.
+     * @throws InvalidCpfException if {@code cpf} is negative or has more than 11 digits.
+     */
+    public static String format(long cpf) throws InvalidCpfException {
+        if (!CpfCodec.isInRange(cpf)) {
+            throw DocumentExceptions.cpfOutOfRange();
+        }
+        return CpfCodec.toFormattedString(cpf);
+    }
+
+    /**
+     * Turns a raw CPF into its canonical key, validating it in the same pass.
+     *
+     * <p> The input may be formatted or unformatted; non-digit characters are ignored, as in {@link #isValid(String)}. </p>
+     *
+     * <p>Example:</p>
+     * <pre>{@code
+     * CpfUtils.toKey("012.345.678-90"); // 1234567890L
+     * CpfUtils.toKey("012.345.678-91"); // CpfUtils.INVALID_KEY
+     * }</pre>
+     *
+     * @param cpf the raw CPF; may be {@code null}.
+     * @return the CPF key, or {@link #INVALID_KEY} if the input is not a valid CPF.
+     */
+    public static long toKey(CharSequence cpf) {
+        return cpf == null ? INVALID_KEY : CpfScanner.toKey(cpf, 0, cpf.length());
+    }
+
+    /**
+     * Turns the raw CPF found in a region of the given character sequence into its canonical key.
+     *
+     * @param cpf    the character sequence holding the raw CPF; may be {@code null}.
+     * @param offset the index of the first character of the region.
+     * @param length the number of characters in the region.
+     * @return the CPF key, or {@link #INVALID_KEY} if the region is not a valid CPF.
+     * @throws IndexOutOfBoundsException if {@code cpf} is not {@code null} and the region is out of its bounds.
+     * @see #toKey(CharSequence)
+     */
+    public static long toKey(CharSequence cpf, int offset, int length) throws IndexOutOfBoundsException {
+        return CpfScanner.toKey(cpf, offset, length);
+    }
+
+    /**
+     * Turns a raw CPF read with the given parse profile into its canonical key, validating it in the same pass.
+     *
+     * <p> Strict profiles accept only the shapes they name and stop at the first character breaking them, without
+     * cleaning the input first; {@link ParseProfile#LENIENT} reads the input as {@link #toKey(CharSequence)} does. </p>
+     *
+     * <p>Example:</p>
+     * <pre>{@code
+     * CpfUtils.toKey("012.345.678-90", ParseProfile.FORMATTED);    // 1234567890L
+     * CpfUtils.toKey("01234567890", ParseProfile.FORMATTED);       // CpfUtils.INVALID_KEY
+     * CpfUtils.toKey("abc012.345.678-90", ParseProfile.STANDARD);  // CpfUtils.INVALID_KEY
+     * CpfUtils.toKey("abc012.345.678-90", ParseProfile.LENIENT);   // 1234567890L
+     * }</pre>
+     *
+     * @param cpf     the raw CPF; may be {@code null}.
+     * @param profile the profile telling which shapes are accepted.
+     * @return the CPF key, or {@link #INVALID_KEY} if the input is not a valid CPF in a shape accepted by the
+     * profile.
+     * @throws IllegalArgumentException if {@code profile} is {@code null}.
+     */
+    public static long toKey(CharSequence cpf, ParseProfile profile) throws IllegalArgumentException {
+        return toKey(cpf, 0, StringUtils.lengthOf(cpf), profile);
+    }
+
+    /**
+     * Turns the raw CPF found in a region of the given character sequence, read with the given parse profile, into
+     * its canonical key.
+     *
+     * @param cpf     the character sequence holding the raw CPF; may be {@code null}.
+     * @param offset  the index of the first character of the region.
+     * @param length  the number of characters in the region.
+     * @param profile the profile telling which shapes are accepted.
+     * @return the CPF key, or {@link #INVALID_KEY} if the region is not a valid CPF in a shape accepted by the
+     * profile.
+     * @throws IllegalArgumentException  if {@code profile} is {@code null}.
+     * @throws IndexOutOfBoundsException if {@code cpf} is not {@code null} and the region is out of its bounds.
+     * @see #toKey(CharSequence, ParseProfile)
+     */
+    public static long toKey(CharSequence cpf, int offset, int length, ParseProfile profile)
+            throws IllegalArgumentException, IndexOutOfBoundsException {
+        requireProfileNonNull(profile);
+        return CpfScanner.toKey(cpf, offset, length, profile);
+    }
+
+    /**
+     * Validates a CPF read with the given parse profile.
+     *
+     * @param cpf     the CPF to validate; may be {@code null}.
+     * @param profile the profile telling which shapes are accepted.
+     * @return {@code true} if the input is a valid CPF in a shape accepted by the profile; {@code false} otherwise.
+     * @throws IllegalArgumentException if {@code profile} is {@code null}.
+     * @see #toKey(CharSequence, ParseProfile)
+     */
+    public static boolean isValid(CharSequence cpf, ParseProfile profile) throws IllegalArgumentException {
+        return toKey(cpf, profile) != INVALID_KEY;
+    }
+
+    /**
+     * Turns a CPF given as a number into its canonical key, validating it in the same step.
+     *
+     * <p> The result equals {@link #toKey(CharSequence)} applied to the zero-padded text of the number. </p>
+     *
+     * @param cpf the CPF as a number; leading zeros are implied.
+     * @return the CPF key, or {@link #INVALID_KEY} if the number is not a valid CPF, including negative numbers and
+     * numbers with more than 11 digits.
+     * @see #isValid(long)
+     */
+    public static long toKey(long cpf) {
+        return CpfScanner.toKey(cpf);
+    }
+
+    /**
+     * Turns a CPF key back into the normalized CPF (11 digits, zero padded).
+     *
+     * @param key a key returned by {@link #toKey(CharSequence)}.
+     * @return the normalized CPF.
+     * @throws IllegalArgumentException if {@code key} is negative or has more than 11 digits.
+     */
+    public static String fromKey(long key) throws IllegalArgumentException {
+        return CpfCodec.toString(requireKeyInRange(key));
+    }
+
+    /**
+     * Turns a CPF key back into the formatted CPF.
+     *
+     * <p>Example:</p>
+     * <pre>{@code
+     * CpfUtils.formatKey(1234567890L); // "012.345.678-90"
+     * }</pre>
+     *
+     * @param key a key returned by {@link #toKey(CharSequence)}.
+     * @return the CPF formatted as <code>XXX.XXX.XXX-XX</code>.
+     * @throws IllegalArgumentException if {@code key} is negative or has more than 11 digits.
+     */
+    public static String formatKey(long key) throws IllegalArgumentException {
+        return CpfCodec.toFormattedString(requireKeyInRange(key));
+    }
+
+    /**
+     * Writes the formatted CPF of a key into a character buffer, without allocating.
+     *
+     * <p>Example:</p>
+     * <pre>{@code
+     * char[] row = new char[14];
+     * int end = CpfUtils.formatKey(1234567890L, row, 0); // 14
+     * }</pre>
+     *
+     * @param key         a key returned by {@link #toKey(CharSequence)}.
+     * @param destination the buffer receiving the CPF formatted as {@code ###.###.###-##}.
+     * @param offset      the index where the first character is written.
+     * @return the index following the last character written.
+     * @throws IllegalArgumentException  if {@code key} is out of range or {@code destination} is {@code null}.
+     * @throws IndexOutOfBoundsException if the 14 characters do not fit in {@code destination} at {@code offset}.
+     */
+    public static int formatKey(long key, char[] destination, int offset)
+            throws IllegalArgumentException, IndexOutOfBoundsException {
+        return DocumentWriter.CPF.write(key, destination, offset);
+    }
+
+    /**
+     * Writes the formatted CPF of a key into a byte buffer, as ASCII, without allocating.
+     *
+     * @param key         a key returned by {@link #toKey(CharSequence)}.
+     * @param destination the buffer receiving the CPF formatted as {@code ###.###.###-##}.
+     * @param offset      the index where the first byte is written.
+     * @return the index following the last byte written.
+     * @throws IllegalArgumentException  if {@code key} is out of range or {@code destination} is {@code null}.
+     * @throws IndexOutOfBoundsException if the 14 bytes do not fit in {@code destination} at {@code offset}.
+     */
+    public static int formatKey(long key, byte[] destination, int offset)
+            throws IllegalArgumentException, IndexOutOfBoundsException {
+        return DocumentWriter.CPF.write(key, destination, offset);
+    }
+
+    /**
+     * Appends the formatted CPF of a key to a string builder, without any intermediate string.
+     *
+     * @param key         a key returned by {@link #toKey(CharSequence)}.
+     * @param destination the builder receiving the CPF formatted as {@code ###.###.###-##}.
+     * @return {@code destination}.
+     * @throws IllegalArgumentException if {@code key} is out of range or {@code destination} is {@code null}.
+     */
+    public static StringBuilder formatKey(long key, StringBuilder destination) throws IllegalArgumentException {
+        return DocumentWriter.CPF.append(key, destination);
+    }
+
+    /**
+     * Appends the formatted CPF of a key to any {@link Appendable}, such as a {@link java.io.Writer}, one character
+     * at a time and without any intermediate string.
+     *
+     * @param key         a key returned by {@link #toKey(CharSequence)}.
+     * @param destination the target receiving the CPF formatted as {@code ###.###.###-##}.
+     * @return {@code destination}.
+     * @throws IllegalArgumentException if {@code key} is out of range or {@code destination} is {@code null}.
+     * @throws IOException              if {@code destination} fails to append a character.
+     */
+    public static Appendable formatKey(long key, Appendable destination) throws IllegalArgumentException, IOException {
+        return DocumentWriter.CPF.append(key, destination);
+    }
+
+    /**
+     * Writes the formatted CPF held normalized in a region of a character sequence into a character buffer.
+     *
+     * <p> The region must already hold the normalized CPF (11 ASCII digits), as returned by
+     * {@link #normalize(CharSequence)}; its characters are copied around the separators, so normalization is
+     * skipped. The check digits are not validated. </p>
+     *
+     * <p>Example:</p>
+     * <pre>{@code
+     * char[] row = new char[14];
+     * CpfUtils.formatNormalized("01234567890", 0, row, 0); // 14
+     * }</pre>
+     *
+     * @param cpf               the character sequence holding the normalized CPF.
+     * @param offset            the index of the first character of the normalized CPF.
+     * @param destination       the buffer receiving the CPF formatted as {@code ###.###.###-##}.
+     * @param destinationOffset the index where the first character is written.
+     * @return the index following the last character written.
+     * @throws IllegalArgumentException  if {@code cpf} or {@code destination} is {@code null}.
+     * @throws IndexOutOfBoundsException if the region or the formatted CPF is out of bounds.
+     * @throws InvalidCpfException       if the region does not hold a normalized CPF.
+     */
+    public static int formatNormalized(CharSequence cpf, int offset, char[] destination, int destinationOffset)
+            throws IllegalArgumentException, IndexOutOfBoundsException, InvalidCpfException {
+        return DocumentWriter.CPF.writeNormalized(cpf, offset, destination, destinationOffset);
+    }
+
+    /**
+     * Writes the formatted CPF held normalized in a region of a character sequence into a byte buffer, as ASCII.
+     *
+     * <p> Normalization is skipped, see {@link #formatNormalized(CharSequence, int, char[], int)}. </p>
+     *
+     * @param cpf               the character sequence holding the normalized CPF.
+     * @param offset            the index of the first character of the normalized CPF.
+     * @param destination       the buffer receiving the CPF formatted as {@code ###.###.###-##}.
+     * @param destinationOffset the index where the first byte is written.
+     * @return the index following the last byte written.
+     * @throws IllegalArgumentException  if {@code cpf} or {@code destination} is {@code null}.
+     * @throws IndexOutOfBoundsException if the region or the formatted CPF is out of bounds.
+     * @throws InvalidCpfException       if the region does not hold a normalized CPF.
+     */
+    public static int formatNormalized(CharSequence cpf, int offset, byte[] destination, int destinationOffset)
+            throws IllegalArgumentException, IndexOutOfBoundsException, InvalidCpfException {
+        return DocumentWriter.CPF.writeNormalized(cpf, offset, destination, destinationOffset);
+    }
+
+    /**
+     * Appends the formatted CPF held normalized in a region of a character sequence to a string builder.
+     *
+     * <p> Normalization is skipped, see {@link #formatNormalized(CharSequence, int, char[], int)}. </p>
+     *
+     * @param cpf         the character sequence holding the normalized CPF.
+     * @param offset      the index of the first character of the normalized CPF.
+     * @param destination the builder receiving the CPF formatted as {@code ###.###.###-##}.
+     * @return {@code destination}.
+     * @throws IllegalArgumentException  if {@code cpf} or {@code destination} is {@code null}.
+     * @throws IndexOutOfBoundsException if the region is out of the bounds of {@code cpf}.
+     * @throws InvalidCpfException       if the region does not hold a normalized CPF.
+     */
+    public static StringBuilder formatNormalized(CharSequence cpf, int offset, StringBuilder destination)
+            throws IllegalArgumentException, IndexOutOfBoundsException, InvalidCpfException {
+        return DocumentWriter.CPF.appendNormalized(cpf, offset, destination);
+    }
+
+    /**
+     * Appends the formatted CPF held normalized in a region of a character sequence to any {@link Appendable}, one
+     * character at a time.
+     *
+     * <p> Normalization is skipped, see {@link #formatNormalized(CharSequence, int, char[], int)}. </p>
+     *
+     * @param cpf         the character sequence holding the normalized CPF.
+     * @param offset      the index of the first character of the normalized CPF.
+     * @param destination the target receiving the CPF formatted as {@code ###.###.###-##}.
+     * @return {@code destination}.
+     * @throws IllegalArgumentException  if {@code cpf} or {@code destination} is {@code null}.
+     * @throws IndexOutOfBoundsException if the region is out of the bounds of {@code cpf}.
+     * @throws InvalidCpfException       if the region does not hold a normalized CPF.
+     * @throws IOException               if {@code destination} fails to append a character.
+     */
+    public static Appendable formatNormalized(CharSequence cpf, int offset, Appendable destination)
+            throws IllegalArgumentException, IndexOutOfBoundsException, InvalidCpfException, IOException {
+        return DocumentWriter.CPF.appendNormalized(cpf, offset, destination);
+    }
+
+    /**
+     * Formats a whole column of keys into one contiguous character buffer, as fixed-length records.
+     *
+     * <p> Record {@code i} is the formatted CPF of {@code keys[i]}, written at {@code offset + i * stride}.
+     * Characters between records are left untouched, so separators or line breaks laid out once are kept across
+     * calls and the same buffer can be reused for every chunk of an export. Every key is checked before anything is
+     * written. </p>
+     *
+     * <p>Example:</p>
+     * <pre>{@code
+     * char[] column = new char[keys.length * 15];
+     * for (int i = 14; i < column.length; i += 15) {
+     *     column[i] = '\n';
+     * }
+     * CpfUtils.formatKeys(keys, column, 0, 15);
+     * }</pre>
+     *
+     * @param keys        keys returned by {@link #toKey(CharSequence)}.
+     * @param destination the buffer receiving the records.
+     * @param offset      the index where the first record is written.
+     * @param stride      the distance, in characters, between the starts of two consecutive records; at least 14.
+     * @return the index following the last character written, or {@code offset} if {@code keys} is empty.
+     * @throws IllegalArgumentException  if {@code keys} or {@code destination} is {@code null}, {@code stride} is
+     *                                   smaller than 14 or a key is out of range.
+     * @throws IndexOutOfBoundsException if the records do not fit in {@code destination}.
+     */
+    public static int formatKeys(long[] keys, char[] destination, int offset, int stride)
+            throws IllegalArgumentException, IndexOutOfBoundsException {
+        return DocumentWriter.CPF.writeAll(keys, destination, offset, stride);
+    }
+
+    /**
+     * Formats a whole column of keys into one contiguous byte buffer, as fixed-length ASCII records.
+     *
+     * <p> Record {@code i} is written at {@code offset + i * stride} and bytes between records are left untouched,
+     * see {@link #formatKeys(long[], char[], int, int)}. </p>
+     *
+     * @param keys        keys returned by {@link #toKey(CharSequence)}.
+     * @param destination the buffer receiving the records.
+     * @param offset      the index where the first record is written.
+     * @param stride      the distance, in bytes, between the starts of two consecutive records; at least 14.
+     * @return the index following the last byte written, or {@code offset} if {@code keys} is empty.
+     * @throws IllegalArgumentException  if {@code keys} or {@code destination} is {@code null}, {@code stride} is
+     *                                   smaller than 14 or a key is out of range.
+     * @throws IndexOutOfBoundsException if the records do not fit in {@code destination}.
+     */
+    public static int formatKeys(long[] keys, byte[] destination, int offset, int stride)
+            throws IllegalArgumentException, IndexOutOfBoundsException {
+        return DocumentWriter.CPF.writeAll(keys, destination, offset, stride);
+    }
+
+    /**
+     * Ensures that the given parse profile is not {@code null}.
+     *
+     * @param profile the parse profile to check.
+     * @throws IllegalArgumentException if {@code profile} is {@code null}.
+     */
+    private static void requireProfileNonNull(final ParseProfile profile) throws IllegalArgumentException {
+        if (profile == null) {
+            throw new IllegalArgumentException("The parse profile cannot be null");
+        }
+    }
+
+    private static long requireKeyInRange(final long key) throws IllegalArgumentException {
+        if (!CpfCodec.isInRange(key)) {
+            throw new IllegalArgumentException("The CPF key is out of range");
+        }
+        return key;
+    }
+
     /**
      * Holds a lazily-initialized singleton instance of {@link CpfNormalizer}.
      *
@@ -149,11 +938,11 @@ public final class CpfUtils {
     /**
      * Holds a lazily-initialized singleton instance of {@link CpfValidator}.
      *
-     * <p> Validates CPF numbers using normalized input provided by {@link CpfNormalizer}. </p>
+     * <p> Validates CPF numbers in a single pass over the raw input. </p>
      *
      */
     private static final class ValidatorHolder {
-        private static final CpfValidator INSTANCE = new CpfValidator(NormalizerHolder.INSTANCE);
+        private static final CpfValidator INSTANCE = new CpfValidator();
     }
 
 }
@@ -0,0 +1,125 @@
+package io.github.felseje.document;
+
+/**
+ * A document detected in a column that may hold either a CPF or a CNPJ: its {@link DocumentType}, its validity and
+ * its normalized form.
+ *
+ * <p> Documents are obtained from {@link Documents#detect(CharSequence)}, which never throws. The type reflects the
+ * structure of the input, so a CPF with wrong check digits is detected as an invalid {@link DocumentType#CPF}. Only
+ * valid documents carry their normalized form; invalid results are shared instances whose value is empty, so
+ * detecting an invalid document allocates nothing. </p>
+ *
+ * <p>Example:</p>
+ * <pre>{@code
+ * DetectedDocument document = Documents.detect("11.222.333/0001-81");
+ * System.out.println(document.getType());  // prints CNPJ_NUMERIC
+ * System.out.println(document.isValid());  // prints true
+ * System.out.println(document.getValue()); // prints "11222333000181"
+ * }</pre>
+ *
+ * <p> Instances are immutable. </p>
+ *
+ * @author felseje
+ * @since 1.0.0-alpha
+ */
+public final class DetectedDocument {
+
+    /**
+     * The result of detecting input that is neither a CPF nor a CNPJ.
+     */
+    public static final DetectedDocument INVALID = new DetectedDocument(DocumentType.INVALID, false, "");
+
+    private static final DetectedDocument[] INVALID_BY_TYPE = {
+            new DetectedDocument(DocumentType.CPF, false, ""),
+            new DetectedDocument(DocumentType.CNPJ_NUMERIC, false, ""),
+            new DetectedDocument(DocumentType.CNPJ_ALPHANUMERIC, false, ""),
+            INVALID
+    };
+
+    private final DocumentType type;
+    private final boolean valid;
+    private final String value;
+
+    DetectedDocument(final DocumentType type, final boolean valid, final String value) {
+        this.type = type;
+        this.valid = valid;
+        this.value = value;
+    }
+
+    /**
+     * Returns the shared result of an input with the structure of the given type but wrong check digits.
+     *
+     * @param type the detected type.
+     * @return the shared invalid result of that type.
+     */
+    static DetectedDocument invalid(final DocumentType type) {
+        return INVALID_BY_TYPE[type.ordinal()];
+    }
+
+    /**
+     * Returns the type of the document.
+     *
+     * @return the type detected from the structure of the input, {@link DocumentType#INVALID} if it has neither the
+     * CPF nor the CNPJ structure.
+     */
+    public DocumentType getType() {
+        return type;
+    }
+
+    /**
+     * Tells whether the document is valid.
+     *
+     * @return {@code true} if the check digits of the detected type match; {@code false} otherwise.
+     */
+    public boolean isValid() {
+        return valid;
+    }
+
+    /**
+     * Returns the normalized document.
+     *
+     * @return the document without formatting, 11 digits for a CPF and 14 characters for a CNPJ; empty if the
+     * document is not valid.
+     */
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * Returns a hash code value for this document.
+     *
+     * @return the hash code value for this document.
+     */
+    @Override
+    public int hashCode() {
+        return 31 * (31 * type.hashCode() + Boolean.hashCode(valid)) + value.hashCode();
+    }
+
+    /**
+     * Compares this {@code DetectedDocument} to another object for equality.
+     *
+     * <p>Two documents are equal if and only if their types, validity and normalized values are equal.</p>
+     *
+     * @param object the object to compare with this {@code DetectedDocument}.
+     * @return {@code true} if the given object is a {@code DetectedDocument} of the same type, validity and value;
+     * {@code false} otherwise.
+     */
+    @Override
+    public boolean equals(Object object) {
+        if (!(object instanceof DetectedDocument other)) {
+            return false;
+        }
+        return type == other.type && valid == other.valid && value.equals(other.value);
+    }
+
+    /**
+     * Returns the normalized document.
+     *
+     * @return the normalized document, as {@link #getValue()}.
+     */
+    @Override
+    public String toString() {
+        return value;
+    }
+
+}
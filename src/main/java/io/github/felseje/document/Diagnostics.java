@@ -0,0 +1,113 @@
+package io.github.felseje.document;
+
+import io.github.felseje.internal.util.DiagnosisCodec;
+
+import static io.github.felseje.internal.Constants.NOT_ALLOWED_INSTANTIATION_ERROR;
+
+/**
+ * Utility class for reading the diagnoses returned by {@link io.github.felseje.cpf.CpfUtils#diagnose(CharSequence)}
+ * and {@link io.github.felseje.cnpj.CnpjUtils#diagnose(CharSequence)}.
+ *
+ * <p> A diagnosis tells why a document is not valid without throwing: it is a primitive {@code long} packing a
+ * {@link ValidationReason}, the position of the offending character and the check digits expected from the base.
+ * Diagnosing reads the input once, as {@code isValid} does, and allocates nothing, so it can be used on feeds where
+ * a large share of the values is invalid. </p>
+ *
+ * <p> Example: </p>
+ * <pre>{@code
+ * long diagnosis = CpfUtils.diagnose("529.982.247-35");
+ * Diagnostics.reasonOf(diagnosis);              // FIRST_CHECK_DIGIT_MISMATCH
+ * Diagnostics.positionOf(diagnosis);            // 12
+ * Diagnostics.expectedCheckDigitsOf(diagnosis); // 25
+ * }</pre>
+ *
+ * @author felseje
+ * @since 1.0.0-alpha
+ */
+public final class Diagnostics {
+
+    /**
+     * The value returned by {@link #positionOf(long)} and {@link #expectedCheckDigitsOf(long)} when the diagnosis does
+     * not carry that information.
+     */
+    public static final int UNKNOWN = DiagnosisCodec.NONE;
+
+    /**
+     * Prevents instantiation of this utility class.
+     *
+     * @throws IllegalStateException always thrown to indicate this class should not be instantiated.
+     */
+    private Diagnostics() {
+        throw new IllegalStateException(NOT_ALLOWED_INSTANTIATION_ERROR);
+    }
+
+    /**
+     * Returns the reason of a diagnosis.
+     *
+     * @param diagnosis a diagnosis returned by one of the {@code diagnose} methods
+     * @return the reason; {@link ValidationReason#VALID} if the document is valid
+     */
+    public static ValidationReason reasonOf(long diagnosis) {
+        return DiagnosisCodec.reasonOf(diagnosis);
+    }
+
+    /**
+     * Tells whether a diagnosis denotes a valid document.
+     *
+     * @param diagnosis a diagnosis returned by one of the {@code diagnose} methods
+     * @return {@code true} if the reason is {@link ValidationReason#VALID}; {@code false} otherwise
+     */
+    public static boolean isValid(long diagnosis) {
+        return reasonOf(diagnosis) == ValidationReason.VALID;
+    }
+
+    /**
+     * Returns the position of the character that made the document invalid.
+     *
+     * <p> Positions are relative to the start of the diagnosed region and count every character, separators
+     * included. They are reported for {@link ValidationReason#ILLEGAL_CHARACTER},
+     * {@link ValidationReason#UNKNOWN_CNPJ_TYPE}, both check digit mismatches, and for
+     * {@link ValidationReason#WRONG_LENGTH} when a document character is found past the end of the document. </p>
+     *
+     * @param diagnosis a diagnosis returned by one of the {@code diagnose} methods
+     * @return the zero-based position, or {@link #UNKNOWN} if no single character is at fault
+     */
+    public static int positionOf(long diagnosis) {
+        return DiagnosisCodec.positionOf(diagnosis);
+    }
+
+    /**
+     * Returns the check digits computed from the base of the document.
+     *
+     * <p> They are known whenever the input has the structure of the document: for valid documents, repeated digits
+     * and check digit mismatches. </p>
+     *
+     * @param diagnosis a diagnosis returned by one of the {@code diagnose} methods
+     * @return the expected check digits as a two-digit number, e.g. {@code 25} for {@code "-25"}, or {@link #UNKNOWN}
+     */
+    public static int expectedCheckDigitsOf(long diagnosis) {
+        return DiagnosisCodec.checkDigitsOf(diagnosis);
+    }
+
+    /**
+     * Describes a diagnosis, as exception messages do.
+     *
+     * <p> This method allocates the description; it is meant for reports and logs, not for the validation loop. </p>
+     *
+     * @param diagnosis a diagnosis returned by one of the {@code diagnose} methods
+     * @return the description, e.g. "The first check digit does not match at position 12, expected 25"
+     */
+    public static String describe(long diagnosis) {
+        final var description = new StringBuilder(reasonOf(diagnosis).getMessage());
+        final var position = positionOf(diagnosis);
+        if (position != UNKNOWN) {
+            description.append(" at position ").append(position);
+        }
+        final var checkDigits = expectedCheckDigitsOf(diagnosis);
+        if (checkDigits != UNKNOWN && !isValid(diagnosis)) {
+            description.append(", expected ").append(checkDigits / 10).append(checkDigits % 10);
+        }
+        return description.toString();
+    }
+
+}
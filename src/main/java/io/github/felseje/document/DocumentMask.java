@@ -0,0 +1,328 @@
+package io.github.felseje.document;
+
+import io.github.felseje.exception.InvalidDocumentException;
+import io.github.felseje.internal.document.DocumentWriter;
+import io.github.felseje.internal.document.MaskWriter;
+
+import java.io.IOException;
+
+/**
+ * A compiled masking format for CPFs or CNPJs, revealing some of their characters and hiding the others, as required
+ * to show documents in logs, screens and reports under the LGPD.
+ *
+ * <p> A pattern is an ASCII string as long as either the formatted or the normalized document. Each {@code '#'}
+ * reveals the document character at its place and any other character is written instead of it; in a formatted
+ * pattern, the characters at the places of the separators are written verbatim. For instance: </p>
+ * <pre>
+ * DocumentMask.CPF_LGPD.mask("529.982.247-25");          // "***.982.247-**"
+ * DocumentMask.CNPJ_LGPD.mask("11222333000181");         // "11.***.***&#47;0001-**"
+ * DocumentMask.cpf("#########**").mask("529.982.247-25"); // "529982247**"
+ * </pre>
+ *
+ * <p> The pattern is compiled once, when the mask is created; applying it writes the masked document with a single
+ * copy into a {@code char[]}, an ASCII {@code byte[]}, a {@link StringBuilder} or any {@link Appendable}, without
+ * formatting the document first or running any regex. The document can be given in any format, as a key returned by
+ * {@code toKey}, in which case only the revealed characters are decoded, or as a normalized region, in which case
+ * normalization is skipped. Whole key columns are masked into one buffer at once, see
+ * {@link #maskKeys(long[], char[], int, int)}. </p>
+ *
+ * <p> Instances are immutable and can be shared between threads; compile a mask once and keep it in a constant. </p>
+ *
+ * @author felseje
+ * @since 1.0.0-alpha
+ */
+public final class DocumentMask {
+
+    /**
+     * Masks a CPF keeping its six middle digits, as in {@code "***.456.789-**"}.
+     */
+    public static final DocumentMask CPF_LGPD = cpf("***.###.###-**");
+
+    /**
+     * Masks a CNPJ keeping its first two characters and its branch number, as in
+     * <code>"12.***.***&#47;0001-**"</code>.
+     */
+    public static final DocumentMask CNPJ_LGPD = cnpj("##.***.***/####-**");
+
+    private final MaskWriter writer;
+
+    private DocumentMask(final MaskWriter writer) {
+        this.writer = writer;
+    }
+
+    /**
+     * Compiles a masking format for CPFs.
+     *
+     * @param pattern the pattern, 14 characters long for a formatted CPF ({@code "***.###.###-**"}) or 11 for an
+     *                unformatted one ({@code "***######**"}); {@code '#'} reveals the digit at its place
+     * @return the compiled mask
+     * @throws IllegalArgumentException if {@code pattern} is {@code null}, has another length, holds a character
+     *                                  outside ASCII or reveals a separator
+     */
+    public static DocumentMask cpf(String pattern) throws IllegalArgumentException {
+        return new DocumentMask(new MaskWriter(DocumentWriter.CPF, pattern));
+    }
+
+    /**
+     * Compiles a masking format for CNPJs, numeric or alphanumeric.
+     *
+     * @param pattern the pattern, 18 characters long for a formatted CNPJ (<code>"##.***.***&#47;####-**"</code>) or
+     *                14 for an unformatted one ({@code "##******####**"}); {@code '#'} reveals the character at its
+     *                place
+     * @return the compiled mask
+     * @throws IllegalArgumentException if {@code pattern} is {@code null}, has another length, holds a character
+     *                                  outside ASCII or reveals a separator
+     */
+    public static DocumentMask cnpj(String pattern) throws IllegalArgumentException {
+        return new DocumentMask(new MaskWriter(DocumentWriter.CNPJ, pattern));
+    }
+
+    /**
+     * Returns the pattern this mask was compiled from.
+     *
+     * @return the pattern
+     */
+    public String pattern() {
+        return writer.pattern();
+    }
+
+    /**
+     * Returns the length of a masked document.
+     *
+     * @return the number of characters written per document, the length of the pattern
+     */
+    public int length() {
+        return writer.length();
+    }
+
+    /**
+     * Masks a valid document given in any format.
+     *
+     * <p> The document is read like by the {@code toKey} methods, skipping the characters that cannot belong to it,
+     * then masked. Only the returned string is allocated. </p>
+     *
+     * @param document the document, formatted or not
+     * @return the masked document
+     * @throws IllegalArgumentException if {@code document} is {@code null}
+     * @throws InvalidDocumentException if {@code document} is not a valid document of the type of this mask
+     */
+    public String mask(CharSequence document) throws IllegalArgumentException, InvalidDocumentException {
+        final var masked = new char[writer.length()];
+        writer.write(writer.requireKey(document), masked, 0);
+        return new String(masked);
+    }
+
+    /**
+     * Appends the mask of a valid document given in any format to a string builder.
+     *
+     * @param document    the document, formatted or not
+     * @param destination the builder receiving the masked document
+     * @return {@code destination}
+     * @throws IllegalArgumentException if {@code document} or {@code destination} is {@code null}
+     * @throws InvalidDocumentException if {@code document} is not a valid document of the type of this mask
+     * @see #mask(CharSequence)
+     */
+    public StringBuilder mask(CharSequence document, StringBuilder destination)
+            throws IllegalArgumentException, InvalidDocumentException {
+        return writer.append(writer.requireKey(document), destination);
+    }
+
+    /**
+     * Appends the mask of a valid document given in any format to any {@link Appendable}, such as a log
+     * {@link java.io.Writer}.
+     *
+     * @param document    the document, formatted or not
+     * @param destination the target receiving the masked document
+     * @return {@code destination}
+     * @throws IllegalArgumentException if {@code document} or {@code destination} is {@code null}
+     * @throws InvalidDocumentException if {@code document} is not a valid document of the type of this mask
+     * @throws IOException              if {@code destination} fails to append a character
+     * @see #mask(CharSequence)
+     */
+    public Appendable mask(CharSequence document, Appendable destination)
+            throws IllegalArgumentException, InvalidDocumentException, IOException {
+        return writer.append(writer.requireKey(document), destination);
+    }
+
+    /**
+     * Writes the mask of a key into a character buffer, decoding only the revealed characters.
+     *
+     * @param key         a key returned by {@code CpfUtils.toKey} or {@code CnpjUtils.toKey}, matching this mask
+     * @param destination the buffer receiving the masked document
+     * @param offset      the index where the first character is written
+     * @return the index following the last character written
+     * @throws IllegalArgumentException  if {@code key} is out of range or {@code destination} is {@code null}
+     * @throws IndexOutOfBoundsException if the masked document does not fit in {@code destination} at {@code offset}
+     */
+    public int maskKey(long key, char[] destination, int offset)
+            throws IllegalArgumentException, IndexOutOfBoundsException {
+        return writer.write(key, destination, offset);
+    }
+
+    /**
+     * Writes the mask of a key into a byte buffer, as ASCII, decoding only the revealed characters.
+     *
+     * @param key         a key returned by {@code CpfUtils.toKey} or {@code CnpjUtils.toKey}, matching this mask
+     * @param destination the buffer receiving the masked document
+     * @param offset      the index where the first byte is written
+     * @return the index following the last byte written
+     * @throws IllegalArgumentException  if {@code key} is out of range or {@code destination} is {@code null}
+     * @throws IndexOutOfBoundsException if the masked document does not fit in {@code destination} at {@code offset}
+     */
+    public int maskKey(long key, byte[] destination, int offset)
+            throws IllegalArgumentException, IndexOutOfBoundsException {
+        return writer.write(key, destination, offset);
+    }
+
+    /**
+     * Appends the mask of a key to a string builder, decoding only the revealed characters.
+     *
+     * @param key         a key returned by {@code CpfUtils.toKey} or {@code CnpjUtils.toKey}, matching this mask
+     * @param destination the builder receiving the masked document
+     * @return {@code destination}
+     * @throws IllegalArgumentException if {@code key} is out of range or {@code destination} is {@code null}
+     */
+    public StringBuilder maskKey(long key, StringBuilder destination) throws IllegalArgumentException {
+        return writer.append(key, destination);
+    }
+
+    /**
+     * Appends the mask of a key to any {@link Appendable}, one character at a time, decoding only the revealed
+     * characters.
+     *
+     * @param key         a key returned by {@code CpfUtils.toKey} or {@code CnpjUtils.toKey}, matching this mask
+     * @param destination the target receiving the masked document
+     * @return {@code destination}
+     * @throws IllegalArgumentException if {@code key} is out of range or {@code destination} is {@code null}
+     * @throws IOException              if {@code destination} fails to append a character
+     */
+    public Appendable maskKey(long key, Appendable destination) throws IllegalArgumentException, IOException {
+        return writer.append(key, destination);
+    }
+
+    /**
+     * Writes the mask of a document held normalized in a region of a character sequence into a character buffer.
+     *
+     * <p> The region must already hold the normalized document, as returned by {@code normalize}; normalization is
+     * skipped and only the revealed characters are read. The check digits are not validated. </p>
+     *
+     * @param normalized        the character sequence holding the normalized document
+     * @param offset            the index of the first character of the normalized document
+     * @param destination       the buffer receiving the masked document
+     * @param destinationOffset the index where the first character is written
+     * @return the index following the last character written
+     * @throws IllegalArgumentException  if {@code normalized} or {@code destination} is {@code null}
+     * @throws IndexOutOfBoundsException if the region or the masked document is out of bounds
+     * @throws InvalidDocumentException  if the region does not hold a normalized document of the type of this mask
+     */
+    public int maskNormalized(CharSequence normalized, int offset, char[] destination, int destinationOffset)
+            throws IllegalArgumentException, IndexOutOfBoundsException, InvalidDocumentException {
+        return writer.writeNormalized(normalized, offset, destination, destinationOffset);
+    }
+
+    /**
+     * Writes the mask of a document held normalized in a region of a character sequence into a byte buffer, as ASCII.
+     *
+     * @param normalized        the character sequence holding the normalized document
+     * @param offset            the index of the first character of the normalized document
+     * @param destination       the buffer receiving the masked document
+     * @param destinationOffset the index where the first byte is written
+     * @return the index following the last byte written
+     * @throws IllegalArgumentException  if {@code normalized} or {@code destination} is {@code null}
+     * @throws IndexOutOfBoundsException if the region or the masked document is out of bounds
+     * @throws InvalidDocumentException  if the region does not hold a normalized document of the type of this mask
+     * @see #maskNormalized(CharSequence, int, char[], int)
+     */
+    public int maskNormalized(CharSequence normalized, int offset, byte[] destination, int destinationOffset)
+            throws IllegalArgumentException, IndexOutOfBoundsException, InvalidDocumentException {
+        return writer.writeNormalized(normalized, offset, destination, destinationOffset);
+    }
+
+    /**
+     * Appends the mask of a document held normalized in a region of a character sequence to a string builder.
+     *
+     * @param normalized  the character sequence holding the normalized document
+     * @param offset      the index of the first character of the normalized document
+     * @param destination the builder receiving the masked document
+     * @return {@code destination}
+     * @throws IllegalArgumentException  if {@code normalized} or {@code destination} is {@code null}
+     * @throws IndexOutOfBoundsException if the region is out of the bounds of {@code normalized}
+     * @throws InvalidDocumentException  if the region does not hold a normalized document of the type of this mask
+     * @see #maskNormalized(CharSequence, int, char[], int)
+     */
+    public StringBuilder maskNormalized(CharSequence normalized, int offset, StringBuilder destination)
+            throws IllegalArgumentException, IndexOutOfBoundsException, InvalidDocumentException {
+        return writer.appendNormalized(normalized, offset, destination);
+    }
+
+    /**
+     * Appends the mask of a document held normalized in a region of a character sequence to any {@link Appendable},
+     * one character at a time.
+     *
+     * @param normalized  the character sequence holding the normalized document
+     * @param offset      the index of the first character of the normalized document
+     * @param destination the target receiving the masked document
+     * @return {@code destination}
+     * @throws IllegalArgumentException  if {@code normalized} or {@code destination} is {@code null}
+     * @throws IndexOutOfBoundsException if the region is out of the bounds of {@code normalized}
+     * @throws InvalidDocumentException  if the region does not hold a normalized document of the type of this mask
+     * @throws IOException               if {@code destination} fails to append a character
+     * @see #maskNormalized(CharSequence, int, char[], int)
+     */
+    public Appendable maskNormalized(CharSequence normalized, int offset, Appendable destination)
+            throws IllegalArgumentException, IndexOutOfBoundsException, InvalidDocumentException, IOException {
+        return writer.appendNormalized(normalized, offset, destination);
+    }
+
+    /**
+     * Masks a whole column of keys into one contiguous character buffer, as fixed-length records.
+     *
+     * <p> Record {@code i} is the mask of {@code keys[i]}, written at {@code offset + i * stride}. Characters between
+     * records are left untouched, so separators or line breaks laid out once are kept across calls. Every key is
+     * checked before anything is written. </p>
+     *
+     * @param keys        keys returned by {@code CpfUtils.toKey} or {@code CnpjUtils.toKey}, matching this mask
+     * @param destination the buffer receiving the records
+     * @param offset      the index where the first record is written
+     * @param stride      the distance, in characters, between the starts of two consecutive records; at least
+     *                    {@link #length()}
+     * @return the index following the last character written, or {@code offset} if {@code keys} is empty
+     * @throws IllegalArgumentException  if {@code keys} or {@code destination} is {@code null}, {@code stride} is
+     *                                   smaller than {@link #length()} or a key is out of range
+     * @throws IndexOutOfBoundsException if the records do not fit in {@code destination}
+     */
+    public int maskKeys(long[] keys, char[] destination, int offset, int stride)
+            throws IllegalArgumentException, IndexOutOfBoundsException {
+        return writer.writeAll(keys, destination, offset, stride);
+    }
+
+    /**
+     * Masks a whole column of keys into one contiguous byte buffer, as fixed-length ASCII records.
+     *
+     * @param keys        keys returned by {@code CpfUtils.toKey} or {@code CnpjUtils.toKey}, matching this mask
+     * @param destination the buffer receiving the records
+     * @param offset      the index where the first record is written
+     * @param stride      the distance, in bytes, between the starts of two consecutive records; at least
+     *                    {@link #length()}
+     * @return the index following the last byte written, or {@code offset} if {@code keys} is empty
+     * @throws IllegalArgumentException  if {@code keys} or {@code destination} is {@code null}, {@code stride} is
+     *                                   smaller than {@link #length()} or a key is out of range
+     * @throws IndexOutOfBoundsException if the records do not fit in {@code destination}
+     * @see #maskKeys(long[], char[], int, int)
+     */
+    public int maskKeys(long[] keys, byte[] destination, int offset, int stride)
+            throws IllegalArgumentException, IndexOutOfBoundsException {
+        return writer.writeAll(keys, destination, offset, stride);
+    }
+
+    /**
+     * Returns the pattern of this mask.
+     *
+     * @return the pattern
+     */
+    @Override
+    public String toString() {
+        return writer.pattern();
+    }
+
+}
@@ -0,0 +1,41 @@
+package io.github.felseje.document;
+
+/**
+ * The types of document detected in columns that may hold either a CPF or a CNPJ.
+ *
+ * @author felseje
+ * @since 1.0.0-alpha
+ */
+public enum DocumentType {
+
+    /**
+     * A CPF: 11 digits, formatted or not, e.g. {@code "529.982.247-25"}.
+     */
+    CPF,
+
+    /**
+     * A numeric CNPJ: 14 digits, formatted or not, e.g. {@code "11.222.333/0001-81"}.
+     */
+    CNPJ_NUMERIC,
+
+    /**
+     * An alphanumeric CNPJ: 12 digits or uppercase letters followed by 2 digits, formatted or not, e.g.
+     * {@code "12.ABC.345/01DE-35"}.
+     */
+    CNPJ_ALPHANUMERIC,
+
+    /**
+     * Neither a CPF nor a CNPJ.
+     */
+    INVALID;
+
+    /**
+     * Tells whether this type is one of the CNPJ types.
+     *
+     * @return {@code true} for {@link #CNPJ_NUMERIC} and {@link #CNPJ_ALPHANUMERIC}; {@code false} otherwise.
+     */
+    public boolean isCnpj() {
+        return this == CNPJ_NUMERIC || this == CNPJ_ALPHANUMERIC;
+    }
+
+}
@@ -0,0 +1,221 @@
+package io.github.felseje.document;
+
+import io.github.felseje.internal.batch.SequenceValidator;
+import io.github.felseje.internal.document.DocumentScanner;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import static io.github.felseje.internal.Constants.NOT_ALLOWED_INSTANTIATION_ERROR;
+
+/**
+ * Facade for columns that may hold either a CPF or a CNPJ, numeric or alphanumeric.
+ *
+ * <p> The input is read once and gives the results of calling
+ * {@link io.github.felseje.cpf.CpfUtils#isValid(CharSequence)}, then {@code CnpjType.detectFrom} and
+ * {@link io.github.felseje.cnpj.CnpjUtils#isValid(CharSequence)}, which clean and match the same input several times.
+ * As for a CPF, every character that is not a digit is skipped, so eleven digits are a CPF whatever surrounds them;
+ * as for a CNPJ, the input must be exactly in the formatted or the unformatted shape, without spaces or lowercase
+ * letters. A valid CPF wins over a CNPJ shape, and an input with eleven digits that is neither a valid CPF nor in a
+ * CNPJ shape is an invalid CPF. </p>
+ *
+ * <p> No regex is involved and no exception is thrown for invalid documents, whatever the input. Detecting the type
+ * or the validity allocates nothing; detecting the whole document allocates the normalized form only when the
+ * document is valid. Mixed columns can be detected in bulk, see {@link #detectAll(List, DocumentType[], long[])}. </p>
+ *
+ * @author felseje
+ * @since 1.0.0-alpha
+ */
+public final class Documents {
+
+    /**
+     * Document types indexed by the scan result types of {@link DocumentScanner}.
+     */
+    private static final DocumentType[] TYPES = {
+            DocumentType.INVALID, DocumentType.CPF, DocumentType.CNPJ_NUMERIC, DocumentType.CNPJ_ALPHANUMERIC
+    };
+
+    /**
+     * Prevents instantiation of this utility class.
+     *
+     * @throws IllegalStateException always thrown to indicate this class should not be instantiated.
+     */
+    private Documents() {
+        throw new IllegalStateException(NOT_ALLOWED_INSTANTIATION_ERROR);
+    }
+
+    /**
+     * Detects the type of a document from its structure, without checking its check digits.
+     *
+     * <p> Example: </p>
+     * <pre>{@code
+     * Documents.typeOf("529.982.247-25");     // CPF
+     * Documents.typeOf("11222333000181");     // CNPJ_NUMERIC
+     * Documents.typeOf("12.ABC.345/01DE-35"); // CNPJ_ALPHANUMERIC
+     * Documents.typeOf("1234");               // INVALID
+     * }</pre>
+     *
+     * @param document the document to detect; may be {@code null}
+     * @return the document type, or {@link DocumentType#INVALID} if {@code document} is {@code null} or has neither
+     * the CPF nor the CNPJ structure
+     */
+    public static DocumentType typeOf(CharSequence document) {
+        return document == null ? DocumentType.INVALID : typeOf(document, 0, document.length());
+    }
+
+    /**
+     * Detects the type of the document found in a region of the given character sequence.
+     *
+     * @param document the character sequence holding the document; may be {@code null}
+     * @param offset   the index of the first character of the region
+     * @param length   the number of characters in the region
+     * @return the document type, or {@link DocumentType#INVALID} if {@code document} is {@code null} or the region has
+     * neither the CPF nor the CNPJ structure
+     * @throws IndexOutOfBoundsException if {@code document} is not {@code null} and the region is out of its bounds
+     * @see #typeOf(CharSequence)
+     */
+    public static DocumentType typeOf(CharSequence document, int offset, int length) throws IndexOutOfBoundsException {
+        return TYPES[DocumentScanner.typeOf(DocumentScanner.scan(document, offset, length))];
+    }
+
+    /**
+     * Tells whether the given input is a valid CPF or a valid CNPJ, numeric or alphanumeric.
+     *
+     * @param document the document to check, formatted or unformatted; may be {@code null}
+     * @return {@code true} if {@code document} is a valid CPF or CNPJ; {@code false} otherwise
+     */
+    public static boolean isValid(CharSequence document) {
+        return document != null && isValid(document, 0, document.length());
+    }
+
+    /**
+     * Tells whether the given region holds a valid CPF or a valid CNPJ, numeric or alphanumeric.
+     *
+     * @param document the character sequence holding the document; may be {@code null}
+     * @param offset   the index of the first character of the region
+     * @param length   the number of characters in the region
+     * @return {@code true} if the region holds a valid CPF or CNPJ; {@code false} otherwise
+     * @throws IndexOutOfBoundsException if {@code document} is not {@code null} and the region is out of its bounds
+     */
+    public static boolean isValid(CharSequence document, int offset, int length) throws IndexOutOfBoundsException {
+        return DocumentScanner.isValid(DocumentScanner.scan(document, offset, length));
+    }
+
+    /**
+     * Detects, validates and normalizes a document in a single pass.
+     *
+     * <p> Example: </p>
+     * <pre>{@code
+     * Documents.detect("529.982.247-25"); // CPF, valid, "52998224725"
+     * Documents.detect("529.982.247-24"); // CPF, invalid, ""
+     * Documents.detect("abc");            // INVALID, invalid, ""
+     * }</pre>
+     *
+     * @param document the document to detect; may be {@code null}
+     * @return the detected document, or {@link DetectedDocument#INVALID} if {@code document} is {@code null} or has
+     * neither the CPF nor the CNPJ structure
+     */
+    public static DetectedDocument detect(CharSequence document) {
+        return document == null ? DetectedDocument.INVALID : detect(document, 0, document.length());
+    }
+
+    /**
+     * Detects, validates and normalizes the document found in a region of the given character sequence.
+     *
+     * @param document the character sequence holding the document; may be {@code null}
+     * @param offset   the index of the first character of the region
+     * @param length   the number of characters in the region
+     * @return the detected document, or {@link DetectedDocument#INVALID} if {@code document} is {@code null} or the
+     * region has neither the CPF nor the CNPJ structure
+     * @throws IndexOutOfBoundsException if {@code document} is not {@code null} and the region is out of its bounds
+     * @see #detect(CharSequence)
+     */
+    public static DetectedDocument detect(CharSequence document, int offset, int length)
+            throws IndexOutOfBoundsException {
+        final var result = DocumentScanner.scan(document, offset, length);
+        final var type = TYPES[DocumentScanner.typeOf(result)];
+        if (!DocumentScanner.isValid(result)) {
+            return DetectedDocument.invalid(type);
+        }
+        return new DetectedDocument(type, true, DocumentScanner.normalize(document, offset, length, result));
+    }
+
+    /**
+     * Detects and validates every value of a mixed column.
+     *
+     * @param documents the values to detect, formatted or not; {@code null} values are {@link DocumentType#INVALID}
+     * @param types     the array receiving the type of each value at its index
+     * @param validity  the bitmask receiving one bit per value; its first {@code (documents.length + 63) / 64} words
+     *                  are overwritten
+     * @return the number of valid values
+     * @throws IllegalArgumentException  if {@code documents}, {@code types} or {@code validity} is {@code null}
+     * @throws IndexOutOfBoundsException if {@code types} or {@code validity} is too short
+     * @see #detectAll(List, DocumentType[], long[])
+     */
+    public static int detectAll(CharSequence[] documents, DocumentType[] types, long[] validity)
+            throws IllegalArgumentException, IndexOutOfBoundsException {
+        if (documents == null) {
+            throw new IllegalArgumentException("The documents must not be null");
+        }
+        return detectAll(Arrays.asList(documents), types, validity);
+    }
+
+    /**
+     * Detects and validates every value of a mixed column, as loaded in bulk from a source that holds CPFs and CNPJs
+     * interchangeably.
+     *
+     * <p> Each value is read once and its type written to {@code types}; bit {@code i % 64} of
+     * {@code validity[i / 64]} is set when value {@code i} is valid. Nothing is allocated per value. Large columns are
+     * split into ranges detected in parallel on the common {@link java.util.concurrent.ForkJoinPool}. </p>
+     *
+     * <p> Example: </p>
+     * <pre>{@code
+     * List<String> column = List.of("529.982.247-25", "11222333000182", "n/a");
+     * DocumentType[] types = new DocumentType[column.size()];
+     * long[] validity = new long[1];
+     * int valid = Documents.detectAll(column, types, validity);
+     * // valid == 1, types == [CPF, CNPJ_NUMERIC, INVALID], validity[0] == 0b001
+     * }</pre>
+     *
+     * @param documents the values to detect, formatted or not; {@code null} values are {@link DocumentType#INVALID}
+     * @param types     the array receiving the type of each value at its index
+     * @param validity  the bitmask receiving one bit per value; its first {@code (documents.size() + 63) / 64} words
+     *                  are overwritten
+     * @return the number of valid values
+     * @throws IllegalArgumentException  if {@code documents}, {@code types} or {@code validity} is {@code null}
+     * @throws IndexOutOfBoundsException if {@code types} or {@code validity} is too short
+     */
+    public static int detectAll(List<? extends CharSequence> documents, DocumentType[] types, long[] validity)
+            throws IllegalArgumentException, IndexOutOfBoundsException {
+        if (documents == null) {
+            throw new IllegalArgumentException("The documents must not be null");
+        }
+        if (types == null) {
+            throw new IllegalArgumentException("The types must not be null");
+        }
+        Objects.checkFromIndexSize(0, documents.size(), types.length);
+        return SequenceValidator.scan(documents, validity, (values, from, to, bits) -> detect(values, from, to,
+                types, bits));
+    }
+
+    /**
+     * Detects a range of values, writing their types and setting the bits of the valid ones.
+     */
+    private static int detect(final List<? extends CharSequence> documents, final int from, final int to,
+                              final DocumentType[] types, final long[] validity) {
+        var valid = 0;
+        for (int index = from; index < to; index++) {
+            final var document = documents.get(index);
+            final var result = document == null ? DocumentScanner.NO_MATCH
+                    : DocumentScanner.scan(document, 0, document.length());
+            types[index] = TYPES[DocumentScanner.typeOf(result)];
+            if (DocumentScanner.isValid(result)) {
+                validity[index >>> 6] |= 1L << index;
+                valid++;
+            }
+        }
+        return valid;
+    }
+
+}
@@ -0,0 +1,38 @@
+package io.github.felseje.document;
+
+/**
+ * How strictly the {@code toKey} and {@code isValid} overloads taking a profile read CPFs and CNPJs.
+ *
+ * <p>Every profile validates the check digits and extracts the document in the same single pass. Each one is compiled
+ * once into a table-driven automaton, so a character that breaks the expected shape rejects the input at once,
+ * without cleaning it first.</p>
+ *
+ * @author felseje
+ * @since 1.0.0-alpha
+ */
+public enum ParseProfile {
+
+    /**
+     * Only the unformatted document: exactly 11 digits for a CPF, or 14 characters for a CNPJ, the 12 of its base
+     * being digits or uppercase letters and its check digits digits.
+     */
+    CANONICAL,
+
+    /**
+     * Only the formatted document, with every separator at its place: {@code "###.###.###-##"} for a CPF and
+     * {@code "##.###.###/####-##"} for a CNPJ.
+     */
+    FORMATTED,
+
+    /**
+     * Either the {@link #CANONICAL} or the {@link #FORMATTED} document.
+     */
+    STANDARD,
+
+    /**
+     * Any input, skipping every character that cannot belong to the document, as the profile-less methods do: a CPF
+     * is read from its digits and a CNPJ from its ASCII letters and digits, a lowercase letter rejecting the CNPJ.
+     */
+    LENIENT
+
+}
@@ -0,0 +1,68 @@
+package io.github.felseje.document;
+
+/**
+ * The reasons reported by the exception-free diagnostics of CPFs and CNPJs.
+ *
+ * @author felseje
+ * @since 1.0.0-alpha
+ * @see Diagnostics
+ */
+public enum ValidationReason {
+
+    /**
+     * The document is valid.
+     */
+    VALID("The document is valid"),
+
+    /**
+     * The input is {@code null}, empty or made only of whitespace.
+     */
+    BLANK("The document is null or blank"),
+
+    /**
+     * The input does not hold the number of characters of the document.
+     */
+    WRONG_LENGTH("The document does not have the expected length"),
+
+    /**
+     * A character cannot appear at its position in any form of the document.
+     */
+    ILLEGAL_CHARACTER("The document has an illegal character"),
+
+    /**
+     * Every character of the document is the same.
+     */
+    REPEATED_DIGITS("The document is made of a repeated digit"),
+
+    /**
+     * The first check digit does not match the one computed from the base.
+     */
+    FIRST_CHECK_DIGIT_MISMATCH("The first check digit does not match"),
+
+    /**
+     * The first check digit matches but the second does not.
+     */
+    SECOND_CHECK_DIGIT_MISMATCH("The second check digit does not match"),
+
+    /**
+     * Every character is a legal CNPJ character but the input matches neither the numeric nor the alphanumeric CNPJ
+     * type, as when a letter takes the place of a check digit.
+     */
+    UNKNOWN_CNPJ_TYPE("The CNPJ does not match any known type");
+
+    private final String message;
+
+    ValidationReason(final String message) {
+        this.message = message;
+    }
+
+    /**
+     * Returns a short description of this reason.
+     *
+     * @return the description, e.g. "The first check digit does not match".
+     */
+    public String getMessage() {
+        return message;
+    }
+
+}
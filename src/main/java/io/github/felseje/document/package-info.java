@@ -0,0 +1,12 @@
+/**
+ * Classes spanning both the CPF and the CNPJ documents.
+ *
+ * <p>Includes the detected document types and a facade detecting, validating and normalizing CPFs and CNPJs, numeric
+ * or alphanumeric, in a single pass, one at a time or in bulk, and the reasons and readers of the exception-free
+ * diagnoses of both documents, the profiles telling how strictly they are parsed and the masks hiding part of them
+ * for display.</p>
+ *
+ * @author felseje
+ * @since 1.0.0-alpha
+ */
+package io.github.felseje.document;
\ No newline at end of file
@@ -1,5 +1,7 @@
 package io.github.felseje.exception;
 
+import io.github.felseje.internal.util.DocumentExceptions;
+
 import java.io.Serial;
 
 /**
@@ -21,7 +23,7 @@ public class InvalidDocumentBaseException extends RuntimeException {
      * @param message the detail message explaining why the document base is invalid.
      */
     public InvalidDocumentBaseException(String message) {
-        super(message);
+        super(message, null, DocumentExceptions.WRITABLE, DocumentExceptions.WRITABLE);
     }
 
     /**
@@ -31,7 +33,21 @@ public class InvalidDocumentBaseException extends RuntimeException {
      * @param cause   the cause of this exception (can be retrieved later by {@link #getCause()}).
      */
     public InvalidDocumentBaseException(String message, Throwable cause) {
-        super(message, cause);
+        super(message, cause, DocumentExceptions.WRITABLE, DocumentExceptions.WRITABLE);
+    }
+
+    /**
+     * Constructs a new {@link InvalidDocumentBaseException} with the specified detail message and cause, choosing
+     * whether suppression and stack trace writing are enabled.
+     *
+     * @param message            the detail message.
+     * @param cause              the cause of this exception, possibly {@code null}.
+     * @param enableSuppression  whether suppressed exceptions are recorded.
+     * @param writableStackTrace whether the stack trace is filled in.
+     */
+    protected InvalidDocumentBaseException(String message, Throwable cause, boolean enableSuppression,
+            boolean writableStackTrace) {
+        super(message, cause, enableSuppression, writableStackTrace);
     }
 
 }
@@ -1,5 +1,7 @@
 package io.github.felseje.exception;
 
+import io.github.felseje.internal.util.DocumentExceptions;
+
 import java.io.Serial;
 
 /**
@@ -8,6 +10,12 @@ import java.io.Serial;
  * This exception typically signals a failure in validation logic, such as
  * incorrect length, invalid characters, or failed check digits.
  * </p>
+ * <p>
+ * Setting the {@value #STACKLESS_PROPERTY} system property to {@code true} makes the library throw these exceptions,
+ * and {@link InvalidDocumentBaseException} and {@link io.github.felseje.cnpj.exception.UnrecognizedCnpjTypeException},
+ * without a stack trace and without suppressed exceptions, sharing one preallocated instance per message. Types and
+ * messages are unchanged; only the cost of throwing drops, which matters when malformed input is rejected in bulk.
+ * </p>
  *
  * @author felseje
  * @since 1.0.0-alpha
@@ -17,13 +25,18 @@ public class InvalidDocumentException extends RuntimeException {
     @Serial
     private static final long serialVersionUID = 4852739459128734621L;
 
+    /**
+     * The system property that, when {@code true}, makes document exceptions stackless.
+     */
+    public static final String STACKLESS_PROPERTY = "cpf.cnpj.utils.exceptions.stackless";
+
     /**
      * Constructs a new {@link InvalidDocumentException} with the specified detail message.
      *
      * @param message the detail message describing the reason for the exception.
      */
     public InvalidDocumentException(String message) {
-        super(message);
+        super(message, null, DocumentExceptions.WRITABLE, DocumentExceptions.WRITABLE);
     }
 
     /**
@@ -33,7 +46,21 @@ public class InvalidDocumentException extends RuntimeException {
      * @param cause the cause of the exception (which is saved for later retrieval by {@link #getCause()}).
      */
     public InvalidDocumentException(String message, Throwable cause) {
-        super(message, cause);
+        super(message, cause, DocumentExceptions.WRITABLE, DocumentExceptions.WRITABLE);
+    }
+
+    /**
+     * Constructs a new {@link InvalidDocumentException} with the specified detail message and cause, choosing
+     * whether suppression and stack trace writing are enabled.
+     *
+     * @param message            the detail message.
+     * @param cause              the cause of this exception, possibly {@code null}.
+     * @param enableSuppression  whether suppressed exceptions are recorded.
+     * @param writableStackTrace whether the stack trace is filled in.
+     */
+    protected InvalidDocumentException(String message, Throwable cause, boolean enableSuppression,
+            boolean writableStackTrace) {
+        super(message, cause, enableSuppression, writableStackTrace);
     }
 
 }
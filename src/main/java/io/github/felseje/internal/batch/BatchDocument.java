@@ -0,0 +1,148 @@
+package io.github.felseje.internal.batch;
+
+import io.github.felseje.cnpj.Cnpj;
+import io.github.felseje.cpf.Cpf;
+import io.github.felseje.internal.cnpj.util.CnpjCheckDigitCalculator;
+import io.github.felseje.internal.cnpj.validation.CnpjScanner;
+import io.github.felseje.internal.cpf.util.CpfCheckDigitCalculator;
+import io.github.felseje.internal.cpf.validation.CpfScanner;
+import io.github.felseje.spi.ValidationEngine;
+
+import java.nio.ByteBuffer;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Describes a document validated in batches: its fixed length, the size of its base, the weights of both check digit
+ * sums and the characters its base accepts.
+ *
+ * <p>Every record of a batch holds one normalized document, so a CPF record is 11 ASCII digits and a CNPJ record is
+ * 14 characters whose base may mix ASCII digits and uppercase letters. The same description drives the vectorized
+ * kernel and the scalar one, which delegates to the single-document scanners.</p>
+ *
+ * @author felseje
+ * @since 1.0.0-alpha
+ */
+public enum BatchDocument {
+
+    /**
+     * An 11-digit CPF.
+     */
+    CPF(Cpf.LENGTH, CpfCheckDigitCalculator.BASE_SIZE, false,
+            CpfCheckDigitCalculator::firstWeight, CpfCheckDigitCalculator::secondWeight) {
+        @Override
+        boolean isValid(byte[] batch, int offset) {
+            return CpfScanner.isValid(batch, offset, Cpf.LENGTH);
+        }
+
+        @Override
+        public boolean isValid(ValidationEngine engine, CharSequence value, int offset, int length) {
+            return engine.isValidCpf(value, offset, length);
+        }
+
+        @Override
+        public boolean isValid(ValidationEngine engine, ByteBuffer value, int offset, int length) {
+            return engine.isValidCpf(value, offset, length);
+        }
+    },
+
+    /**
+     * A 14-character CNPJ, numeric or alphanumeric.
+     */
+    CNPJ(Cnpj.LENGTH, CnpjCheckDigitCalculator.BASE_SIZE, true,
+            CnpjCheckDigitCalculator::firstWeight, CnpjCheckDigitCalculator::secondWeight) {
+        @Override
+        boolean isValid(byte[] batch, int offset) {
+            return CnpjScanner.isValid(CnpjScanner.scanStrict(batch, offset, Cnpj.LENGTH));
+        }
+
+        @Override
+        public boolean isValid(ValidationEngine engine, CharSequence value, int offset, int length) {
+            return engine.isValidStrictCnpj(value, offset, length);
+        }
+
+        @Override
+        public boolean isValid(ValidationEngine engine, ByteBuffer value, int offset, int length) {
+            return engine.isValidCnpj(value, offset, length);
+        }
+    };
+
+    private final int length;
+    private final int baseSize;
+    private final boolean alphanumeric;
+    private final int[] firstWeights;
+    private final int[] secondWeights;
+
+    BatchDocument(final int length, final int baseSize, final boolean alphanumeric,
+                  final IntUnaryOperator firstWeight, final IntUnaryOperator secondWeight) {
+        this.length = length;
+        this.baseSize = baseSize;
+        this.alphanumeric = alphanumeric;
+        this.firstWeights = new int[baseSize];
+        this.secondWeights = new int[baseSize + 1];
+        for (int i = 0; i < baseSize; i++) {
+            firstWeights[i] = firstWeight.applyAsInt(i);
+            secondWeights[i] = secondWeight.applyAsInt(i);
+        }
+        secondWeights[baseSize] = secondWeight.applyAsInt(baseSize);
+    }
+
+    /**
+     * Validates the record starting at the given index, one document at a time.
+     *
+     * @param batch  the batch bytes.
+     * @param offset the index of the first byte of the record.
+     * @return {@code true} if the record holds a valid document; {@code false} otherwise.
+     */
+    abstract boolean isValid(byte[] batch, int offset);
+
+    /**
+     * Validates a document held in a region of a character sequence, formatted or not, with the given engine.
+     *
+     * <p>The region is read as by the untyped {@code isValid(CharSequence)} of the document facade: a CNPJ must be
+     * exactly in the formatted or the unformatted shape.</p>
+     *
+     * @param engine the engine validating the document.
+     * @param value  the character sequence holding the document.
+     * @param offset the index of the first character of the region.
+     * @param length the number of characters in the region.
+     * @return {@code true} if the region holds a valid document; {@code false} otherwise.
+     */
+    public abstract boolean isValid(ValidationEngine engine, CharSequence value, int offset, int length);
+
+    /**
+     * Validates a document held in a region of an ASCII byte buffer, formatted or not, with the given engine.
+     *
+     * @param engine the engine validating the document.
+     * @param value  the buffer holding the document.
+     * @param offset the absolute index of the first byte of the region.
+     * @param length the number of bytes in the region.
+     * @return {@code true} if the region holds a valid document; {@code false} otherwise.
+     */
+    public abstract boolean isValid(ValidationEngine engine, ByteBuffer value, int offset, int length);
+
+    /**
+     * Returns the length of a record.
+     *
+     * @return the number of bytes of a normalized document.
+     */
+    public int length() {
+        return length;
+    }
+
+    int baseSize() {
+        return baseSize;
+    }
+
+    boolean isAlphanumeric() {
+        return alphanumeric;
+    }
+
+    int firstWeight(final int position) {
+        return firstWeights[position];
+    }
+
+    int secondWeight(final int position) {
+        return secondWeights[position];
+    }
+
+}
@@ -0,0 +1,27 @@
+package io.github.felseje.internal.batch;
+
+/**
+ * Validates a batch of fixed-length records into a validity bitmask.
+ *
+ * <p>Implementations receive arguments already checked by {@link BatchValidator} and a bitmask already cleared over
+ * the batch; they only set the bits of the valid records.</p>
+ *
+ * @author felseje
+ * @since 1.0.0-alpha
+ */
+public interface BatchKernel {
+
+    /**
+     * Validates the records of a batch.
+     *
+     * @param document the document held by every record.
+     * @param batch    the batch bytes.
+     * @param offset   the index of the first byte of the first record.
+     * @param stride   the distance, in bytes, between the starts of two consecutive records.
+     * @param count    the number of records.
+     * @param validity the cleared bitmask receiving one bit per record.
+     * @return the number of valid records.
+     */
+    int validate(BatchDocument document, byte[] batch, int offset, int stride, int count, long[] validity);
+
+}
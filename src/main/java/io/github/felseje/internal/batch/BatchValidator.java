@@ -0,0 +1,98 @@
+package io.github.felseje.internal.batch;
+
+import io.github.felseje.spi.ValidationEngine;
+import io.github.felseje.spi.ValidationEngines;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import static io.github.felseje.internal.Constants.NOT_ALLOWED_INSTANTIATION_ERROR;
+
+/**
+ * Validates batches of fixed-length documents laid out back to back in a byte array.
+ *
+ * <p>Record {@code i} of a batch starts at {@code offset + i * stride} and holds one normalized document of
+ * {@link BatchDocument#length()} ASCII bytes; any bytes between records (separators, line breaks) are ignored. The
+ * result is a bitmask where bit {@code i % 64} of word {@code i / 64} tells whether record {@code i} is valid, exactly
+ * as validating that record on its own would.</p>
+ *
+ * <p>Arguments are checked and the bitmask cleared here; the records themselves are validated by the active
+ * {@link ValidationEngine}, see {@link ValidationEngines}.</p>
+ *
+ * <p>This class is final and cannot be instantiated.</p>
+ *
+ * @author felseje
+ * @since 1.0.0-alpha
+ */
+public final class BatchValidator {
+
+    /**
+     * Prevents instantiation of this utility class.
+     *
+     * @throws IllegalStateException always thrown to indicate this class should not be instantiated
+     */
+    private BatchValidator() {
+        throw new IllegalStateException(NOT_ALLOWED_INSTANTIATION_ERROR);
+    }
+
+    /**
+     * Validates the records of a batch into a validity bitmask.
+     *
+     * @param document the document held by every record.
+     * @param batch    the batch bytes.
+     * @param offset   the index of the first byte of the first record.
+     * @param stride   the distance, in bytes, between the starts of two consecutive records; at least the record
+     *                 length.
+     * @param count    the number of records.
+     * @param validity the bitmask receiving one bit per record; its first {@code (count + 63) / 64} words are
+     *                 overwritten.
+     * @return the number of valid records.
+     * @throws IllegalArgumentException  if {@code batch} or {@code validity} is {@code null}, or {@code stride} is
+     *                                   smaller than the record length.
+     * @throws IndexOutOfBoundsException if {@code count} is negative, the records do not fit in {@code batch}, or
+     *                                   {@code validity} is too short.
+     */
+    public static int validate(BatchDocument document, byte[] batch, int offset, int stride, int count,
+                               long[] validity) throws IllegalArgumentException, IndexOutOfBoundsException {
+        if (batch == null) {
+            throw new IllegalArgumentException("The batch must not be null");
+        }
+        if (validity == null) {
+            throw new IllegalArgumentException("The validity mask must not be null");
+        }
+        if (stride < document.length()) {
+            throw new IllegalArgumentException("The stride must not be smaller than " + document.length());
+        }
+        if (count < 0) {
+            throw new IndexOutOfBoundsException("The record count must not be negative: " + count);
+        }
+        final var words = wordsFor(count);
+        Objects.checkFromIndexSize(0, words, validity.length);
+        if (count == 0) {
+            Objects.checkIndex(offset, batch.length + 1);
+            return 0;
+        }
+        final var span = (long) (count - 1) * stride + document.length();
+        if (offset < 0 || offset + span > batch.length) {
+            throw new IndexOutOfBoundsException("The records do not fit in the batch: offset " + offset
+                    + ", span " + span + ", length " + batch.length);
+        }
+        Arrays.fill(validity, 0, words, 0L);
+        final var engine = ValidationEngines.active();
+        return switch (document) {
+            case CPF -> engine.validateCpfBatch(batch, offset, stride, count, validity);
+            case CNPJ -> engine.validateCnpjBatch(batch, offset, stride, count, validity);
+        };
+    }
+
+    /**
+     * Returns the number of bitmask words needed for a number of records.
+     *
+     * @param count the number of records.
+     * @return {@code (count + 63) / 64}.
+     */
+    public static int wordsFor(int count) {
+        return (count + Long.SIZE - 1) >>> 6;
+    }
+
+}
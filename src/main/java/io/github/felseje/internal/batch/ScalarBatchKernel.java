@@ -0,0 +1,42 @@
+package io.github.felseje.internal.batch;
+
+/**
+ * Batch kernel validating one record at a time through the single-document scanners.
+ *
+ * <p>Used by the scalar engine, and for the records left over after the last full vector.</p>
+ *
+ * @author felseje
+ * @since 1.0.0-alpha
+ */
+public final class ScalarBatchKernel implements BatchKernel {
+
+    @Override
+    public int validate(BatchDocument document, byte[] batch, int offset, int stride, int count, long[] validity) {
+        return validate(document, batch, offset, stride, 0, count, validity);
+    }
+
+    /**
+     * Validates a range of the records of a batch.
+     *
+     * @param document the document held by every record.
+     * @param batch    the batch bytes.
+     * @param offset   the index of the first byte of the first record of the batch.
+     * @param stride   the distance, in bytes, between the starts of two consecutive records.
+     * @param from     the index of the first record to validate.
+     * @param to       the index after the last record to validate.
+     * @param validity the cleared bitmask receiving one bit per record.
+     * @return the number of valid records in the range.
+     */
+    static int validate(BatchDocument document, byte[] batch, int offset, int stride, int from, int to,
+                        long[] validity) {
+        var valid = 0;
+        for (int index = from; index < to; index++) {
+            if (document.isValid(batch, offset + index * stride)) {
+                validity[index >>> 6] |= 1L << index;
+                valid++;
+            }
+        }
+        return valid;
+    }
+
+}
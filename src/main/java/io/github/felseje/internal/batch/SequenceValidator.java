@@ -0,0 +1,210 @@
+package io.github.felseje.internal.batch;
+
+import io.github.felseje.spi.ValidationEngine;
+import io.github.felseje.spi.ValidationEngines;
+
+import java.io.Serial;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import static io.github.felseje.internal.Constants.NOT_ALLOWED_INSTANTIATION_ERROR;
+
+/**
+ * Validates collections of documents held as character sequences into a validity bitmask.
+ *
+ * <p>Each value may be formatted or not and is validated exactly as on its own by the active
+ * {@link ValidationEngine}; {@code null} values are invalid. Bit {@code i % 64} of word {@code i / 64} tells whether
+ * value {@code i} is valid.</p>
+ *
+ * <p>Small collections are validated inline, in the calling thread. Larger ones are split into ranges validated in
+ * parallel on the common {@link ForkJoinPool}; the range size adapts to the pool parallelism so that every worker
+ * gets several ranges to balance uneven values. Ranges always start at a multiple of 64, so each bitmask word is
+ * written by a single worker and no synchronization is needed.</p>
+ *
+ * <p>This class is final and cannot be instantiated.</p>
+ *
+ * @author felseje
+ * @since 1.0.0-alpha
+ */
+public final class SequenceValidator {
+
+    private static final int INLINE_THRESHOLD = 8192;
+    private static final int MIN_RANGE = 1024;
+    private static final int RANGES_PER_WORKER = 8;
+
+    /**
+     * Prevents instantiation of this utility class.
+     *
+     * @throws IllegalStateException always thrown to indicate this class should not be instantiated
+     */
+    private SequenceValidator() {
+        throw new IllegalStateException(NOT_ALLOWED_INSTANTIATION_ERROR);
+    }
+
+    /**
+     * Validates the values of an array into a validity bitmask.
+     *
+     * @param document the document expected in every value.
+     * @param values   the values to validate.
+     * @param validity the bitmask receiving one bit per value; its first {@code (values.length + 63) / 64} words are
+     *                 overwritten.
+     * @return the number of valid values.
+     * @throws IllegalArgumentException  if {@code values} or {@code validity} is {@code null}.
+     * @throws IndexOutOfBoundsException if {@code validity} is too short.
+     */
+    public static int validate(BatchDocument document, CharSequence[] values, long[] validity)
+            throws IllegalArgumentException, IndexOutOfBoundsException {
+        if (values == null) {
+            throw new IllegalArgumentException("The values must not be null");
+        }
+        return validate(document, Arrays.asList(values), validity);
+    }
+
+    /**
+     * Validates the values of a list into a validity bitmask.
+     *
+     * <p>Lists without fast random access, such as {@link java.util.LinkedList}, are copied to an array first.</p>
+     *
+     * @param document the document expected in every value.
+     * @param values   the values to validate.
+     * @param validity the bitmask receiving one bit per value; its first {@code (values.size() + 63) / 64} words are
+     *                 overwritten.
+     * @return the number of valid values.
+     * @throws IllegalArgumentException  if {@code values} or {@code validity} is {@code null}.
+     * @throws IndexOutOfBoundsException if {@code validity} is too short.
+     */
+    public static int validate(BatchDocument document, List<? extends CharSequence> values, long[] validity)
+            throws IllegalArgumentException, IndexOutOfBoundsException {
+        final var engine = ValidationEngines.active();
+        return scan(values, validity, (indexed, from, to, bits) -> validate(engine, document, indexed, from, to, bits));
+    }
+
+    /**
+     * Scans the values of a list into a validity bitmask with the given range scanner, splitting large lists into
+     * ranges scanned in parallel.
+     *
+     * <p>Lists without fast random access, such as {@link java.util.LinkedList}, are copied to an array first.</p>
+     *
+     * @param values   the values to scan.
+     * @param validity the bitmask receiving one bit per value; its first {@code (values.size() + 63) / 64} words are
+     *                 overwritten.
+     * @param scanner  the scanner of each range; ranges always start at a multiple of 64.
+     * @return the number of valid values.
+     * @throws IllegalArgumentException  if {@code values} or {@code validity} is {@code null}.
+     * @throws IndexOutOfBoundsException if {@code validity} is too short.
+     */
+    public static int scan(List<? extends CharSequence> values, long[] validity, RangeScanner scanner)
+            throws IllegalArgumentException, IndexOutOfBoundsException {
+        if (values == null) {
+            throw new IllegalArgumentException("The values must not be null");
+        }
+        if (validity == null) {
+            throw new IllegalArgumentException("The validity mask must not be null");
+        }
+        final List<? extends CharSequence> indexed = values instanceof RandomAccess
+                ? values
+                : Arrays.asList(values.toArray(new CharSequence[0]));
+        final var count = indexed.size();
+        final var words = BatchValidator.wordsFor(count);
+        Objects.checkFromIndexSize(0, words, validity.length);
+        Arrays.fill(validity, 0, words, 0L);
+        final var parallelism = ForkJoinPool.getCommonPoolParallelism();
+        if (count < INLINE_THRESHOLD || parallelism < 2) {
+            return scanner.scan(indexed, 0, count, validity);
+        }
+        final var range = Math.max(MIN_RANGE, roundUpToWord(count / (parallelism * RANGES_PER_WORKER)));
+        return new RangeTask(scanner, indexed, 0, count, range, validity).invoke();
+    }
+
+    /**
+     * Validates a range of values, setting the bits of the valid ones.
+     *
+     * @param engine   the engine validating each value.
+     * @param document the document expected in every value.
+     * @param values   the values, with fast random access.
+     * @param from     the index of the first value to validate.
+     * @param to       the index after the last value to validate.
+     * @param validity the cleared bitmask receiving one bit per value.
+     * @return the number of valid values in the range.
+     */
+    private static int validate(final ValidationEngine engine, final BatchDocument document,
+                                final List<? extends CharSequence> values, final int from, final int to,
+                                final long[] validity) {
+        var valid = 0;
+        for (int index = from; index < to; index++) {
+            final var value = values.get(index);
+            if (value != null && document.isValid(engine, value, 0, value.length())) {
+                validity[index >>> 6] |= 1L << index;
+                valid++;
+            }
+        }
+        return valid;
+    }
+
+    private static int roundUpToWord(final int count) {
+        return (count + Long.SIZE - 1) & -Long.SIZE;
+    }
+
+    /**
+     * Scans a range of values into a cleared validity bitmask.
+     */
+    @FunctionalInterface
+    public interface RangeScanner {
+
+        /**
+         * Scans a range of values, setting the bits of the valid ones.
+         *
+         * @param values   the values, with fast random access.
+         * @param from     the index of the first value to scan.
+         * @param to       the index after the last value to scan.
+         * @param validity the cleared bitmask receiving one bit per value.
+         * @return the number of valid values in the range.
+         */
+        int scan(List<? extends CharSequence> values, int from, int to, long[] validity);
+
+    }
+
+    /**
+     * Scans a range of values, splitting it in two halves at a word boundary while it exceeds the range size.
+     */
+    private static final class RangeTask extends RecursiveTask<Integer> {
+
+        @Serial
+        private static final long serialVersionUID = 6518273049187362541L;
+
+        private final transient RangeScanner scanner;
+        private final transient List<? extends CharSequence> values;
+        private final int from;
+        private final int to;
+        private final int range;
+        private final long[] validity;
+
+        private RangeTask(final RangeScanner scanner, final List<? extends CharSequence> values, final int from,
+                          final int to, final int range, final long[] validity) {
+            this.scanner = scanner;
+            this.values = values;
+            this.from = from;
+            this.to = to;
+            this.range = range;
+            this.validity = validity;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (to - from <= range) {
+                return scanner.scan(values, from, to, validity);
+            }
+            final var middle = from + roundUpToWord((to - from) >>> 1);
+            final var upper = new RangeTask(scanner, values, middle, to, range, validity);
+            upper.fork();
+            final var lower = new RangeTask(scanner, values, from, middle, range, validity).compute();
+            return lower + upper.join();
+        }
+
+    }
+
+}
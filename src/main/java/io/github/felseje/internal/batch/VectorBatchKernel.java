@@ -0,0 +1,112 @@
+package io.github.felseje.internal.batch;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Batch kernel validating as many records per instruction as the preferred integer vector holds.
+ *
+ * <p>Records are processed in blocks of one record per lane. Each block is first transposed into a small column-major
+ * matrix, so that row {@code p} holds the character value at position {@code p} of every record of the block. Each
+ * row is then a single vector load, and both weighted sums, the character checks, the repeated-character check and
+ * the modulo 11 rule are computed lane-wise. The modulo uses a multiply-shift division, exact for every sum a
+ * document can produce.</p>
+ *
+ * <p>This class is only loaded when the {@code jdk.incubator.vector} module is present; see
+ * {@link io.github.felseje.internal.engine.VectorEngine}.</p>
+ *
+ * @author felseje
+ * @since 1.0.0-alpha
+ */
+public final class VectorBatchKernel implements BatchKernel {
+
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+    private static final int ELEVEN_RECIPROCAL = 2979; // ceil(2^15 / 11), exact for sums below 2^15
+    private static final int RECIPROCAL_SHIFT = 15;
+    private static final int UPPERCASE_FIRST = 'A' - '0';
+    private static final int UPPERCASE_LAST = 'Z' - '0';
+
+    @Override
+    public int validate(BatchDocument document, byte[] batch, int offset, int stride, int count, long[] validity) {
+        final var lanes = SPECIES.length();
+        final var length = document.length();
+        final var matrix = new int[length * lanes];
+        var valid = 0;
+        var index = 0;
+        for (; index + lanes <= count; index += lanes) {
+            for (int lane = 0; lane < lanes; lane++) {
+                final var start = offset + (index + lane) * stride;
+                for (int position = 0; position < length; position++) {
+                    matrix[position * lanes + lane] = (batch[start + position] & 0xFF) - '0';
+                }
+            }
+            // lanes is a power of two no larger than 64, so a block never straddles two words
+            final var bits = validate(document, matrix, lanes).toLong();
+            validity[index >>> 6] |= bits << index;
+            valid += Long.bitCount(bits);
+        }
+        return valid + ScalarBatchKernel.validate(document, batch, offset, stride, index, count, validity);
+    }
+
+    /**
+     * Validates one transposed block.
+     *
+     * @param document the document held by every record.
+     * @param matrix   the block, one row of {@code lanes} character values per document position.
+     * @param lanes    the number of records in the block.
+     * @return the mask of the valid records.
+     */
+    private static VectorMask<Integer> validate(final BatchDocument document, final int[] matrix, final int lanes) {
+        final var baseSize = document.baseSize();
+        final var leading = IntVector.fromArray(SPECIES, matrix, 0);
+        var wellFormed = SPECIES.maskAll(true);
+        var repeated = SPECIES.maskAll(true);
+        var firstSum = IntVector.zero(SPECIES);
+        var secondSum = IntVector.zero(SPECIES);
+        for (int position = 0; position < baseSize; position++) {
+            final var values = IntVector.fromArray(SPECIES, matrix, position * lanes);
+            wellFormed = wellFormed.and(document.isAlphanumeric() ? isDigitOrUppercase(values) : isDigit(values));
+            repeated = repeated.and(values.eq(leading));
+            firstSum = firstSum.add(values.mul(document.firstWeight(position)));
+            secondSum = secondSum.add(values.mul(document.secondWeight(position)));
+        }
+        final var firstInformed = IntVector.fromArray(SPECIES, matrix, baseSize * lanes);
+        final var secondInformed = IntVector.fromArray(SPECIES, matrix, (baseSize + 1) * lanes);
+        wellFormed = wellFormed.and(isDigit(firstInformed)).and(isDigit(secondInformed));
+        repeated = repeated.and(firstInformed.eq(leading)).and(secondInformed.eq(leading));
+        final var firstCheckDigit = checkDigitOf(firstSum);
+        final var secondCheckDigit = checkDigitOf(secondSum.add(firstCheckDigit.mul(document.secondWeight(baseSize))));
+        return wellFormed
+                .andNot(repeated)
+                .and(firstCheckDigit.eq(firstInformed))
+                .and(secondCheckDigit.eq(secondInformed));
+    }
+
+    private static VectorMask<Integer> isDigit(final IntVector values) {
+        return values.compare(VectorOperators.GE, 0).and(values.compare(VectorOperators.LE, 9));
+    }
+
+    private static VectorMask<Integer> isDigitOrUppercase(final IntVector values) {
+        final var uppercase = values.compare(VectorOperators.GE, UPPERCASE_FIRST)
+                .and(values.compare(VectorOperators.LE, UPPERCASE_LAST));
+        return isDigit(values).or(uppercase);
+    }
+
+    /**
+     * Applies the modulo 11 rule lane-wise.
+     *
+     * <p>Lanes of malformed records may hold any sum, including negative ones; their result is meaningless but
+     * harmless, since those lanes are already rejected.</p>
+     *
+     * @param sums the weighted sums.
+     * @return the check digit of every lane.
+     */
+    private static IntVector checkDigitOf(final IntVector sums) {
+        final var quotients = sums.mul(ELEVEN_RECIPROCAL).lanewise(VectorOperators.ASHR, RECIPROCAL_SHIFT);
+        final var rests = sums.sub(quotients.mul(11));
+        return IntVector.broadcast(SPECIES, 11).sub(rests).blend(0, rests.compare(VectorOperators.LT, 2));
+    }
+
+}
@@ -0,0 +1,34 @@
+package io.github.felseje.internal.bulk;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * A sequential source of blocks of whole lines, read one after the other from a file or a stream.
+ *
+ * <p>Every block starts at the beginning of a line and ends right after a line break, or at the end of the data, so
+ * blocks can be processed independently. Sources are not thread-safe; a {@link BlockSpliterator} reads them from
+ * one thread at a time.</p>
+ *
+ * @author felseje
+ * @since 1.0.0-alpha
+ */
+public interface BlockSource extends Closeable {
+
+    /**
+     * Reads the next block.
+     *
+     * @return the next block, indexed from {@code 0} up to its limit, or {@code null} at the end of the data.
+     * @throws IOException if the data cannot be read.
+     */
+    ByteBuffer next() throws IOException;
+
+    /**
+     * Returns the offset of the block last returned by {@link #next()} in the data.
+     *
+     * @return the offset of the first byte of the last block.
+     */
+    long start();
+
+}
@@ -0,0 +1,105 @@
+package io.github.felseje.internal.bulk;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Spliterator over the outcomes of processing the blocks of a {@link BlockSource}, in order.
+ *
+ * <p>Blocks are read sequentially, by whichever thread holds the spliterator over the source. Splitting reads the
+ * next block and hands it to a new spliterator that processes it where it is traversed, so a parallel stream keeps
+ * one thread reading, or inflating, while other threads process the blocks already read.</p>
+ *
+ * <p>The source is closed once exhausted. Read failures are rethrown as {@link UncheckedIOException}.</p>
+ *
+ * @param <T> the type of the outcome of a block.
+ * @author felseje
+ * @since 1.0.0-alpha
+ */
+public final class BlockSpliterator<T> implements Spliterator<T> {
+
+    private static final int CHARACTERISTICS = ORDERED | NONNULL | IMMUTABLE;
+
+    private final MappedLines.ChunkScanner<T> scanner;
+    private BlockSource source;
+    private ByteBuffer block;
+    private long start;
+
+    /**
+     * Constructs a spliterator over every block of a source.
+     *
+     * @param source  the source of blocks.
+     * @param scanner the processor of each block.
+     */
+    public BlockSpliterator(BlockSource source, MappedLines.ChunkScanner<T> scanner) {
+        this.source = source;
+        this.scanner = scanner;
+    }
+
+    private BlockSpliterator(final ByteBuffer block, final long start, final MappedLines.ChunkScanner<T> scanner) {
+        this.block = block;
+        this.start = start;
+        this.scanner = scanner;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (block == null && !read()) {
+            return false;
+        }
+        final var current = block;
+        block = null;
+        action.accept(scanner.scan(current, start));
+        return true;
+    }
+
+    /**
+     * Splits off the next block, read now but processed by the returned spliterator.
+     *
+     * @return the spliterator over the next block, or {@code null} if no block is left.
+     */
+    @Override
+    public Spliterator<T> trySplit() {
+        if (source == null || block == null && !read()) {
+            return null;
+        }
+        final var prefix = new BlockSpliterator<>(block, start, scanner);
+        block = null;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        if (source != null) {
+            return Long.MAX_VALUE;
+        }
+        return block == null ? 0 : 1;
+    }
+
+    @Override
+    public int characteristics() {
+        return CHARACTERISTICS;
+    }
+
+    private boolean read() {
+        if (source == null) {
+            return false;
+        }
+        try {
+            block = source.next();
+            if (block == null) {
+                source.close();
+                source = null;
+                return false;
+            }
+            start = source.start();
+            return true;
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+}
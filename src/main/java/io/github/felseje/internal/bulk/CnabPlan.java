@@ -0,0 +1,292 @@
+package io.github.felseje.internal.bulk;
+
+import io.github.felseje.spi.ValidationEngine;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * A compiled CNAB layout, checking the document fields of a fixed-width record in place.
+ *
+ * <p>Each field is selected by the record type, and optionally the segment, found at fixed positions of the record.
+ * Its document-type flag is read as a number: {@code 1} dispatches the zero-padded number to the CPF check digits,
+ * {@code 2} to the CNPJ ones, and {@code 0} or blanks mean that no document is informed. Any other flag, a padding
+ * other than zeros, or wrong check digits make the field invalid.</p>
+ *
+ * <p>Instances are immutable and thread-safe.</p>
+ *
+ * @author felseje
+ * @since 1.0.0-alpha
+ */
+public final class CnabPlan {
+
+    /**
+     * The mask bit reporting a record whose length does not match the layout.
+     */
+    public static final int MALFORMED = Integer.MIN_VALUE;
+
+    /**
+     * The position standing for no segment.
+     */
+    public static final int NO_SEGMENT = -1;
+
+    /**
+     * The segment code of a field read from records of any segment.
+     */
+    public static final byte ANY_SEGMENT = 0;
+
+    private static final int CPF_FLAG = 1;
+    private static final int CNPJ_FLAG = 2;
+    private static final int CPF_LENGTH = 11;
+    private static final int CNPJ_LENGTH = 14;
+
+    private final ValidationEngine engine;
+    private final int recordLength;
+    private final int recordTypeIndex;
+    private final int segmentIndex;
+    private final byte[] recordTypes;
+    private final byte[] segments;
+    private final int[] flagIndexes;
+    private final int[] flagWidths;
+    private final int[] numberIndexes;
+    private final int[] numberWidths;
+
+    /**
+     * Compiles a plan. Indexes are zero-based; field arrays are indexed by field, in declaration order.
+     *
+     * @param engine          the engine validating each document.
+     * @param recordLength    the length of every record, line break excluded.
+     * @param recordTypeIndex the index of the record type.
+     * @param segmentIndex    the index of the segment code, or {@link #NO_SEGMENT}.
+     * @param recordTypes     the record type of each field.
+     * @param segments        the segment code of each field, or {@link #ANY_SEGMENT}.
+     * @param flagIndexes     the index of the document-type flag of each field.
+     * @param flagWidths      the width of the document-type flag of each field.
+     * @param numberIndexes   the index of the document number of each field.
+     * @param numberWidths    the width of the document number of each field.
+     */
+    public CnabPlan(ValidationEngine engine, int recordLength, int recordTypeIndex, int segmentIndex,
+                    byte[] recordTypes, byte[] segments, int[] flagIndexes, int[] flagWidths, int[] numberIndexes,
+                    int[] numberWidths) {
+        this.engine = engine;
+        this.recordLength = recordLength;
+        this.recordTypeIndex = recordTypeIndex;
+        this.segmentIndex = segmentIndex;
+        this.recordTypes = recordTypes.clone();
+        this.segments = segments.clone();
+        this.flagIndexes = flagIndexes.clone();
+        this.flagWidths = flagWidths.clone();
+        this.numberIndexes = numberIndexes.clone();
+        this.numberWidths = numberWidths.clone();
+    }
+
+    /**
+     * Checks the document fields of a record.
+     *
+     * @param record the buffer holding the record.
+     * @param offset the absolute index of the first byte of the record.
+     * @param length the number of bytes of the record, line break excluded.
+     * @return the mask of the invalid fields, bit {@code i} standing for field {@code i}; {@link #MALFORMED} if the
+     * record length does not match the layout; {@code 0} if every field of the record is valid.
+     */
+    public int check(ByteBuffer record, int offset, int length) {
+        if (length != recordLength) {
+            return MALFORMED;
+        }
+        final var recordType = record.get(offset + recordTypeIndex);
+        final var segment = segmentIndex == NO_SEGMENT ? 0 : record.get(offset + segmentIndex);
+        var invalid = 0;
+        for (int field = 0; field < recordTypes.length; field++) {
+            if (recordTypes[field] == recordType && (segments[field] == ANY_SEGMENT || segments[field] == segment)
+                    && !isValid(record, offset, field)) {
+                invalid |= 1 << field;
+            }
+        }
+        return invalid;
+    }
+
+    /**
+     * Returns the segment code of a record, as reported for invalid records.
+     *
+     * @param record the buffer holding the record.
+     * @param offset the absolute index of the first byte of the record.
+     * @param length the number of bytes of the record.
+     * @return the segment code, or {@code 0} if the layout has no segment or the record is too short.
+     */
+    public byte segmentOf(ByteBuffer record, int offset, int length) {
+        return segmentIndex == NO_SEGMENT || segmentIndex >= length ? 0 : record.get(offset + segmentIndex);
+    }
+
+    /**
+     * Returns the record type of a record, as reported for invalid records.
+     *
+     * @param record the buffer holding the record.
+     * @param offset the absolute index of the first byte of the record.
+     * @param length the number of bytes of the record.
+     * @return the record type, or {@code 0} if the record is too short.
+     */
+    public byte recordTypeOf(ByteBuffer record, int offset, int length) {
+        return recordTypeIndex >= length ? 0 : record.get(offset + recordTypeIndex);
+    }
+
+    /**
+     * Checks every record of a mapped chunk, one record per line; blank lines are skipped.
+     *
+     * @param buffer the mapped chunk.
+     * @return the outcome of the chunk.
+     */
+    public Chunk scan(ByteBuffer buffer) {
+        final var chunk = new Chunk();
+        MappedLines.forEachLine(buffer, buffer.limit(), (offset, length) -> {
+            final var line = chunk.lines++;
+            if (length == 0) {
+                return;
+            }
+            chunk.records++;
+            final var invalid = check(buffer, offset, length);
+            if (invalid != 0) {
+                chunk.add(line, invalid, recordTypeOf(buffer, offset, length), segmentOf(buffer, offset, length));
+            }
+        });
+        return chunk;
+    }
+
+    private boolean isValid(final ByteBuffer record, final int offset, final int field) {
+        final var flagStart = offset + flagIndexes[field];
+        var flag = 0;
+        var blank = true;
+        for (int i = flagStart, end = flagStart + flagWidths[field]; i < end; i++) {
+            final var character = record.get(i);
+            if (character == ' ') {
+                continue;
+            }
+            if (character < '0' || character > '9') {
+                return false;
+            }
+            blank = false;
+            flag = flag * 10 + character - '0';
+        }
+        if (blank || flag == 0) {
+            return true;
+        }
+        final var documentLength = switch (flag) {
+            case CPF_FLAG -> CPF_LENGTH;
+            case CNPJ_FLAG -> CNPJ_LENGTH;
+            default -> -1;
+        };
+        final var width = numberWidths[field];
+        if (documentLength < 0 || width < documentLength) {
+            return false;
+        }
+        final var numberStart = offset + numberIndexes[field];
+        final var documentStart = numberStart + width - documentLength;
+        for (int i = numberStart; i < documentStart; i++) {
+            if (record.get(i) != '0') {
+                return false;
+            }
+        }
+        return flag == CPF_FLAG
+                ? engine.isValidCpf(record, documentStart, documentLength)
+                : engine.isValidCnpj(record, documentStart, documentLength);
+    }
+
+    /**
+     * The outcome of checking the records of one chunk: line and record counts and the invalid records, with lines
+     * counted from the start of the chunk.
+     */
+    public static final class Chunk {
+
+        private static final int INITIAL_CAPACITY = 16;
+
+        private long lines;
+        private long records;
+        private long[] invalidLines = new long[INITIAL_CAPACITY];
+        private int[] invalidFields = new int[INITIAL_CAPACITY];
+        private byte[] recordTypes = new byte[INITIAL_CAPACITY];
+        private byte[] segments = new byte[INITIAL_CAPACITY];
+        private int invalidCount;
+
+        private void add(final long line, final int fields, final byte recordType, final byte segment) {
+            if (invalidCount == invalidLines.length) {
+                final var capacity = invalidCount << 1;
+                invalidLines = Arrays.copyOf(invalidLines, capacity);
+                invalidFields = Arrays.copyOf(invalidFields, capacity);
+                recordTypes = Arrays.copyOf(recordTypes, capacity);
+                segments = Arrays.copyOf(segments, capacity);
+            }
+            invalidLines[invalidCount] = line;
+            invalidFields[invalidCount] = fields;
+            recordTypes[invalidCount] = recordType;
+            segments[invalidCount++] = segment;
+        }
+
+        /**
+         * Returns the number of lines of the chunk.
+         *
+         * @return the number of lines, blank ones included.
+         */
+        public long lines() {
+            return lines;
+        }
+
+        /**
+         * Returns the number of records of the chunk.
+         *
+         * @return the number of non-blank lines.
+         */
+        public long records() {
+            return records;
+        }
+
+        /**
+         * Returns the number of invalid records of the chunk.
+         *
+         * @return the number of invalid records.
+         */
+        public int invalidCount() {
+            return invalidCount;
+        }
+
+        /**
+         * Returns the line of an invalid record, counted from the start of the chunk.
+         *
+         * @param index the index of the invalid record among the invalid records of the chunk.
+         * @return the zero-based line of the record in the chunk.
+         */
+        public long invalidLine(int index) {
+            return invalidLines[index];
+        }
+
+        /**
+         * Returns the invalid fields of an invalid record.
+         *
+         * @param index the index of the invalid record among the invalid records of the chunk.
+         * @return the mask of the invalid fields, or {@link #MALFORMED}.
+         */
+        public int invalidFields(int index) {
+            return invalidFields[index];
+        }
+
+        /**
+         * Returns the record type of an invalid record.
+         *
+         * @param index the index of the invalid record among the invalid records of the chunk.
+         * @return the record type byte.
+         */
+        public byte recordType(int index) {
+            return recordTypes[index];
+        }
+
+        /**
+         * Returns the segment code of an invalid record.
+         *
+         * @param index the index of the invalid record among the invalid records of the chunk.
+         * @return the segment code byte, or {@code 0} without segment.
+         */
+        public byte segment(int index) {
+            return segments[index];
+        }
+
+    }
+
+}
@@ -0,0 +1,142 @@
+package io.github.felseje.internal.bulk;
+
+import io.github.felseje.internal.batch.BatchDocument;
+import io.github.felseje.spi.ValidationEngine;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.function.LongConsumer;
+
+/**
+ * Spliterator over the file offsets of the invalid lines of a range of a file, in ascending order.
+ *
+ * <p>Lines are validated lazily, one mapped chunk at a time, with {@link MappedLines#scan}. Splitting cuts the range
+ * not yet mapped at a line start and hands the first half to a new spliterator, so a parallel stream validates
+ * disjoint parts of the file on different threads.</p>
+ *
+ * <p>Read failures are rethrown as {@link UncheckedIOException}.</p>
+ *
+ * @author felseje
+ * @since 1.0.0-alpha
+ */
+public final class InvalidLineSpliterator implements Spliterator.OfLong {
+
+    private static final int CHARACTERISTICS = ORDERED | SORTED | DISTINCT | NONNULL | IMMUTABLE;
+
+    private final BatchDocument document;
+    private final ValidationEngine engine;
+    private final FileChannel channel;
+    private final long chunkSize;
+    private long position;
+    private long end;
+    private MappedLines.Chunk chunk;
+    private int cursor;
+
+    /**
+     * Constructs a spliterator over a range of a file.
+     *
+     * @param document  the document expected on every line.
+     * @param engine    the engine validating each line.
+     * @param channel   the file channel.
+     * @param chunkSize the nominal size of the chunks mapped at a time.
+     * @param position  the start of the range, at the beginning of a line.
+     * @param end       the end of the range, right after a line break or at the end of the file.
+     */
+    public InvalidLineSpliterator(BatchDocument document, ValidationEngine engine, FileChannel channel,
+                                  long chunkSize, long position, long end) {
+        this.document = document;
+        this.engine = engine;
+        this.channel = channel;
+        this.chunkSize = chunkSize;
+        this.position = position;
+        this.end = end;
+    }
+
+    @Override
+    public boolean tryAdvance(LongConsumer action) {
+        while (chunk == null || cursor == chunk.invalidCount()) {
+            if (position >= end) {
+                return false;
+            }
+            nextChunk();
+        }
+        action.accept(chunk.invalidOffset(cursor++));
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(LongConsumer action) {
+        while (true) {
+            if (chunk != null) {
+                while (cursor < chunk.invalidCount()) {
+                    action.accept(chunk.invalidOffset(cursor++));
+                }
+            }
+            if (position >= end) {
+                return;
+            }
+            nextChunk();
+        }
+    }
+
+    /**
+     * Splits off the prefix of the range, including any chunk already validated, and keeps the suffix.
+     *
+     * <p>An ordered spliterator must hand out its prefix, so that encounter order is kept across splits.</p>
+     *
+     * @return the spliterator over the prefix, or {@code null} if the range is too small to split.
+     */
+    @Override
+    public Spliterator.OfLong trySplit() {
+        final var remaining = end - position;
+        if (remaining < 2 * chunkSize) {
+            return null;
+        }
+        try {
+            final var middle = MappedLines.nextLineStart(channel, position + remaining / 2, end);
+            if (middle >= end) {
+                return null;
+            }
+            final var prefix = new InvalidLineSpliterator(document, engine, channel, chunkSize, position, middle);
+            prefix.chunk = chunk;
+            prefix.cursor = cursor;
+            position = middle;
+            chunk = null;
+            cursor = 0;
+            return prefix;
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    @Override
+    public long estimateSize() {
+        final var pending = chunk == null ? 0 : chunk.invalidCount() - cursor;
+        return pending + (end - position);
+    }
+
+    @Override
+    public int characteristics() {
+        return CHARACTERISTICS;
+    }
+
+    @Override
+    public Comparator<? super Long> getComparator() {
+        return null;
+    }
+
+    private void nextChunk() {
+        try {
+            final var next = MappedLines.nextLineStart(channel, Math.min(end, position + chunkSize), end);
+            chunk = MappedLines.scan(document, engine, channel, position, next);
+            cursor = 0;
+            position = next;
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+}
@@ -0,0 +1,59 @@
+package io.github.felseje.internal.bulk;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * A {@link BlockSource} mapping a file read-only, one chunk at a time, with chunks cut at line starts by
+ * {@link MappedLines#nextLineStart}.
+ *
+ * <p>Closing the source leaves the channel open; its owner closes it.</p>
+ *
+ * @author felseje
+ * @since 1.0.0-alpha
+ */
+public final class MappedBlockSource implements BlockSource {
+
+    private final FileChannel channel;
+    private final long size;
+    private final long chunkSize;
+    private long position;
+    private long start;
+
+    /**
+     * Constructs a source over the first bytes of a file.
+     *
+     * @param channel   the file channel.
+     * @param size      the number of bytes of the file to read.
+     * @param chunkSize the nominal size of the mapped chunks.
+     */
+    public MappedBlockSource(FileChannel channel, long size, long chunkSize) {
+        this.channel = channel;
+        this.size = size;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public ByteBuffer next() throws IOException {
+        if (position >= size) {
+            return null;
+        }
+        final var end = MappedLines.nextLineStart(channel, Math.min(size, position + chunkSize), size);
+        final var block = MappedLines.map(channel, position, end);
+        start = position;
+        position = end;
+        return block;
+    }
+
+    @Override
+    public long start() {
+        return start;
+    }
+
+    @Override
+    public void close() {
+        position = size;
+    }
+
+}
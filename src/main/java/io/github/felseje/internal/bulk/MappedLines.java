@@ -0,0 +1,357 @@
+package io.github.felseje.internal.bulk;
+
+import io.github.felseje.internal.batch.BatchDocument;
+import io.github.felseje.internal.util.Swar;
+import io.github.felseje.spi.ValidationEngine;
+
+import java.io.IOException;
+import java.io.Serial;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.LongStream;
+
+import static io.github.felseje.internal.Constants.NOT_ALLOWED_INSTANTIATION_ERROR;
+
+/**
+ * Utility class for processing the lines of a file through memory-mapped chunks.
+ *
+ * <p>A file is processed in chunks that always start at the beginning of a line and end right after a line break (or
+ * at the end of the file), so that chunks are independent and can be validated by different threads. Each chunk is
+ * mapped read-only, line breaks are located a word at a time with {@link Swar#indexOf}, and every line is processed
+ * in place in the mapped bytes; no line is ever copied or decoded.</p>
+ *
+ * <p>A line ends at {@code '\n'}; a {@code '\r'} right before it is not part of the line. A final line without a
+ * line break is still a line, but a file ending with a line break has no empty line after it.</p>
+ *
+ * <p>This class is final and cannot be instantiated.</p>
+ *
+ * @author felseje
+ * @since 1.0.0-alpha
+ */
+public final class MappedLines {
+
+    private static final byte LINE_FEED = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+    private static final int PROBE_SIZE = 4096;
+    private static final long MIN_CHUNK_SIZE = 1L << 20;
+    private static final long MAX_CHUNK_SIZE = 64L << 20;
+    private static final int CHUNKS_PER_WORKER = 4;
+
+    /**
+     * Prevents instantiation of this utility class.
+     *
+     * @throws IllegalStateException always thrown to indicate this class should not be instantiated
+     */
+    private MappedLines() {
+        throw new IllegalStateException(NOT_ALLOWED_INSTANTIATION_ERROR);
+    }
+
+    /**
+     * Returns the nominal chunk size for a file, giving each worker a few chunks to balance their load.
+     *
+     * @param size        the file size.
+     * @param parallelism the number of workers.
+     * @return the nominal chunk size, between 1 MiB and 64 MiB.
+     */
+    public static long chunkSizeFor(long size, int parallelism) {
+        final var share = size / ((long) Math.max(1, parallelism) * CHUNKS_PER_WORKER);
+        return Math.max(MIN_CHUNK_SIZE, Math.min(MAX_CHUNK_SIZE, share));
+    }
+
+    /**
+     * Finds the start of the first line beginning at or after a position.
+     *
+     * @param channel  the file channel, read with absolute reads only.
+     * @param position the position to start from.
+     * @param end      the position where the search stops; either the file size or the start of a line.
+     * @return {@code position} if a line starts there, the start of the next line otherwise, or {@code end} if no
+     * line starts before it.
+     * @throws IOException if the file cannot be read.
+     */
+    public static long nextLineStart(FileChannel channel, long position, long end) throws IOException {
+        if (position <= 0) {
+            return 0;
+        }
+        if (position >= end) {
+            return end;
+        }
+        final var probe = ByteBuffer.allocate(PROBE_SIZE);
+        var from = position - 1;
+        while (from < end) {
+            probe.clear().limit((int) Math.min(PROBE_SIZE, end - from));
+            final var read = channel.read(probe, from);
+            if (read <= 0) {
+                break;
+            }
+            final var found = Swar.indexOf(probe, 0, read, LINE_FEED);
+            if (found >= 0) {
+                return from + found + 1;
+            }
+            from += read;
+        }
+        return end;
+    }
+
+    /**
+     * Splits a file into chunks at line boundaries and processes them, in parallel when worthwhile.
+     *
+     * <p>Files of a single chunk, or runs on a single-threaded common pool, are processed in the calling thread;
+     * otherwise chunks are processed on the common {@link ForkJoinPool}.</p>
+     *
+     * @param channel the file channel.
+     * @param size    the number of bytes of the file to process.
+     * @param scanner the chunk processor.
+     * @param <T>     the type of the outcome of a chunk.
+     * @return the outcome of every chunk, in file order.
+     * @throws IOException if the file cannot be read or mapped.
+     */
+    public static <T> List<T> scanChunks(FileChannel channel, long size, ChunkScanner<T> scanner) throws IOException {
+        final var parallelism = ForkJoinPool.getCommonPoolParallelism();
+        final var chunkSize = chunkSizeFor(size, parallelism);
+        final var boundaries = LongStream.builder().add(0L);
+        for (long start = 0; start < size; ) {
+            start = nextLineStart(channel, Math.min(size, start + chunkSize), size);
+            boundaries.add(start);
+        }
+        final var bounds = boundaries.build().toArray();
+        final var outcomes = new Object[bounds.length - 1];
+        if (outcomes.length < 2 || parallelism < 2) {
+            for (int index = 0; index < outcomes.length; index++) {
+                outcomes[index] = scanner.scan(map(channel, bounds[index], bounds[index + 1]), bounds[index]);
+            }
+        } else {
+            try {
+                new ChunkTask(channel, scanner, bounds, outcomes, 0, outcomes.length).invoke();
+            } catch (UncheckedIOException exception) {
+                throw exception.getCause();
+            }
+        }
+        @SuppressWarnings("unchecked") final var list = (List<T>) Arrays.asList(outcomes);
+        return list;
+    }
+
+    /**
+     * Maps a chunk of a file read-only.
+     *
+     * @param channel the file channel.
+     * @param start   the start of the chunk.
+     * @param end     the end of the chunk.
+     * @return the mapped chunk, indexed from {@code 0}.
+     * @throws IOException if the chunk is larger than a single mapping allows, or the file cannot be mapped.
+     */
+    public static ByteBuffer map(FileChannel channel, long start, long end) throws IOException {
+        if (end - start > Integer.MAX_VALUE) {
+            throw new IOException("A line starting before offset " + end + " is longer than a mapped region allows");
+        }
+        return channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+    }
+
+    /**
+     * Calls a handler for every line of a mapped chunk, in order.
+     *
+     * @param buffer  the mapped chunk.
+     * @param limit   the number of bytes of the chunk.
+     * @param handler the handler receiving the start and length of each line, line break excluded.
+     */
+    public static void forEachLine(ByteBuffer buffer, int limit, LineHandler handler) {
+        var lineStart = 0;
+        while (lineStart < limit) {
+            final var lineFeed = Swar.indexOf(buffer, lineStart, limit, LINE_FEED);
+            final var lineEnd = lineFeed < 0 ? limit : lineFeed;
+            final var contentEnd = lineEnd > lineStart && buffer.get(lineEnd - 1) == CARRIAGE_RETURN
+                    ? lineEnd - 1
+                    : lineEnd;
+            handler.accept(lineStart, contentEnd - lineStart);
+            lineStart = lineEnd + 1;
+        }
+    }
+
+    /**
+     * Maps a chunk of a file and validates each of its lines.
+     *
+     * @param document the document expected on every line.
+     * @param engine   the engine validating each line.
+     * @param channel  the file channel.
+     * @param start    the start of the chunk, at the beginning of a line.
+     * @param end      the end of the chunk, right after a line break or at the end of the file.
+     * @return the lines, valid lines and offsets of the invalid lines of the chunk.
+     * @throws IOException if the chunk is larger than a single mapping allows, or the file cannot be mapped.
+     */
+    public static Chunk scan(BatchDocument document, ValidationEngine engine, FileChannel channel, long start, long end)
+            throws IOException {
+        return start >= end ? new Chunk() : scan(document, engine, map(channel, start, end), start);
+    }
+
+    /**
+     * Validates each line of a mapped chunk.
+     *
+     * @param document the document expected on every line.
+     * @param engine   the engine validating each line.
+     * @param buffer   the mapped chunk.
+     * @param start    the file offset of the chunk.
+     * @return the lines, valid lines and offsets of the invalid lines of the chunk.
+     */
+    public static Chunk scan(BatchDocument document, ValidationEngine engine, ByteBuffer buffer, long start) {
+        final var chunk = new Chunk();
+        forEachLine(buffer, buffer.limit(), (offset, length) ->
+                chunk.add(start + offset, document.isValid(engine, buffer, offset, length)));
+        return chunk;
+    }
+
+    /**
+     * Receives the lines of a chunk.
+     */
+    @FunctionalInterface
+    public interface LineHandler {
+
+        /**
+         * Handles one line.
+         *
+         * @param offset the index of the first byte of the line in the chunk.
+         * @param length the number of bytes of the line, line break excluded.
+         */
+        void accept(int offset, int length);
+
+    }
+
+    /**
+     * Processes one mapped chunk of a file.
+     *
+     * @param <T> the type of the outcome of a chunk.
+     */
+    @FunctionalInterface
+    public interface ChunkScanner<T> {
+
+        /**
+         * Processes one chunk.
+         *
+         * @param buffer the mapped chunk, starting at a line start and ending after a line break or at the end of the
+         *               file.
+         * @param start  the file offset of the chunk.
+         * @return the outcome of the chunk.
+         */
+        T scan(ByteBuffer buffer, long start);
+
+    }
+
+    /**
+     * Processes a range of chunks, splitting it in two halves down to a single chunk per task.
+     */
+    private static final class ChunkTask extends RecursiveAction {
+
+        @Serial
+        private static final long serialVersionUID = 2907461853927104638L;
+
+        private final transient FileChannel channel;
+        private final transient ChunkScanner<?> scanner;
+        private final long[] bounds;
+        private final transient Object[] outcomes;
+        private final int from;
+        private final int to;
+
+        private ChunkTask(final FileChannel channel, final ChunkScanner<?> scanner, final long[] bounds,
+                          final Object[] outcomes, final int from, final int to) {
+            this.channel = channel;
+            this.scanner = scanner;
+            this.bounds = bounds;
+            this.outcomes = outcomes;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                final var middle = (from + to) >>> 1;
+                invokeAll(new ChunkTask(channel, scanner, bounds, outcomes, from, middle),
+                        new ChunkTask(channel, scanner, bounds, outcomes, middle, to));
+                return;
+            }
+            try {
+                outcomes[from] = scanner.scan(map(channel, bounds[from], bounds[to]), bounds[from]);
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+        }
+
+    }
+
+    /**
+     * The outcome of validating the lines of one chunk.
+     */
+    public static final class Chunk {
+
+        private static final int INITIAL_CAPACITY = 16;
+
+        private long lines;
+        private long validLines;
+        private long[] invalidOffsets = new long[INITIAL_CAPACITY];
+        private int invalidCount;
+
+        void add(final long offset, final boolean valid) {
+            lines++;
+            if (valid) {
+                validLines++;
+                return;
+            }
+            if (invalidCount == invalidOffsets.length) {
+                invalidOffsets = Arrays.copyOf(invalidOffsets, invalidCount << 1);
+            }
+            invalidOffsets[invalidCount++] = offset;
+        }
+
+        /**
+         * Returns the number of lines of the chunk.
+         *
+         * @return the number of lines.
+         */
+        public long lines() {
+            return lines;
+        }
+
+        /**
+         * Returns the number of valid lines of the chunk.
+         *
+         * @return the number of valid lines.
+         */
+        public long validLines() {
+            return validLines;
+        }
+
+        /**
+         * Returns the number of invalid lines of the chunk.
+         *
+         * @return the number of invalid lines.
+         */
+        public int invalidCount() {
+            return invalidCount;
+        }
+
+        /**
+         * Returns the file offset of an invalid line of the chunk.
+         *
+         * @param index the index of the invalid line among the invalid lines of the chunk.
+         * @return the offset of the first byte of the line.
+         */
+        public long invalidOffset(int index) {
+            return invalidOffsets[index];
+        }
+
+        /**
+         * Copies the file offsets of the invalid lines into an array.
+         *
+         * @param target the target array.
+         * @param at     the index of the target array receiving the first offset.
+         */
+        public void copyInvalidOffsets(long[] target, int at) {
+            System.arraycopy(invalidOffsets, 0, target, at, invalidCount);
+        }
+
+    }
+
+}
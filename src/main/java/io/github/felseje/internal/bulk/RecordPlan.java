@@ -0,0 +1,312 @@
+package io.github.felseje.internal.bulk;
+
+import io.github.felseje.internal.cnpj.validation.CnpjScanner;
+import io.github.felseje.internal.util.ByteUtils;
+import io.github.felseje.internal.util.Swar;
+import io.github.felseje.spi.ValidationEngine;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * A compiled record layout, validating every document field of a delimited record in a single pass over its bytes.
+ *
+ * <p>Fields are located a word at a time with {@link Swar#indexOf}: the walk jumps from delimiter to delimiter, or
+ * from quote to quote inside a quoted field, and each document field is validated in place by the engine, without
+ * splitting the record or copying any field. The walk stops right after the last document field.</p>
+ *
+ * <p>A quoted field starts with the quote character and ends at the next quote not doubled; its content between the
+ * quotes is validated. A quoted field with bytes between its closing quote and the next delimiter, or without a
+ * closing quote, is invalid. Missing and empty fields are invalid. Line breaks inside quoted fields are not
+ * supported, as records are located by line first.</p>
+ *
+ * <p>Instances are immutable and thread-safe.</p>
+ *
+ * @author felseje
+ * @since 1.0.0-alpha
+ */
+public final class RecordPlan {
+
+    /**
+     * A field holding a CPF.
+     */
+    public static final byte CPF = 0;
+
+    /**
+     * A field holding a numeric or alphanumeric CNPJ.
+     */
+    public static final byte CNPJ = 1;
+
+    /**
+     * A field holding a numeric CNPJ.
+     */
+    public static final byte CNPJ_NUMERIC = 2;
+
+    /**
+     * A field holding a CPF or a numeric or alphanumeric CNPJ.
+     */
+    public static final byte CPF_OR_CNPJ = 3;
+
+    /**
+     * Marks a plan whose fields are never quoted.
+     */
+    public static final int NO_QUOTE = -1;
+
+    private final ValidationEngine engine;
+    private final byte delimiter;
+    private final int quote;
+    private final int[] fields;
+    private final byte[] kinds;
+    private final int[] bits;
+
+    /**
+     * Compiles a plan.
+     *
+     * @param engine    the engine validating each document field.
+     * @param delimiter the ASCII field delimiter.
+     * @param quote     the ASCII quote character, or {@link #NO_QUOTE}.
+     * @param fields    the zero-based index of each document field, in declaration order, without duplicates.
+     * @param kinds     the kind of each document field, in declaration order.
+     */
+    public RecordPlan(ValidationEngine engine, byte delimiter, int quote, int[] fields, byte[] kinds) {
+        this.engine = engine;
+        this.delimiter = delimiter;
+        this.quote = quote;
+        final var order = new Integer[fields.length];
+        Arrays.setAll(order, index -> index);
+        Arrays.sort(order, (left, right) -> Integer.compare(fields[left], fields[right]));
+        this.fields = new int[fields.length];
+        this.kinds = new byte[fields.length];
+        this.bits = new int[fields.length];
+        for (int index = 0; index < order.length; index++) {
+            this.fields[index] = fields[order[index]];
+            this.kinds[index] = kinds[order[index]];
+            this.bits[index] = order[index];
+        }
+    }
+
+    /**
+     * Returns the number of document fields of the plan.
+     *
+     * @return the number of document fields, which is also the number of meaningful bits of a record mask.
+     */
+    public int columns() {
+        return fields.length;
+    }
+
+    /**
+     * Validates the document fields of a record.
+     *
+     * @param record the buffer holding the record.
+     * @param offset the absolute index of the first byte of the record.
+     * @param length the number of bytes of the record, line break excluded.
+     * @return the record mask, whose bit {@code i} is set if the {@code i}-th declared document field is valid.
+     * @throws IndexOutOfBoundsException if the region is out of the buffer limit.
+     */
+    public long validate(ByteBuffer record, int offset, int length) throws IndexOutOfBoundsException {
+        ByteUtils.checkRegion(record, offset, length);
+        final var end = offset + length;
+        var mask = 0L;
+        var field = 0;
+        var next = 0;
+        var position = offset;
+        while (next < fields.length) {
+            var valueStart = position;
+            var valueEnd = end;
+            var fieldEnd = end;
+            var wellFormed = true;
+            if (quote != NO_QUOTE && position < end && record.get(position) == quote) {
+                valueStart = position + 1;
+                var closing = Swar.indexOf(record, valueStart, end, (byte) quote);
+                while (closing >= 0 && closing + 1 < end && record.get(closing + 1) == quote) {
+                    closing = Swar.indexOf(record, closing + 2, end, (byte) quote);
+                }
+                if (closing < 0) {
+                    wellFormed = false;
+                } else {
+                    valueEnd = closing;
+                    final var delimiterAt = Swar.indexOf(record, closing + 1, end, delimiter);
+                    fieldEnd = delimiterAt < 0 ? end : delimiterAt;
+                    wellFormed = fieldEnd == closing + 1;
+                }
+            } else {
+                final var delimiterAt = Swar.indexOf(record, position, end, delimiter);
+                fieldEnd = delimiterAt < 0 ? end : delimiterAt;
+                valueEnd = fieldEnd;
+            }
+            if (field == fields[next]) {
+                if (wellFormed && valueEnd > valueStart
+                        && isValid(kinds[next], record, valueStart, valueEnd - valueStart)) {
+                    mask |= 1L << bits[next];
+                }
+                next++;
+            }
+            if (fieldEnd >= end) {
+                break;
+            }
+            field++;
+            position = fieldEnd + 1;
+        }
+        return mask;
+    }
+
+    /**
+     * Validates every record of a mapped chunk, one record per line.
+     *
+     * @param buffer the mapped chunk.
+     * @return the masks of the records of the chunk.
+     */
+    public Records scan(ByteBuffer buffer) {
+        final var records = new Records(fields.length);
+        MappedLines.forEachLine(buffer, buffer.limit(), (offset, length) ->
+                records.add(validate(buffer, offset, length)));
+        return records;
+    }
+
+    private boolean isValid(final byte kind, final ByteBuffer record, final int offset, final int length) {
+        return switch (kind) {
+            case CPF -> engine.isValidCpf(record, offset, length);
+            case CNPJ -> engine.isValidCnpj(record, offset, length);
+            case CNPJ_NUMERIC -> {
+                final var result = CnpjScanner.scanLenient(record, offset, length);
+                yield CnpjScanner.isValid(result) && (result & CnpjScanner.NUMERIC) != 0;
+            }
+            default -> engine.isValidCpf(record, offset, length) || engine.isValidCnpj(record, offset, length);
+        };
+    }
+
+    /**
+     * The masks of a sequence of records, stored column by column: bit {@code r % 64} of word {@code r / 64} of a
+     * column tells whether the field of record {@code r} is valid.
+     */
+    public static final class Records {
+
+        private static final int INITIAL_WORDS = 16;
+
+        private final long[][] masks;
+        private final long[] validCounts;
+        private long count;
+
+        private Records(final int columns) {
+            this(columns, INITIAL_WORDS);
+        }
+
+        private Records(final int columns, final int words) {
+            masks = new long[columns][words];
+            validCounts = new long[columns];
+        }
+
+        /**
+         * Concatenates the records of consecutive chunks, in order.
+         *
+         * @param columns the number of document fields.
+         * @param chunks  the records of each chunk.
+         * @return the records of every chunk.
+         * @throws ArithmeticException if there are too many records to index their masks.
+         */
+        public static Records concat(int columns, Iterable<Records> chunks) throws ArithmeticException {
+            long total = 0;
+            for (final var chunk : chunks) {
+                total += chunk.count;
+            }
+            final var merged = new Records(columns, wordsFor(total));
+            for (final var chunk : chunks) {
+                merged.append(chunk);
+            }
+            return merged;
+        }
+
+        private static int wordsFor(final long count) {
+            return Math.toIntExact((count + Long.SIZE - 1) >>> 6);
+        }
+
+        private void add(final long mask) {
+            final var word = wordsFor(count + 1) - 1;
+            if (masks.length > 0 && word == masks[0].length) {
+                grow(word);
+            }
+            final var bit = 1L << count;
+            for (int column = 0; column < masks.length; column++) {
+                if ((mask & 1L << column) != 0) {
+                    masks[column][word] |= bit;
+                    validCounts[column]++;
+                }
+            }
+            count++;
+        }
+
+        private void grow(final int word) {
+            for (int column = 0; column < masks.length; column++) {
+                if (word == masks[column].length) {
+                    masks[column] = Arrays.copyOf(masks[column], word << 1);
+                }
+            }
+        }
+
+        private void append(final Records chunk) {
+            final var shift = (int) (count & (Long.SIZE - 1));
+            final var base = (int) (count >>> 6);
+            final var words = wordsFor(chunk.count);
+            for (int column = 0; column < masks.length; column++) {
+                final var source = chunk.masks[column];
+                final var target = masks[column];
+                if (shift == 0) {
+                    System.arraycopy(source, 0, target, base, words);
+                } else {
+                    for (int word = 0; word < words; word++) {
+                        target[base + word] |= source[word] << shift;
+                        if (base + word + 1 < target.length) {
+                            target[base + word + 1] |= source[word] >>> (Long.SIZE - shift);
+                        }
+                    }
+                }
+                validCounts[column] += chunk.validCounts[column];
+            }
+            count += chunk.count;
+        }
+
+        /**
+         * Returns the number of records.
+         *
+         * @return the number of records.
+         */
+        public long count() {
+            return count;
+        }
+
+        /**
+         * Returns the number of document fields of each record.
+         *
+         * @return the number of document fields.
+         */
+        public int columns() {
+            return masks.length;
+        }
+
+        /**
+         * Returns the number of records whose field is valid.
+         *
+         * @param column the index of the document field, in declaration order.
+         * @return the number of valid fields.
+         */
+        public long validCount(int column) {
+            return validCounts[column];
+        }
+
+        /**
+         * Returns the validity mask of a document field, trimmed to the number of records.
+         *
+         * @param column the index of the document field, in declaration order.
+         * @return the mask, owned by these records.
+         */
+        public long[] mask(int column) {
+            final var words = wordsFor(count);
+            if (masks[column].length != words) {
+                masks[column] = Arrays.copyOf(masks[column], words);
+            }
+            return masks[column];
+        }
+
+    }
+
+}
@@ -0,0 +1,159 @@
+package io.github.felseje.internal.bulk;
+
+import io.github.felseje.internal.cnpj.util.CnpjCheckDigitCalculator;
+import io.github.felseje.internal.cnpj.util.CnpjCodec;
+import io.github.felseje.internal.util.Swar;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Decodes rows whose first three fields hold a CNPJ split into root, order and check digits, as in the
+ * Receita Federal open CNPJ dataset ({@code cnpj_basico}, {@code cnpj_ordem} and {@code cnpj_dv}).
+ *
+ * <p>Each row is read in place: the three fields are located with {@link Swar#indexOf}, their characters are packed
+ * into a key as by {@link CnpjCodec} and weighted with {@link CnpjCheckDigitCalculator} in the same pass, and the
+ * rebuilt check digits are compared with the third field. Fields are delimited by {@code ';'} and may be quoted by
+ * {@code '"'}; shorter fields are taken as left-padded with zeros. Later fields are never read, so their encoding
+ * does not matter.</p>
+ *
+ * <p>A row is invalid if a field is missing, empty, longer than its width or holds a character other than an ASCII
+ * digit or uppercase letter (digits only for the check digits), if the check digits do not match, or if all 14
+ * characters are the same.</p>
+ *
+ * @author felseje
+ * @since 1.0.0-alpha
+ */
+public final class SplitCnpjRows {
+
+    private static final byte DELIMITER = ';';
+    private static final byte QUOTE = '"';
+    private static final int ROOT_WIDTH = 8;
+    private static final int ORDER_WIDTH = 4;
+    private static final int CHECK_DIGITS_WIDTH = 2;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final MappedLines.Chunk chunk = new MappedLines.Chunk();
+    private final boolean collectKeys;
+    private long[] keys;
+    private int keyCount;
+
+    private SplitCnpjRows(final boolean collectKeys) {
+        this.collectKeys = collectKeys;
+        this.keys = new long[collectKeys ? INITIAL_CAPACITY : 0];
+    }
+
+    /**
+     * Decodes every row of a block.
+     *
+     * @param block       the block, one row per line.
+     * @param start       the offset of the block in the data.
+     * @param collectKeys whether the keys of the valid rows are kept.
+     * @return the rows of the block.
+     */
+    public static SplitCnpjRows decode(ByteBuffer block, long start, boolean collectKeys) {
+        final var rows = new SplitCnpjRows(collectKeys);
+        MappedLines.forEachLine(block, block.limit(), (offset, length) ->
+                rows.add(start + offset, keyOf(block, offset, length)));
+        return rows;
+    }
+
+    /**
+     * Reads the CNPJ of a row and verifies its check digits.
+     *
+     * @param row    the buffer holding the row.
+     * @param offset the absolute index of the first byte of the row.
+     * @param length the number of bytes of the row, line break excluded.
+     * @return the CNPJ key, or {@link CnpjCodec#INVALID} if the row does not hold a valid CNPJ.
+     */
+    public static long keyOf(ByteBuffer row, int offset, int length) {
+        final var end = offset + length;
+        var position = offset;
+        var key = 0L;
+        var sums = 0;
+        var checkDigits = 0;
+        var index = 0;
+        var first = '0';
+        var same = true;
+        for (int field = 0; field < 3; field++) {
+            var valueStart = position;
+            int valueEnd;
+            int fieldEnd;
+            if (position < end && row.get(position) == QUOTE) {
+                valueStart = position + 1;
+                valueEnd = Swar.indexOf(row, valueStart, end, QUOTE);
+                if (valueEnd < 0) {
+                    return CnpjCodec.INVALID;
+                }
+                fieldEnd = valueEnd + 1;
+            } else {
+                final var delimiter = Swar.indexOf(row, position, end, DELIMITER);
+                valueEnd = delimiter < 0 ? end : delimiter;
+                fieldEnd = valueEnd;
+            }
+            if (fieldEnd < end ? row.get(fieldEnd) != DELIMITER : field < 2) {
+                return CnpjCodec.INVALID;
+            }
+            position = fieldEnd + 1;
+            final var width = field == 0 ? ROOT_WIDTH : field == 1 ? ORDER_WIDTH : CHECK_DIGITS_WIDTH;
+            final var valueLength = valueEnd - valueStart;
+            if (valueLength < 1 || valueLength > width) {
+                return CnpjCodec.INVALID;
+            }
+            for (int i = valueStart - (width - valueLength); i < valueEnd; i++) {
+                final var character = i < valueStart ? '0' : (char) row.get(i);
+                if (field < 2) {
+                    if ((character < '0' || character > '9') && (character < 'A' || character > 'Z')) {
+                        return CnpjCodec.INVALID;
+                    }
+                    if (index == 0) {
+                        first = character;
+                    }
+                    same &= character == first;
+                    sums += CnpjCheckDigitCalculator.contributionOf(index++, character);
+                    key = key * CnpjCodec.RADIX + CnpjCodec.digitOf(character);
+                } else {
+                    if (character < '0' || character > '9') {
+                        return CnpjCodec.INVALID;
+                    }
+                    checkDigits = checkDigits * 10 + character - '0';
+                }
+            }
+        }
+        if (CnpjCheckDigitCalculator.checkDigitsOfSums(sums) != checkDigits
+                || same && first <= '9' && checkDigits == (first - '0') * 11) {
+            return CnpjCodec.INVALID;
+        }
+        return key;
+    }
+
+    private void add(final long offset, final long key) {
+        final var valid = key != CnpjCodec.INVALID;
+        chunk.add(offset, valid);
+        if (valid && collectKeys) {
+            if (keyCount == keys.length) {
+                keys = Arrays.copyOf(keys, keyCount << 1);
+            }
+            keys[keyCount++] = key;
+        }
+    }
+
+    /**
+     * Returns the row counts and the offsets of the invalid rows.
+     *
+     * @return the rows, valid rows and offsets of the invalid rows.
+     */
+    public MappedLines.Chunk chunk() {
+        return chunk;
+    }
+
+    /**
+     * Returns the keys of the valid rows, in order.
+     *
+     * @return the keys, or an empty array if they were not collected.
+     */
+    public long[] keys() {
+        return keyCount == keys.length ? keys : Arrays.copyOf(keys, keyCount);
+    }
+
+}
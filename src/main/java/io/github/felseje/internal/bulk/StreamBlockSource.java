@@ -0,0 +1,117 @@
+package io.github.felseje.internal.bulk;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.zip.ZipInputStream;
+
+/**
+ * A {@link BlockSource} reading a stream, plain or zipped, into blocks of whole lines.
+ *
+ * <p>Each block is a fresh array, so it can be processed by another thread while the next one is read; the partial
+ * line at the end of a read is carried over to the next block. A line longer than the block size grows the block.
+ * For a zip archive, the entries are read in order as if concatenated, except that an entry not ending with a line
+ * break still ends its last line.</p>
+ *
+ * @author felseje
+ * @since 1.0.0-alpha
+ */
+public final class StreamBlockSource implements BlockSource {
+
+    private static final byte LINE_FEED = '\n';
+
+    private final InputStream input;
+    private final ZipInputStream zip;
+    private final int blockSize;
+    private byte[] carry = new byte[0];
+    private int carryLength;
+    private boolean entryOpen;
+    private long position;
+    private long start;
+
+    /**
+     * Constructs a source over a stream.
+     *
+     * @param input     the stream, positioned at the first byte of the data or of the zip archive.
+     * @param zipped    whether the stream holds a zip archive whose entries hold the data.
+     * @param blockSize the nominal size of the blocks.
+     */
+    public StreamBlockSource(InputStream input, boolean zipped, int blockSize) {
+        this.zip = zipped ? new ZipInputStream(input) : null;
+        this.input = zipped ? zip : input;
+        this.entryOpen = !zipped;
+        this.blockSize = blockSize;
+    }
+
+    @Override
+    public ByteBuffer next() throws IOException {
+        while (entryOpen || openNextEntry()) {
+            var block = new byte[Math.max(blockSize, carryLength << 1)];
+            System.arraycopy(carry, 0, block, 0, carryLength);
+            var filled = carryLength;
+            var searched = 0;
+            while (true) {
+                final var read = input.readNBytes(block, filled, block.length - filled);
+                filled += read;
+                if (filled < block.length) {
+                    entryOpen = false;
+                    carryLength = 0;
+                    if (filled > 0) {
+                        return emit(block, filled);
+                    }
+                    break;
+                }
+                final var lineEnd = lastLineEnd(block, searched, filled);
+                if (lineEnd > 0) {
+                    carryLength = filled - lineEnd;
+                    carry = Arrays.copyOfRange(block, lineEnd, filled);
+                    return emit(block, lineEnd);
+                }
+                searched = filled;
+                block = Arrays.copyOf(block, block.length << 1);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public long start() {
+        return start;
+    }
+
+    @Override
+    public void close() throws IOException {
+        entryOpen = false;
+        input.close();
+    }
+
+    private ByteBuffer emit(final byte[] block, final int length) {
+        start = position;
+        position += length;
+        return ByteBuffer.wrap(block, 0, length).slice();
+    }
+
+    private boolean openNextEntry() throws IOException {
+        if (zip == null) {
+            return false;
+        }
+        for (var entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+            if (!entry.isDirectory()) {
+                entryOpen = true;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int lastLineEnd(final byte[] block, final int from, final int to) {
+        for (int index = to - 1; index >= from; index--) {
+            if (block[index] == LINE_FEED) {
+                return index + 1;
+            }
+        }
+        return -1;
+    }
+
+}
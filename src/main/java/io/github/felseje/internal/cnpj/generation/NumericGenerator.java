@@ -3,6 +3,8 @@ package io.github.felseje.internal.cnpj.generation;
 import io.github.felseje.cnpj.CnpjType;
 import io.github.felseje.internal.cnpj.util.CnpjCheckDigitCalculator;
 
+import java.util.concurrent.ThreadLocalRandom;
+
 /**
  * Generator for numeric CNPJ values.
  * <p>
@@ -15,6 +17,8 @@ import io.github.felseje.internal.cnpj.util.CnpjCheckDigitCalculator;
  */
 public final class NumericGenerator extends AbstractGenerator {
 
+    private static final long BASE_BOUND = 1_000_000_000_000L;
+
     /**
      * Constructs a new {@code NumericGenerator}.
      */
@@ -40,4 +44,14 @@ public final class NumericGenerator extends AbstractGenerator {
         return new String(base) + new String(checkDigits);
     }
 
+    /**
+     * Generates a random numeric CNPJ as a number, as stored in numeric database columns.
+     *
+     * @return the 14 CNPJ digits as a number; leading zeros are implied.
+     */
+    public long generateNumber() {
+        final var base = ThreadLocalRandom.current().nextLong(BASE_BOUND);
+        return base * 100 + CnpjCheckDigitCalculator.checkDigitsOf(base);
+    }
+
 }
@@ -3,9 +3,12 @@ package io.github.felseje.internal.cnpj.helper;
 import io.github.felseje.cnpj.CnpjType;
 import io.github.felseje.internal.core.Classifier;
 import io.github.felseje.cnpj.exception.UnrecognizedCnpjTypeException;
+import io.github.felseje.cnpj.Cnpj;
+import io.github.felseje.internal.util.ByteUtils;
+import io.github.felseje.internal.util.DocumentExceptions;
 import io.github.felseje.internal.util.StringUtils;
 
-import java.util.regex.Pattern;
+import java.nio.ByteBuffer;
 
 import static io.github.felseje.internal.Constants.NULL_OR_BLANK_ERROR;
 
@@ -13,7 +16,8 @@ import static io.github.felseje.internal.Constants.NULL_OR_BLANK_ERROR;
  * Implementation of {@link Classifier} for identifying the type of normalized CNPJ string.
  *
  * <p> This classifier determines whether the input CNPJ is {@link CnpjType#NUMERIC} or {@link CnpjType#ALPHANUMERIC} based on its structure. </p>
- * <p> It uses regular expressions to match a fully normalized input string. </p>
+ * <p> It reads a fully normalized input in a single pass, in place, without regular expressions. ASCII bytes held
+ * in a {@code byte[]} or a {@link ByteBuffer} are classified the same way, without decoding them. </p>
  *
  * Example accepted inputs:
  * <ul>
@@ -26,9 +30,6 @@ import static io.github.felseje.internal.Constants.NULL_OR_BLANK_ERROR;
  */
 public final class CnpjClassifier implements Classifier {
 
-    private static final Pattern RAW_NUMERIC_PATTERN = Pattern.compile("[0-9]{14}");
-    private static final Pattern RAW_ALPHANUMERIC_PATTERN = Pattern.compile("[A-Z0-9]{14}");
-
     /**
      * Constructs a new {@code CnpjClassifier}.
      */
@@ -36,31 +37,108 @@ public final class CnpjClassifier implements Classifier {
     }
 
     /**
-     * Attempts to classify the given CNPJ string into a {@link CnpjType}.
+     * Attempts to classify the CNPJ found in a region of the given character sequence into a {@link CnpjType}.
      *
-     * <p>The input must be normalized (i.e., stripped of any formatting characters and in uppercase if applicable).</p>
+     * <p>The region must be normalized (i.e., stripped of any formatting characters and in uppercase if applicable).</p>
      *
      * Examples:
      * <pre>{@code
-     * classify("12345678000195");   // returns NUMERIC
-     * classify("12ABC34501DE35");   // returns ALPHANUMERIC
+     * classify("12345678000195", 0, 14);   // returns NUMERIC
+     * classify("12ABC34501DE35", 0, 14);   // returns ALPHANUMERIC
      * }</pre>
      *
-     * @param input the normalized CNPJ string to classify
+     * @param input  the character sequence holding the normalized CNPJ to classify
+     * @param offset the index of the first character of the region
+     * @param length the number of characters in the region
      * @return a {@link CnpjType} representing the classification result
-     * @throws IllegalArgumentException  if the input is null or blank
-     * @throws UnrecognizedCnpjTypeException if the input does not match any known CNPJ format
+     * @throws IllegalArgumentException      if the input is null or the region is blank
+     * @throws IndexOutOfBoundsException     if the region is out of the input bounds
+     * @throws UnrecognizedCnpjTypeException if the region does not match any known CNPJ format
      */
     @Override
-    public CnpjType classify(String input) throws IllegalArgumentException, UnrecognizedCnpjTypeException {
-        StringUtils.requireNonBlank(input, NULL_OR_BLANK_ERROR);
-        if (RAW_NUMERIC_PATTERN.matcher(input).matches()) {
-            return CnpjType.NUMERIC;
+    public CnpjType classify(CharSequence input, int offset, int length)
+            throws IllegalArgumentException, UnrecognizedCnpjTypeException {
+        StringUtils.requireNonBlank(input, offset, length, NULL_OR_BLANK_ERROR);
+        if (length != Cnpj.LENGTH) {
+            throw DocumentExceptions.unrecognizedCnpjType();
+        }
+        var type = CnpjType.NUMERIC;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            type = classify(type, input.charAt(i));
+        }
+        return type;
+    }
+
+    /**
+     * Attempts to classify the normalized CNPJ found in a region of ASCII bytes into a {@link CnpjType}.
+     *
+     * @param input  the bytes holding the normalized CNPJ to classify
+     * @param offset the index of the first byte of the region
+     * @param length the number of bytes in the region
+     * @return a {@link CnpjType} representing the classification result
+     * @throws IllegalArgumentException      if the input is null or the region is blank
+     * @throws IndexOutOfBoundsException     if the region is out of the input bounds
+     * @throws UnrecognizedCnpjTypeException if the region does not match any known CNPJ format
+     */
+    public CnpjType classify(byte[] input, int offset, int length)
+            throws IllegalArgumentException, UnrecognizedCnpjTypeException {
+        ByteUtils.requireNonBlank(input, offset, length, NULL_OR_BLANK_ERROR);
+        if (length != Cnpj.LENGTH) {
+            throw DocumentExceptions.unrecognizedCnpjType();
+        }
+        var type = CnpjType.NUMERIC;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            type = classify(type, ByteUtils.toChar(input[i]));
+        }
+        return type;
+    }
+
+    /**
+     * Attempts to classify the normalized CNPJ found in a region of an ASCII byte buffer into a {@link CnpjType}.
+     *
+     * <p> The region is given in absolute indexes; the buffer position and limit are left untouched. </p>
+     *
+     * @param input  the buffer holding the normalized CNPJ to classify
+     * @param offset the absolute index of the first byte of the region
+     * @param length the number of bytes in the region
+     * @return a {@link CnpjType} representing the classification result
+     * @throws IllegalArgumentException      if the input is null or the region is blank
+     * @throws IndexOutOfBoundsException     if the region is out of the input limit
+     * @throws UnrecognizedCnpjTypeException if the region does not match any known CNPJ format
+     */
+    public CnpjType classify(ByteBuffer input, int offset, int length)
+            throws IllegalArgumentException, UnrecognizedCnpjTypeException {
+        if (input != null && input.hasArray()) {
+            ByteUtils.checkRegion(input, offset, length);
+            return classify(input.array(), input.arrayOffset() + offset, length);
+        }
+        ByteUtils.requireNonBlank(input, offset, length, NULL_OR_BLANK_ERROR);
+        if (length != Cnpj.LENGTH) {
+            throw DocumentExceptions.unrecognizedCnpjType();
+        }
+        var type = CnpjType.NUMERIC;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            type = classify(type, ByteUtils.toChar(input.get(i)));
+        }
+        return type;
+    }
+
+    /**
+     * Folds the next normalized CNPJ character into the type classified so far.
+     *
+     * @param type      the type classified from the previous characters
+     * @param character the next character
+     * @return the type classified including the character
+     * @throws UnrecognizedCnpjTypeException if the character is neither a digit nor an uppercase ASCII letter
+     */
+    private static CnpjType classify(final CnpjType type, final char character) throws UnrecognizedCnpjTypeException {
+        if (character >= '0' && character <= '9') {
+            return type;
         }
-        if (RAW_ALPHANUMERIC_PATTERN.matcher(input).matches()) {
+        if (character >= 'A' && character <= 'Z') {
             return CnpjType.ALPHANUMERIC;
         }
-        throw new UnrecognizedCnpjTypeException("The CNPJ does not match any valid pattern. Make sure to use a normalized CNPJ.");
+        throw DocumentExceptions.unrecognizedCnpjType();
     }
 
 }
@@ -2,6 +2,7 @@ package io.github.felseje.internal.cnpj.helper;
 
 import io.github.felseje.internal.core.Formatter;
 import io.github.felseje.internal.core.Normalizer;
+import io.github.felseje.internal.document.DocumentWriter;
 import io.github.felseje.cnpj.exception.InvalidCnpjException;
 
 /**
@@ -44,12 +45,7 @@ public final class CnpjFormatter implements Formatter {
      * @return the formatted CNPJ string
      */
     private String doFormat(final String value) {
-        return new StringBuilder(18).append(value, 0, 2)
-                .append('.').append(value, 2, 5)
-                .append('.').append(value, 5, 8)
-                .append('/').append(value, 8, 12)
-                .append('-').append(value, 12, value.length())
-                .toString();
+        return DocumentWriter.CNPJ.format(value);
     }
 
     /**
@@ -69,8 +65,26 @@ public final class CnpjFormatter implements Formatter {
      * @throws InvalidCnpjException     if {@code input} cannot be normalized or formatted properly
      */
     @Override
-    public String format(String input) {
+    public String format(CharSequence input) throws IllegalArgumentException, InvalidCnpjException {
         return doFormat(normalizer.normalize(input));
     }
 
+    /**
+     * Formats the document found in a region of the given character sequence.
+     *
+     * <p> The region is normalized in place, without copying it first, then formatted. </p>
+     *
+     * @param input  the character sequence holding the raw document; must not be {@code null}
+     * @param offset the index of the first character of the region
+     * @param length the number of characters in the region
+     * @return the formatted document string
+     * @throws IllegalArgumentException  if {@code input} is {@code null} or the region is blank
+     * @throws IndexOutOfBoundsException if the region is out of the input bounds
+     * @throws InvalidCnpjException     if the region cannot be normalized
+     */
+    @Override
+    public String format(CharSequence input, int offset, int length) throws IllegalArgumentException, InvalidCnpjException {
+        return doFormat(normalizer.normalize(input, offset, length));
+    }
+
 }
@@ -3,9 +3,13 @@ package io.github.felseje.internal.cnpj.helper;
 import io.github.felseje.cnpj.Cnpj;
 import io.github.felseje.internal.core.Normalizer;
 import io.github.felseje.cnpj.exception.InvalidCnpjException;
+import io.github.felseje.internal.cnpj.validation.CnpjScanner;
+import io.github.felseje.internal.util.ByteUtils;
+import io.github.felseje.internal.util.DocumentExceptions;
 import io.github.felseje.internal.util.StringUtils;
 
-import java.util.regex.Pattern;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 
 /**
  * Normalizer implementation for processing CNPJ strings.
@@ -20,12 +24,17 @@ import java.util.regex.Pattern;
  *   <li>Raw alphanumeric: {@code "12abc34501de35"}</li>
  * </ul>
  *
+ * <p>Inputs are read in place from any {@link CharSequence} region, in a single pass and without regex.
+ * Only ASCII letters are uppercased, so the result never depends on the default locale.
+ * ASCII bytes held in a {@code byte[]} or a {@link ByteBuffer} can be normalized the same way, without
+ * decoding the whole region to a {@link String} first.</p>
+ *
  * @author felseje
  * @since 1.0.0-alpha
  */
 public final class CnpjNormalizer implements Normalizer {
 
-    private static final Pattern WRONG_CNPJ_DIGITS = Pattern.compile("[^a-zA-Z0-9]");
+    private static final String NULL_OR_BLANK_ERROR = "The CNPJ cannot be null or blank";
 
     /**
      * Constructs a new {@code CnpjNormalizer}.
@@ -34,44 +43,141 @@ public final class CnpjNormalizer implements Normalizer {
     }
 
     /**
-     * Removes all invalid characters from a given CNPJ string.
+     * Removes all invalid characters from a region of a given CNPJ character sequence.
      *
-     * <p> This method ensures the input is not null or blank and removes all characters that are not alphanumeric (e.g., dots, dashes, slashes, whitespace). </p>
+     * <p> This method ensures the region is not null or blank and removes all characters that are not alphanumeric (e.g., dots, dashes, slashes, whitespace). </p>
      *
-     * @param input the CNPJ string to clean; must not be null or blank
-     * @return a string containing only the alphanumeric characters from the input
-     * @throws IllegalArgumentException if the input is null or blank
+     * @param input  the CNPJ to clean; must not be null or blank
+     * @param offset the index of the first character of the region
+     * @param length the number of characters in the region
+     * @return a string containing only the alphanumeric characters from the region
+     * @throws IllegalArgumentException  if the input is null or the region is blank
+     * @throws IndexOutOfBoundsException if the region is out of the input bounds
      */
     @Override
-    public String clear(String input) throws IllegalArgumentException {
-        StringUtils.requireNonBlank(input, "The CNPJ cannot be null or blank");
-        return WRONG_CNPJ_DIGITS.matcher(input).replaceAll("");
+    public String clear(CharSequence input, int offset, int length) throws IllegalArgumentException {
+        StringUtils.requireNonBlank(input, offset, length, NULL_OR_BLANK_ERROR);
+        final var characters = new char[length];
+        var count = 0;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            final var character = input.charAt(i);
+            if (CnpjScanner.isAsciiLetterOrDigit(character)) {
+                characters[count++] = character;
+            }
+        }
+        return new String(characters, 0, count);
     }
 
     /**
-     * Normalizes a raw CNPJ string by removing formatting symbols and converting it to uppercase.
+     * Normalizes a region of a raw CNPJ character sequence by removing formatting symbols and converting it to uppercase.
      *
      * <p> The result will always be a 14-character string composed of digits and/or uppercase letters. </p>
      * <p> This method does not validate the check digits (DVs), only the structure and length. </p>
      *
      * Examples:
      * <pre>{@code
-     * normalize("12.345.678/0001-95"); // "12345678000195"
-     * normalize("12.abc.345/01de-35"); // "12ABC34501DE35"
+     * normalize("12.345.678/0001-95", 0, 18); // "12345678000195"
+     * normalize("12.abc.345/01de-35", 0, 18); // "12ABC34501DE35"
      * }</pre>
      *
-     * @param input the raw CNPJ string, formatted or unformatted
+     * @param input  the raw CNPJ, formatted or unformatted
+     * @param offset the index of the first character of the region
+     * @param length the number of characters in the region
      * @return the normalized CNPJ string
-     * @throws IllegalArgumentException if the input is null or blank
-     * @throws InvalidCnpjException if the result is not exactly 14 characters long
+     * @throws IllegalArgumentException  if the input is null or the region is blank
+     * @throws IndexOutOfBoundsException if the region is out of the input bounds
+     * @throws InvalidCnpjException      if the result is not exactly 14 characters long
      */
     @Override
-    public String normalize(String input) throws IllegalArgumentException, InvalidCnpjException {
-        final var cleaned = clear(input).toUpperCase();
-        if (cleaned.length() != Cnpj.LENGTH) {
-            throw new InvalidCnpjException("The CNPJ must be 14 characters long");
+    public String normalize(CharSequence input, int offset, int length) throws IllegalArgumentException, InvalidCnpjException {
+        StringUtils.requireNonBlank(input, offset, length, NULL_OR_BLANK_ERROR);
+        final var characters = new char[Cnpj.LENGTH];
+        var count = 0;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            final var character = input.charAt(i);
+            if (CnpjScanner.isAsciiLetterOrDigit(character)) {
+                if (count == Cnpj.LENGTH) {
+                    throw DocumentExceptions.cnpjWrongLength();
+                }
+                characters[count++] = toUpperCase(character);
+            }
+        }
+        if (count != Cnpj.LENGTH) {
+            throw DocumentExceptions.cnpjWrongLength();
+        }
+        return new String(characters);
+    }
+
+    /**
+     * Normalizes a region of ASCII bytes holding a raw CNPJ by removing formatting symbols and converting it to
+     * uppercase.
+     *
+     * @param input  the bytes holding the CNPJ, formatted or unformatted
+     * @param offset the index of the first byte of the region
+     * @param length the number of bytes in the region
+     * @return the normalized CNPJ string
+     * @throws IllegalArgumentException  if the input is null or the region is blank
+     * @throws IndexOutOfBoundsException if the region is out of the input bounds
+     * @throws InvalidCnpjException      if the result is not exactly 14 characters long
+     */
+    public String normalize(byte[] input, int offset, int length) throws IllegalArgumentException, InvalidCnpjException {
+        ByteUtils.requireNonBlank(input, offset, length, NULL_OR_BLANK_ERROR);
+        final var characters = new byte[Cnpj.LENGTH];
+        var count = 0;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            final var character = ByteUtils.toChar(input[i]);
+            if (CnpjScanner.isAsciiLetterOrDigit(character)) {
+                if (count == Cnpj.LENGTH) {
+                    throw DocumentExceptions.cnpjWrongLength();
+                }
+                characters[count++] = (byte) toUpperCase(character);
+            }
+        }
+        if (count != Cnpj.LENGTH) {
+            throw DocumentExceptions.cnpjWrongLength();
         }
-        return cleaned;
+        return new String(characters, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Normalizes a region of an ASCII byte buffer holding a raw CNPJ by removing formatting symbols and converting
+     * it to uppercase.
+     *
+     * <p> The region is given in absolute indexes; the buffer position and limit are left untouched. </p>
+     *
+     * @param input  the buffer holding the CNPJ, formatted or unformatted
+     * @param offset the absolute index of the first byte of the region
+     * @param length the number of bytes in the region
+     * @return the normalized CNPJ string
+     * @throws IllegalArgumentException  if the input is null or the region is blank
+     * @throws IndexOutOfBoundsException if the region is out of the input limit
+     * @throws InvalidCnpjException      if the result is not exactly 14 characters long
+     */
+    public String normalize(ByteBuffer input, int offset, int length) throws IllegalArgumentException, InvalidCnpjException {
+        if (input != null && input.hasArray()) {
+            ByteUtils.checkRegion(input, offset, length);
+            return normalize(input.array(), input.arrayOffset() + offset, length);
+        }
+        ByteUtils.requireNonBlank(input, offset, length, NULL_OR_BLANK_ERROR);
+        final var characters = new byte[Cnpj.LENGTH];
+        var count = 0;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            final var character = ByteUtils.toChar(input.get(i));
+            if (CnpjScanner.isAsciiLetterOrDigit(character)) {
+                if (count == Cnpj.LENGTH) {
+                    throw DocumentExceptions.cnpjWrongLength();
+                }
+                characters[count++] = (byte) toUpperCase(character);
+            }
+        }
+        if (count != Cnpj.LENGTH) {
+            throw DocumentExceptions.cnpjWrongLength();
+        }
+        return new String(characters, StandardCharsets.ISO_8859_1);
+    }
+
+    private static char toUpperCase(final char character) {
+        return character >= 'a' ? (char) (character - ('a' - 'A')) : character;
     }
 
 }
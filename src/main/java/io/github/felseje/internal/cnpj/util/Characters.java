@@ -1,7 +1,5 @@
 package io.github.felseje.internal.cnpj.util;
 
-import java.util.Arrays;
-
 import static io.github.felseje.internal.Constants.NOT_ALLOWED_INSTANTIATION_ERROR;
 
 /**
@@ -37,18 +35,4 @@ public final class Characters {
         return (char) ('0' + digit);
     }
 
-    /**
-     * Appends a character to the end of a character array.
-     *
-     * @param array the original character array.
-     * @param value the character to append.
-     * @return a new character array containing all elements of {@code array}, followed by {@code value}.
-     * @throws NullPointerException if {@code array} is {@code null}.
-     */
-    public static char[] appendChar(char[] array, char value) throws NullPointerException {
-        final var newArray = Arrays.copyOf(array, array.length + 1);
-        newArray[array.length] = value;
-        return newArray;
-    }
-
 }
@@ -2,6 +2,7 @@ package io.github.felseje.internal.cnpj.util;
 
 import io.github.felseje.cnpj.CnpjType;
 import io.github.felseje.cnpj.exception.InvalidCnpjBaseException;
+import io.github.felseje.internal.util.DocumentExceptions;
 
 import static io.github.felseje.internal.Constants.NOT_ALLOWED_INSTANTIATION_ERROR;
 
@@ -13,6 +14,14 @@ import static io.github.felseje.internal.Constants.NOT_ALLOWED_INSTANTIATION_ERR
  * although type-specific validation logic (e.g., allowed characters) is not yet enforced.
  * </p>
  *
+ * <p>Each character contributes its ASCII code minus 48, so digits keep their value and
+ * uppercase letters map to 17 ('A') through 42 ('Z').</p>
+ *
+ * <p>The weighted sums are table-driven: the contribution of each character from {@code '0'} to {@code 'Z'} at each
+ * position, and of each 3-digit chunk of a numeric base, is precomputed for both sums at once. Both sums travel
+ * packed in a single {@code int}, the first one in the low 16 bits and the second one in the high 16 bits, so one
+ * addition updates both. The modulo 11 rule is applied without branches.</p>
+ *
  * <p>Usage example:
  * <pre>{@code
  *     char[] base = "123456780001".toCharArray();
@@ -25,8 +34,40 @@ import static io.github.felseje.internal.Constants.NOT_ALLOWED_INSTANTIATION_ERR
  */
 public final class CnpjCheckDigitCalculator {
 
+    /**
+     * The size of the CNPJ base (first 12 characters).
+     */
+    public static final int BASE_SIZE = 12;
+
     private static final int[] WEIGHTS = new int[]{2, 3, 4, 5, 6, 7, 8, 9, 2, 3, 4, 5, 6};
 
+    private static final char FIRST_CHARACTER = '0';
+    private static final int CHARACTERS = 'Z' - FIRST_CHARACTER + 1;
+    private static final int SUM_SHIFT = 16;
+    private static final int SUM_MASK = 0xFFFF;
+    private static final int CHUNK_SIZE = 3;
+    private static final int CHUNK_VALUES = 1000;
+    private static final int[] CHARACTER_CONTRIBUTIONS = new int[BASE_SIZE * CHARACTERS];
+    private static final int[] CHUNK_CONTRIBUTIONS = new int[BASE_SIZE / CHUNK_SIZE * CHUNK_VALUES];
+
+    static {
+        for (int position = 0; position < BASE_SIZE; position++) {
+            for (int index = 0; index < CHARACTERS; index++) {
+                final var value = valueOf((char) (FIRST_CHARACTER + index));
+                CHARACTER_CONTRIBUTIONS[position * CHARACTERS + index] =
+                        value * firstWeight(position) | value * secondWeight(position) << SUM_SHIFT;
+            }
+        }
+        for (int chunk = 0; chunk < BASE_SIZE / CHUNK_SIZE; chunk++) {
+            for (int value = 0; value < CHUNK_VALUES; value++) {
+                final var first = chunk * CHUNK_SIZE;
+                CHUNK_CONTRIBUTIONS[chunk * CHUNK_VALUES + value] = contributionOf(first, Characters.digitToChar(value / 100))
+                        + contributionOf(first + 1, Characters.digitToChar(value / 10 % 10))
+                        + contributionOf(first + 2, Characters.digitToChar(value % 10));
+            }
+        }
+    }
+
     /**
      * Prevents instantiation of this utility class.
      *
@@ -37,28 +78,106 @@ public final class CnpjCheckDigitCalculator {
     }
 
     /**
-     * Calculates the check digit (DV) from a given character array using the CNPJ algorithm.
+     * Returns the value a CNPJ character contributes to the weighted sums (its ASCII code minus 48).
      *
-     * @param digits a character array representing either the 12-digit base or the base + 1st check digit
-     * @return the calculated check digit as an integer (0–9)
+     * @param character the CNPJ character.
+     * @return the calculation value of the character.
      */
-    private static int calculateCheckDigit(final char[] digits) {
-        final var calculationValueArray = new int[digits.length];
-        for (int i = 0; i < digits.length; i++) {
-            calculationValueArray[i] = digits[i] - 48; // convert ASCII to int
-        }
-        var sum = 0;
-        final var weightLength = digits.length - 1;
-        for (int i = 0; i < digits.length; i++) {
-            sum += (calculationValueArray[i] * WEIGHTS[weightLength - i]);
-        }
-        final var rest = sum % 11;
-        return rest < 2 ? 0 : 11 - rest;
+    public static int valueOf(char character) {
+        return character - 48; // convert ASCII to int
+    }
+
+    /**
+     * Returns the weight applied to the character at the given position when calculating the first check digit.
+     *
+     * @param position the zero-based position of the character within the base (0–11).
+     * @return the weight for that position.
+     */
+    public static int firstWeight(int position) {
+        return WEIGHTS[BASE_SIZE - 1 - position];
+    }
+
+    /**
+     * Returns the weight applied to the character at the given position when calculating the second check digit.
+     *
+     * @param position the zero-based position of the character within the base plus first check digit (0–12).
+     * @return the weight for that position.
+     */
+    public static int secondWeight(int position) {
+        return WEIGHTS[BASE_SIZE - position];
+    }
+
+    /**
+     * Applies the modulo 11 rule to a weighted sum, producing the corresponding check digit.
+     *
+     * @param weightedSum the sum of each character value multiplied by its weight.
+     * @return the check digit as an integer (0–9).
+     */
+    public static int checkDigitOf(int weightedSum) {
+        final var rest = weightedSum % 11;
+        // (1 - rest) >> 31 is all ones when rest >= 2 and zero otherwise
+        return (11 - rest) & ((1 - rest) >> 31);
+    }
+
+    /**
+     * Returns the packed contribution of a base character to both weighted sums.
+     *
+     * <p>Contributions of the whole base can be added together and handed to {@link #checkDigitsOfSums(int)}.</p>
+     *
+     * @param position  the zero-based position of the character within the base (0–11).
+     * @param character the character, from {@code '0'} to {@code 'Z'}.
+     * @return the first-sum contribution in the low 16 bits and the second-sum contribution in the high 16 bits.
+     */
+    public static int contributionOf(int position, char character) {
+        return CHARACTER_CONTRIBUTIONS[position * CHARACTERS + (character - FIRST_CHARACTER)];
+    }
+
+    /**
+     * Packs both weighted sums of a base the way {@link #checkDigitsOfSums(int)} expects them.
+     *
+     * @param firstSum  the weighted sum for the first check digit.
+     * @param secondSum the weighted sum of the base for the second check digit.
+     * @return the first sum in the low 16 bits and the second sum in the high 16 bits.
+     */
+    public static int sumsOf(int firstSum, int secondSum) {
+        return firstSum | secondSum << SUM_SHIFT;
+    }
+
+    /**
+     * Calculates both check digits from the packed weighted sums of a base.
+     *
+     * @param sums the sum of the {@link #contributionOf(int, char) contributions} of the 12 base characters.
+     * @return both check digits as a two-digit number: the first check digit times 10 plus the second one.
+     */
+    public static int checkDigitsOfSums(int sums) {
+        final var primaryCheckDigit = checkDigitOf(sums & SUM_MASK);
+        final var secondaryCheckDigit = checkDigitOf((sums >>> SUM_SHIFT) + primaryCheckDigit * secondWeight(BASE_SIZE));
+        return primaryCheckDigit * 10 + secondaryCheckDigit;
+    }
+
+    /**
+     * Calculates both check digits of a numeric CNPJ base given as a number.
+     *
+     * <p>The digits are read from the least significant one, so missing leading zeros count as zeros.</p>
+     *
+     * @param base the 12-digit base as a number (0–999,999,999,999).
+     * @return both check digits as a two-digit number: the first check digit times 10 plus the second one.
+     */
+    public static int checkDigitsOf(long base) {
+        final var high = (int) (base / 1_000_000);
+        final var low = (int) (base % 1_000_000);
+        return checkDigitsOfSums(CHUNK_CONTRIBUTIONS[high / 1000]
+                + CHUNK_CONTRIBUTIONS[CHUNK_VALUES + high % 1000]
+                + CHUNK_CONTRIBUTIONS[2 * CHUNK_VALUES + low / 1000]
+                + CHUNK_CONTRIBUTIONS[3 * CHUNK_VALUES + low % 1000]);
     }
 
     /**
      * Calculates both CNPJ check digits based on a 12-character base and CNPJ type.
      *
+     * <p>Both weighted sums are accumulated in a single pass over the base. Characters outside the tables, such as
+     * lowercase letters or punctuation, are not rejected: they contribute their ASCII code minus 48, as always.</p>
+     *
      * @param base a 12-character array representing the base of the CNPJ (without DVs)
      * @param type the {@link CnpjType} of the CNPJ (numeric or alphanumeric)
      * @return a character array containing the two check digits
@@ -70,14 +189,40 @@ public final class CnpjCheckDigitCalculator {
         if (type == null) {
             throw new IllegalArgumentException("The CNPJ type must be not null");
         }
-        // TODO: Validate base character content according to the given type
-        if (base == null || base.length != 12) {
-            throw new InvalidCnpjBaseException("The CNPJ base must be valid");
+        if (base == null || base.length != BASE_SIZE) {
+            throw DocumentExceptions.invalidCnpjBase();
+        }
+        var sums = 0;
+        for (int i = 0; i < BASE_SIZE; i++) {
+            final var character = base[i];
+            if (character < FIRST_CHARACTER || character > 'Z') {
+                return toChars(checkDigitsOfUntabled(base));
+            }
+            sums += contributionOf(i, character);
         }
-        final var primaryCheckDigit = Characters.digitToChar(calculateCheckDigit(base));
-        final var baseWithPrimaryCheckDigit = Characters.appendChar(base, primaryCheckDigit);
-        final var secondaryCheckDigit = Characters.digitToChar(calculateCheckDigit(baseWithPrimaryCheckDigit));
-        return new char[]{primaryCheckDigit, secondaryCheckDigit};
+        return toChars(checkDigitsOfSums(sums));
+    }
+
+    /**
+     * Calculates both check digits of a base holding characters outside the tables, whose contributions may be
+     * negative or too large to be packed.
+     */
+    private static int checkDigitsOfUntabled(final char[] base) {
+        var firstSum = 0;
+        var secondSum = 0;
+        for (int i = 0; i < BASE_SIZE; i++) {
+            firstSum += valueOf(base[i]) * firstWeight(i);
+            secondSum += valueOf(base[i]) * secondWeight(i);
+        }
+        final var primaryCheckDigit = checkDigitOf(firstSum);
+        return primaryCheckDigit * 10 + checkDigitOf(secondSum + primaryCheckDigit * secondWeight(BASE_SIZE));
+    }
+
+    /**
+     * Turns both check digits, given as a two-digit number, into characters.
+     */
+    private static char[] toChars(final int checkDigits) {
+        return new char[]{Characters.digitToChar(checkDigits / 10), Characters.digitToChar(checkDigits % 10)};
     }
 
 }
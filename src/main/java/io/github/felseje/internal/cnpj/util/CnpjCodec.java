@@ -0,0 +1,400 @@
+package io.github.felseje.internal.cnpj.util;
+
+import io.github.felseje.cnpj.Cnpj;
+
+import static io.github.felseje.internal.Constants.NOT_ALLOWED_INSTANTIATION_ERROR;
+
+/**
+ * Utility class that packs a CNPJ into a single {@code long} and unpacks it back into text.
+ *
+ * <p>Only the 12-character base is packed, as a base-36 number whose digits are {@code 0}–{@code 9} followed by
+ * {@code A}–{@code Z}. Twelve base-36 digits need at most 63 bits, so every packed value is non-negative.
+ * The check digits are derivable from the base and are recalculated with {@link CnpjCheckDigitCalculator}
+ * when unpacking.</p>
+ *
+ * <p>The same encoding serves numeric and alphanumeric CNPJs, and it preserves ordering: comparing packed values
+ * gives the same result as comparing the normalized strings.</p>
+ *
+ * <p>This class is final and cannot be instantiated.</p>
+ *
+ * @author felseje
+ * @since 1.0.0-alpha
+ */
+public final class CnpjCodec {
+
+    /**
+     * The radix of a packed CNPJ base.
+     */
+    public static final int RADIX = 36;
+
+    /**
+     * The largest packed CNPJ base (12 {@code 'Z'} characters).
+     */
+    public static final long MAX_VALUE = 4_738_381_338_321_616_895L;
+
+    /**
+     * The value standing for an input that is not a valid CNPJ. Packed CNPJ bases are never negative.
+     */
+    public static final long INVALID = -1L;
+
+    /**
+     * The largest numeric CNPJ written as a number (14 nines).
+     */
+    public static final long MAX_NUMBER = 99_999_999_999_999L;
+
+    private static final String FORMATTED_MASK = "##.###.###/####-##";
+    private static final char MASK_PLACEHOLDER = '#';
+    private static final int[] POSITIONS = positionsOf();
+    private static final long[] PLACE_VALUES = placeValues();
+
+    /**
+     * Prevents instantiation of this utility class.
+     *
+     * @throws IllegalStateException always thrown to indicate this class should not be instantiated
+     */
+    private CnpjCodec() {
+        throw new IllegalStateException(NOT_ALLOWED_INSTANTIATION_ERROR);
+    }
+
+    /**
+     * Returns the base-36 digit of a normalized CNPJ base character.
+     *
+     * @param character an ASCII digit or uppercase letter.
+     * @return the digit value (0–35).
+     */
+    public static int digitOf(char character) {
+        return character <= '9' ? character - '0' : character - ('A' - 10);
+    }
+
+    /**
+     * Returns the normalized CNPJ base character of a base-36 digit.
+     *
+     * @param digit the digit value (0–35).
+     * @return the corresponding ASCII digit or uppercase letter.
+     */
+    public static char characterOf(int digit) {
+        return (char) (digit < 10 ? '0' + digit : ('A' - 10) + digit);
+    }
+
+    /**
+     * Tells whether a value is within the range of packed CNPJ bases.
+     *
+     * @param base the value to check.
+     * @return {@code true} if the value is between 0 and {@link #MAX_VALUE}; {@code false} otherwise.
+     */
+    public static boolean isInRange(long base) {
+        return base >= 0 && base <= MAX_VALUE;
+    }
+
+    /**
+     * Tells whether a value is within the range of numeric CNPJs written as numbers.
+     *
+     * @param number the value to check.
+     * @return {@code true} if the value is between 0 and {@link #MAX_NUMBER}; {@code false} otherwise.
+     */
+    public static boolean isNumberInRange(long number) {
+        return number >= 0 && number <= MAX_NUMBER;
+    }
+
+    /**
+     * Tells whether a packed CNPJ base holds digits only.
+     *
+     * @param base the packed CNPJ base (0 to {@link #MAX_VALUE}).
+     * @return {@code true} if none of its base-36 digits is a letter; {@code false} otherwise.
+     */
+    public static boolean isNumeric(long base) {
+        var remaining = base;
+        for (int i = 0; i < CnpjCheckDigitCalculator.BASE_SIZE; i++) {
+            if (remaining % RADIX >= 10) {
+                return false;
+            }
+            remaining /= RADIX;
+        }
+        return true;
+    }
+
+    /**
+     * Packs a numeric CNPJ base given as a number, reading its decimal digits as base-36 digits.
+     *
+     * @param base the 12-digit base as a number (0–999,999,999,999).
+     * @return the packed CNPJ base.
+     */
+    public static long encodeNumericBase(long base) {
+        var remaining = base;
+        var value = 0L;
+        var weight = 1L;
+        for (int i = 0; i < CnpjCheckDigitCalculator.BASE_SIZE; i++) {
+            value += (remaining % 10) * weight;
+            remaining /= 10;
+            weight *= RADIX;
+        }
+        return value;
+    }
+
+    /**
+     * Packs the base of a normalized CNPJ.
+     *
+     * @param normalized a sequence whose first 12 characters are ASCII digits or uppercase letters.
+     * @return the packed CNPJ base.
+     */
+    public static long encode(CharSequence normalized) {
+        var value = 0L;
+        for (int i = 0; i < CnpjCheckDigitCalculator.BASE_SIZE; i++) {
+            value = value * RADIX + digitOf(normalized.charAt(i));
+        }
+        return value;
+    }
+
+    /**
+     * Writes the 14 characters of a packed CNPJ, check digits included, into a character buffer.
+     *
+     * @param base        the packed CNPJ base (0 to {@link #MAX_VALUE}).
+     * @param destination the buffer receiving the characters.
+     * @param offset      the index where the first character is written.
+     */
+    public static void decode(long base, char[] destination, int offset) {
+        var remaining = base;
+        for (int i = offset + CnpjCheckDigitCalculator.BASE_SIZE - 1; i >= offset; i--) {
+            destination[i] = characterOf((int) (remaining % RADIX));
+            remaining /= RADIX;
+        }
+        var sums = 0;
+        for (int i = 0; i < CnpjCheckDigitCalculator.BASE_SIZE; i++) {
+            sums += CnpjCheckDigitCalculator.contributionOf(i, destination[offset + i]);
+        }
+        final var checkDigits = CnpjCheckDigitCalculator.checkDigitsOfSums(sums);
+        destination[offset + CnpjCheckDigitCalculator.BASE_SIZE] = Characters.digitToChar(checkDigits / 10);
+        destination[offset + Cnpj.LENGTH - 1] = Characters.digitToChar(checkDigits % 10);
+    }
+
+    /**
+     * Returns a range of the normalized text of a packed CNPJ.
+     *
+     * @param base  the packed CNPJ base.
+     * @param begin the index of the first character to return (inclusive).
+     * @param end   the index of the last character to return (exclusive).
+     * @return the characters between {@code begin} and {@code end}.
+     */
+    public static String substring(long base, int begin, int end) {
+        final var characters = new char[Cnpj.LENGTH];
+        decode(base, characters, 0);
+        return new String(characters, begin, end - begin);
+    }
+
+    /**
+     * Returns the normalized text of a packed CNPJ, check digits included.
+     *
+     * @param base the packed CNPJ base.
+     * @return the 14 CNPJ characters.
+     */
+    public static String toString(long base) {
+        return substring(base, 0, Cnpj.LENGTH);
+    }
+
+    /**
+     * Returns one character of the formatted text of a packed CNPJ, without building the text.
+     *
+     * @param base        the packed CNPJ base (0 to {@link #MAX_VALUE}).
+     * @param checkDigits the check digits of the base, as returned by {@link #checkDigitsOf(long)}.
+     * @param index       the index of the character within the {@code ##.###.###/####-##} pattern.
+     * @return the character or separator at that index.
+     */
+    public static char formattedCharAt(long base, int checkDigits, int index) {
+        final var position = POSITIONS[index];
+        return position < 0 ? FORMATTED_MASK.charAt(index) : charAt(base, checkDigits, position);
+    }
+
+    /**
+     * Returns one character of a packed CNPJ, without decoding the others.
+     *
+     * @param base        the packed CNPJ base (0 to {@link #MAX_VALUE}).
+     * @param checkDigits the check digits of the base, as returned by {@link #checkDigitsOf(long)}; only read for the
+     *                    last two positions.
+     * @param position    the index of the character within the normalized CNPJ (0 to 13).
+     * @return the character at that index.
+     */
+    public static char charAt(long base, int checkDigits, int position) {
+        if (position < CnpjCheckDigitCalculator.BASE_SIZE) {
+            return characterOf((int) (base / PLACE_VALUES[position] % RADIX));
+        }
+        return Characters.digitToChar(position == CnpjCheckDigitCalculator.BASE_SIZE
+                ? checkDigits / 10
+                : checkDigits % 10);
+    }
+
+    /**
+     * Returns the index, within the normalized CNPJ, of the character shown at an index of the formatted pattern.
+     *
+     * @param index the index within the {@code ##.###.###/####-##} pattern.
+     * @return the index of the character, or {@code -1} if the pattern holds a separator at that index.
+     */
+    public static int positionOf(int index) {
+        return POSITIONS[index];
+    }
+
+    /**
+     * Returns one character of the formatted text of a normalized CNPJ, without building the text.
+     *
+     * @param normalized the character sequence holding the normalized CNPJ.
+     * @param offset     the index of the first character of the CNPJ.
+     * @param index      the index of the character within the {@code ##.###.###/####-##} pattern.
+     * @return the character or separator at that index.
+     */
+    public static char formattedCharAt(CharSequence normalized, int offset, int index) {
+        final var position = POSITIONS[index];
+        return position < 0 ? FORMATTED_MASK.charAt(index) : normalized.charAt(offset + position);
+    }
+
+    /**
+     * Tells whether a region holds a normalized CNPJ, that is 12 ASCII digits or uppercase letters followed by 2 ASCII
+     * digits.
+     *
+     * @param input  the character sequence holding the region.
+     * @param offset the index of the first character of the region, which is 14 characters long.
+     * @return {@code true} if the region is a normalized CNPJ; {@code false} otherwise.
+     */
+    public static boolean isNormalized(CharSequence input, int offset) {
+        for (int i = 0; i < Cnpj.LENGTH; i++) {
+            final var character = input.charAt(offset + i);
+            final var letter = character >= 'A' && character <= 'Z' && i < CnpjCheckDigitCalculator.BASE_SIZE;
+            if (!letter && (character < '0' || character > '9')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Calculates both check digits of a packed CNPJ base.
+     *
+     * @param base the packed CNPJ base (0 to {@link #MAX_VALUE}).
+     * @return both check digits as a two-digit number: the first check digit times 10 plus the second one.
+     */
+    public static int checkDigitsOf(long base) {
+        var remaining = base;
+        var sums = 0;
+        for (int i = CnpjCheckDigitCalculator.BASE_SIZE - 1; i >= 0; i--) {
+            sums += CnpjCheckDigitCalculator.contributionOf(i, characterOf((int) (remaining % RADIX)));
+            remaining /= RADIX;
+        }
+        return CnpjCheckDigitCalculator.checkDigitsOfSums(sums);
+    }
+
+    /**
+     * Writes the formatted text of a packed CNPJ, check digits included, into a character buffer.
+     *
+     * @param base        the packed CNPJ base (0 to {@link #MAX_VALUE}).
+     * @param destination the buffer receiving the 18 characters of the {@code ##.###.###/####-##} pattern.
+     * @param offset      the index where the first character is written.
+     */
+    public static void decodeFormatted(long base, char[] destination, int offset) {
+        var remaining = base;
+        var sums = 0;
+        for (int i = Cnpj.FORMATTED_LENGTH - 1; i >= 0; i--) {
+            final var position = POSITIONS[i];
+            if (position < 0) {
+                destination[offset + i] = FORMATTED_MASK.charAt(i);
+            } else if (position < CnpjCheckDigitCalculator.BASE_SIZE) {
+                final var character = characterOf((int) (remaining % RADIX));
+                sums += CnpjCheckDigitCalculator.contributionOf(position, character);
+                destination[offset + i] = character;
+                remaining /= RADIX;
+            }
+        }
+        final var checkDigits = CnpjCheckDigitCalculator.checkDigitsOfSums(sums);
+        destination[offset + Cnpj.FORMATTED_LENGTH - 2] = Characters.digitToChar(checkDigits / 10);
+        destination[offset + Cnpj.FORMATTED_LENGTH - 1] = Characters.digitToChar(checkDigits % 10);
+    }
+
+    /**
+     * Writes the formatted text of a packed CNPJ, check digits included, into a byte buffer, as ASCII.
+     *
+     * @param base        the packed CNPJ base (0 to {@link #MAX_VALUE}).
+     * @param destination the buffer receiving the 18 bytes of the {@code ##.###.###/####-##} pattern.
+     * @param offset      the index where the first byte is written.
+     */
+    public static void decodeFormatted(long base, byte[] destination, int offset) {
+        var remaining = base;
+        var sums = 0;
+        for (int i = Cnpj.FORMATTED_LENGTH - 1; i >= 0; i--) {
+            final var position = POSITIONS[i];
+            if (position < 0) {
+                destination[offset + i] = (byte) FORMATTED_MASK.charAt(i);
+            } else if (position < CnpjCheckDigitCalculator.BASE_SIZE) {
+                final var character = characterOf((int) (remaining % RADIX));
+                sums += CnpjCheckDigitCalculator.contributionOf(position, character);
+                destination[offset + i] = (byte) character;
+                remaining /= RADIX;
+            }
+        }
+        final var checkDigits = CnpjCheckDigitCalculator.checkDigitsOfSums(sums);
+        destination[offset + Cnpj.FORMATTED_LENGTH - 2] = (byte) Characters.digitToChar(checkDigits / 10);
+        destination[offset + Cnpj.FORMATTED_LENGTH - 1] = (byte) Characters.digitToChar(checkDigits % 10);
+    }
+
+    /**
+     * Returns the formatted text of a packed CNPJ.
+     *
+     * @param base the packed CNPJ base.
+     * @return the CNPJ in the {@code ##.###.###/####-##} pattern.
+     */
+    public static String toFormattedString(long base) {
+        final var formatted = new char[Cnpj.FORMATTED_LENGTH];
+        decodeFormatted(base, formatted, 0);
+        return new String(formatted);
+    }
+
+    /**
+     * Returns the formatted text of a numeric CNPJ written as a number, keeping its own check digits.
+     *
+     * @param number the CNPJ as a number (0 to {@link #MAX_NUMBER}).
+     * @return the CNPJ in the {@code ##.###.###/####-##} pattern, zero padded.
+     */
+    public static String toFormattedNumber(long number) {
+        final var characters = new char[Cnpj.LENGTH];
+        var remaining = number;
+        for (int i = Cnpj.LENGTH - 1; i >= 0; i--) {
+            characters[i] = Characters.digitToChar((int) (remaining % 10));
+            remaining /= 10;
+        }
+        return applyMask(characters);
+    }
+
+    /**
+     * Maps each index of the formatted pattern to the index of its character in the normalized CNPJ.
+     *
+     * @return the character index of each pattern index, {@code -1} for separators.
+     */
+    private static int[] positionsOf() {
+        final var positions = new int[Cnpj.FORMATTED_LENGTH];
+        for (int i = 0, next = 0; i < Cnpj.FORMATTED_LENGTH; i++) {
+            positions[i] = FORMATTED_MASK.charAt(i) == MASK_PLACEHOLDER ? next++ : -1;
+        }
+        return positions;
+    }
+
+    /**
+     * Returns the place value of each base-36 digit of a packed CNPJ base, from the leftmost one.
+     *
+     * @return the powers of 36 from 36^11 down to 1.
+     */
+    private static long[] placeValues() {
+        final var values = new long[CnpjCheckDigitCalculator.BASE_SIZE];
+        var value = 1L;
+        for (int i = CnpjCheckDigitCalculator.BASE_SIZE - 1; i >= 0; i--) {
+            values[i] = value;
+            value *= RADIX;
+        }
+        return values;
+    }
+
+    private static String applyMask(final char[] characters) {
+        final var formatted = new char[Cnpj.FORMATTED_LENGTH];
+        for (int i = 0, next = 0; i < Cnpj.FORMATTED_LENGTH; i++) {
+            final var mask = FORMATTED_MASK.charAt(i);
+            formatted[i] = mask == MASK_PLACEHOLDER ? characters[next++] : mask;
+        }
+        return new String(formatted);
+    }
+
+}
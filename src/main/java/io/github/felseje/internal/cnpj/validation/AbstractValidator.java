@@ -1,79 +1,94 @@
 package io.github.felseje.internal.cnpj.validation;
 
-import io.github.felseje.cnpj.Cnpj;
 import io.github.felseje.cnpj.CnpjType;
-import io.github.felseje.internal.core.Normalizer;
+
 import io.github.felseje.internal.util.StringUtils;
-import io.github.felseje.internal.cnpj.util.CnpjCheckDigitCalculator;
+import io.github.felseje.spi.ValidationEngines;
 
-import java.util.function.BiFunction;
+import java.nio.ByteBuffer;
 
 /**
  * Abstract base class for CNPJ validators.
  *
  * <p> Provides common validation logic used by both {@link NumericValidator} and {@link AlphanumericValidator}. </p>
- * <p> This includes structural checks, basic normalization, digit uniformity detection, and check digit verification. </p>
+ * <p> This includes structural checks, basic normalization, digit uniformity detection, and check digit verification,
+ * all performed in a single pass by the active {@link io.github.felseje.spi.ValidationEngine}, whose built-in
+ * implementations use {@link CnpjScanner}. </p>
  *
  * Validation steps performed:
  * <ul>
  *   <li>Rejects null or blank strings</li>
- *   <li>Removes non-alphanumeric characters</li>
+ *   <li>Ignores non-alphanumeric characters</li>
  *   <li>Rejects values where all characters are the same (e.g., {@code "00000000000000"})</li>
- *   <li>Determines the CNPJ type using {@link CnpjType#detectFrom(String)}</li>
- *   <li>Verifies check digits using the supplied calculator function</li>
+ *   <li>Requires the remaining characters to match a {@link CnpjType}</li>
+ *   <li>Verifies both check digits</li>
  * </ul>
  *
  * @see CnpjType
  * @see NumericValidator
  * @see AlphanumericValidator
- * @see CnpjCheckDigitCalculator
+ * @see CnpjScanner
  *
  * @author felseje
  * @since 1.0.0-alpha
  */
 public abstract sealed class AbstractValidator permits AlphanumericValidator, NumericValidator {
 
-    private final Normalizer normalizer;
-
     /**
-     * Constructs a validator with the specified {@link Normalizer}.
-     *
-     * @param normalizer the normalizer used to preprocess CNPJ strings
-     * @throws IllegalArgumentException if {@code normalizer} is null
+     * Protected constructor to prevent direct instantiation.
      */
-    protected AbstractValidator(Normalizer normalizer) throws IllegalArgumentException {
-        if (normalizer == null) {
-            throw new IllegalArgumentException("The normalizer must not be null");
-        }
-        this.normalizer = normalizer;
+    protected AbstractValidator() {
     }
 
     /**
      * Validates a CNPJ string against expected structural rules and check digits.
      *
-     * @param cnpj the raw CNPJ string (possibly formatted or containing noise)
-     * @param checkDigitsCalculator a function that receives the base digits and {@link CnpjType},
-     *                              and returns the expected two check digits
+     * <p>The input may be formatted or unformatted. Characters other than ASCII letters and digits are ignored.</p>
+     *
+     * @param cnpj the raw CNPJ (possibly formatted or containing noise)
      * @return {@code true} if the CNPJ is valid; {@code false} otherwise
      */
-    protected boolean isValid(final String cnpj, final BiFunction<char[], CnpjType, char[]> checkDigitsCalculator) {
-        if (StringUtils.isNullOrBlank(cnpj)) {
-            return false;
-        }
-        final var cleaned = normalizer.clear(cnpj);
-        final var typeOptional = CnpjType.detectFrom(cleaned);
-        if (typeOptional.isEmpty()) {
-            return false;
-        }
-        if (cleaned.chars().distinct().count() == 1) {
-            return false;
-        }
-        final var actualBase = cleaned.substring(0, Cnpj.LENGTH - 2).toCharArray();
-        final var actualFirstCheckDigit = cleaned.charAt(Cnpj.LENGTH - 2);
-        final var actualSecondCheckDigit = cleaned.charAt(Cnpj.LENGTH - 1);
-        final var checkDigits = checkDigitsCalculator.apply(actualBase, typeOptional.get());
-        return actualFirstCheckDigit == checkDigits[0]
-                && actualSecondCheckDigit == checkDigits[1];
+    public boolean isValid(CharSequence cnpj) {
+        return ValidationEngines.active().isValidCnpj(cnpj, 0, StringUtils.lengthOf(cnpj));
+    }
+
+    /**
+     * Validates the CNPJ found in a region of a character sequence, reading it in place.
+     *
+     * @param cnpj   the character sequence holding the raw CNPJ
+     * @param offset the index of the first character of the region
+     * @param length the number of characters in the region
+     * @return {@code true} if the region holds a valid CNPJ; {@code false} otherwise
+     * @throws IndexOutOfBoundsException if {@code cnpj} is not {@code null} and the region is out of its bounds
+     */
+    public boolean isValid(CharSequence cnpj, int offset, int length) throws IndexOutOfBoundsException {
+        return ValidationEngines.active().isValidCnpj(cnpj, offset, length);
+    }
+
+    /**
+     * Validates the CNPJ found in a region of ASCII bytes, without decoding it.
+     *
+     * @param cnpj   the bytes holding the raw CNPJ
+     * @param offset the index of the first byte of the region
+     * @param length the number of bytes in the region
+     * @return {@code true} if the region holds a valid CNPJ; {@code false} otherwise
+     * @throws IndexOutOfBoundsException if {@code cnpj} is not {@code null} and the region is out of its bounds
+     */
+    public boolean isValid(byte[] cnpj, int offset, int length) throws IndexOutOfBoundsException {
+        return ValidationEngines.active().isValidCnpj(cnpj, offset, length);
+    }
+
+    /**
+     * Validates the CNPJ found in a region of an ASCII byte buffer, without decoding it.
+     *
+     * @param cnpj   the buffer holding the raw CNPJ
+     * @param offset the absolute index of the first byte of the region
+     * @param length the number of bytes in the region
+     * @return {@code true} if the region holds a valid CNPJ; {@code false} otherwise
+     * @throws IndexOutOfBoundsException if {@code cnpj} is not {@code null} and the region is out of its limit
+     */
+    public boolean isValid(ByteBuffer cnpj, int offset, int length) throws IndexOutOfBoundsException {
+        return ValidationEngines.active().isValidCnpj(cnpj, offset, length);
     }
 
 }
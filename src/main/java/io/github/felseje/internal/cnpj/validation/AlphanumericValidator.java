@@ -1,12 +1,9 @@
 package io.github.felseje.internal.cnpj.validation;
 
-import io.github.felseje.internal.core.Normalizer;
-import io.github.felseje.internal.cnpj.util.CnpjCheckDigitCalculator;
-
 /**
  * Validator for alphanumeric CNPJs.
  * <p> This class validates CNPJ strings that may include both digits and uppercase letters. </p>
- * <p> It delegates normalization and structural checks to {@link AbstractValidator}, and uses the standard {@link CnpjCheckDigitCalculator} for verifying check digits. </p>
+ * <p> It delegates structural and check digit verification to the shared single-pass logic in {@link AbstractValidator}. </p>
  *
  * Examples of valid input:
  * <ul>
@@ -20,25 +17,10 @@ import io.github.felseje.internal.cnpj.util.CnpjCheckDigitCalculator;
 public final class AlphanumericValidator extends AbstractValidator {
 
     /**
-     * Constructs a new {@code AlphanumericValidator} with the given {@link Normalizer}.
-     *
-     * @param normalizer the normalizer to preprocess the input before validation.
-     * @throws IllegalArgumentException if {@code normalizer} is null.
-     */
-    public AlphanumericValidator(Normalizer normalizer) throws IllegalArgumentException {
-        super(normalizer);
-    }
-
-    /**
-     * Validates the given CNPJ string as an alphanumeric CNPJ.
-     *
-     * <p>The input may be formatted or unformatted. It will be normalized before validation.</p>
-     *
-     * @param cnpj the CNPJ string to validate.
-     * @return {@code true} if the CNPJ is structurally valid and has correct check digits; {@code false} otherwise.
+     * Constructs a new {@code AlphanumericValidator}.
      */
-    public boolean isValid(String cnpj) {
-        return super.isValid(cnpj, CnpjCheckDigitCalculator::calculateCheckDigits);
+    public AlphanumericValidator() {
+        super();
     }
 
 }
@@ -0,0 +1,699 @@
+package io.github.felseje.internal.cnpj.validation;
+
+import io.github.felseje.cnpj.Cnpj;
+import io.github.felseje.cnpj.CnpjType;
+import io.github.felseje.document.ParseProfile;
+import io.github.felseje.document.ValidationReason;
+import io.github.felseje.internal.cnpj.util.CnpjCheckDigitCalculator;
+import io.github.felseje.internal.cnpj.util.CnpjCodec;
+import io.github.felseje.internal.util.ByteUtils;
+import io.github.felseje.internal.util.DiagnosisCodec;
+import io.github.felseje.internal.util.ParseAutomaton;
+import io.github.felseje.internal.util.StringUtils;
+import io.github.felseje.internal.util.Swar;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.function.IntUnaryOperator;
+
+import static io.github.felseje.internal.Constants.NOT_ALLOWED_INSTANTIATION_ERROR;
+
+/**
+ * Fused single-pass CNPJ classification and validation engine.
+ *
+ * <p>Reads the input once and, in the same loop, classifies it as {@link CnpjType#NUMERIC} or
+ * {@link CnpjType#ALPHANUMERIC}, tracks repeated characters and accumulates both weighted sums of
+ * {@link CnpjCheckDigitCalculator}. No regex is involved and nothing is allocated.</p>
+ *
+ * <p>Two reading modes are offered:</p>
+ * <ul>
+ *   <li>{@link #scanStrict(CharSequence, int, int)} accepts only the exact shapes described by {@link CnpjType}
+ *   ({@code ##.###.###/####-##} or 14 characters without separators), reading them with the same precompiled
+ *   {@link ParseAutomaton} as the {@link ParseProfile#STANDARD} profile;</li>
+ *   <li>{@link #scanLenient(CharSequence, int, int)} skips every character that is not an ASCII letter or digit, the same
+ *   characters {@code CnpjNormalizer} removes.</li>
+ * </ul>
+ *
+ * <p>Both return a result made of a type flag ({@link #NUMERIC} or {@link #ALPHANUMERIC}), possibly combined
+ * with {@link #VALID}, or {@link #NO_MATCH} when the input has no CNPJ structure. Lowercase letters never
+ * match, as in the {@link CnpjType} patterns.</p>
+ *
+ * <p>Any {@link CharSequence} region can be scanned, so CNPJs held inside larger buffers are read in place.
+ * ASCII text held in a {@code byte[]} or a {@link ByteBuffer} (heap or direct) is scanned the same way, without
+ * decoding it to a {@link String}; each byte is read as the Latin-1 character of the same code.</p>
+ *
+ * <p>Byte regions of exactly 14 bytes, the usual shape of clean numeric feeds, first take a {@link Swar} fast path:
+ * the region is read as two overlapping 8-byte words, checked for digits and summed with multiplications. Any region
+ * that is not made only of digits, alphanumeric CNPJs included, falls back to the per-character scan.</p>
+ *
+ * @author felseje
+ * @since 1.0.0-alpha
+ */
+public final class CnpjScanner {
+
+    /**
+     * Every 14-digit number made of one repeated digit, zero included, is a multiple of this value.
+     */
+    private static final long REPEATED_DIGIT_DIVISOR = 11_111_111_111_111L;
+
+    private static final int TAIL_OFFSET = Cnpj.LENGTH - Swar.WORD_SIZE;
+    private static final long HEAD_FIRST_EVEN = Swar.evenMultiplier(CnpjCheckDigitCalculator::firstWeight);
+    private static final long HEAD_FIRST_ODD = Swar.oddMultiplier(CnpjCheckDigitCalculator::firstWeight);
+    private static final long HEAD_SECOND_EVEN = Swar.evenMultiplier(CnpjCheckDigitCalculator::secondWeight);
+    private static final long HEAD_SECOND_ODD = Swar.oddMultiplier(CnpjCheckDigitCalculator::secondWeight);
+    private static final long TAIL_FIRST_EVEN = Swar.evenMultiplier(tailWeight(CnpjCheckDigitCalculator::firstWeight));
+    private static final long TAIL_FIRST_ODD = Swar.oddMultiplier(tailWeight(CnpjCheckDigitCalculator::firstWeight));
+    private static final long TAIL_SECOND_EVEN = Swar.evenMultiplier(tailWeight(CnpjCheckDigitCalculator::secondWeight));
+    private static final long TAIL_SECOND_ODD = Swar.oddMultiplier(tailWeight(CnpjCheckDigitCalculator::secondWeight));
+
+    /**
+     * Result returned when the input does not have the structure of any {@link CnpjType}.
+     */
+    public static final int NO_MATCH = 0;
+
+    /**
+     * Result flag set when the input is structurally a {@link CnpjType#NUMERIC} CNPJ.
+     */
+    public static final int NUMERIC = 1;
+
+    /**
+     * Result flag set when the input is structurally a {@link CnpjType#ALPHANUMERIC} CNPJ with at least one letter.
+     */
+    public static final int ALPHANUMERIC = 2;
+
+    /**
+     * Result flag set when, besides matching a type, the input is not made of a repeated character and its check
+     * digits are correct.
+     */
+    public static final int VALID = 4;
+
+    /**
+     * The key returned by {@link #toKeyStrict(CharSequence, int, int)} for a region without an exact CNPJ shape,
+     * distinct from {@link CnpjCodec#INVALID}.
+     */
+    public static final long NO_MATCH_KEY = CnpjCodec.INVALID - 1;
+
+    private static final String FORMATTED_MASK = "##.###.###/####-##";
+    private static final char MASK_PLACEHOLDER = '#';
+    private static final String CANONICAL_MASK = "##############";
+    private static final ParseAutomaton CANONICAL_AUTOMATON = ParseAutomaton.ofMasks(slotClasses(), CANONICAL_MASK);
+    private static final ParseAutomaton FORMATTED_AUTOMATON = ParseAutomaton.ofMasks(slotClasses(), FORMATTED_MASK);
+    private static final ParseAutomaton STANDARD_AUTOMATON =
+            ParseAutomaton.ofMasks(slotClasses(), CANONICAL_MASK, FORMATTED_MASK);
+    private static final ParseAutomaton LENIENT_AUTOMATON =
+            ParseAutomaton.lenient(slotClasses(), 1 << ParseAutomaton.LOWERCASE);
+
+    /**
+     * Prevents instantiation of this utility class.
+     *
+     * @throws IllegalStateException always thrown to indicate this class should not be instantiated
+     */
+    private CnpjScanner() {
+        throw new IllegalStateException(NOT_ALLOWED_INSTANTIATION_ERROR);
+    }
+
+    /**
+     * Scans an input that must be exactly in the formatted or unformatted CNPJ shape.
+     *
+     * @param input the CNPJ to scan; may be {@code null}.
+     * @return the scan result; {@link #NO_MATCH} if the input does not have an exact CNPJ shape.
+     */
+    public static int scanStrict(CharSequence input) {
+        return input == null ? NO_MATCH : scanStrict(input, 0, input.length());
+    }
+
+    /**
+     * Scans a region that must be exactly in the formatted or unformatted CNPJ shape.
+     *
+     * @param input  the character sequence holding the CNPJ; may be {@code null}.
+     * @param offset the index of the first character of the region.
+     * @param length the number of characters in the region.
+     * @return the scan result; {@link #NO_MATCH} if the region does not have an exact CNPJ shape.
+     * @throws IndexOutOfBoundsException if {@code input} is not {@code null} and the region is out of its bounds.
+     */
+    public static int scanStrict(CharSequence input, int offset, int length) throws IndexOutOfBoundsException {
+        if (input == null) {
+            return NO_MATCH;
+        }
+        Objects.checkFromIndexSize(offset, length, input.length());
+        if (!hasShapeLength(length)) {
+            return NO_MATCH;
+        }
+        final var state = new State();
+        for (int i = 0; i < length; i++) {
+            if (!state.acceptShaped(STANDARD_AUTOMATON, input.charAt(offset + i))) {
+                return NO_MATCH;
+            }
+        }
+        return state.shapedResult(STANDARD_AUTOMATON);
+    }
+
+    /**
+     * Scans a region of ASCII bytes that must be exactly in the formatted or unformatted CNPJ shape.
+     *
+     * @param input  the bytes holding the CNPJ; may be {@code null}.
+     * @param offset the index of the first byte of the region.
+     * @param length the number of bytes in the region.
+     * @return the scan result; {@link #NO_MATCH} if the region does not have an exact CNPJ shape.
+     * @throws IndexOutOfBoundsException if {@code input} is not {@code null} and the region is out of its bounds.
+     */
+    public static int scanStrict(byte[] input, int offset, int length) throws IndexOutOfBoundsException {
+        if (input == null) {
+            return NO_MATCH;
+        }
+        Objects.checkFromIndexSize(offset, length, input.length);
+        if (length == Cnpj.LENGTH) {
+            final var head = Swar.load(input, offset);
+            final var tail = Swar.load(input, offset + TAIL_OFFSET);
+            if (Swar.isDigits(head) && Swar.isDigits(tail)) {
+                return scanDigits(head, tail);
+            }
+        }
+        if (!hasShapeLength(length)) {
+            return NO_MATCH;
+        }
+        final var state = new State();
+        for (int i = 0; i < length; i++) {
+            if (!state.acceptShaped(STANDARD_AUTOMATON, ByteUtils.toChar(input[offset + i]))) {
+                return NO_MATCH;
+            }
+        }
+        return state.shapedResult(STANDARD_AUTOMATON);
+    }
+
+    /**
+     * Scans a region of an ASCII byte buffer that must be exactly in the formatted or unformatted CNPJ shape.
+     *
+     * <p>The region is given in absolute indexes; the buffer position and limit are left untouched.</p>
+     *
+     * @param input  the buffer holding the CNPJ; may be {@code null}.
+     * @param offset the absolute index of the first byte of the region.
+     * @param length the number of bytes in the region.
+     * @return the scan result; {@link #NO_MATCH} if the region does not have an exact CNPJ shape.
+     * @throws IndexOutOfBoundsException if {@code input} is not {@code null} and the region is out of its limit.
+     */
+    public static int scanStrict(ByteBuffer input, int offset, int length) throws IndexOutOfBoundsException {
+        if (input == null) {
+            return NO_MATCH;
+        }
+        ByteUtils.checkRegion(input, offset, length);
+        if (input.hasArray()) {
+            return scanStrict(input.array(), input.arrayOffset() + offset, length);
+        }
+        if (length == Cnpj.LENGTH) {
+            final var head = Swar.load(input, offset);
+            final var tail = Swar.load(input, offset + TAIL_OFFSET);
+            if (Swar.isDigits(head) && Swar.isDigits(tail)) {
+                return scanDigits(head, tail);
+            }
+        }
+        if (!hasShapeLength(length)) {
+            return NO_MATCH;
+        }
+        final var state = new State();
+        for (int i = 0; i < length; i++) {
+            if (!state.acceptShaped(STANDARD_AUTOMATON, ByteUtils.toChar(input.get(offset + i)))) {
+                return NO_MATCH;
+            }
+        }
+        return state.shapedResult(STANDARD_AUTOMATON);
+    }
+
+    /**
+     * Scans an input ignoring every character that is not an ASCII letter or digit.
+     *
+     * @param input the CNPJ to scan; may be {@code null}.
+     * @return the scan result; {@link #NO_MATCH} if the remaining characters do not have a CNPJ structure.
+     */
+    public static int scanLenient(CharSequence input) {
+        return input == null ? NO_MATCH : scanLenient(input, 0, input.length());
+    }
+
+    /**
+     * Scans a region ignoring every character that is not an ASCII letter or digit.
+     *
+     * @param input  the character sequence holding the CNPJ; may be {@code null}.
+     * @param offset the index of the first character of the region.
+     * @param length the number of characters in the region.
+     * @return the scan result; {@link #NO_MATCH} if the remaining characters do not have a CNPJ structure.
+     * @throws IndexOutOfBoundsException if {@code input} is not {@code null} and the region is out of its bounds.
+     */
+    public static int scanLenient(CharSequence input, int offset, int length) throws IndexOutOfBoundsException {
+        if (input == null) {
+            return NO_MATCH;
+        }
+        Objects.checkFromIndexSize(offset, length, input.length());
+        final var state = new State();
+        for (int i = offset, end = offset + length; i < end; i++) {
+            if (!state.acceptLenient(input.charAt(i))) {
+                return NO_MATCH;
+            }
+        }
+        return state.result();
+    }
+
+    /**
+     * Scans a region of ASCII bytes ignoring every byte that is not an ASCII letter or digit.
+     *
+     * @param input  the bytes holding the CNPJ; may be {@code null}.
+     * @param offset the index of the first byte of the region.
+     * @param length the number of bytes in the region.
+     * @return the scan result; {@link #NO_MATCH} if the remaining bytes do not have a CNPJ structure.
+     * @throws IndexOutOfBoundsException if {@code input} is not {@code null} and the region is out of its bounds.
+     */
+    public static int scanLenient(byte[] input, int offset, int length) throws IndexOutOfBoundsException {
+        if (input == null) {
+            return NO_MATCH;
+        }
+        Objects.checkFromIndexSize(offset, length, input.length);
+        if (length == Cnpj.LENGTH) {
+            final var head = Swar.load(input, offset);
+            final var tail = Swar.load(input, offset + TAIL_OFFSET);
+            if (Swar.isDigits(head) && Swar.isDigits(tail)) {
+                return scanDigits(head, tail);
+            }
+        }
+        final var state = new State();
+        for (int i = offset, end = offset + length; i < end; i++) {
+            if (!state.acceptLenient(ByteUtils.toChar(input[i]))) {
+                return NO_MATCH;
+            }
+        }
+        return state.result();
+    }
+
+    /**
+     * Scans a region of an ASCII byte buffer ignoring every byte that is not an ASCII letter or digit.
+     *
+     * <p>The region is given in absolute indexes; the buffer position and limit are left untouched.</p>
+     *
+     * @param input  the buffer holding the CNPJ; may be {@code null}.
+     * @param offset the absolute index of the first byte of the region.
+     * @param length the number of bytes in the region.
+     * @return the scan result; {@link #NO_MATCH} if the remaining bytes do not have a CNPJ structure.
+     * @throws IndexOutOfBoundsException if {@code input} is not {@code null} and the region is out of its limit.
+     */
+    public static int scanLenient(ByteBuffer input, int offset, int length) throws IndexOutOfBoundsException {
+        if (input == null) {
+            return NO_MATCH;
+        }
+        ByteUtils.checkRegion(input, offset, length);
+        if (input.hasArray()) {
+            return scanLenient(input.array(), input.arrayOffset() + offset, length);
+        }
+        if (length == Cnpj.LENGTH) {
+            final var head = Swar.load(input, offset);
+            final var tail = Swar.load(input, offset + TAIL_OFFSET);
+            if (Swar.isDigits(head) && Swar.isDigits(tail)) {
+                return scanDigits(head, tail);
+            }
+        }
+        final var state = new State();
+        for (int i = offset, end = offset + length; i < end; i++) {
+            if (!state.acceptLenient(ByteUtils.toChar(input.get(i)))) {
+                return NO_MATCH;
+            }
+        }
+        return state.result();
+    }
+
+    /**
+     * Validates a region ignoring every character that is not an ASCII letter or digit and packs its base, in the
+     * same single pass.
+     *
+     * @param input  the character sequence holding the CNPJ; may be {@code null}.
+     * @param offset the index of the first character of the region.
+     * @param length the number of characters in the region.
+     * @return the CNPJ base packed as by {@link CnpjCodec}, or {@link CnpjCodec#INVALID} if the region is not a
+     * valid CNPJ.
+     * @throws IndexOutOfBoundsException if {@code input} is not {@code null} and the region is out of its bounds.
+     */
+    public static long toKey(CharSequence input, int offset, int length) throws IndexOutOfBoundsException {
+        if (input == null) {
+            return CnpjCodec.INVALID;
+        }
+        Objects.checkFromIndexSize(offset, length, input.length());
+        final var state = new State();
+        for (int i = offset, end = offset + length; i < end; i++) {
+            if (!state.acceptLenient(input.charAt(i))) {
+                return CnpjCodec.INVALID;
+            }
+        }
+        return isValid(state.result()) ? state.base : CnpjCodec.INVALID;
+    }
+
+    /**
+     * Validates a region that must be exactly in the formatted or unformatted CNPJ shape and packs its base, in the
+     * same single pass.
+     *
+     * @param input  the character sequence holding the CNPJ; may be {@code null}.
+     * @param offset the index of the first character of the region.
+     * @param length the number of characters in the region.
+     * @return the CNPJ base packed as by {@link CnpjCodec}; {@link #NO_MATCH_KEY} if the region does not have an exact
+     * CNPJ shape, or {@link CnpjCodec#INVALID} if it has one but is not a valid CNPJ.
+     * @throws IndexOutOfBoundsException if {@code input} is not {@code null} and the region is out of its bounds.
+     */
+    public static long toKeyStrict(CharSequence input, int offset, int length) throws IndexOutOfBoundsException {
+        if (input == null) {
+            return NO_MATCH_KEY;
+        }
+        Objects.checkFromIndexSize(offset, length, input.length());
+        if (!hasShapeLength(length)) {
+            return NO_MATCH_KEY;
+        }
+        final var state = new State();
+        for (int i = 0; i < length; i++) {
+            if (!state.acceptShaped(STANDARD_AUTOMATON, input.charAt(offset + i))) {
+                return NO_MATCH_KEY;
+            }
+        }
+        final var result = state.shapedResult(STANDARD_AUTOMATON);
+        if (result == NO_MATCH) {
+            return NO_MATCH_KEY;
+        }
+        return isValid(result) ? state.base : CnpjCodec.INVALID;
+    }
+
+    /**
+     * Validates a region read with a parse profile and packs its base, in the same single pass.
+     *
+     * @param input   the character sequence holding the CNPJ; may be {@code null}.
+     * @param offset  the index of the first character of the region.
+     * @param length  the number of characters in the region.
+     * @param profile the profile telling which shapes are accepted.
+     * @return the CNPJ base packed as by {@link CnpjCodec}, or {@link CnpjCodec#INVALID} if the region is not a valid
+     * CNPJ in a shape accepted by the profile.
+     * @throws IndexOutOfBoundsException if {@code input} is not {@code null} and the region is out of its bounds.
+     */
+    public static long toKey(CharSequence input, int offset, int length, ParseProfile profile)
+            throws IndexOutOfBoundsException {
+        if (input == null) {
+            return CnpjCodec.INVALID;
+        }
+        Objects.checkFromIndexSize(offset, length, input.length());
+        final var automaton = automatonOf(profile);
+        final var state = new State();
+        for (int i = offset, end = offset + length; i < end; i++) {
+            if (!state.acceptShaped(automaton, input.charAt(i))) {
+                return CnpjCodec.INVALID;
+            }
+        }
+        return isValid(state.shapedResult(automaton)) ? state.base : CnpjCodec.INVALID;
+    }
+
+    /**
+     * Diagnoses a region that must be exactly in the formatted or unformatted CNPJ shape, in a single pass.
+     *
+     * <p>The region is read as by {@link #scanStrict(CharSequence, int, int)}: separators must sit at the positions of
+     * the formatted mask, the base may hold digits and uppercase letters and the check digits only digits.</p>
+     *
+     * @param input  the character sequence holding the CNPJ; may be {@code null}.
+     * @param offset the index of the first character of the region.
+     * @param length the number of characters in the region.
+     * @return the diagnosis packed as by {@link DiagnosisCodec}.
+     * @throws IndexOutOfBoundsException if {@code input} is not {@code null} and the region is out of its bounds.
+     */
+    public static long diagnose(CharSequence input, int offset, int length) throws IndexOutOfBoundsException {
+        if (StringUtils.isNullOrBlank(input, offset, length)) {
+            return DiagnosisCodec.pack(ValidationReason.BLANK, DiagnosisCodec.NONE, DiagnosisCodec.NONE);
+        }
+        if (!hasShapeLength(length)) {
+            return DiagnosisCodec.pack(ValidationReason.WRONG_LENGTH, DiagnosisCodec.NONE, DiagnosisCodec.NONE);
+        }
+        final var formatted = length == Cnpj.FORMATTED_LENGTH;
+        var position = 0;
+        var first = '\0';
+        var repeated = true;
+        var sums = 0;
+        var checkDigits = 0;
+        var firstCheckDigitIndex = 0;
+        for (int index = 0; index < length; index++) {
+            final var character = input.charAt(offset + index);
+            if (formatted && FORMATTED_MASK.charAt(index) != MASK_PLACEHOLDER) {
+                if (character != FORMATTED_MASK.charAt(index)) {
+                    return DiagnosisCodec.pack(ValidationReason.ILLEGAL_CHARACTER, index, DiagnosisCodec.NONE);
+                }
+                continue;
+            }
+            final var digit = character >= '0' && character <= '9';
+            if (!digit && (character < 'A' || character > 'Z')) {
+                return DiagnosisCodec.pack(ValidationReason.ILLEGAL_CHARACTER, index, DiagnosisCodec.NONE);
+            }
+            if (!digit && position >= CnpjCheckDigitCalculator.BASE_SIZE) {
+                return DiagnosisCodec.pack(ValidationReason.UNKNOWN_CNPJ_TYPE, index, DiagnosisCodec.NONE);
+            }
+            if (position == 0) {
+                first = character;
+            } else if (character != first) {
+                repeated = false;
+            }
+            if (position < CnpjCheckDigitCalculator.BASE_SIZE) {
+                sums += CnpjCheckDigitCalculator.contributionOf(position, character);
+            } else {
+                checkDigits = checkDigits * 10 + CnpjCheckDigitCalculator.valueOf(character);
+                if (position == CnpjCheckDigitCalculator.BASE_SIZE) {
+                    firstCheckDigitIndex = index;
+                }
+            }
+            position++;
+        }
+        return DiagnosisCodec.diagnoseCheckDigits(repeated, checkDigits,
+                CnpjCheckDigitCalculator.checkDigitsOfSums(sums), firstCheckDigitIndex, length - 1);
+    }
+
+    /**
+     * Validates a numeric CNPJ given as a number, as stored in numeric database columns.
+     *
+     * <p>Missing leading zeros are implied: {@code 191L} stands for {@code "00000000000191"}.</p>
+     *
+     * @param number the CNPJ as a number.
+     * @return {@code true} if the number has at most 14 digits, is not made of a repeated digit and its check
+     * digits match; {@code false} otherwise.
+     */
+    public static boolean isValid(long number) {
+        return CnpjCodec.isNumberInRange(number)
+                && number % REPEATED_DIGIT_DIVISOR != 0
+                && CnpjCheckDigitCalculator.checkDigitsOf(number / 100) == number % 100;
+    }
+
+    /**
+     * Validates a numeric CNPJ given as a number and packs its base, without going through text.
+     *
+     * @param number the CNPJ as a number.
+     * @return the CNPJ base packed as by {@link CnpjCodec}, or {@link CnpjCodec#INVALID} if the number is not a
+     * valid CNPJ.
+     */
+    public static long toKey(long number) {
+        return isValid(number) ? CnpjCodec.encodeNumericBase(number / 100) : CnpjCodec.INVALID;
+    }
+
+    /**
+     * Returns the {@link CnpjType} encoded in a scan result.
+     *
+     * @param result a value returned by one of the scan methods.
+     * @return the matched type, or {@code null} if the result is {@link #NO_MATCH}.
+     */
+    public static CnpjType typeOf(int result) {
+        if ((result & NUMERIC) != 0) {
+            return CnpjType.NUMERIC;
+        }
+        if ((result & ALPHANUMERIC) != 0) {
+            return CnpjType.ALPHANUMERIC;
+        }
+        return null;
+    }
+
+    /**
+     * Tells whether a scan result denotes a valid CNPJ.
+     *
+     * @param result a value returned by one of the scan methods.
+     * @return {@code true} if the {@link #VALID} flag is set; {@code false} otherwise.
+     */
+    public static boolean isValid(int result) {
+        return (result & VALID) != 0;
+    }
+
+    /**
+     * Scans 14 ASCII digits held in two overlapping words.
+     *
+     * @param head the word of bytes 0 to 7, all digits.
+     * @param tail the word of bytes 6 to 13, all digits.
+     * @return {@link #NUMERIC}, combined with {@link #VALID} if the digits are not all the same and their check
+     * digits match.
+     */
+    private static int scanDigits(final long head, final long tail) {
+        if (head == tail && Swar.isRepeated(head)) {
+            return NUMERIC;
+        }
+        final var headDigits = Swar.digitsOf(head);
+        final var tailDigits = Swar.digitsOf(tail);
+        final var sums = CnpjCheckDigitCalculator.sumsOf(
+                Swar.weightedSum(headDigits, HEAD_FIRST_EVEN, HEAD_FIRST_ODD)
+                        + Swar.weightedSum(tailDigits, TAIL_FIRST_EVEN, TAIL_FIRST_ODD),
+                Swar.weightedSum(headDigits, HEAD_SECOND_EVEN, HEAD_SECOND_ODD)
+                        + Swar.weightedSum(tailDigits, TAIL_SECOND_EVEN, TAIL_SECOND_ODD));
+        final var checkDigits = Swar.byteAt(tailDigits, Swar.WORD_SIZE - 2) * 10
+                + Swar.byteAt(tailDigits, Swar.WORD_SIZE - 1);
+        return checkDigits == CnpjCheckDigitCalculator.checkDigitsOfSums(sums) ? NUMERIC | VALID : NUMERIC;
+    }
+
+    /**
+     * Adapts base weights to the bytes of the tail word, keeping only the base positions the head word misses.
+     *
+     * @param weightOfPosition the weight of each base position.
+     * @return the weight of each tail byte; zero for bytes already in the head word and for check digits.
+     */
+    private static IntUnaryOperator tailWeight(final IntUnaryOperator weightOfPosition) {
+        return index -> {
+            final var position = TAIL_OFFSET + index;
+            return position >= Swar.WORD_SIZE && position < CnpjCheckDigitCalculator.BASE_SIZE
+                    ? weightOfPosition.applyAsInt(position)
+                    : 0;
+        };
+    }
+
+    private static ParseAutomaton automatonOf(final ParseProfile profile) {
+        return switch (profile) {
+            case CANONICAL -> CANONICAL_AUTOMATON;
+            case FORMATTED -> FORMATTED_AUTOMATON;
+            case STANDARD -> STANDARD_AUTOMATON;
+            case LENIENT -> LENIENT_AUTOMATON;
+        };
+    }
+
+    /**
+     * Returns the classes of characters allowed at each CNPJ position: digits and uppercase letters in the base, digits
+     * only in the check digits.
+     *
+     * @return the classes of each position, as bit sets of {@code 1 << class}.
+     */
+    private static int[] slotClasses() {
+        final var classes = new int[Cnpj.LENGTH];
+        for (var position = 0; position < Cnpj.LENGTH; position++) {
+            classes[position] = 1 << ParseAutomaton.DIGIT;
+            if (position < CnpjCheckDigitCalculator.BASE_SIZE) {
+                classes[position] |= 1 << ParseAutomaton.UPPERCASE;
+            }
+        }
+        return classes;
+    }
+
+    private static boolean hasShapeLength(final int length) {
+        return length == Cnpj.LENGTH || length == Cnpj.FORMATTED_LENGTH;
+    }
+
+    /**
+     * Tells whether a character is kept by CNPJ cleaning, that is, an ASCII letter or digit.
+     *
+     * @param character the character to test.
+     * @return {@code true} if the character is an ASCII letter or digit; {@code false} otherwise.
+     */
+    public static boolean isAsciiLetterOrDigit(final char character) {
+        return (character >= '0' && character <= '9')
+                || (character >= 'A' && character <= 'Z')
+                || (character >= 'a' && character <= 'z');
+    }
+
+    /**
+     * Running state of a scan.
+     *
+     * <p>Instances never escape the scan methods, so the JIT replaces them with plain local variables.</p>
+     */
+    private static final class State {
+
+        private int shape = ParseAutomaton.START;
+        private int count;
+        private char firstCharacter;
+        private boolean repeated = true;
+        private boolean alphanumeric;
+        private int sums;
+        private int checkDigits;
+        private long base;
+
+        /**
+         * Consumes the next character of an input read with an automaton, keeping only its document characters.
+         *
+         * @param automaton the automaton telling which shapes are accepted.
+         * @param character the next input character.
+         * @return {@code false} if the character breaks every shape of the automaton; {@code true} otherwise.
+         */
+        boolean acceptShaped(final ParseAutomaton automaton, final char character) {
+            final var transition = automaton.transition(shape, character);
+            if (transition == ParseAutomaton.REJECT) {
+                return false;
+            }
+            shape = ParseAutomaton.stateOf(transition);
+            return !ParseAutomaton.emits(transition) || accept(character);
+        }
+
+        /**
+         * Builds the scan result of an input read with an automaton.
+         *
+         * @param automaton the automaton the input was read with.
+         * @return the scan result; {@link #NO_MATCH} if the input ended before completing a shape.
+         */
+        int shapedResult(final ParseAutomaton automaton) {
+            return automaton.isAccepting(shape) ? result() : NO_MATCH;
+        }
+
+        /**
+         * Consumes the next character of a free-form input, ignoring anything that is not an ASCII letter or digit.
+         *
+         * @param character the next input character.
+         * @return {@code false} if the character cannot appear at the current CNPJ position; {@code true} otherwise.
+         */
+        boolean acceptLenient(final char character) {
+            return !isAsciiLetterOrDigit(character) || accept(character);
+        }
+
+        /**
+         * Consumes the next significant CNPJ character.
+         *
+         * @param character the character at the current CNPJ position.
+         * @return {@code false} if the character cannot appear at this position; {@code true} otherwise.
+         */
+        boolean accept(final char character) {
+            final var position = count;
+            if (position >= Cnpj.LENGTH) {
+                return false;
+            }
+            final var digit = character >= '0' && character <= '9';
+            if (!digit) {
+                if (position >= CnpjCheckDigitCalculator.BASE_SIZE || character < 'A' || character > 'Z') {
+                    return false;
+                }
+                alphanumeric = true;
+            }
+            if (position == 0) {
+                firstCharacter = character;
+            } else if (character != firstCharacter) {
+                repeated = false;
+            }
+            if (position < CnpjCheckDigitCalculator.BASE_SIZE) {
+                base = base * CnpjCodec.RADIX + CnpjCodec.digitOf(character);
+                sums += CnpjCheckDigitCalculator.contributionOf(position, character);
+            } else {
+                checkDigits = checkDigits * 10 + CnpjCheckDigitCalculator.valueOf(character);
+            }
+            count++;
+            return true;
+        }
+
+        /**
+         * Builds the scan result from the consumed characters.
+         *
+         * @return the scan result.
+         */
+        int result() {
+            if (count != Cnpj.LENGTH) {
+                return NO_MATCH;
+            }
+            final var type = alphanumeric ? ALPHANUMERIC : NUMERIC;
+            final var valid = !repeated
+                    && checkDigits == CnpjCheckDigitCalculator.checkDigitsOfSums(sums);
+            return valid ? type | VALID : type;
+        }
+
+    }
+
+}
@@ -1,12 +1,9 @@
 package io.github.felseje.internal.cnpj.validation;
 
-import io.github.felseje.internal.core.Normalizer;
-import io.github.felseje.internal.cnpj.util.CnpjCheckDigitCalculator;
-
 /**
  * Validator for numeric CNPJs.
  * <p> This class validates CNPJ strings composed exclusively of digits. </p>
- * <p> It relies on the shared validation logic in {@link AbstractValidator} and uses {@link CnpjCheckDigitCalculator} to verify check digits. </p>
+ * <p> It relies on the shared single-pass validation logic in {@link AbstractValidator}. </p>
  *
  * Examples of valid input:
  * <ul>
@@ -20,26 +17,10 @@ import io.github.felseje.internal.cnpj.util.CnpjCheckDigitCalculator;
 public final class NumericValidator extends AbstractValidator {
 
     /**
-     * Constructs a new {@code NumericValidator} with the given {@link Normalizer}.
-     *
-     * @param normalizer the normalizer used to preprocess input strings before validation
-     * @throws IllegalArgumentException if {@code normalizer} is null
-     */
-    public NumericValidator(Normalizer normalizer) throws IllegalArgumentException {
-        super(normalizer);
-    }
-
-    /**
-     * Validates the given CNPJ string as a numeric CNPJ.
-     *
-     * <p>The input may be formatted or unformatted. It will be normalized before validation.</p>
-     *
-     * @param cnpj the CNPJ string to validate
-     * @return {@code true} if the CNPJ is structurally valid and has correct check digits;
-     *         {@code false} otherwise
+     * Constructs a new {@code NumericValidator}.
      */
-    public boolean isValid(String cnpj) {
-        return super.isValid(cnpj, CnpjCheckDigitCalculator::calculateCheckDigits);
+    public NumericValidator() {
+        super();
     }
 
 }
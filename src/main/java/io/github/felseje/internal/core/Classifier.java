@@ -1,6 +1,7 @@
 package io.github.felseje.internal.core;
 
 import io.github.felseje.cnpj.CnpjType;
+import io.github.felseje.internal.util.StringUtils;
 
 /**
  * Represents a classifier that determines the {@link CnpjType} of a given document.
@@ -20,6 +21,18 @@ public interface Classifier {
      * @param document the CNPJ to classify.
      * @return the {@code CnpjType} representing the classification result.
      */
-    CnpjType classify(String document);
+    default CnpjType classify(CharSequence document) {
+        return classify(document, 0, StringUtils.lengthOf(document));
+    }
+
+    /**
+     * Classifies the CNPJ found in a region of the given character sequence.
+     *
+     * @param document the character sequence holding the CNPJ.
+     * @param offset   the index of the first character of the region.
+     * @param length   the number of characters in the region.
+     * @return the {@code CnpjType} representing the classification result.
+     */
+    CnpjType classify(CharSequence document, int offset, int length);
 
 }
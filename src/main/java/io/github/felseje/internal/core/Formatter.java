@@ -1,5 +1,7 @@
 package io.github.felseje.internal.core;
 
+import io.github.felseje.internal.util.StringUtils;
+
 /**
  * Represents a formatter that applies a specific format to a given document string.
  * <p>
@@ -13,11 +15,23 @@ package io.github.felseje.internal.core;
 public interface Formatter {
 
     /**
-     * Formats the given document string.
+     * Formats the given document.
      *
      * @param document the document to format, typically a raw identifier like a CNPJ.
      * @return the formatted document string.
      */
-    String format(String document);
+    default String format(CharSequence document) {
+        return format(document, 0, StringUtils.lengthOf(document));
+    }
+
+    /**
+     * Formats the document found in a region of the given character sequence.
+     *
+     * @param document the character sequence holding the document.
+     * @param offset   the index of the first character of the region.
+     * @param length   the number of characters in the region.
+     * @return the formatted document string.
+     */
+    String format(CharSequence document, int offset, int length);
 
 }
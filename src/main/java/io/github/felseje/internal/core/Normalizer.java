@@ -1,5 +1,7 @@
 package io.github.felseje.internal.core;
 
+import io.github.felseje.internal.util.StringUtils;
+
 /**
  * Represents a normalizer that provides operations to sanitize and normalize input strings.
  * <p>
@@ -7,30 +9,57 @@ package io.github.felseje.internal.core;
  * and standardize the format of input data such as document identifiers.
  * </p>
  *
+ * <p>Inputs are accepted as any {@link CharSequence} region and are read in place, so callers holding
+ * documents in a {@code StringBuilder}, a {@code CharBuffer} or a larger record do not need to copy them first.</p>
+ *
  * @author felseje
  * @since 1.0.0-alpha
  */
 public interface Normalizer {
 
     /**
-     * Removes non-essential characters from the given input string,
+     * Removes non-essential characters from the given input,
      * such as punctuation, whitespace, or formatting symbols.
      *
-     * @param input the raw input string to be cleared
+     * @param input the raw input to be cleared
      * @return the cleaned string containing only the relevant characters
      */
-    String clear(String input);
+    default String clear(CharSequence input) {
+        return clear(input, 0, StringUtils.lengthOf(input));
+    }
 
     /**
-     * Normalizes the given input string into a standardized form.
+     * Removes non-essential characters from a region of the given input.
+     *
+     * @param input  the raw input to be cleared
+     * @param offset the index of the first character of the region
+     * @param length the number of characters in the region
+     * @return the cleaned string containing only the relevant characters
+     */
+    String clear(CharSequence input, int offset, int length);
+
+    /**
+     * Normalizes the given input into a standardized form.
      * <p>
      * This may include trimming, converting to a uniform case,
      * or applying formatting rules specific to the application's domain.
      * </p>
      *
-     * @param input the raw input string to normalize
+     * @param input the raw input to normalize
      * @return the normalized version of the input
      */
-    String normalize(String input);
+    default String normalize(CharSequence input) {
+        return normalize(input, 0, StringUtils.lengthOf(input));
+    }
+
+    /**
+     * Normalizes a region of the given input into a standardized form.
+     *
+     * @param input  the raw input to normalize
+     * @param offset the index of the first character of the region
+     * @param length the number of characters in the region
+     * @return the normalized version of the region
+     */
+    String normalize(CharSequence input, int offset, int length);
 
 }
@@ -26,6 +26,7 @@ import java.util.concurrent.ThreadLocalRandom;
 public final class CpfGenerator {
 
     private static final int BASE_SIZE = 9;
+    private static final long BASE_BOUND = 1_000_000_000L;
     private final Formatter formatter;
 
     /**
@@ -66,6 +67,16 @@ public final class CpfGenerator {
         return Integers.toString(base) + Integers.toString(checkDigits);
     }
 
+    /**
+     * Generates a valid CPF as a number, as stored in numeric database columns.
+     *
+     * @return the 11 CPF digits as a number; leading zeros are implied.
+     */
+    public long generateNumber() {
+        final var base = ThreadLocalRandom.current().nextLong(BASE_BOUND);
+        return base * 100 + CpfCheckDigitCalculator.checkDigitsOf(base);
+    }
+
     /**
      * Generates a valid CPF string, formatted or not.
      *
@@ -2,6 +2,7 @@ package io.github.felseje.internal.cpf.helper;
 
 import io.github.felseje.internal.core.Formatter;
 import io.github.felseje.internal.core.Normalizer;
+import io.github.felseje.internal.document.DocumentWriter;
 import io.github.felseje.cpf.exception.InvalidCpfException;
 
 /**
@@ -42,12 +43,7 @@ public class CpfFormatter implements Formatter {
      * @return the CPF formatted as <code>XXX.XXX.XXX-XX</code>.
      */
     private String doFormat(final String value) {
-        return "%s.%s.%s-%s".formatted(
-                value.substring(0, 3),
-                value.substring(3, 6),
-                value.substring(6, 9),
-                value.substring(9)
-        );
+        return DocumentWriter.CPF.format(value);
     }
 
     /**
@@ -67,8 +63,26 @@ public class CpfFormatter implements Formatter {
      * @throws InvalidCpfException      if the {@code input} cannot be normalized into a valid CPF.
      */
     @Override
-    public String format(String input) throws IllegalArgumentException, InvalidCpfException {
+    public String format(CharSequence input) throws IllegalArgumentException, InvalidCpfException {
         return doFormat(normalizer.normalize(input));
     }
 
+    /**
+     * Formats the document found in a region of the given character sequence.
+     *
+     * <p> The region is normalized in place, without copying it first, then formatted. </p>
+     *
+     * @param input  the character sequence holding the raw document; must not be {@code null}
+     * @param offset the index of the first character of the region
+     * @param length the number of characters in the region
+     * @return the formatted document string
+     * @throws IllegalArgumentException  if {@code input} is {@code null} or the region is blank
+     * @throws IndexOutOfBoundsException if the region is out of the input bounds
+     * @throws InvalidCpfException      if the region cannot be normalized
+     */
+    @Override
+    public String format(CharSequence input, int offset, int length) throws IllegalArgumentException, InvalidCpfException {
+        return doFormat(normalizer.normalize(input, offset, length));
+    }
+
 }
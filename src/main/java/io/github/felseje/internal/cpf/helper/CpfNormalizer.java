@@ -3,9 +3,12 @@ package io.github.felseje.internal.cpf.helper;
 import io.github.felseje.cpf.Cpf;
 import io.github.felseje.internal.core.Normalizer;
 import io.github.felseje.cpf.exception.InvalidCpfException;
+import io.github.felseje.internal.util.ByteUtils;
+import io.github.felseje.internal.util.DocumentExceptions;
 import io.github.felseje.internal.util.StringUtils;
 
-import java.util.regex.Pattern;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 
 /**
  * Normalizer implementation for CPF (Cadastro de Pessoas Físicas) strings.
@@ -22,12 +25,16 @@ import java.util.regex.Pattern;
  *
  * <p>This class does <strong>not</strong> validate check digits — only the structural integrity of the input.</p>
  *
+ * <p>Inputs are read in place from any {@link CharSequence} region, in a single pass and without regex.
+ * ASCII bytes held in a {@code byte[]} or a {@link ByteBuffer} can be normalized the same way, without
+ * decoding the whole region to a {@link String} first.</p>
+ *
  * @author felseje
  * @since 1.0.0-alpha
  */
 public class CpfNormalizer implements Normalizer {
 
-    private static final Pattern WRONG_CPF_DIGITS_PATTERN = Pattern.compile("[^0-9]");
+    private static final String NULL_OR_BLANK_ERROR = "The CPF must not be null or blank";
 
     /**
      * Constructs a new {@code CpfNormalizer}.
@@ -36,33 +43,127 @@ public class CpfNormalizer implements Normalizer {
     }
 
     /**
-     * Removes all non-digit characters from a given CPF string.
+     * Removes all non-digit characters from a region of a given CPF character sequence.
      *
-     * @param input the CPF string to clean; must not be {@code null} or blank.
+     * @param input  the CPF to clean; must not be {@code null} or blank.
+     * @param offset the index of the first character of the region.
+     * @param length the number of characters in the region.
      * @return a string containing only numeric digits.
-     * @throws IllegalArgumentException if the input is {@code null} or blank.
+     * @throws IllegalArgumentException  if the input is {@code null} or the region is blank.
+     * @throws IndexOutOfBoundsException if the region is out of the input bounds.
      */
     @Override
-    public String clear(String input) throws IllegalArgumentException {
-        StringUtils.requireNonBlank(input, "The CPF must not be null or blank");
-        return WRONG_CPF_DIGITS_PATTERN.matcher(input).replaceAll("");
+    public String clear(CharSequence input, int offset, int length) throws IllegalArgumentException {
+        StringUtils.requireNonBlank(input, offset, length, NULL_OR_BLANK_ERROR);
+        final var digits = new char[length];
+        var count = 0;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            final var character = input.charAt(i);
+            if (character >= '0' && character <= '9') {
+                digits[count++] = character;
+            }
+        }
+        return new String(digits, 0, count);
     }
 
     /**
-     * Normalizes a raw CPF string by removing all non-digit characters and verifying its length.
+     * Normalizes a region of a raw CPF character sequence by removing all non-digit characters and verifying its length.
+     *
+     * <p>Digits are copied straight into an 11-character buffer; the scan stops as soon as a twelfth digit is found.</p>
      *
-     * @param input the CPF string to normalize; may be formatted or unformatted.
+     * @param input  the CPF to normalize; may be formatted or unformatted.
+     * @param offset the index of the first character of the region.
+     * @param length the number of characters in the region.
      * @return a normalized CPF string containing exactly 11 digits.
-     * @throws IllegalArgumentException if the input is {@code null} or blank.
-     * @throws InvalidCpfException      if the normalized CPF does not contain exactly 11 digits.
+     * @throws IllegalArgumentException  if the input is {@code null} or the region is blank.
+     * @throws IndexOutOfBoundsException if the region is out of the input bounds.
+     * @throws InvalidCpfException       if the normalized CPF does not contain exactly 11 digits.
      */
     @Override
-    public String normalize(String input) throws IllegalArgumentException, InvalidCpfException {
-        final var cleaned = clear(input);
-        if (cleaned.length() != Cpf.LENGTH) {
-            throw new InvalidCpfException("The CPF must be 11 characters long");
+    public String normalize(CharSequence input, int offset, int length) throws IllegalArgumentException, InvalidCpfException {
+        StringUtils.requireNonBlank(input, offset, length, NULL_OR_BLANK_ERROR);
+        final var digits = new char[Cpf.LENGTH];
+        var count = 0;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            final var character = input.charAt(i);
+            if (character >= '0' && character <= '9') {
+                if (count == Cpf.LENGTH) {
+                    throw DocumentExceptions.cpfWrongLength();
+                }
+                digits[count++] = character;
+            }
+        }
+        if (count != Cpf.LENGTH) {
+            throw DocumentExceptions.cpfWrongLength();
+        }
+        return new String(digits);
+    }
+
+    /**
+     * Normalizes a region of ASCII bytes holding a raw CPF by keeping only its digits and verifying their count.
+     *
+     * @param input  the bytes holding the CPF; may be formatted or unformatted.
+     * @param offset the index of the first byte of the region.
+     * @param length the number of bytes in the region.
+     * @return a normalized CPF string containing exactly 11 digits.
+     * @throws IllegalArgumentException  if the input is {@code null} or the region is blank.
+     * @throws IndexOutOfBoundsException if the region is out of the input bounds.
+     * @throws InvalidCpfException       if the region does not contain exactly 11 digits.
+     */
+    public String normalize(byte[] input, int offset, int length) throws IllegalArgumentException, InvalidCpfException {
+        ByteUtils.requireNonBlank(input, offset, length, NULL_OR_BLANK_ERROR);
+        final var digits = new byte[Cpf.LENGTH];
+        var count = 0;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            final var value = input[i];
+            if (value >= '0' && value <= '9') {
+                if (count == Cpf.LENGTH) {
+                    throw DocumentExceptions.cpfWrongLength();
+                }
+                digits[count++] = value;
+            }
+        }
+        if (count != Cpf.LENGTH) {
+            throw DocumentExceptions.cpfWrongLength();
+        }
+        return new String(digits, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Normalizes a region of an ASCII byte buffer holding a raw CPF by keeping only its digits and verifying
+     * their count.
+     *
+     * <p>The region is given in absolute indexes; the buffer position and limit are left untouched.</p>
+     *
+     * @param input  the buffer holding the CPF; may be formatted or unformatted.
+     * @param offset the absolute index of the first byte of the region.
+     * @param length the number of bytes in the region.
+     * @return a normalized CPF string containing exactly 11 digits.
+     * @throws IllegalArgumentException  if the input is {@code null} or the region is blank.
+     * @throws IndexOutOfBoundsException if the region is out of the input limit.
+     * @throws InvalidCpfException       if the region does not contain exactly 11 digits.
+     */
+    public String normalize(ByteBuffer input, int offset, int length) throws IllegalArgumentException, InvalidCpfException {
+        if (input != null && input.hasArray()) {
+            ByteUtils.checkRegion(input, offset, length);
+            return normalize(input.array(), input.arrayOffset() + offset, length);
+        }
+        ByteUtils.requireNonBlank(input, offset, length, NULL_OR_BLANK_ERROR);
+        final var digits = new byte[Cpf.LENGTH];
+        var count = 0;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            final var value = input.get(i);
+            if (value >= '0' && value <= '9') {
+                if (count == Cpf.LENGTH) {
+                    throw DocumentExceptions.cpfWrongLength();
+                }
+                digits[count++] = value;
+            }
+        }
+        if (count != Cpf.LENGTH) {
+            throw DocumentExceptions.cpfWrongLength();
         }
-        return cleaned;
+        return new String(digits, StandardCharsets.ISO_8859_1);
     }
 
 }
@@ -1,8 +1,7 @@
 package io.github.felseje.internal.cpf.util;
 
 import io.github.felseje.cpf.exception.InvalidCpfBaseException;
-
-import java.util.regex.Pattern;
+import io.github.felseje.internal.util.DocumentExceptions;
 
 import static io.github.felseje.internal.Constants.NOT_ALLOWED_INSTANTIATION_ERROR;
 
@@ -14,6 +13,11 @@ import static io.github.felseje.internal.Constants.NOT_ALLOWED_INSTANTIATION_ERR
  *
  * <p>It follows the official CPF validation algorithm defined by Receita Federal (Brazilian IRS).</p>
  *
+ * <p>The weighted sums are table-driven: the contribution of each digit at each position, and of each 3-digit chunk
+ * of a numeric base, is precomputed for both sums at once. Both sums travel packed in a single {@code int}, the
+ * first one in the low 16 bits and the second one in the high 16 bits, so one addition updates both. The modulo 11
+ * rule is applied without branches.</p>
+ *
  * <p>Usage example:
  * <pre>{@code
  *     int[] base = new int[]{1, 2, 3, 4, 5, 6, 7, 8, 9};
@@ -27,8 +31,34 @@ import static io.github.felseje.internal.Constants.NOT_ALLOWED_INSTANTIATION_ERR
  */
 public final class CpfCheckDigitCalculator {
 
-    private static final Pattern WRONG_CPF_BASE = Pattern.compile("[^0-9]");
-    private static final int[] WEIGHTS = new int[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11};
+    /**
+     * The size of the CPF base (first 9 digits).
+     */
+    public static final int BASE_SIZE = 9;
+
+    private static final int SUM_SHIFT = 16;
+    private static final int SUM_MASK = 0xFFFF;
+    private static final int CHUNK_SIZE = 3;
+    private static final int CHUNK_VALUES = 1000;
+    private static final int[] DIGIT_CONTRIBUTIONS = new int[BASE_SIZE * 10];
+    private static final int[] CHUNK_CONTRIBUTIONS = new int[BASE_SIZE / CHUNK_SIZE * CHUNK_VALUES];
+
+    static {
+        for (int position = 0; position < BASE_SIZE; position++) {
+            for (int digit = 0; digit < 10; digit++) {
+                DIGIT_CONTRIBUTIONS[position * 10 + digit] =
+                        digit * firstWeight(position) | digit * secondWeight(position) << SUM_SHIFT;
+            }
+        }
+        for (int chunk = 0; chunk < BASE_SIZE / CHUNK_SIZE; chunk++) {
+            for (int value = 0; value < CHUNK_VALUES; value++) {
+                final var first = chunk * CHUNK_SIZE;
+                CHUNK_CONTRIBUTIONS[chunk * CHUNK_VALUES + value] = contributionOf(first, value / 100)
+                        + contributionOf(first + 1, value / 10 % 10)
+                        + contributionOf(first + 2, value % 10);
+            }
+        }
+    }
 
     /**
      * Prevents instantiation of this utility class.
@@ -40,38 +70,115 @@ public final class CpfCheckDigitCalculator {
     }
 
     /**
-     * Calculates a single check digit based on a given digit array.
-     * The calculation multiplies each digit by its respective weight, computes the sum,
-     * and applies the modulo 11 rule.
+     * Returns the weight applied to the digit at the given position when calculating the first check digit.
      *
-     * @param digits the digit array to calculate the check digit from
-     * @return the calculated check digit (0–9)
+     * <p>Weights decrease from 10 (first base digit) to 2 (last base digit).</p>
+     *
+     * @param position the zero-based position of the digit within the base (0–8).
+     * @return the weight for that position.
      */
-    private static int calculateCheckDigit(final int[] digits) {
-        int sum = 0;
-        for (int i = 0; i < digits.length; i++) {
-            sum += digits[i] * WEIGHTS[digits.length - i];
-        }
-        final int rest = sum % 11;
-        return rest < 2 ? 0 : 11 - rest;
+    public static int firstWeight(int position) {
+        return 10 - position;
+    }
+
+    /**
+     * Returns the weight applied to the digit at the given position when calculating the second check digit.
+     *
+     * <p>Weights decrease from 11 (first base digit) to 2 (first check digit).</p>
+     *
+     * @param position the zero-based position of the digit within the base plus first check digit (0–9).
+     * @return the weight for that position.
+     */
+    public static int secondWeight(int position) {
+        return 11 - position;
+    }
+
+    /**
+     * Applies the modulo 11 rule to a weighted sum, producing the corresponding check digit.
+     *
+     * @param weightedSum the sum of each digit multiplied by its weight.
+     * @return the check digit (0–9).
+     */
+    public static int checkDigitOf(int weightedSum) {
+        final int rest = weightedSum % 11;
+        // (1 - rest) >> 31 is all ones when rest >= 2 and zero otherwise
+        return (11 - rest) & ((1 - rest) >> 31);
+    }
+
+    /**
+     * Returns the packed contribution of a base digit to both weighted sums.
+     *
+     * <p>Contributions of the whole base can be added together and handed to {@link #checkDigitsOfSums(int)}.</p>
+     *
+     * @param position the zero-based position of the digit within the base (0–8).
+     * @param digit    the digit (0–9).
+     * @return the first-sum contribution in the low 16 bits and the second-sum contribution in the high 16 bits.
+     */
+    public static int contributionOf(int position, int digit) {
+        return DIGIT_CONTRIBUTIONS[position * 10 + digit];
+    }
+
+    /**
+     * Packs both weighted sums of a base the way {@link #checkDigitsOfSums(int)} expects them.
+     *
+     * @param firstSum  the weighted sum for the first check digit.
+     * @param secondSum the weighted sum of the base for the second check digit.
+     * @return the first sum in the low 16 bits and the second sum in the high 16 bits.
+     */
+    public static int sumsOf(int firstSum, int secondSum) {
+        return firstSum | secondSum << SUM_SHIFT;
+    }
+
+    /**
+     * Calculates both check digits from the packed weighted sums of a base.
+     *
+     * @param sums the sum of the {@link #contributionOf(int, int) contributions} of the 9 base digits.
+     * @return both check digits as a two-digit number: the first check digit times 10 plus the second one.
+     */
+    public static int checkDigitsOfSums(int sums) {
+        final var primaryCheckDigit = checkDigitOf(sums & SUM_MASK);
+        final var secondaryCheckDigit = checkDigitOf((sums >>> SUM_SHIFT) + primaryCheckDigit * secondWeight(BASE_SIZE));
+        return primaryCheckDigit * 10 + secondaryCheckDigit;
+    }
+
+    /**
+     * Calculates both check digits of a CPF base given as a number.
+     *
+     * <p>The digits are read from the least significant one, so missing leading zeros count as zeros.</p>
+     *
+     * @param base the 9-digit base as a number (0–999,999,999).
+     * @return both check digits as a two-digit number: the first check digit times 10 plus the second one.
+     */
+    public static int checkDigitsOf(long base) {
+        final var value = (int) base;
+        return checkDigitsOfSums(CHUNK_CONTRIBUTIONS[value / 1_000_000]
+                + CHUNK_CONTRIBUTIONS[CHUNK_VALUES + value / 1000 % 1000]
+                + CHUNK_CONTRIBUTIONS[2 * CHUNK_VALUES + value % 1000]);
     }
 
     /**
      * Calculates both check digits (verifiers) for a given CPF base.
      *
+     * <p>Both weighted sums are accumulated in a single pass over the base.</p>
+     *
      * @param base the base CPF digits (expected length: 9)
      * @return an array of 2 integers: [first check digit, second check digit]
-     * @throws InvalidCpfBaseException if the base is {@code null}, malformed, or contains non-digit characters
+     * @throws InvalidCpfBaseException if the base is {@code null}, malformed, or contains non-digit values
      */
     public static int[] calculateCheckDigits(int[] base) throws InvalidCpfBaseException {
-        if (base == null || WRONG_CPF_BASE.matcher(Integers.toString(base)).matches()) {
-            throw new InvalidCpfBaseException("The CPF base informed is invalid");
+        if (base == null || base.length != BASE_SIZE) {
+            throw DocumentExceptions.invalidCpfBase();
         }
-
-        final var primaryCheckDigit = calculateCheckDigit(base);
-        final var baseWithPrimaryCheckDigit = Integers.appendInt(base, primaryCheckDigit);
-        final var secondaryCheckDigit = calculateCheckDigit(baseWithPrimaryCheckDigit);
-        return new int[]{primaryCheckDigit, secondaryCheckDigit};
+        int sums = 0;
+        for (int i = 0; i < BASE_SIZE; i++) {
+            final int digit = base[i];
+            if (digit < 0 || digit > 9) {
+                throw DocumentExceptions.invalidCpfBase();
+            }
+            sums += contributionOf(i, digit);
+        }
+        final var checkDigits = checkDigitsOfSums(sums);
+        return new int[]{checkDigits / 10, checkDigits % 10};
     }
 
 }
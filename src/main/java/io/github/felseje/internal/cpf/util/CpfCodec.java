@@ -0,0 +1,250 @@
+package io.github.felseje.internal.cpf.util;
+
+import io.github.felseje.cpf.Cpf;
+
+import static io.github.felseje.internal.Constants.NOT_ALLOWED_INSTANTIATION_ERROR;
+
+/**
+ * Utility class that packs a CPF into a single {@code long} and unpacks it back into text.
+ *
+ * <p>A CPF is packed as the decimal value of its 11 digits, check digits included, so
+ * {@code "012.345.678-90"} becomes {@code 1234567890L}. Leading zeros are restored when unpacking.</p>
+ *
+ * <p>Unpacking writes the digits straight into a character buffer; no regex or intermediate string is involved.</p>
+ *
+ * <p>This class is final and cannot be instantiated.</p>
+ *
+ * @author felseje
+ * @since 1.0.0-alpha
+ */
+public final class CpfCodec {
+
+    /**
+     * The largest packed CPF value (11 nines).
+     */
+    public static final long MAX_VALUE = 99_999_999_999L;
+
+    /**
+     * The value standing for an input that is not a valid CPF. Packed CPFs are never negative.
+     */
+    public static final long INVALID = -1L;
+
+    private static final String FORMATTED_MASK = "###.###.###-##";
+    private static final char MASK_PLACEHOLDER = '#';
+    private static final int[] POSITIONS = positionsOf();
+    private static final long[] PLACE_VALUES = placeValues();
+
+    /**
+     * Prevents instantiation of this utility class.
+     *
+     * @throws IllegalStateException always thrown to indicate this class should not be instantiated
+     */
+    private CpfCodec() {
+        throw new IllegalStateException(NOT_ALLOWED_INSTANTIATION_ERROR);
+    }
+
+    /**
+     * Packs a normalized CPF into its decimal value.
+     *
+     * @param normalized the CPF as exactly 11 ASCII digits.
+     * @return the packed CPF.
+     */
+    public static long encode(CharSequence normalized) {
+        var value = 0L;
+        for (int i = 0; i < Cpf.LENGTH; i++) {
+            value = value * 10 + (normalized.charAt(i) - '0');
+        }
+        return value;
+    }
+
+    /**
+     * Tells whether a value is within the range of packed CPFs.
+     *
+     * @param value the value to check.
+     * @return {@code true} if the value is between 0 and {@link #MAX_VALUE}; {@code false} otherwise.
+     */
+    public static boolean isInRange(long value) {
+        return value >= 0 && value <= MAX_VALUE;
+    }
+
+    /**
+     * Writes the 11 digits of a packed CPF into a character buffer.
+     *
+     * @param value       the packed CPF (0 to {@link #MAX_VALUE}).
+     * @param destination the buffer receiving the digits.
+     * @param offset      the index where the first digit is written.
+     */
+    public static void decode(long value, char[] destination, int offset) {
+        var remaining = value;
+        for (int i = offset + Cpf.LENGTH - 1; i >= offset; i--) {
+            destination[i] = (char) ('0' + (int) (remaining % 10));
+            remaining /= 10;
+        }
+    }
+
+    /**
+     * Returns a range of the normalized text of a packed CPF.
+     *
+     * @param value the packed CPF.
+     * @param begin the index of the first digit to return (inclusive).
+     * @param end   the index of the last digit to return (exclusive).
+     * @return the digits between {@code begin} and {@code end}.
+     */
+    public static String substring(long value, int begin, int end) {
+        final var digits = new char[Cpf.LENGTH];
+        decode(value, digits, 0);
+        return new String(digits, begin, end - begin);
+    }
+
+    /**
+     * Returns the normalized text of a packed CPF.
+     *
+     * @param value the packed CPF.
+     * @return the 11 CPF digits.
+     */
+    public static String toString(long value) {
+        return substring(value, 0, Cpf.LENGTH);
+    }
+
+    /**
+     * Returns one character of the formatted text of a packed CPF, without building the text.
+     *
+     * @param value the packed CPF (0 to {@link #MAX_VALUE}).
+     * @param index the index of the character within the {@code ###.###.###-##} pattern.
+     * @return the digit or separator at that index.
+     */
+    public static char formattedCharAt(long value, int index) {
+        final var position = POSITIONS[index];
+        return position < 0 ? FORMATTED_MASK.charAt(index) : charAt(value, position);
+    }
+
+    /**
+     * Returns one digit of a packed CPF, without decoding the others.
+     *
+     * @param value    the packed CPF (0 to {@link #MAX_VALUE}).
+     * @param position the index of the digit within the normalized CPF (0 to 10).
+     * @return the digit at that index.
+     */
+    public static char charAt(long value, int position) {
+        return (char) ('0' + (int) (value / PLACE_VALUES[position] % 10));
+    }
+
+    /**
+     * Returns the index, within the normalized CPF, of the digit shown at an index of the formatted pattern.
+     *
+     * @param index the index within the {@code ###.###.###-##} pattern.
+     * @return the index of the digit, or {@code -1} if the pattern holds a separator at that index.
+     */
+    public static int positionOf(int index) {
+        return POSITIONS[index];
+    }
+
+    /**
+     * Returns one character of the formatted text of a normalized CPF, without building the text.
+     *
+     * @param normalized the character sequence holding the normalized CPF.
+     * @param offset     the index of the first digit of the CPF.
+     * @param index      the index of the character within the {@code ###.###.###-##} pattern.
+     * @return the digit or separator at that index.
+     */
+    public static char formattedCharAt(CharSequence normalized, int offset, int index) {
+        final var position = POSITIONS[index];
+        return position < 0 ? FORMATTED_MASK.charAt(index) : normalized.charAt(offset + position);
+    }
+
+    /**
+     * Tells whether a region holds a normalized CPF, that is 11 ASCII digits.
+     *
+     * @param input  the character sequence holding the region.
+     * @param offset the index of the first character of the region, which is 11 characters long.
+     * @return {@code true} if every character of the region is an ASCII digit; {@code false} otherwise.
+     */
+    public static boolean isNormalized(CharSequence input, int offset) {
+        for (int i = offset, end = offset + Cpf.LENGTH; i < end; i++) {
+            final var character = input.charAt(i);
+            if (character < '0' || character > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Writes the formatted text of a packed CPF into a character buffer.
+     *
+     * @param value       the packed CPF (0 to {@link #MAX_VALUE}).
+     * @param destination the buffer receiving the 14 characters of the {@code ###.###.###-##} pattern.
+     * @param offset      the index where the first character is written.
+     */
+    public static void decodeFormatted(long value, char[] destination, int offset) {
+        var remaining = value;
+        for (int i = Cpf.FORMATTED_LENGTH - 1; i >= 0; i--) {
+            if (POSITIONS[i] < 0) {
+                destination[offset + i] = FORMATTED_MASK.charAt(i);
+            } else {
+                destination[offset + i] = (char) ('0' + (int) (remaining % 10));
+                remaining /= 10;
+            }
+        }
+    }
+
+    /**
+     * Writes the formatted text of a packed CPF into a byte buffer, as ASCII.
+     *
+     * @param value       the packed CPF (0 to {@link #MAX_VALUE}).
+     * @param destination the buffer receiving the 14 bytes of the {@code ###.###.###-##} pattern.
+     * @param offset      the index where the first byte is written.
+     */
+    public static void decodeFormatted(long value, byte[] destination, int offset) {
+        var remaining = value;
+        for (int i = Cpf.FORMATTED_LENGTH - 1; i >= 0; i--) {
+            if (POSITIONS[i] < 0) {
+                destination[offset + i] = (byte) FORMATTED_MASK.charAt(i);
+            } else {
+                destination[offset + i] = (byte) ('0' + (int) (remaining % 10));
+                remaining /= 10;
+            }
+        }
+    }
+
+    /**
+     * Returns the formatted text of a packed CPF.
+     *
+     * @param value the packed CPF.
+     * @return the CPF in the {@code ###.###.###-##} pattern.
+     */
+    public static String toFormattedString(long value) {
+        final var formatted = new char[Cpf.FORMATTED_LENGTH];
+        decodeFormatted(value, formatted, 0);
+        return new String(formatted);
+    }
+
+    /**
+     * Maps each index of the formatted pattern to the index of its digit in the normalized CPF.
+     *
+     * @return the digit index of each pattern index, {@code -1} for separators.
+     */
+    private static int[] positionsOf() {
+        final var positions = new int[Cpf.FORMATTED_LENGTH];
+        for (int i = 0, next = 0; i < Cpf.FORMATTED_LENGTH; i++) {
+            positions[i] = FORMATTED_MASK.charAt(i) == MASK_PLACEHOLDER ? next++ : -1;
+        }
+        return positions;
+    }
+
+    /**
+     * Returns the place value of each digit of a packed CPF, from the leftmost one.
+     *
+     * @return the powers of ten from 10^10 down to 1.
+     */
+    private static long[] placeValues() {
+        final var values = new long[Cpf.LENGTH];
+        var value = 1L;
+        for (int i = Cpf.LENGTH - 1; i >= 0; i--) {
+            values[i] = value;
+            value *= 10;
+        }
+        return values;
+    }
+
+}
@@ -0,0 +1,411 @@
+package io.github.felseje.internal.cpf.validation;
+
+import io.github.felseje.cpf.Cpf;
+import io.github.felseje.document.ParseProfile;
+import io.github.felseje.document.ValidationReason;
+import io.github.felseje.internal.cpf.util.CpfCheckDigitCalculator;
+import io.github.felseje.internal.cpf.util.CpfCodec;
+import io.github.felseje.internal.util.ByteUtils;
+import io.github.felseje.internal.util.DiagnosisCodec;
+import io.github.felseje.internal.util.ParseAutomaton;
+import io.github.felseje.internal.util.Swar;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+
+import static io.github.felseje.internal.Constants.NOT_ALLOWED_INSTANTIATION_ERROR;
+
+/**
+ * Single-pass CPF validation engine.
+ *
+ * <p>Reads the input once, from left to right, skipping every character that is not an ASCII digit
+ * (the same characters {@code CpfNormalizer} removes). While reading, it accumulates both weighted sums
+ * of {@link CpfCheckDigitCalculator}, captures the two informed check digits and tracks whether all digits
+ * are the same. No regex is involved and nothing is allocated.</p>
+ *
+ * <p>Any {@link CharSequence} region can be scanned, so CPFs held inside larger buffers are read in place.
+ * ASCII text held in a {@code byte[]} or a {@link ByteBuffer} (heap or direct) is scanned the same way, without
+ * decoding it to a {@link String}; bytes outside the ASCII range are skipped like any other non-digit.</p>
+ *
+ * <p>Byte regions of exactly 11 bytes, the usual shape of clean feeds, first take a {@link Swar} fast path: the
+ * region is read as two overlapping 8-byte words, checked for digits and summed with multiplications. Any region
+ * that is not made only of digits falls back to the per-character scan.</p>
+ *
+ * <p>This class is final and cannot be instantiated.</p>
+ *
+ * @author felseje
+ * @since 1.0.0-alpha
+ */
+public final class CpfScanner {
+
+    /**
+     * Every 11-digit number made of one repeated digit, zero included, is a multiple of this value.
+     */
+    private static final long REPEATED_DIGIT_DIVISOR = 11_111_111_111L;
+
+    private static final int TAIL_OFFSET = Cpf.LENGTH - Swar.WORD_SIZE;
+    private static final long FIRST_EVEN = Swar.evenMultiplier(CpfCheckDigitCalculator::firstWeight);
+    private static final long FIRST_ODD = Swar.oddMultiplier(CpfCheckDigitCalculator::firstWeight);
+    private static final long SECOND_EVEN = Swar.evenMultiplier(CpfCheckDigitCalculator::secondWeight);
+    private static final long SECOND_ODD = Swar.oddMultiplier(CpfCheckDigitCalculator::secondWeight);
+    private static final String CANONICAL_MASK = "###########";
+    private static final String FORMATTED_MASK = "###.###.###-##";
+    private static final int[] SLOT_CLASSES = slotClasses();
+    private static final ParseAutomaton CANONICAL_AUTOMATON = ParseAutomaton.ofMasks(SLOT_CLASSES, CANONICAL_MASK);
+    private static final ParseAutomaton FORMATTED_AUTOMATON = ParseAutomaton.ofMasks(SLOT_CLASSES, FORMATTED_MASK);
+    private static final ParseAutomaton STANDARD_AUTOMATON =
+            ParseAutomaton.ofMasks(SLOT_CLASSES, CANONICAL_MASK, FORMATTED_MASK);
+    private static final ParseAutomaton LENIENT_AUTOMATON = ParseAutomaton.lenient(SLOT_CLASSES);
+
+    /**
+     * Prevents instantiation of this utility class.
+     *
+     * @throws IllegalStateException always thrown to indicate this class should not be instantiated
+     */
+    private CpfScanner() {
+        throw new IllegalStateException(NOT_ALLOWED_INSTANTIATION_ERROR);
+    }
+
+    /**
+     * Validates a CPF string in a single pass.
+     *
+     * <p>Equivalent to cleaning the input, requiring exactly 11 digits, rejecting repeated digits and
+     * comparing the informed check digits with the calculated ones.</p>
+     *
+     * @param cpf the CPF to validate (formatted or unformatted); may be {@code null}.
+     * @return {@code true} if the CPF is valid; {@code false} otherwise.
+     */
+    public static boolean isValid(CharSequence cpf) {
+        return cpf != null && isValid(cpf, 0, cpf.length());
+    }
+
+    /**
+     * Validates the CPF found in a region of a character sequence in a single pass.
+     *
+     * @param cpf    the character sequence holding the CPF (formatted or unformatted); may be {@code null}.
+     * @param offset the index of the first character of the region.
+     * @param length the number of characters in the region.
+     * @return {@code true} if the region holds a valid CPF; {@code false} otherwise.
+     * @throws IndexOutOfBoundsException if {@code cpf} is not {@code null} and the region is out of its bounds.
+     */
+    public static boolean isValid(CharSequence cpf, int offset, int length) throws IndexOutOfBoundsException {
+        if (cpf == null) {
+            return false;
+        }
+        Objects.checkFromIndexSize(offset, length, cpf.length());
+        final var state = new State();
+        for (int i = offset, end = offset + length; i < end; i++) {
+            if (!state.accept(cpf.charAt(i) - '0')) {
+                return false;
+            }
+        }
+        return state.isValid();
+    }
+
+    /**
+     * Validates the CPF found in a region of an ASCII byte array in a single pass.
+     *
+     * @param cpf    the bytes holding the CPF (formatted or unformatted); may be {@code null}.
+     * @param offset the index of the first byte of the region.
+     * @param length the number of bytes in the region.
+     * @return {@code true} if the region holds a valid CPF; {@code false} otherwise.
+     * @throws IndexOutOfBoundsException if {@code cpf} is not {@code null} and the region is out of its bounds.
+     */
+    public static boolean isValid(byte[] cpf, int offset, int length) throws IndexOutOfBoundsException {
+        if (cpf == null) {
+            return false;
+        }
+        Objects.checkFromIndexSize(offset, length, cpf.length);
+        if (length == Cpf.LENGTH) {
+            final var head = Swar.load(cpf, offset);
+            final var tail = Swar.load(cpf, offset + TAIL_OFFSET);
+            if (Swar.isDigits(head) && Swar.isDigits(tail)) {
+                return isValidDigits(head, tail);
+            }
+        }
+        final var state = new State();
+        for (int i = offset, end = offset + length; i < end; i++) {
+            if (!state.accept(cpf[i] - '0')) {
+                return false;
+            }
+        }
+        return state.isValid();
+    }
+
+    /**
+     * Validates the CPF found in a region of an ASCII byte buffer in a single pass.
+     *
+     * <p>The region is given in absolute indexes; the buffer position and limit are left untouched. Heap buffers are
+     * read through their backing array, direct buffers through absolute gets.</p>
+     *
+     * @param cpf    the buffer holding the CPF (formatted or unformatted); may be {@code null}.
+     * @param offset the absolute index of the first byte of the region.
+     * @param length the number of bytes in the region.
+     * @return {@code true} if the region holds a valid CPF; {@code false} otherwise.
+     * @throws IndexOutOfBoundsException if {@code cpf} is not {@code null} and the region is out of its limit.
+     */
+    public static boolean isValid(ByteBuffer cpf, int offset, int length) throws IndexOutOfBoundsException {
+        if (cpf == null) {
+            return false;
+        }
+        ByteUtils.checkRegion(cpf, offset, length);
+        if (cpf.hasArray()) {
+            return isValid(cpf.array(), cpf.arrayOffset() + offset, length);
+        }
+        if (length == Cpf.LENGTH) {
+            final var head = Swar.load(cpf, offset);
+            final var tail = Swar.load(cpf, offset + TAIL_OFFSET);
+            if (Swar.isDigits(head) && Swar.isDigits(tail)) {
+                return isValidDigits(head, tail);
+            }
+        }
+        final var state = new State();
+        for (int i = offset, end = offset + length; i < end; i++) {
+            if (!state.accept(cpf.get(i) - '0')) {
+                return false;
+            }
+        }
+        return state.isValid();
+    }
+
+    /**
+     * Validates a CPF given as a number, as stored in numeric database columns.
+     *
+     * <p>Missing leading zeros are implied: {@code 191L} stands for {@code "00000000191"}.</p>
+     *
+     * @param cpf the CPF as a number.
+     * @return {@code true} if the number has at most 11 digits, is not made of a repeated digit and its check
+     * digits match; {@code false} otherwise.
+     */
+    public static boolean isValid(long cpf) {
+        return CpfCodec.isInRange(cpf)
+                && cpf % REPEATED_DIGIT_DIVISOR != 0
+                && CpfCheckDigitCalculator.checkDigitsOf(cpf / 100) == cpf % 100;
+    }
+
+    /**
+     * Validates a CPF given as a number and packs it, without going through text.
+     *
+     * @param cpf the CPF as a number.
+     * @return the CPF packed as by {@link CpfCodec}, or {@link CpfCodec#INVALID} if the number is not a valid CPF.
+     */
+    public static long toKey(long cpf) {
+        return isValid(cpf) ? cpf : CpfCodec.INVALID;
+    }
+
+    /**
+     * Validates the CPF found in a region of a character sequence and packs it, in the same single pass.
+     *
+     * @param cpf    the character sequence holding the CPF (formatted or unformatted); may be {@code null}.
+     * @param offset the index of the first character of the region.
+     * @param length the number of characters in the region.
+     * @return the CPF packed as by {@link CpfCodec}, or {@link CpfCodec#INVALID} if the region is not a valid CPF.
+     * @throws IndexOutOfBoundsException if {@code cpf} is not {@code null} and the region is out of its bounds.
+     */
+    public static long toKey(CharSequence cpf, int offset, int length) throws IndexOutOfBoundsException {
+        if (cpf == null) {
+            return CpfCodec.INVALID;
+        }
+        Objects.checkFromIndexSize(offset, length, cpf.length());
+        final var state = new State();
+        for (int i = offset, end = offset + length; i < end; i++) {
+            if (!state.accept(cpf.charAt(i) - '0')) {
+                return CpfCodec.INVALID;
+            }
+        }
+        return state.isValid() ? state.value : CpfCodec.INVALID;
+    }
+
+    /**
+     * Validates the CPF found in a region of a character sequence read with a parse profile and packs it, in the same
+     * single pass.
+     *
+     * @param cpf     the character sequence holding the CPF; may be {@code null}.
+     * @param offset  the index of the first character of the region.
+     * @param length  the number of characters in the region.
+     * @param profile the profile telling which shapes are accepted.
+     * @return the CPF packed as by {@link CpfCodec}, or {@link CpfCodec#INVALID} if the region is not a valid CPF in
+     * a shape accepted by the profile.
+     * @throws IndexOutOfBoundsException if {@code cpf} is not {@code null} and the region is out of its bounds.
+     */
+    public static long toKey(CharSequence cpf, int offset, int length, ParseProfile profile)
+            throws IndexOutOfBoundsException {
+        if (cpf == null) {
+            return CpfCodec.INVALID;
+        }
+        Objects.checkFromIndexSize(offset, length, cpf.length());
+        final var automaton = automatonOf(profile);
+        final var state = new State();
+        var current = ParseAutomaton.START;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            final var character = cpf.charAt(i);
+            final var transition = automaton.transition(current, character);
+            if (transition == ParseAutomaton.REJECT) {
+                return CpfCodec.INVALID;
+            }
+            if (ParseAutomaton.emits(transition)) {
+                state.accept(character - '0');
+            }
+            current = ParseAutomaton.stateOf(transition);
+        }
+        return automaton.isAccepting(current) && state.isValid() ? state.value : CpfCodec.INVALID;
+    }
+
+    /**
+     * Diagnoses the CPF found in a region of a character sequence in a single pass, ignoring non-digit characters as
+     * {@link #isValid(CharSequence, int, int)} does.
+     *
+     * <p>Since every non-digit character is skipped, a CPF is never reported with an illegal character.</p>
+     *
+     * @param cpf    the character sequence holding the CPF (formatted or unformatted); may be {@code null}.
+     * @param offset the index of the first character of the region.
+     * @param length the number of characters in the region.
+     * @return the diagnosis packed as by {@link DiagnosisCodec}.
+     * @throws IndexOutOfBoundsException if {@code cpf} is not {@code null} and the region is out of its bounds.
+     */
+    public static long diagnose(CharSequence cpf, int offset, int length) throws IndexOutOfBoundsException {
+        if (cpf == null) {
+            return DiagnosisCodec.pack(ValidationReason.BLANK, DiagnosisCodec.NONE, DiagnosisCodec.NONE);
+        }
+        Objects.checkFromIndexSize(offset, length, cpf.length());
+        var blank = true;
+        var count = 0;
+        var firstDigit = 0;
+        var repeated = true;
+        var sums = 0;
+        var checkDigits = 0;
+        var firstCheckDigitIndex = 0;
+        var secondCheckDigitIndex = 0;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            final var character = cpf.charAt(i);
+            final var digit = character - '0';
+            if (digit < 0 || digit > 9) {
+                blank &= Character.isWhitespace(character);
+                continue;
+            }
+            blank = false;
+            if (count == Cpf.LENGTH) {
+                return DiagnosisCodec.pack(ValidationReason.WRONG_LENGTH, i - offset, DiagnosisCodec.NONE);
+            }
+            if (count == 0) {
+                firstDigit = digit;
+            } else if (digit != firstDigit) {
+                repeated = false;
+            }
+            if (count < CpfCheckDigitCalculator.BASE_SIZE) {
+                sums += CpfCheckDigitCalculator.contributionOf(count, digit);
+            } else {
+                checkDigits = checkDigits * 10 + digit;
+                if (count == CpfCheckDigitCalculator.BASE_SIZE) {
+                    firstCheckDigitIndex = i - offset;
+                } else {
+                    secondCheckDigitIndex = i - offset;
+                }
+            }
+            count++;
+        }
+        if (blank) {
+            return DiagnosisCodec.pack(ValidationReason.BLANK, DiagnosisCodec.NONE, DiagnosisCodec.NONE);
+        }
+        if (count != Cpf.LENGTH) {
+            return DiagnosisCodec.pack(ValidationReason.WRONG_LENGTH, DiagnosisCodec.NONE, DiagnosisCodec.NONE);
+        }
+        return DiagnosisCodec.diagnoseCheckDigits(repeated, checkDigits,
+                CpfCheckDigitCalculator.checkDigitsOfSums(sums), firstCheckDigitIndex, secondCheckDigitIndex);
+    }
+
+    /**
+     * Validates 11 ASCII digits held in two overlapping words.
+     *
+     * @param head the word of bytes 0 to 7, all digits.
+     * @param tail the word of bytes 3 to 10, all digits.
+     * @return {@code true} if the digits are not all the same and their check digits match; {@code false} otherwise.
+     */
+    private static boolean isValidDigits(final long head, final long tail) {
+        if (head == tail && Swar.isRepeated(head)) {
+            return false;
+        }
+        final var digits = Swar.digitsOf(head);
+        final var tailDigits = Swar.digitsOf(tail);
+        final var lastBasePosition = CpfCheckDigitCalculator.BASE_SIZE - 1;
+        final var sums = CpfCheckDigitCalculator.sumsOf(
+                Swar.weightedSum(digits, FIRST_EVEN, FIRST_ODD),
+                Swar.weightedSum(digits, SECOND_EVEN, SECOND_ODD))
+                + CpfCheckDigitCalculator.contributionOf(lastBasePosition,
+                Swar.byteAt(tailDigits, lastBasePosition - TAIL_OFFSET));
+        final var checkDigits = Swar.byteAt(tailDigits, Swar.WORD_SIZE - 2) * 10
+                + Swar.byteAt(tailDigits, Swar.WORD_SIZE - 1);
+        return checkDigits == CpfCheckDigitCalculator.checkDigitsOfSums(sums);
+    }
+
+    private static ParseAutomaton automatonOf(final ParseProfile profile) {
+        return switch (profile) {
+            case CANONICAL -> CANONICAL_AUTOMATON;
+            case FORMATTED -> FORMATTED_AUTOMATON;
+            case STANDARD -> STANDARD_AUTOMATON;
+            case LENIENT -> LENIENT_AUTOMATON;
+        };
+    }
+
+    private static int[] slotClasses() {
+        final var classes = new int[Cpf.LENGTH];
+        Arrays.fill(classes, 1 << ParseAutomaton.DIGIT);
+        return classes;
+    }
+
+    /**
+     * Running state of a scan.
+     *
+     * <p>Instances never escape the scan methods, so the JIT replaces them with plain local variables.</p>
+     */
+    private static final class State {
+
+        private int count;
+        private int firstDigit;
+        private boolean repeated = true;
+        private int sums;
+        private int checkDigits;
+        private long value;
+
+        /**
+         * Consumes the value of the next character, ignoring anything that is not a digit.
+         *
+         * @param digit the character minus {@code '0'}; values outside 0–9 are skipped.
+         * @return {@code false} if a twelfth digit was found; {@code true} otherwise.
+         */
+        boolean accept(final int digit) {
+            if (digit < 0 || digit > 9) {
+                return true;
+            }
+            if (count == 0) {
+                firstDigit = digit;
+            } else if (digit != firstDigit) {
+                repeated = false;
+            }
+            if (count < CpfCheckDigitCalculator.BASE_SIZE) {
+                sums += CpfCheckDigitCalculator.contributionOf(count, digit);
+            } else if (count < Cpf.LENGTH) {
+                checkDigits = checkDigits * 10 + digit;
+            } else {
+                return false;
+            }
+            value = value * 10 + digit;
+            count++;
+            return true;
+        }
+
+        /**
+         * Tells whether the consumed digits form a valid CPF.
+         *
+         * @return {@code true} if exactly 11 non-repeated digits with matching check digits were consumed.
+         */
+        boolean isValid() {
+            return count == Cpf.LENGTH
+                    && !repeated
+                    && checkDigits == CpfCheckDigitCalculator.checkDigitsOfSums(sums);
+        }
+
+    }
+
+}
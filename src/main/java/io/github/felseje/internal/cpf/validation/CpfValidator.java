@@ -1,15 +1,15 @@
 package io.github.felseje.internal.cpf.validation;
 
-import io.github.felseje.cpf.Cpf;
-import io.github.felseje.internal.core.Normalizer;
-import io.github.felseje.internal.cpf.util.CpfCheckDigitCalculator;
-import io.github.felseje.internal.cpf.util.Integers;
 import io.github.felseje.internal.util.StringUtils;
+import io.github.felseje.spi.ValidationEngines;
+
+import java.nio.ByteBuffer;
 
 /**
  * Validates Brazilian CPF numbers by checking structure, formatting, and verifying digits.
  *
- * <p>This class uses a {@link Normalizer} to clean and normalize input strings,
+ * <p>This class delegates to the active {@link io.github.felseje.spi.ValidationEngine}, whose built-in
+ * implementations use the single-pass {@link CpfScanner}. Formatting characters are skipped while reading,
  * ensuring consistent validation regardless of formatting (e.g., with or without separators).</p>
  *
  * <p>Validation checks include:
@@ -22,8 +22,7 @@ import io.github.felseje.internal.util.StringUtils;
  *
  * <p>Example usage:
  * <pre>{@code
- *     Normalizer normalizer = new CpfNormalizer();
- *     CpfValidator validator = new CpfValidator(normalizer);
+ *     CpfValidator validator = new CpfValidator();
  *     boolean valid = validator.isValid("123.456.789-09");
  * }</pre>
  *
@@ -32,48 +31,63 @@ import io.github.felseje.internal.util.StringUtils;
  */
 public final class CpfValidator {
 
-    private final Normalizer normalizer;
-
     /**
-     * Constructs a {@code CpfValidator} with the given {@link Normalizer}.
-     *
-     * @param normalizer the normalizer to use for input preprocessing.
-     * @throws IllegalArgumentException if {@code normalizer} is {@code null}.
+     * Constructs a new {@code CpfValidator}.
      */
-    public CpfValidator(Normalizer normalizer) throws IllegalArgumentException {
-        if (normalizer == null) {
-            throw new IllegalArgumentException("The normalizer must not be null");
-        }
-        this.normalizer = normalizer;
+    public CpfValidator() {
     }
 
     /**
      * Validates a CPF string.
      *
-     * <p>This method cleans and normalizes the input, verifies its structure,
+     * <p>This method reads the input once, ignoring non-digit characters, verifies its structure,
      * ensures it isn't composed of repeated digits, and checks if the two final
      * digits (verifiers) match the ones calculated via the official algorithm.</p>
      *
-     * @param cpf the CPF string to validate (formatted or unformatted).
+     * @param cpf the CPF to validate (formatted or unformatted).
      * @return {@code true} if the CPF is valid; {@code false} otherwise.
      */
-    public boolean isValid(String cpf) {
-        if (StringUtils.isNullOrBlank(cpf)) {
-            return false;
-        }
-        final var cleaned = normalizer.clear(cpf);
-        if (cleaned.length() != Cpf.LENGTH) {
-            return false;
-        }
-        if (cleaned.chars().distinct().count() == 1) {
-            return false;
-        }
-        final var baseDigits = Integers.toDigitArray(cleaned.substring(0, (Cpf.LENGTH - 2)));
-        final var calculatedCheckDigits = CpfCheckDigitCalculator.calculateCheckDigits(baseDigits);
-        final var actualFirstCheckDigit = Integers.charToDigit(cleaned.charAt(Cpf.LENGTH - 2));
-        final var actualSecondCheckDigit = Integers.charToDigit(cleaned.charAt(Cpf.LENGTH - 1));
-        return calculatedCheckDigits[0] == actualFirstCheckDigit
-                && calculatedCheckDigits[1] == actualSecondCheckDigit;
+    public boolean isValid(CharSequence cpf) {
+        return ValidationEngines.active().isValidCpf(cpf, 0, StringUtils.lengthOf(cpf));
+    }
+
+    /**
+     * Validates the CPF found in a region of a character sequence, reading it in place.
+     *
+     * @param cpf    the character sequence holding the CPF (formatted or unformatted).
+     * @param offset the index of the first character of the region.
+     * @param length the number of characters in the region.
+     * @return {@code true} if the region holds a valid CPF; {@code false} otherwise.
+     * @throws IndexOutOfBoundsException if {@code cpf} is not {@code null} and the region is out of its bounds.
+     */
+    public boolean isValid(CharSequence cpf, int offset, int length) throws IndexOutOfBoundsException {
+        return ValidationEngines.active().isValidCpf(cpf, offset, length);
+    }
+
+    /**
+     * Validates the CPF found in a region of ASCII bytes, without decoding it.
+     *
+     * @param cpf    the bytes holding the CPF (formatted or unformatted).
+     * @param offset the index of the first byte of the region.
+     * @param length the number of bytes in the region.
+     * @return {@code true} if the region holds a valid CPF; {@code false} otherwise.
+     * @throws IndexOutOfBoundsException if {@code cpf} is not {@code null} and the region is out of its bounds.
+     */
+    public boolean isValid(byte[] cpf, int offset, int length) throws IndexOutOfBoundsException {
+        return ValidationEngines.active().isValidCpf(cpf, offset, length);
+    }
+
+    /**
+     * Validates the CPF found in a region of an ASCII byte buffer, without decoding it.
+     *
+     * @param cpf    the buffer holding the CPF (formatted or unformatted).
+     * @param offset the absolute index of the first byte of the region.
+     * @param length the number of bytes in the region.
+     * @return {@code true} if the region holds a valid CPF; {@code false} otherwise.
+     * @throws IndexOutOfBoundsException if {@code cpf} is not {@code null} and the region is out of its limit.
+     */
+    public boolean isValid(ByteBuffer cpf, int offset, int length) throws IndexOutOfBoundsException {
+        return ValidationEngines.active().isValidCpf(cpf, offset, length);
     }
 
 }
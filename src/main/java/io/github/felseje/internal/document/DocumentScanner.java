@@ -0,0 +1,200 @@
+package io.github.felseje.internal.document;
+
+import io.github.felseje.cnpj.Cnpj;
+import io.github.felseje.cpf.Cpf;
+import io.github.felseje.internal.cnpj.util.CnpjCheckDigitCalculator;
+import io.github.felseje.internal.cpf.util.CpfCheckDigitCalculator;
+
+import java.util.Objects;
+
+import static io.github.felseje.internal.Constants.NOT_ALLOWED_INSTANTIATION_ERROR;
+
+/**
+ * Fused single-pass detection and validation engine for inputs that may hold either a CPF or a CNPJ.
+ *
+ * <p>The input is read once and, in the same loop, follows the rules of both document facades:</p>
+ * <ul>
+ *   <li>as for {@code CpfUtils.isValid}, every character that is not a digit is skipped and the digits feed the
+ *   weighted sums of {@link CpfCheckDigitCalculator}, so 11 digits are a CPF whatever surrounds them;</li>
+ *   <li>as for {@code CnpjUtils.isValid}, the input must be exactly in the formatted or the unformatted CNPJ shape,
+ *   and its characters feed the weighted sums of {@link CnpjCheckDigitCalculator}; lowercase letters never match.</li>
+ * </ul>
+ *
+ * <p>An input that is a valid CPF is a CPF; otherwise an input in a CNPJ shape is a CNPJ, alphanumeric when its base
+ * holds uppercase letters, and an input with 11 digits is an invalid CPF. This gives the results of calling
+ * {@code CpfUtils.isValid}, then {@code CnpjType.detectFrom} and {@code CnpjUtils.isValid}. No regex is involved and
+ * nothing is allocated.</p>
+ *
+ * <p>The scan returns a result made of a type ({@link #CPF}, {@link #CNPJ_NUMERIC} or {@link #CNPJ_ALPHANUMERIC}),
+ * possibly combined with {@link #VALID}, or {@link #NO_MATCH} when the input has neither structure.</p>
+ *
+ * <p>This class is final and cannot be instantiated.</p>
+ *
+ * @author felseje
+ * @since 1.0.0-alpha
+ */
+public final class DocumentScanner {
+
+    /**
+     * Scan result of an input that is neither a CPF nor a CNPJ.
+     */
+    public static final int NO_MATCH = 0;
+
+    /**
+     * Scan result type of an 11-digit CPF.
+     */
+    public static final int CPF = 1;
+
+    /**
+     * Scan result type of a numeric CNPJ.
+     */
+    public static final int CNPJ_NUMERIC = 2;
+
+    /**
+     * Scan result type of an alphanumeric CNPJ.
+     */
+    public static final int CNPJ_ALPHANUMERIC = 3;
+
+    /**
+     * Scan result flag set when the check digits match and the characters are not all the same.
+     */
+    public static final int VALID = 4;
+
+    private static final int TYPE_MASK = 3;
+    private static final String FORMATTED_MASK = "##.###.###/####-##";
+    private static final char MASK_PLACEHOLDER = '#';
+
+    /**
+     * Prevents instantiation of this utility class.
+     *
+     * @throws IllegalStateException always thrown to indicate this class should not be instantiated.
+     */
+    private DocumentScanner() {
+        throw new IllegalStateException(NOT_ALLOWED_INSTANTIATION_ERROR);
+    }
+
+    /**
+     * Scans a region of a character sequence that may hold a CPF or a CNPJ, formatted or not.
+     *
+     * @param input  the character sequence holding the document; may be {@code null}.
+     * @param offset the index of the first character of the region.
+     * @param length the number of characters in the region.
+     * @return the scan result; {@link #NO_MATCH} if the region has neither a CPF nor a CNPJ structure.
+     * @throws IndexOutOfBoundsException if {@code input} is not {@code null} and the region is out of its bounds.
+     */
+    public static int scan(CharSequence input, int offset, int length) throws IndexOutOfBoundsException {
+        if (input == null) {
+            return NO_MATCH;
+        }
+        Objects.checkFromIndexSize(offset, length, input.length());
+        final var formatted = length == Cnpj.FORMATTED_LENGTH;
+        var shaped = formatted || length == Cnpj.LENGTH;
+        var digits = 0;
+        var firstDigit = '\0';
+        var repeatedDigits = true;
+        var cpfSums = 0;
+        var cpfCheckDigits = 0;
+        var count = 0;
+        var first = '\0';
+        var repeated = true;
+        var alphanumeric = false;
+        var cnpjSums = 0;
+        var cnpjCheckDigits = 0;
+        for (int index = 0; index < length; index++) {
+            final var character = input.charAt(offset + index);
+            final var digit = character >= '0' && character <= '9';
+            if (digit) {
+                if (digits == 0) {
+                    firstDigit = character;
+                } else if (character != firstDigit) {
+                    repeatedDigits = false;
+                }
+                if (digits < CpfCheckDigitCalculator.BASE_SIZE) {
+                    cpfSums += CpfCheckDigitCalculator.contributionOf(digits, character - '0');
+                } else if (digits < Cpf.LENGTH) {
+                    cpfCheckDigits = cpfCheckDigits * 10 + character - '0';
+                } else if (!shaped) {
+                    // a twelfth digit rules out a CPF, and the input already broke the CNPJ shapes
+                    return NO_MATCH;
+                }
+                digits++;
+            }
+            if (!shaped) {
+                continue;
+            }
+            final var expected = formatted ? FORMATTED_MASK.charAt(index) : MASK_PLACEHOLDER;
+            if (expected != MASK_PLACEHOLDER) {
+                shaped = character == expected;
+            } else if (digit || count < CnpjCheckDigitCalculator.BASE_SIZE && character >= 'A' && character <= 'Z') {
+                alphanumeric |= !digit;
+                if (count == 0) {
+                    first = character;
+                } else if (character != first) {
+                    repeated = false;
+                }
+                if (count < CnpjCheckDigitCalculator.BASE_SIZE) {
+                    cnpjSums += CnpjCheckDigitCalculator.contributionOf(count, character);
+                } else {
+                    cnpjCheckDigits = cnpjCheckDigits * 10 + character - '0';
+                }
+                count++;
+            } else {
+                shaped = false;
+            }
+        }
+        final var cpf = digits == Cpf.LENGTH;
+        if (cpf && !repeatedDigits && cpfCheckDigits == CpfCheckDigitCalculator.checkDigitsOfSums(cpfSums)) {
+            return CPF | VALID;
+        }
+        if (shaped) {
+            final var type = alphanumeric ? CNPJ_ALPHANUMERIC : CNPJ_NUMERIC;
+            return !repeated && cnpjCheckDigits == CnpjCheckDigitCalculator.checkDigitsOfSums(cnpjSums)
+                    ? type | VALID
+                    : type;
+        }
+        return cpf ? CPF : NO_MATCH;
+    }
+
+    /**
+     * Writes the significant characters of a region already scanned as a CPF or a CNPJ.
+     *
+     * @param input  the character sequence holding the document.
+     * @param offset the index of the first character of the region.
+     * @param length the number of characters in the region.
+     * @param result the result of scanning the region.
+     * @return the document without formatting: the 11 digits of a CPF, the 14 characters of a CNPJ.
+     */
+    public static String normalize(CharSequence input, int offset, int length, int result) {
+        final var cpf = typeOf(result) == CPF;
+        final var normalized = new char[Cnpj.LENGTH];
+        var size = 0;
+        for (int index = offset, end = offset + length; index < end; index++) {
+            final var character = input.charAt(index);
+            if (character >= '0' && character <= '9' || !cpf && character >= 'A' && character <= 'Z') {
+                normalized[size++] = character;
+            }
+        }
+        return new String(normalized, 0, size);
+    }
+
+    /**
+     * Returns the type part of a scan result.
+     *
+     * @param result a value returned by {@link #scan(CharSequence, int, int)}.
+     * @return {@link #CPF}, {@link #CNPJ_NUMERIC}, {@link #CNPJ_ALPHANUMERIC} or {@link #NO_MATCH}.
+     */
+    public static int typeOf(int result) {
+        return result & TYPE_MASK;
+    }
+
+    /**
+     * Tells whether a scan result denotes a valid document.
+     *
+     * @param result a value returned by {@link #scan(CharSequence, int, int)}.
+     * @return {@code true} if the {@link #VALID} flag is set; {@code false} otherwise.
+     */
+    public static boolean isValid(int result) {
+        return (result & VALID) != 0;
+    }
+
+}
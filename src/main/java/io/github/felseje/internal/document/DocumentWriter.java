@@ -0,0 +1,571 @@
+package io.github.felseje.internal.document;
+
+import io.github.felseje.cnpj.Cnpj;
+import io.github.felseje.cpf.Cpf;
+import io.github.felseje.exception.InvalidDocumentException;
+import io.github.felseje.internal.cnpj.util.CnpjCodec;
+import io.github.felseje.internal.cnpj.validation.CnpjScanner;
+import io.github.felseje.internal.cpf.util.CpfCodec;
+import io.github.felseje.internal.cpf.validation.CpfScanner;
+import io.github.felseje.internal.util.DocumentExceptions;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * Writes the formatted text of CPFs and CNPJs straight into a caller-supplied target: a {@code char[]}, an ASCII
+ * {@code byte[]}, a {@link StringBuilder} or any {@link Appendable}.
+ *
+ * <p>A document is written either from its packed key, decoded digit by digit into its place in the pattern, or from
+ * a region already holding the normalized document, whose characters are copied around the separators. Neither path
+ * builds an intermediate string, so formatting a whole column allocates nothing per row. Normalized regions are checked
+ * to hold the right characters, but their check digits are not validated.</p>
+ *
+ * <p>Arguments are checked before anything is written, so a call rejecting them leaves the target untouched.</p>
+ *
+ * @author felseje
+ * @since 1.0.0-alpha
+ */
+public enum DocumentWriter {
+
+    /**
+     * Writes CPFs in the {@code ###.###.###-##} pattern.
+     */
+    CPF(Cpf.LENGTH, Cpf.FORMATTED_LENGTH, "The CPF key is out of range", "The CPF must not be null") {
+        @Override
+        boolean isKeyInRange(long key) {
+            return CpfCodec.isInRange(key);
+        }
+
+        @Override
+        boolean isNormalized(CharSequence input, int offset) {
+            return CpfCodec.isNormalized(input, offset);
+        }
+
+        @Override
+        InvalidDocumentException unnormalized() {
+            return DocumentExceptions.unnormalizedCpf();
+        }
+
+        @Override
+        void decode(long key, char[] destination, int offset) {
+            CpfCodec.decodeFormatted(key, destination, offset);
+        }
+
+        @Override
+        void decode(long key, byte[] destination, int offset) {
+            CpfCodec.decodeFormatted(key, destination, offset);
+        }
+
+        @Override
+        int checkDigitsOf(long key) {
+            return 0;
+        }
+
+        @Override
+        char formattedCharAt(long key, int checkDigits, int index) {
+            return CpfCodec.formattedCharAt(key, index);
+        }
+
+        @Override
+        char formattedCharAt(CharSequence normalized, int offset, int index) {
+            return CpfCodec.formattedCharAt(normalized, offset, index);
+        }
+
+        @Override
+        char charAt(long key, int checkDigits, int position) {
+            return CpfCodec.charAt(key, position);
+        }
+
+        @Override
+        int positionOf(int index) {
+            return CpfCodec.positionOf(index);
+        }
+
+        @Override
+        long keyOf(CharSequence input, int offset, int length) {
+            return CpfScanner.toKey(input, offset, length);
+        }
+
+        @Override
+        InvalidDocumentException invalid() {
+            return DocumentExceptions.invalidCpf();
+        }
+    },
+
+    /**
+     * Writes CNPJs, numeric or alphanumeric, in the {@code ##.###.###/####-##} pattern.
+     */
+    CNPJ(Cnpj.LENGTH, Cnpj.FORMATTED_LENGTH, "The CNPJ key is out of range", "The CNPJ must not be null") {
+        @Override
+        boolean isKeyInRange(long key) {
+            return CnpjCodec.isInRange(key);
+        }
+
+        @Override
+        boolean isNormalized(CharSequence input, int offset) {
+            return CnpjCodec.isNormalized(input, offset);
+        }
+
+        @Override
+        InvalidDocumentException unnormalized() {
+            return DocumentExceptions.unnormalizedCnpj();
+        }
+
+        @Override
+        void decode(long key, char[] destination, int offset) {
+            CnpjCodec.decodeFormatted(key, destination, offset);
+        }
+
+        @Override
+        void decode(long key, byte[] destination, int offset) {
+            CnpjCodec.decodeFormatted(key, destination, offset);
+        }
+
+        @Override
+        int checkDigitsOf(long key) {
+            return CnpjCodec.checkDigitsOf(key);
+        }
+
+        @Override
+        char formattedCharAt(long key, int checkDigits, int index) {
+            return CnpjCodec.formattedCharAt(key, checkDigits, index);
+        }
+
+        @Override
+        char formattedCharAt(CharSequence normalized, int offset, int index) {
+            return CnpjCodec.formattedCharAt(normalized, offset, index);
+        }
+
+        @Override
+        char charAt(long key, int checkDigits, int position) {
+            return CnpjCodec.charAt(key, checkDigits, position);
+        }
+
+        @Override
+        int positionOf(int index) {
+            return CnpjCodec.positionOf(index);
+        }
+
+        @Override
+        long keyOf(CharSequence input, int offset, int length) {
+            return CnpjScanner.toKey(input, offset, length);
+        }
+
+        @Override
+        InvalidDocumentException invalid() {
+            return DocumentExceptions.invalidCnpj();
+        }
+    };
+
+    private final int length;
+    private final int formattedLength;
+    private final String keyOutOfRangeMessage;
+    private final String nullDocumentMessage;
+
+    DocumentWriter(final int length, final int formattedLength, final String keyOutOfRangeMessage,
+                   final String nullDocumentMessage) {
+        this.length = length;
+        this.formattedLength = formattedLength;
+        this.keyOutOfRangeMessage = keyOutOfRangeMessage;
+        this.nullDocumentMessage = nullDocumentMessage;
+    }
+
+    /**
+     * Tells whether a key is within the range of packed documents.
+     *
+     * @param key the key to check.
+     * @return {@code true} if the key can be decoded; {@code false} otherwise.
+     */
+    abstract boolean isKeyInRange(long key);
+
+    /**
+     * Tells whether a region holds a normalized document.
+     *
+     * @param input  the character sequence holding the region.
+     * @param offset the index of the first character of the region, which is as long as a normalized document.
+     * @return {@code true} if the region holds the right character at every position; {@code false} otherwise.
+     */
+    abstract boolean isNormalized(CharSequence input, int offset);
+
+    /**
+     * Returns the exception for a region that does not hold a normalized document.
+     *
+     * @return the exception.
+     */
+    abstract InvalidDocumentException unnormalized();
+
+    /**
+     * Writes the formatted document of a key into a character buffer, without checking the arguments.
+     *
+     * @param key         the packed document, in range.
+     * @param destination the buffer receiving the formatted document.
+     * @param offset      the index where the first character is written.
+     */
+    abstract void decode(long key, char[] destination, int offset);
+
+    /**
+     * Writes the formatted document of a key into a byte buffer, as ASCII, without checking the arguments.
+     *
+     * @param key         the packed document, in range.
+     * @param destination the buffer receiving the formatted document.
+     * @param offset      the index where the first byte is written.
+     */
+    abstract void decode(long key, byte[] destination, int offset);
+
+    /**
+     * Returns the check digits {@link #formattedCharAt(long, int, int)} needs for a key, computed once per document.
+     *
+     * @param key the packed document, in range.
+     * @return the check digits when they are not part of the key; {@code 0} otherwise.
+     */
+    abstract int checkDigitsOf(long key);
+
+    /**
+     * Returns one character of the formatted document of a key.
+     *
+     * @param key         the packed document, in range.
+     * @param checkDigits the value returned by {@link #checkDigitsOf(long)} for the key.
+     * @param index       the index of the character within the formatted document.
+     * @return the character or separator at that index.
+     */
+    abstract char formattedCharAt(long key, int checkDigits, int index);
+
+    /**
+     * Returns one character of the formatted document held normalized in a region.
+     *
+     * @param normalized the character sequence holding the normalized document.
+     * @param offset     the index of the first character of the normalized document.
+     * @param index      the index of the character within the formatted document.
+     * @return the character or separator at that index.
+     */
+    abstract char formattedCharAt(CharSequence normalized, int offset, int index);
+
+    /**
+     * Returns one character of the normalized document of a key.
+     *
+     * @param key         the packed document, in range.
+     * @param checkDigits the value returned by {@link #checkDigitsOf(long)} for the key.
+     * @param position    the index of the character within the normalized document.
+     * @return the character at that index.
+     */
+    abstract char charAt(long key, int checkDigits, int position);
+
+    /**
+     * Returns the index, within the normalized document, of the character shown at an index of the formatted one.
+     *
+     * @param index the index within the formatted document.
+     * @return the index within the normalized document, or {@code -1} for a separator.
+     */
+    abstract int positionOf(int index);
+
+    /**
+     * Reads a document, formatted or not, into its key, skipping the characters that cannot belong to it.
+     *
+     * @param input  the character sequence holding the document.
+     * @param offset the index of the first character of the region.
+     * @param length the number of characters in the region.
+     * @return the key, or a negative value if the region does not hold a valid document.
+     */
+    abstract long keyOf(CharSequence input, int offset, int length);
+
+    /**
+     * Returns the exception for a document that is not valid.
+     *
+     * @return the exception.
+     */
+    abstract InvalidDocumentException invalid();
+
+    /**
+     * Returns the length of the normalized document.
+     *
+     * @return the number of characters of a normalized document.
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * Returns the length of the formatted document.
+     *
+     * @return the number of characters written per document.
+     */
+    public int formattedLength() {
+        return formattedLength;
+    }
+
+    /**
+     * Writes the formatted document of a key into a character buffer.
+     *
+     * @param key         the packed document.
+     * @param destination the buffer receiving the formatted document.
+     * @param offset      the index where the first character is written.
+     * @return the index following the last character written.
+     * @throws IllegalArgumentException  if {@code key} is out of range or {@code destination} is {@code null}.
+     * @throws IndexOutOfBoundsException if the formatted document does not fit in {@code destination}.
+     */
+    public int write(long key, char[] destination, int offset)
+            throws IllegalArgumentException, IndexOutOfBoundsException {
+        requireKeyInRange(key);
+        Objects.checkFromIndexSize(offset, formattedLength, requireDestination(destination).length);
+        decode(key, destination, offset);
+        return offset + formattedLength;
+    }
+
+    /**
+     * Writes the formatted document of a key into a byte buffer, as ASCII.
+     *
+     * @param key         the packed document.
+     * @param destination the buffer receiving the formatted document.
+     * @param offset      the index where the first byte is written.
+     * @return the index following the last byte written.
+     * @throws IllegalArgumentException  if {@code key} is out of range or {@code destination} is {@code null}.
+     * @throws IndexOutOfBoundsException if the formatted document does not fit in {@code destination}.
+     */
+    public int write(long key, byte[] destination, int offset)
+            throws IllegalArgumentException, IndexOutOfBoundsException {
+        requireKeyInRange(key);
+        Objects.checkFromIndexSize(offset, formattedLength, requireDestination(destination).length);
+        decode(key, destination, offset);
+        return offset + formattedLength;
+    }
+
+    /**
+     * Appends the formatted document of a key to a string builder.
+     *
+     * @param key         the packed document.
+     * @param destination the builder receiving the formatted document.
+     * @return {@code destination}.
+     * @throws IllegalArgumentException if {@code key} is out of range or {@code destination} is {@code null}.
+     */
+    public StringBuilder append(long key, StringBuilder destination) throws IllegalArgumentException {
+        requireKeyInRange(key);
+        requireDestination(destination).ensureCapacity(destination.length() + formattedLength);
+        final var checkDigits = checkDigitsOf(key);
+        for (int i = 0; i < formattedLength; i++) {
+            destination.append(formattedCharAt(key, checkDigits, i));
+        }
+        return destination;
+    }
+
+    /**
+     * Appends the formatted document of a key to an {@link Appendable}, one character at a time.
+     *
+     * @param key         the packed document.
+     * @param destination the target receiving the formatted document.
+     * @return {@code destination}.
+     * @throws IllegalArgumentException if {@code key} is out of range or {@code destination} is {@code null}.
+     * @throws IOException              if {@code destination} fails to append a character.
+     */
+    public Appendable append(long key, Appendable destination) throws IllegalArgumentException, IOException {
+        requireKeyInRange(key);
+        requireDestination(destination);
+        final var checkDigits = checkDigitsOf(key);
+        for (int i = 0; i < formattedLength; i++) {
+            destination.append(formattedCharAt(key, checkDigits, i));
+        }
+        return destination;
+    }
+
+    /**
+     * Writes the formatted document held normalized in a region of a character sequence into a character buffer.
+     *
+     * @param normalized        the character sequence holding the normalized document.
+     * @param offset            the index of the first character of the normalized document.
+     * @param destination       the buffer receiving the formatted document.
+     * @param destinationOffset the index where the first character is written.
+     * @return the index following the last character written.
+     * @throws IllegalArgumentException  if {@code normalized} or {@code destination} is {@code null}.
+     * @throws IndexOutOfBoundsException if the region or the formatted document is out of bounds.
+     * @throws InvalidDocumentException  if the region does not hold a normalized document.
+     */
+    public int writeNormalized(CharSequence normalized, int offset, char[] destination, int destinationOffset)
+            throws IllegalArgumentException, IndexOutOfBoundsException, InvalidDocumentException {
+        requireNormalized(normalized, offset);
+        Objects.checkFromIndexSize(destinationOffset, formattedLength, requireDestination(destination).length);
+        for (int i = 0; i < formattedLength; i++) {
+            destination[destinationOffset + i] = formattedCharAt(normalized, offset, i);
+        }
+        return destinationOffset + formattedLength;
+    }
+
+    /**
+     * Writes the formatted document held normalized in a region of a character sequence into a byte buffer, as
+     * ASCII.
+     *
+     * @param normalized        the character sequence holding the normalized document.
+     * @param offset            the index of the first character of the normalized document.
+     * @param destination       the buffer receiving the formatted document.
+     * @param destinationOffset the index where the first byte is written.
+     * @return the index following the last byte written.
+     * @throws IllegalArgumentException  if {@code normalized} or {@code destination} is {@code null}.
+     * @throws IndexOutOfBoundsException if the region or the formatted document is out of bounds.
+     * @throws InvalidDocumentException  if the region does not hold a normalized document.
+     */
+    public int writeNormalized(CharSequence normalized, int offset, byte[] destination, int destinationOffset)
+            throws IllegalArgumentException, IndexOutOfBoundsException, InvalidDocumentException {
+        requireNormalized(normalized, offset);
+        Objects.checkFromIndexSize(destinationOffset, formattedLength, requireDestination(destination).length);
+        for (int i = 0; i < formattedLength; i++) {
+            destination[destinationOffset + i] = (byte) formattedCharAt(normalized, offset, i);
+        }
+        return destinationOffset + formattedLength;
+    }
+
+    /**
+     * Appends the formatted document held normalized in a region of a character sequence to a string builder.
+     *
+     * @param normalized  the character sequence holding the normalized document.
+     * @param offset      the index of the first character of the normalized document.
+     * @param destination the builder receiving the formatted document.
+     * @return {@code destination}.
+     * @throws IllegalArgumentException  if {@code normalized} or {@code destination} is {@code null}.
+     * @throws IndexOutOfBoundsException if the region is out of the bounds of {@code normalized}.
+     * @throws InvalidDocumentException  if the region does not hold a normalized document.
+     */
+    public StringBuilder appendNormalized(CharSequence normalized, int offset, StringBuilder destination)
+            throws IllegalArgumentException, IndexOutOfBoundsException, InvalidDocumentException {
+        requireNormalized(normalized, offset);
+        requireDestination(destination).ensureCapacity(destination.length() + formattedLength);
+        for (int i = 0; i < formattedLength; i++) {
+            destination.append(formattedCharAt(normalized, offset, i));
+        }
+        return destination;
+    }
+
+    /**
+     * Appends the formatted document held normalized in a region of a character sequence to an {@link Appendable},
+     * one character at a time.
+     *
+     * @param normalized  the character sequence holding the normalized document.
+     * @param offset      the index of the first character of the normalized document.
+     * @param destination the target receiving the formatted document.
+     * @return {@code destination}.
+     * @throws IllegalArgumentException  if {@code normalized} or {@code destination} is {@code null}.
+     * @throws IndexOutOfBoundsException if the region is out of the bounds of {@code normalized}.
+     * @throws InvalidDocumentException  if the region does not hold a normalized document.
+     * @throws IOException               if {@code destination} fails to append a character.
+     */
+    public Appendable appendNormalized(CharSequence normalized, int offset, Appendable destination)
+            throws IllegalArgumentException, IndexOutOfBoundsException, InvalidDocumentException, IOException {
+        requireNormalized(normalized, offset);
+        requireDestination(destination);
+        for (int i = 0; i < formattedLength; i++) {
+            destination.append(formattedCharAt(normalized, offset, i));
+        }
+        return destination;
+    }
+
+    /**
+     * Returns the formatted text of a document already known to be normalized, as by the normalizers.
+     *
+     * @param normalized the normalized document.
+     * @return the formatted document.
+     */
+    public String format(final String normalized) {
+        final var formatted = new char[formattedLength];
+        for (int i = 0; i < formattedLength; i++) {
+            formatted[i] = formattedCharAt(normalized, 0, i);
+        }
+        return new String(formatted);
+    }
+
+    /**
+     * Writes the formatted documents of several keys into a character buffer, as fixed-length records.
+     *
+     * <p>Record {@code i} is written at {@code offset + i * stride}; characters between records are left untouched,
+     * so separators or line breaks can be laid out once and kept across calls.</p>
+     *
+     * @param keys        the packed documents.
+     * @param destination the buffer receiving the records.
+     * @param offset      the index where the first record is written.
+     * @param stride      the distance between the starts of two consecutive records; at least the formatted length.
+     * @return the index following the last character written, or {@code offset} if {@code keys} is empty.
+     * @throws IllegalArgumentException  if {@code keys} or {@code destination} is {@code null}, {@code stride} is too
+     *                                   small or a key is out of range.
+     * @throws IndexOutOfBoundsException if the records do not fit in {@code destination}.
+     */
+    public int writeAll(long[] keys, char[] destination, int offset, int stride)
+            throws IllegalArgumentException, IndexOutOfBoundsException {
+        final var end = requireRecords(keys, requireDestination(destination).length, offset, stride,
+                formattedLength);
+        for (int i = 0, at = offset; i < keys.length; i++, at += stride) {
+            decode(keys[i], destination, at);
+        }
+        return end;
+    }
+
+    /**
+     * Writes the formatted documents of several keys into a byte buffer, as fixed-length ASCII records.
+     *
+     * <p>Record {@code i} is written at {@code offset + i * stride}; bytes between records are left untouched, so
+     * separators or line breaks can be laid out once and kept across calls.</p>
+     *
+     * @param keys        the packed documents.
+     * @param destination the buffer receiving the records.
+     * @param offset      the index where the first record is written.
+     * @param stride      the distance between the starts of two consecutive records; at least the formatted length.
+     * @return the index following the last byte written, or {@code offset} if {@code keys} is empty.
+     * @throws IllegalArgumentException  if {@code keys} or {@code destination} is {@code null}, {@code stride} is too
+     *                                   small or a key is out of range.
+     * @throws IndexOutOfBoundsException if the records do not fit in {@code destination}.
+     */
+    public int writeAll(long[] keys, byte[] destination, int offset, int stride)
+            throws IllegalArgumentException, IndexOutOfBoundsException {
+        final var end = requireRecords(keys, requireDestination(destination).length, offset, stride,
+                formattedLength);
+        for (int i = 0, at = offset; i < keys.length; i++, at += stride) {
+            decode(keys[i], destination, at);
+        }
+        return end;
+    }
+
+    void requireKeyInRange(final long key) throws IllegalArgumentException {
+        if (!isKeyInRange(key)) {
+            throw new IllegalArgumentException(keyOutOfRangeMessage);
+        }
+    }
+
+    void requireNormalized(final CharSequence normalized, final int offset)
+            throws IllegalArgumentException, IndexOutOfBoundsException, InvalidDocumentException {
+        if (normalized == null) {
+            throw new IllegalArgumentException(nullDocumentMessage);
+        }
+        Objects.checkFromIndexSize(offset, length, normalized.length());
+        if (!isNormalized(normalized, offset)) {
+            throw unnormalized();
+        }
+    }
+
+    int requireRecords(final long[] keys, final int capacity, final int offset, final int stride,
+                       final int recordLength)
+            throws IllegalArgumentException, IndexOutOfBoundsException {
+        if (keys == null) {
+            throw new IllegalArgumentException("The keys must not be null");
+        }
+        if (stride < recordLength) {
+            throw new IllegalArgumentException("The stride must not be smaller than " + recordLength);
+        }
+        for (final var key : keys) {
+            requireKeyInRange(key);
+        }
+        if (keys.length == 0) {
+            Objects.checkIndex(offset, capacity + 1);
+            return offset;
+        }
+        final var end = offset + (long) (keys.length - 1) * stride + recordLength;
+        if (offset < 0 || end > capacity) {
+            throw new IndexOutOfBoundsException("The records do not fit in the destination: offset " + offset
+                    + ", end " + end + ", length " + capacity);
+        }
+        return (int) end;
+    }
+
+    static <T> T requireDestination(final T destination) throws IllegalArgumentException {
+        if (destination == null) {
+            throw new IllegalArgumentException("The destination must not be null");
+        }
+        return destination;
+    }
+
+}
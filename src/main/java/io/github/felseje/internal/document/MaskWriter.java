@@ -0,0 +1,350 @@
+package io.github.felseje.internal.document;
+
+import io.github.felseje.exception.InvalidDocumentException;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * Writes CPFs and CNPJs through a compiled masking pattern, revealing some of their characters and hiding the others.
+ *
+ * <p>A pattern is an ASCII string as long as either the formatted or the normalized document. In a formatted pattern,
+ * the characters standing at separators are written verbatim and the others stand for the document character at that
+ * place; in a normalized pattern, every character stands for a document character. A {@code '#'} reveals the document
+ * character, any other character is written in its place, so {@code "***.###.###-**"} writes
+ * {@code "***.456.789-**"} for {@code "123.456.789-09"}.</p>
+ *
+ * <p>The pattern is compiled once into the literal written at each index and the document position revealed there.
+ * Applying it is then a single copy into the target: hidden characters are never read, and a key only has the
+ * revealed characters decoded. Instances are immutable and can be shared between threads.</p>
+ *
+ * @author felseje
+ * @since 1.0.0-alpha
+ */
+public final class MaskWriter {
+
+    private static final char REVEAL = '#';
+    private static final char MAX_ASCII = 0x7F;
+
+    private final DocumentWriter document;
+    private final String pattern;
+    private final char[] literals;
+    private final int[] positions;
+    private final boolean revealsCheckDigits;
+
+    /**
+     * Compiles a masking pattern.
+     *
+     * @param document the document the pattern applies to.
+     * @param pattern  the pattern, as long as the formatted or the normalized document; {@code '#'} reveals the
+     *                 document character at its place.
+     * @throws IllegalArgumentException if {@code pattern} is {@code null}, has another length, holds a character
+     *                                  outside ASCII or reveals a separator.
+     */
+    public MaskWriter(DocumentWriter document, String pattern) throws IllegalArgumentException {
+        if (pattern == null) {
+            throw new IllegalArgumentException("The mask pattern must not be null");
+        }
+        final var formatted = pattern.length() == document.formattedLength();
+        if (!formatted && pattern.length() != document.length()) {
+            throw new IllegalArgumentException("The mask pattern must be " + document.formattedLength() + " or "
+                    + document.length() + " characters long");
+        }
+        this.document = document;
+        this.pattern = pattern;
+        this.literals = pattern.toCharArray();
+        this.positions = new int[literals.length];
+        var checkDigits = false;
+        for (int i = 0; i < literals.length; i++) {
+            final var position = formatted ? document.positionOf(i) : i;
+            if (literals[i] > MAX_ASCII) {
+                throw new IllegalArgumentException("The mask pattern must hold ASCII characters only");
+            } else if (literals[i] != REVEAL) {
+                positions[i] = -1;
+            } else if (position < 0) {
+                throw new IllegalArgumentException("The mask pattern reveals a separator at index " + i);
+            } else {
+                positions[i] = position;
+                checkDigits |= position >= document.length() - 2;
+            }
+        }
+        this.revealsCheckDigits = checkDigits;
+    }
+
+    /**
+     * Returns the pattern this writer was compiled from.
+     *
+     * @return the pattern.
+     */
+    public String pattern() {
+        return pattern;
+    }
+
+    /**
+     * Returns the length of a masked document.
+     *
+     * @return the number of characters written per document, the length of the pattern.
+     */
+    public int length() {
+        return literals.length;
+    }
+
+    /**
+     * Writes the masked document of a key into a character buffer.
+     *
+     * @param key         the packed document.
+     * @param destination the buffer receiving the masked document.
+     * @param offset      the index where the first character is written.
+     * @return the index following the last character written.
+     * @throws IllegalArgumentException  if {@code key} is out of range or {@code destination} is {@code null}.
+     * @throws IndexOutOfBoundsException if the masked document does not fit in {@code destination}.
+     */
+    public int write(long key, char[] destination, int offset)
+            throws IllegalArgumentException, IndexOutOfBoundsException {
+        document.requireKeyInRange(key);
+        Objects.checkFromIndexSize(offset, literals.length, DocumentWriter.requireDestination(destination).length);
+        decode(key, destination, offset);
+        return offset + literals.length;
+    }
+
+    /**
+     * Writes the masked document of a key into a byte buffer, as ASCII.
+     *
+     * @param key         the packed document.
+     * @param destination the buffer receiving the masked document.
+     * @param offset      the index where the first byte is written.
+     * @return the index following the last byte written.
+     * @throws IllegalArgumentException  if {@code key} is out of range or {@code destination} is {@code null}.
+     * @throws IndexOutOfBoundsException if the masked document does not fit in {@code destination}.
+     */
+    public int write(long key, byte[] destination, int offset)
+            throws IllegalArgumentException, IndexOutOfBoundsException {
+        document.requireKeyInRange(key);
+        Objects.checkFromIndexSize(offset, literals.length, DocumentWriter.requireDestination(destination).length);
+        decode(key, destination, offset);
+        return offset + literals.length;
+    }
+
+    /**
+     * Appends the masked document of a key to a string builder.
+     *
+     * @param key         the packed document.
+     * @param destination the builder receiving the masked document.
+     * @return {@code destination}.
+     * @throws IllegalArgumentException if {@code key} is out of range or {@code destination} is {@code null}.
+     */
+    public StringBuilder append(long key, StringBuilder destination) throws IllegalArgumentException {
+        document.requireKeyInRange(key);
+        DocumentWriter.requireDestination(destination).ensureCapacity(destination.length() + literals.length);
+        final var checkDigits = checkDigitsOf(key);
+        for (int i = 0; i < literals.length; i++) {
+            final var position = positions[i];
+            destination.append(position < 0 ? literals[i] : document.charAt(key, checkDigits, position));
+        }
+        return destination;
+    }
+
+    /**
+     * Appends the masked document of a key to an {@link Appendable}, one character at a time.
+     *
+     * @param key         the packed document.
+     * @param destination the target receiving the masked document.
+     * @return {@code destination}.
+     * @throws IllegalArgumentException if {@code key} is out of range or {@code destination} is {@code null}.
+     * @throws IOException              if {@code destination} fails to append a character.
+     */
+    public Appendable append(long key, Appendable destination) throws IllegalArgumentException, IOException {
+        document.requireKeyInRange(key);
+        DocumentWriter.requireDestination(destination);
+        final var checkDigits = checkDigitsOf(key);
+        for (int i = 0; i < literals.length; i++) {
+            final var position = positions[i];
+            destination.append(position < 0 ? literals[i] : document.charAt(key, checkDigits, position));
+        }
+        return destination;
+    }
+
+    /**
+     * Writes the masked document held normalized in a region of a character sequence into a character buffer.
+     *
+     * @param normalized        the character sequence holding the normalized document.
+     * @param offset            the index of the first character of the normalized document.
+     * @param destination       the buffer receiving the masked document.
+     * @param destinationOffset the index where the first character is written.
+     * @return the index following the last character written.
+     * @throws IllegalArgumentException  if {@code normalized} or {@code destination} is {@code null}.
+     * @throws IndexOutOfBoundsException if the region or the masked document is out of bounds.
+     * @throws InvalidDocumentException  if the region does not hold a normalized document.
+     */
+    public int writeNormalized(CharSequence normalized, int offset, char[] destination, int destinationOffset)
+            throws IllegalArgumentException, IndexOutOfBoundsException, InvalidDocumentException {
+        document.requireNormalized(normalized, offset);
+        Objects.checkFromIndexSize(destinationOffset, literals.length,
+                DocumentWriter.requireDestination(destination).length);
+        for (int i = 0; i < literals.length; i++) {
+            final var position = positions[i];
+            destination[destinationOffset + i] = position < 0 ? literals[i] : normalized.charAt(offset + position);
+        }
+        return destinationOffset + literals.length;
+    }
+
+    /**
+     * Writes the masked document held normalized in a region of a character sequence into a byte buffer, as ASCII.
+     *
+     * @param normalized        the character sequence holding the normalized document.
+     * @param offset            the index of the first character of the normalized document.
+     * @param destination       the buffer receiving the masked document.
+     * @param destinationOffset the index where the first byte is written.
+     * @return the index following the last byte written.
+     * @throws IllegalArgumentException  if {@code normalized} or {@code destination} is {@code null}.
+     * @throws IndexOutOfBoundsException if the region or the masked document is out of bounds.
+     * @throws InvalidDocumentException  if the region does not hold a normalized document.
+     */
+    public int writeNormalized(CharSequence normalized, int offset, byte[] destination, int destinationOffset)
+            throws IllegalArgumentException, IndexOutOfBoundsException, InvalidDocumentException {
+        document.requireNormalized(normalized, offset);
+        Objects.checkFromIndexSize(destinationOffset, literals.length,
+                DocumentWriter.requireDestination(destination).length);
+        for (int i = 0; i < literals.length; i++) {
+            final var position = positions[i];
+            destination[destinationOffset + i] =
+                    (byte) (position < 0 ? literals[i] : normalized.charAt(offset + position));
+        }
+        return destinationOffset + literals.length;
+    }
+
+    /**
+     * Appends the masked document held normalized in a region of a character sequence to a string builder.
+     *
+     * @param normalized  the character sequence holding the normalized document.
+     * @param offset      the index of the first character of the normalized document.
+     * @param destination the builder receiving the masked document.
+     * @return {@code destination}.
+     * @throws IllegalArgumentException  if {@code normalized} or {@code destination} is {@code null}.
+     * @throws IndexOutOfBoundsException if the region is out of the bounds of {@code normalized}.
+     * @throws InvalidDocumentException  if the region does not hold a normalized document.
+     */
+    public StringBuilder appendNormalized(CharSequence normalized, int offset, StringBuilder destination)
+            throws IllegalArgumentException, IndexOutOfBoundsException, InvalidDocumentException {
+        document.requireNormalized(normalized, offset);
+        DocumentWriter.requireDestination(destination).ensureCapacity(destination.length() + literals.length);
+        for (int i = 0; i < literals.length; i++) {
+            final var position = positions[i];
+            destination.append(position < 0 ? literals[i] : normalized.charAt(offset + position));
+        }
+        return destination;
+    }
+
+    /**
+     * Appends the masked document held normalized in a region of a character sequence to an {@link Appendable}, one
+     * character at a time.
+     *
+     * @param normalized  the character sequence holding the normalized document.
+     * @param offset      the index of the first character of the normalized document.
+     * @param destination the target receiving the masked document.
+     * @return {@code destination}.
+     * @throws IllegalArgumentException  if {@code normalized} or {@code destination} is {@code null}.
+     * @throws IndexOutOfBoundsException if the region is out of the bounds of {@code normalized}.
+     * @throws InvalidDocumentException  if the region does not hold a normalized document.
+     * @throws IOException               if {@code destination} fails to append a character.
+     */
+    public Appendable appendNormalized(CharSequence normalized, int offset, Appendable destination)
+            throws IllegalArgumentException, IndexOutOfBoundsException, InvalidDocumentException, IOException {
+        document.requireNormalized(normalized, offset);
+        DocumentWriter.requireDestination(destination);
+        for (int i = 0; i < literals.length; i++) {
+            final var position = positions[i];
+            destination.append(position < 0 ? literals[i] : normalized.charAt(offset + position));
+        }
+        return destination;
+    }
+
+    /**
+     * Reads a valid document, formatted or not, into its key, as the lenient {@code toKey} methods do.
+     *
+     * @param input the document.
+     * @return the key.
+     * @throws IllegalArgumentException if {@code input} is {@code null}.
+     * @throws InvalidDocumentException if {@code input} is not a valid document.
+     */
+    public long requireKey(CharSequence input) throws IllegalArgumentException, InvalidDocumentException {
+        if (input == null) {
+            throw new IllegalArgumentException("The document must not be null");
+        }
+        final var key = document.keyOf(input, 0, input.length());
+        if (key < 0) {
+            throw document.invalid();
+        }
+        return key;
+    }
+
+    /**
+     * Writes the masked documents of several keys into a character buffer, as fixed-length records.
+     *
+     * <p>Record {@code i} is written at {@code offset + i * stride}; characters between records are left
+     * untouched.</p>
+     *
+     * @param keys        the packed documents.
+     * @param destination the buffer receiving the records.
+     * @param offset      the index where the first record is written.
+     * @param stride      the distance between the starts of two consecutive records; at least the pattern length.
+     * @return the index following the last character written, or {@code offset} if {@code keys} is empty.
+     * @throws IllegalArgumentException  if {@code keys} or {@code destination} is {@code null}, {@code stride} is too
+     *                                   small or a key is out of range.
+     * @throws IndexOutOfBoundsException if the records do not fit in {@code destination}.
+     */
+    public int writeAll(long[] keys, char[] destination, int offset, int stride)
+            throws IllegalArgumentException, IndexOutOfBoundsException {
+        final var end = document.requireRecords(keys, DocumentWriter.requireDestination(destination).length, offset,
+                stride, literals.length);
+        for (int i = 0, at = offset; i < keys.length; i++, at += stride) {
+            decode(keys[i], destination, at);
+        }
+        return end;
+    }
+
+    /**
+     * Writes the masked documents of several keys into a byte buffer, as fixed-length ASCII records.
+     *
+     * <p>Record {@code i} is written at {@code offset + i * stride}; bytes between records are left untouched.</p>
+     *
+     * @param keys        the packed documents.
+     * @param destination the buffer receiving the records.
+     * @param offset      the index where the first record is written.
+     * @param stride      the distance between the starts of two consecutive records; at least the pattern length.
+     * @return the index following the last byte written, or {@code offset} if {@code keys} is empty.
+     * @throws IllegalArgumentException  if {@code keys} or {@code destination} is {@code null}, {@code stride} is too
+     *                                   small or a key is out of range.
+     * @throws IndexOutOfBoundsException if the records do not fit in {@code destination}.
+     */
+    public int writeAll(long[] keys, byte[] destination, int offset, int stride)
+            throws IllegalArgumentException, IndexOutOfBoundsException {
+        final var end = document.requireRecords(keys, DocumentWriter.requireDestination(destination).length, offset,
+                stride, literals.length);
+        for (int i = 0, at = offset; i < keys.length; i++, at += stride) {
+            decode(keys[i], destination, at);
+        }
+        return end;
+    }
+
+    private void decode(final long key, final char[] destination, final int offset) {
+        final var checkDigits = checkDigitsOf(key);
+        for (int i = 0; i < literals.length; i++) {
+            final var position = positions[i];
+            destination[offset + i] = position < 0 ? literals[i] : document.charAt(key, checkDigits, position);
+        }
+    }
+
+    private void decode(final long key, final byte[] destination, final int offset) {
+        final var checkDigits = checkDigitsOf(key);
+        for (int i = 0; i < literals.length; i++) {
+            final var position = positions[i];
+            destination[offset + i] = (byte) (position < 0 ? literals[i] : document.charAt(key, checkDigits, position));
+        }
+    }
+
+    private int checkDigitsOf(final long key) {
+        return revealsCheckDigits ? document.checkDigitsOf(key) : 0;
+    }
+
+}
@@ -0,0 +1,94 @@
+package io.github.felseje.internal.engine;
+
+import io.github.felseje.internal.batch.BatchDocument;
+import io.github.felseje.internal.batch.ScalarBatchKernel;
+import io.github.felseje.internal.cnpj.validation.CnpjScanner;
+import io.github.felseje.internal.cpf.validation.CpfScanner;
+import io.github.felseje.spi.ValidationEngine;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Abstract base class for the built-in validation engines.
+ *
+ * <p>Single documents are validated by {@link CpfScanner} and {@link CnpjScanner}, which already pick their fastest
+ * path per input (table-driven check digits, and SWAR for clean digit byte regions). Batches are validated one record
+ * at a time by {@link ScalarBatchKernel}; subclasses may replace the batch kernel.</p>
+ *
+ * @see ScalarEngine
+ * @see VectorEngine
+ *
+ * @author felseje
+ * @since 1.0.0-alpha
+ */
+public abstract sealed class AbstractEngine implements ValidationEngine permits ScalarEngine, VectorEngine {
+
+    private static final ScalarBatchKernel SCALAR_KERNEL = new ScalarBatchKernel();
+
+    /**
+     * Protected constructor to prevent direct instantiation.
+     */
+    protected AbstractEngine() {
+    }
+
+    @Override
+    public boolean isValidCpf(CharSequence cpf, int offset, int length) throws IndexOutOfBoundsException {
+        return CpfScanner.isValid(cpf, offset, length);
+    }
+
+    @Override
+    public boolean isValidCpf(byte[] cpf, int offset, int length) throws IndexOutOfBoundsException {
+        return CpfScanner.isValid(cpf, offset, length);
+    }
+
+    @Override
+    public boolean isValidCpf(ByteBuffer cpf, int offset, int length) throws IndexOutOfBoundsException {
+        return CpfScanner.isValid(cpf, offset, length);
+    }
+
+    @Override
+    public boolean isValidCnpj(CharSequence cnpj, int offset, int length) throws IndexOutOfBoundsException {
+        return CnpjScanner.isValid(CnpjScanner.scanLenient(cnpj, offset, length));
+    }
+
+    @Override
+    public boolean isValidCnpj(byte[] cnpj, int offset, int length) throws IndexOutOfBoundsException {
+        return CnpjScanner.isValid(CnpjScanner.scanLenient(cnpj, offset, length));
+    }
+
+    @Override
+    public boolean isValidCnpj(ByteBuffer cnpj, int offset, int length) throws IndexOutOfBoundsException {
+        return CnpjScanner.isValid(CnpjScanner.scanLenient(cnpj, offset, length));
+    }
+
+    @Override
+    public boolean isValidStrictCnpj(CharSequence cnpj, int offset, int length) throws IndexOutOfBoundsException {
+        return CnpjScanner.isValid(CnpjScanner.scanStrict(cnpj, offset, length));
+    }
+
+    @Override
+    public boolean isValidStrictCnpj(byte[] cnpj, int offset, int length) throws IndexOutOfBoundsException {
+        return CnpjScanner.isValid(CnpjScanner.scanStrict(cnpj, offset, length));
+    }
+
+    @Override
+    public boolean isValidStrictCnpj(ByteBuffer cnpj, int offset, int length) throws IndexOutOfBoundsException {
+        return CnpjScanner.isValid(CnpjScanner.scanStrict(cnpj, offset, length));
+    }
+
+    @Override
+    public int validateCpfBatch(byte[] batch, int offset, int stride, int count, long[] validity) {
+        return SCALAR_KERNEL.validate(BatchDocument.CPF, batch, offset, stride, count, validity);
+    }
+
+    @Override
+    public int validateCnpjBatch(byte[] batch, int offset, int stride, int count, long[] validity) {
+        return SCALAR_KERNEL.validate(BatchDocument.CNPJ, batch, offset, stride, count, validity);
+    }
+
+    @Override
+    public String toString() {
+        return name();
+    }
+
+}
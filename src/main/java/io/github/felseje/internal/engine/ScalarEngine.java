@@ -0,0 +1,30 @@
+package io.github.felseje.internal.engine;
+
+/**
+ * The {@code scalar} engine, validating one document at a time.
+ *
+ * <p>Always supported, it is the fallback when no other engine is registered or supported.</p>
+ *
+ * @author felseje
+ * @since 1.0.0-alpha
+ */
+public final class ScalarEngine extends AbstractEngine {
+
+    /**
+     * The name of this engine.
+     */
+    public static final String NAME = "scalar";
+
+    /**
+     * Constructs a new {@code ScalarEngine}.
+     */
+    public ScalarEngine() {
+        super();
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+}
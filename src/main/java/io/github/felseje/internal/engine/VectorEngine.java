@@ -0,0 +1,78 @@
+package io.github.felseje.internal.engine;
+
+import io.github.felseje.internal.batch.BatchDocument;
+import io.github.felseje.internal.batch.BatchKernel;
+import io.github.felseje.internal.batch.VectorBatchKernel;
+
+/**
+ * The {@code vector} engine, validating batches several records per instruction with the Vector API.
+ *
+ * <p>Single documents are validated as by {@link ScalarEngine}. The engine is supported only when the
+ * {@code jdk.incubator.vector} module is present in the boot layer (e.g. the JVM was started with
+ * {@code --add-modules jdk.incubator.vector}); {@link VectorBatchKernel} is never loaded otherwise, so this class
+ * links on any JVM.</p>
+ *
+ * @author felseje
+ * @since 1.0.0-alpha
+ */
+public final class VectorEngine extends AbstractEngine {
+
+    /**
+     * The name of this engine.
+     */
+    public static final String NAME = "vector";
+
+    private static final int PRIORITY = 100;
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+
+    /**
+     * Constructs a new {@code VectorEngine}.
+     */
+    public VectorEngine() {
+        super();
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public int priority() {
+        return PRIORITY;
+    }
+
+    @Override
+    public boolean isSupported() {
+        return KernelHolder.INSTANCE != null;
+    }
+
+    @Override
+    public int validateCpfBatch(byte[] batch, int offset, int stride, int count, long[] validity) {
+        return KernelHolder.INSTANCE.validate(BatchDocument.CPF, batch, offset, stride, count, validity);
+    }
+
+    @Override
+    public int validateCnpjBatch(byte[] batch, int offset, int stride, int count, long[] validity) {
+        return KernelHolder.INSTANCE.validate(BatchDocument.CNPJ, batch, offset, stride, count, validity);
+    }
+
+    /**
+     * Holds the vectorized kernel, or {@code null} when the Vector API is not available.
+     */
+    private static final class KernelHolder {
+        private static final BatchKernel INSTANCE = load();
+
+        private static BatchKernel load() {
+            if (ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent()) {
+                try {
+                    return new VectorBatchKernel();
+                } catch (LinkageError error) {
+                    // the module is present but not readable by this one
+                }
+            }
+            return null;
+        }
+    }
+
+}
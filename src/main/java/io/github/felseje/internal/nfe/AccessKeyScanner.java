@@ -0,0 +1,203 @@
+package io.github.felseje.internal.nfe;
+
+import io.github.felseje.internal.cnpj.util.CnpjCheckDigitCalculator;
+import io.github.felseje.internal.cnpj.util.CnpjCodec;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+import static io.github.felseje.internal.Constants.NOT_ALLOWED_INSTANTIATION_ERROR;
+
+/**
+ * Single-pass validation engine for the 44-character access keys of NF-e, NFC-e, CT-e and MDF-e documents.
+ *
+ * <p>An access key is laid out as the UF code (2 digits), the issue year and month (4), the issuer CNPJ (14), the
+ * model (2), the series (3), the number (9), the emission type (1), the numeric code (8) and the key check digit (1).
+ * The key check digit is the modulo 11 of the first 43 characters weighted 2 to 9 from the right, 0 when the rest is
+ * 0 or 1, as {@link CnpjCheckDigitCalculator#checkDigitOf(int)} computes it.</p>
+ *
+ * <p>Each character is read once: its weighted value is added to the key sum and, for the 12 characters of the CNPJ
+ * base, its packed contribution is added to both CNPJ sums and its base-36 digit to the CNPJ key. The CNPJ base may be
+ * alphanumeric, every character contributing its ASCII code minus 48 to both the CNPJ and the key sums; all other
+ * characters must be ASCII digits. No regex is involved and nothing is allocated.</p>
+ *
+ * @author felseje
+ * @since 1.0.0-alpha
+ */
+public final class AccessKeyScanner {
+
+    /**
+     * The length of an access key.
+     */
+    public static final int LENGTH = 44;
+
+    /**
+     * The index of the first character of the issuer CNPJ.
+     */
+    public static final int CNPJ_OFFSET = 6;
+
+    private static final int CNPJ_BASE_END = CNPJ_OFFSET + CnpjCheckDigitCalculator.BASE_SIZE;
+    private static final int CNPJ_END = CNPJ_OFFSET + 14;
+    private static final int CHECK_DIGIT_INDEX = LENGTH - 1;
+    private static final int[] WEIGHTS = new int[CHECK_DIGIT_INDEX];
+
+    static {
+        for (int index = 0; index < CHECK_DIGIT_INDEX; index++) {
+            WEIGHTS[index] = 2 + (CHECK_DIGIT_INDEX - 1 - index) % 8;
+        }
+    }
+
+    /**
+     * Prevents instantiation of this utility class.
+     *
+     * @throws IllegalStateException always thrown to indicate this class should not be instantiated.
+     */
+    private AccessKeyScanner() {
+        throw new IllegalStateException(NOT_ALLOWED_INSTANTIATION_ERROR);
+    }
+
+    /**
+     * Validates an access key held in a region of a character sequence.
+     *
+     * @param input  the sequence holding the key.
+     * @param offset the index of the first character of the key.
+     * @param length the number of characters of the key.
+     * @return the key of the issuer CNPJ, as by {@link CnpjCodec}, if both the access key and the issuer CNPJ are
+     * valid; {@link CnpjCodec#INVALID} otherwise.
+     * @throws IndexOutOfBoundsException if the region is out of the sequence bounds.
+     */
+    public static long scan(CharSequence input, int offset, int length) throws IndexOutOfBoundsException {
+        Objects.checkFromIndexSize(offset, length, input.length());
+        if (length != LENGTH) {
+            return CnpjCodec.INVALID;
+        }
+        var keySum = 0;
+        var sums = 0;
+        var issuer = 0L;
+        var checkDigits = 0;
+        var first = '0';
+        var same = true;
+        for (int index = 0; index < CHECK_DIGIT_INDEX; index++) {
+            final var character = input.charAt(offset + index);
+            if (index >= CNPJ_OFFSET && index < CNPJ_BASE_END) {
+                if ((character < '0' || character > '9') && (character < 'A' || character > 'Z')) {
+                    return CnpjCodec.INVALID;
+                }
+                if (index == CNPJ_OFFSET) {
+                    first = character;
+                }
+                same &= character == first;
+                sums += CnpjCheckDigitCalculator.contributionOf(index - CNPJ_OFFSET, character);
+                issuer = issuer * CnpjCodec.RADIX + CnpjCodec.digitOf(character);
+            } else if (character < '0' || character > '9') {
+                return CnpjCodec.INVALID;
+            } else if (index >= CNPJ_BASE_END && index < CNPJ_END) {
+                checkDigits = checkDigits * 10 + character - '0';
+            }
+            keySum += (character - '0') * WEIGHTS[index];
+        }
+        final var checkDigit = input.charAt(offset + CHECK_DIGIT_INDEX);
+        return isValid(keySum, checkDigit, sums, checkDigits, first, same) ? issuer : CnpjCodec.INVALID;
+    }
+
+    /**
+     * Validates an access key held in a region of ASCII bytes.
+     *
+     * @param input  the buffer holding the key.
+     * @param offset the absolute index of the first byte of the key.
+     * @param length the number of bytes of the key.
+     * @return the key of the issuer CNPJ, as by {@link CnpjCodec}, if both the access key and the issuer CNPJ are
+     * valid; {@link CnpjCodec#INVALID} otherwise.
+     * @throws IndexOutOfBoundsException if the region is out of the buffer limit.
+     */
+    public static long scan(ByteBuffer input, int offset, int length) throws IndexOutOfBoundsException {
+        Objects.checkFromIndexSize(offset, length, input.limit());
+        if (length != LENGTH) {
+            return CnpjCodec.INVALID;
+        }
+        var keySum = 0;
+        var sums = 0;
+        var issuer = 0L;
+        var checkDigits = 0;
+        var first = '0';
+        var same = true;
+        for (int index = 0; index < CHECK_DIGIT_INDEX; index++) {
+            final var character = (char) (input.get(offset + index) & 0xFF);
+            if (index >= CNPJ_OFFSET && index < CNPJ_BASE_END) {
+                if ((character < '0' || character > '9') && (character < 'A' || character > 'Z')) {
+                    return CnpjCodec.INVALID;
+                }
+                if (index == CNPJ_OFFSET) {
+                    first = character;
+                }
+                same &= character == first;
+                sums += CnpjCheckDigitCalculator.contributionOf(index - CNPJ_OFFSET, character);
+                issuer = issuer * CnpjCodec.RADIX + CnpjCodec.digitOf(character);
+            } else if (character < '0' || character > '9') {
+                return CnpjCodec.INVALID;
+            } else if (index >= CNPJ_BASE_END && index < CNPJ_END) {
+                checkDigits = checkDigits * 10 + character - '0';
+            }
+            keySum += (character - '0') * WEIGHTS[index];
+        }
+        final var checkDigit = (char) (input.get(offset + CHECK_DIGIT_INDEX) & 0xFF);
+        return isValid(keySum, checkDigit, sums, checkDigits, first, same) ? issuer : CnpjCodec.INVALID;
+    }
+
+    /**
+     * Validates access keys laid out as fixed-length ASCII records into a validity bitmask.
+     *
+     * <p>Arguments are expected to be checked by the caller; the first {@code (count + 63) / 64} words of
+     * {@code validity} are overwritten.</p>
+     *
+     * @param batch    the buffer holding the records.
+     * @param offset   the absolute index of the first byte of the first record.
+     * @param stride   the distance, in bytes, between the starts of two consecutive records.
+     * @param count    the number of records.
+     * @param validity the bitmask receiving one bit per record.
+     * @return the number of valid records.
+     */
+    public static int scanBatch(ByteBuffer batch, int offset, int stride, int count, long[] validity) {
+        var valid = 0;
+        var word = 0L;
+        for (int record = 0; record < count; record++) {
+            if (scan(batch, offset + record * stride, LENGTH) != CnpjCodec.INVALID) {
+                word |= 1L << record;
+                valid++;
+            }
+            if ((record & (Long.SIZE - 1)) == Long.SIZE - 1) {
+                validity[record >>> 6] = word;
+                word = 0L;
+            }
+        }
+        if ((count & (Long.SIZE - 1)) != 0) {
+            validity[count >>> 6] = word;
+        }
+        return valid;
+    }
+
+    /**
+     * Reads a number held in ASCII digits of a validated access key.
+     *
+     * @param input the sequence holding the key.
+     * @param from  the index of the first digit.
+     * @param to    the index right after the last digit.
+     * @return the number.
+     */
+    public static int numberOf(CharSequence input, int from, int to) {
+        var number = 0;
+        for (int index = from; index < to; index++) {
+            number = number * 10 + input.charAt(index) - '0';
+        }
+        return number;
+    }
+
+    private static boolean isValid(final int keySum, final char checkDigit, final int sums, final int checkDigits,
+                                   final char first, final boolean same) {
+        return checkDigit >= '0' && checkDigit <= '9'
+                && CnpjCheckDigitCalculator.checkDigitOf(keySum) == checkDigit - '0'
+                && CnpjCheckDigitCalculator.checkDigitsOfSums(sums) == checkDigits
+                && !(same && first <= '9' && checkDigits == (first - '0') * 11);
+    }
+
+}
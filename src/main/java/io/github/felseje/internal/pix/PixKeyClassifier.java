@@ -0,0 +1,247 @@
+package io.github.felseje.internal.pix;
+
+import io.github.felseje.pix.PixKeyType;
+import io.github.felseje.spi.ValidationEngine;
+import io.github.felseje.spi.ValidationEngines;
+
+import java.util.Objects;
+
+import static io.github.felseje.internal.Constants.NOT_ALLOWED_INSTANTIATION_ERROR;
+
+/**
+ * Single-pass classifier for the keys of the PIX instant payment system.
+ *
+ * <p>The key is read once, from left to right, and every candidate format is followed at the same time: the e-mail
+ * automaton (local part, {@code '@'}, dot-separated domain labels), the EVP shape (a UUID of hexadecimal digits with
+ * hyphens at fixed positions) and the CPF/CNPJ shape (digits, uppercase letters and {@code '.'}, {@code '-'} and
+ * {@code '/'} at their formatted positions). Phone keys, which must start with {@code '+'}, take a dedicated loop.
+ * When the pass ends, at most one format is left; a CPF or CNPJ shape is then handed to the check digits of the active
+ * {@link ValidationEngine}. No regex is involved, no exception is thrown and nothing is allocated.</p>
+ *
+ * <p>The accepted formats follow the DICT (Diretório de Identificadores de Contas Transacionais) rules:</p>
+ * <ul>
+ *   <li>CPF: 11 digits, or {@code ###.###.###-##};</li>
+ *   <li>CNPJ: 14 digits or uppercase letters followed by 2 digits, or {@code ##.###.###/####-##};</li>
+ *   <li>phone: {@code +55}, a two-digit area code without zeros and a number of 8 digits, or 9 digits starting with
+ *   {@code 9}, optionally separated by spaces, hyphens or parentheses;</li>
+ *   <li>e-mail: up to 77 characters, a local part of letters, digits and {@code .!#$%&'*+/=?^_`{|}~-}, and a domain
+ *   of labels of up to 63 letters, digits and inner hyphens;</li>
+ *   <li>EVP: a UUID, {@code xxxxxxxx-xxxx-xxxx-xxxx-xxxxxxxxxxxx}, of hexadecimal digits.</li>
+ * </ul>
+ * <p>Letters of e-mail and EVP keys may be given in any case; they are normalized to lowercase.</p>
+ *
+ * <p>This class is final and cannot be instantiated.</p>
+ *
+ * @author felseje
+ * @since 1.0.0-alpha
+ */
+public final class PixKeyClassifier {
+
+    /**
+     * The maximum length of an e-mail key.
+     */
+    public static final int MAX_EMAIL_LENGTH = 77;
+
+    private static final int EVP_LENGTH = 36;
+    private static final int MAX_LABEL_LENGTH = 63;
+    private static final int CPF_LENGTH = 11;
+    private static final int CPF_FORMATTED_LENGTH = 14;
+    private static final int CNPJ_LENGTH = 14;
+    private static final int CNPJ_FORMATTED_LENGTH = 18;
+    private static final String COUNTRY_CODE = "55";
+    private static final String LOCAL_SYMBOLS = ".!#$%&'*+/=?^_`{|}~-";
+
+    private static final int LOCAL = 0;
+    private static final int LABEL_START = 1;
+    private static final int LABEL = 2;
+    private static final int NOT_EMAIL = 3;
+
+    /**
+     * Prevents instantiation of this utility class.
+     *
+     * @throws IllegalStateException always thrown to indicate this class should not be instantiated.
+     */
+    private PixKeyClassifier() {
+        throw new IllegalStateException(NOT_ALLOWED_INSTANTIATION_ERROR);
+    }
+
+    /**
+     * Classifies the PIX key found in a region of a character sequence, validating CPF and CNPJ keys.
+     *
+     * @param input  the character sequence holding the key; may be {@code null}.
+     * @param offset the index of the first character of the region.
+     * @param length the number of characters in the region.
+     * @return the key type, or {@link PixKeyType#INVALID} if the region holds no valid key.
+     * @throws IndexOutOfBoundsException if {@code input} is not {@code null} and the region is out of its bounds.
+     */
+    public static PixKeyType classify(CharSequence input, int offset, int length) throws IndexOutOfBoundsException {
+        if (input == null) {
+            return PixKeyType.INVALID;
+        }
+        Objects.checkFromIndexSize(offset, length, input.length());
+        if (length == 0) {
+            return PixKeyType.INVALID;
+        }
+        if (input.charAt(offset) == '+') {
+            return isPhone(input, offset, length) ? PixKeyType.PHONE : PixKeyType.INVALID;
+        }
+        var email = length <= MAX_EMAIL_LENGTH ? LOCAL : NOT_EMAIL;
+        var labelLength = 0;
+        var hyphenEnded = false;
+        var evp = length == EVP_LENGTH;
+        // a 14-character key is followed as a formatted CPF here; a raw CNPJ is checked once the pass ends
+        var document = length == CPF_LENGTH || length == CPF_FORMATTED_LENGTH || length == CNPJ_FORMATTED_LENGTH;
+        var cpf = length == CPF_LENGTH || length == CPF_FORMATTED_LENGTH;
+        for (int index = 0; index < length; index++) {
+            final var character = input.charAt(offset + index);
+            final var digit = character >= '0' && character <= '9';
+            final var letter = character >= 'a' && character <= 'z' || character >= 'A' && character <= 'Z';
+            switch (email) {
+                case LOCAL -> {
+                    if (character == '@') {
+                        email = index == 0 ? NOT_EMAIL : LABEL_START;
+                    } else if (!digit && !letter && LOCAL_SYMBOLS.indexOf(character) < 0) {
+                        email = NOT_EMAIL;
+                    }
+                }
+                case LABEL_START -> {
+                    email = digit || letter ? LABEL : NOT_EMAIL;
+                    labelLength = 1;
+                    hyphenEnded = false;
+                }
+                case LABEL -> {
+                    if (character == '.') {
+                        email = hyphenEnded ? NOT_EMAIL : LABEL_START;
+                    } else if (digit || letter || character == '-') {
+                        hyphenEnded = character == '-';
+                        email = ++labelLength > MAX_LABEL_LENGTH ? NOT_EMAIL : LABEL;
+                    } else {
+                        email = NOT_EMAIL;
+                    }
+                }
+                default -> {
+                }
+            }
+            if (evp) {
+                evp = isHyphenAt(EVP_LENGTH, index)
+                        ? character == '-'
+                        : digit || character >= 'a' && character <= 'f' || character >= 'A' && character <= 'F';
+            }
+            if (document) {
+                if (isHyphenAt(length, index) || isSeparatorAt(length, index)) {
+                    document = character == separatorAt(length, index);
+                } else {
+                    document = digit || character >= 'A' && character <= 'Z' && !cpf;
+                    cpf &= digit;
+                }
+            }
+        }
+        if (email == LABEL && !hyphenEnded) {
+            return PixKeyType.EMAIL;
+        }
+        if (evp) {
+            return PixKeyType.EVP;
+        }
+        final ValidationEngine engine = ValidationEngines.active();
+        if (document && cpf) {
+            return engine.isValidCpf(input, offset, length) ? PixKeyType.CPF : PixKeyType.INVALID;
+        }
+        if (document && length == CNPJ_FORMATTED_LENGTH || length == CNPJ_LENGTH && isCnpjShape(input, offset)) {
+            return engine.isValidCnpj(input, offset, length) ? PixKeyType.CNPJ : PixKeyType.INVALID;
+        }
+        return PixKeyType.INVALID;
+    }
+
+    /**
+     * Writes the normalized form of a key already classified.
+     *
+     * <p>CPF and CNPJ keys keep their digits and letters only, phone keys their {@code '+'} and digits, and e-mail and
+     * EVP keys are lowercased.</p>
+     *
+     * @param input  the character sequence holding the key.
+     * @param offset the index of the first character of the region.
+     * @param length the number of characters in the region.
+     * @param type   the type of the key, other than {@link PixKeyType#INVALID}.
+     * @return the normalized key.
+     */
+    public static String normalize(CharSequence input, int offset, int length, PixKeyType type) {
+        final var normalized = new char[length];
+        var size = 0;
+        for (int index = offset, end = offset + length; index < end; index++) {
+            final var character = input.charAt(index);
+            switch (type) {
+                case EMAIL, EVP -> normalized[size++] = character >= 'A' && character <= 'Z'
+                        ? (char) (character + ('a' - 'A'))
+                        : character;
+                case PHONE -> {
+                    if (character == '+' || character >= '0' && character <= '9') {
+                        normalized[size++] = character;
+                    }
+                }
+                default -> {
+                    if (character >= '0' && character <= '9' || character >= 'A' && character <= 'Z') {
+                        normalized[size++] = character;
+                    }
+                }
+            }
+        }
+        return new String(normalized, 0, size);
+    }
+
+    private static boolean isPhone(final CharSequence input, final int offset, final int length) {
+        var digits = 0;
+        var subscriberStart = '0';
+        for (int index = offset + 1, end = offset + length; index < end; index++) {
+            final var character = input.charAt(index);
+            if (character >= '0' && character <= '9') {
+                if (digits < COUNTRY_CODE.length() && character != COUNTRY_CODE.charAt(digits)
+                        || (digits == 2 || digits == 3) && character == '0') {
+                    return false;
+                }
+                if (digits == 4) {
+                    subscriberStart = character;
+                }
+                digits++;
+            } else if (character != ' ' && character != '-' && character != '(' && character != ')'
+                    || digits == 0) {
+                return false;
+            }
+        }
+        return digits == 12 || digits == 13 && subscriberStart == '9';
+    }
+
+    private static boolean isCnpjShape(final CharSequence input, final int offset) {
+        for (int index = offset, end = offset + CNPJ_LENGTH; index < end; index++) {
+            final var character = input.charAt(index);
+            if ((character < '0' || character > '9') && (character < 'A' || character > 'Z')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isHyphenAt(final int length, final int index) {
+        return switch (length) {
+            case EVP_LENGTH -> index == 8 || index == 13 || index == 18 || index == 23;
+            case CPF_FORMATTED_LENGTH -> index == 11;
+            case CNPJ_FORMATTED_LENGTH -> index == 15;
+            default -> false;
+        };
+    }
+
+    private static boolean isSeparatorAt(final int length, final int index) {
+        return switch (length) {
+            case CPF_FORMATTED_LENGTH -> index == 3 || index == 7;
+            case CNPJ_FORMATTED_LENGTH -> index == 2 || index == 6 || index == 10;
+            default -> false;
+        };
+    }
+
+    private static char separatorAt(final int length, final int index) {
+        if (isHyphenAt(length, index)) {
+            return '-';
+        }
+        return length == CNPJ_FORMATTED_LENGTH && index == 10 ? '/' : '.';
+    }
+
+}
@@ -0,0 +1,133 @@
+package io.github.felseje.internal.util;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+import static io.github.felseje.internal.Constants.NOT_ALLOWED_INSTANTIATION_ERROR;
+
+/**
+ * Utility class providing common operations on ASCII text held in byte arrays and byte buffers.
+ *
+ * <p>This class is not instantiable and all its methods are static.</p>
+ *
+ * <p>Each byte is read as the Latin-1 character of the same code, so ASCII text behaves exactly as it would
+ * once decoded, and bytes outside the ASCII range never match a digit, a letter or a separator.</p>
+ *
+ * <p>Buffer regions are given in absolute indexes, bounded by the buffer limit; the buffer position and
+ * limit are never changed.</p>
+ *
+ * @author felseje
+ * @since 1.0.0-alpha
+ */
+public final class ByteUtils {
+
+    /**
+     * Prevents instantiation of this utility class.
+     *
+     * @throws IllegalStateException always thrown to indicate this class should not be instantiated.
+     */
+    private ByteUtils() {
+        throw new IllegalStateException(NOT_ALLOWED_INSTANTIATION_ERROR);
+    }
+
+    /**
+     * Returns the character represented by a single byte of ASCII (or Latin-1) text.
+     *
+     * @param value the byte to convert.
+     * @return the character with the same unsigned code as the byte.
+     */
+    public static char toChar(byte value) {
+        return (char) (value & 0xFF);
+    }
+
+    /**
+     * Checks that a region lies within the limit of the given buffer.
+     *
+     * @param buffer the buffer holding the region.
+     * @param offset the absolute index of the first byte of the region.
+     * @param length the number of bytes in the region.
+     * @throws IndexOutOfBoundsException if the region is out of the buffer limit.
+     */
+    public static void checkRegion(ByteBuffer buffer, int offset, int length) throws IndexOutOfBoundsException {
+        Objects.checkFromIndexSize(offset, length, buffer.limit());
+    }
+
+    /**
+     * Checks if a region of the given byte array is {@code null} or blank (empty or only whitespace).
+     *
+     * @param bytes  the byte array to check.
+     * @param offset the index of the first byte of the region.
+     * @param length the number of bytes in the region.
+     * @return {@code true} if the array is {@code null} or the region is blank; {@code false} otherwise.
+     * @throws IndexOutOfBoundsException if the region is out of the array bounds.
+     */
+    public static boolean isNullOrBlank(byte[] bytes, int offset, int length) throws IndexOutOfBoundsException {
+        if (bytes == null) {
+            return true;
+        }
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        for (int i = offset, end = offset + length; i < end; i++) {
+            if (!Character.isWhitespace(toChar(bytes[i]))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks if a region of the given byte buffer is {@code null} or blank (empty or only whitespace).
+     *
+     * @param buffer the byte buffer to check.
+     * @param offset the absolute index of the first byte of the region.
+     * @param length the number of bytes in the region.
+     * @return {@code true} if the buffer is {@code null} or the region is blank; {@code false} otherwise.
+     * @throws IndexOutOfBoundsException if the region is out of the buffer limit.
+     */
+    public static boolean isNullOrBlank(ByteBuffer buffer, int offset, int length) throws IndexOutOfBoundsException {
+        if (buffer == null) {
+            return true;
+        }
+        checkRegion(buffer, offset, length);
+        for (int i = offset, end = offset + length; i < end; i++) {
+            if (!Character.isWhitespace(toChar(buffer.get(i)))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Asserts that the provided byte array is not {@code null} and that the given region is not blank.
+     *
+     * @param bytes        the byte array to validate.
+     * @param offset       the index of the first byte of the region.
+     * @param length       the number of bytes in the region.
+     * @param errorMessage the message to include in the exception if validation fails.
+     * @throws IllegalArgumentException  if the array is {@code null} or the region is blank.
+     * @throws IndexOutOfBoundsException if the region is out of the array bounds.
+     */
+    public static void requireNonBlank(byte[] bytes, int offset, int length, String errorMessage)
+            throws IllegalArgumentException, IndexOutOfBoundsException {
+        if (isNullOrBlank(bytes, offset, length)) {
+            throw new IllegalArgumentException(errorMessage);
+        }
+    }
+
+    /**
+     * Asserts that the provided byte buffer is not {@code null} and that the given region is not blank.
+     *
+     * @param buffer       the byte buffer to validate.
+     * @param offset       the absolute index of the first byte of the region.
+     * @param length       the number of bytes in the region.
+     * @param errorMessage the message to include in the exception if validation fails.
+     * @throws IllegalArgumentException  if the buffer is {@code null} or the region is blank.
+     * @throws IndexOutOfBoundsException if the region is out of the buffer limit.
+     */
+    public static void requireNonBlank(ByteBuffer buffer, int offset, int length, String errorMessage)
+            throws IllegalArgumentException, IndexOutOfBoundsException {
+        if (isNullOrBlank(buffer, offset, length)) {
+            throw new IllegalArgumentException(errorMessage);
+        }
+    }
+
+}
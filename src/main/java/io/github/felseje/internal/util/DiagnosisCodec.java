@@ -0,0 +1,118 @@
+package io.github.felseje.internal.util;
+
+import io.github.felseje.document.ValidationReason;
+
+import static io.github.felseje.internal.Constants.NOT_ALLOWED_INSTANTIATION_ERROR;
+
+/**
+ * Packs the diagnosis of a document into a single {@code long}, so that it can be returned without allocating.
+ *
+ * <p>Layout, from the lowest bit:</p>
+ * <ul>
+ *   <li>bits 0 to 7: the ordinal of the {@link ValidationReason};</li>
+ *   <li>bits 8 to 15: the expected check digits as a two-digit number, from 0 to 99;</li>
+ *   <li>bit 16: set when the expected check digits are known;</li>
+ *   <li>bits 32 to 63: the position of the offending character within the region, {@code -1} when there is none.</li>
+ * </ul>
+ *
+ * <p>This class is final and cannot be instantiated.</p>
+ *
+ * @author felseje
+ * @since 1.0.0-alpha
+ */
+public final class DiagnosisCodec {
+
+    /**
+     * The value of the check digits and position when they are unknown.
+     */
+    public static final int NONE = -1;
+
+    private static final ValidationReason[] REASONS = ValidationReason.values();
+    private static final int REASON_MASK = 0xFF;
+    private static final int CHECK_DIGITS_SHIFT = 8;
+    private static final int CHECK_DIGITS_MASK = 0xFF;
+    private static final long HAS_CHECK_DIGITS = 1L << 16;
+    private static final int POSITION_SHIFT = 32;
+
+    /**
+     * Prevents instantiation of this utility class.
+     *
+     * @throws IllegalStateException always thrown to indicate this class should not be instantiated.
+     */
+    private DiagnosisCodec() {
+        throw new IllegalStateException(NOT_ALLOWED_INSTANTIATION_ERROR);
+    }
+
+    /**
+     * Packs a diagnosis.
+     *
+     * @param reason      the reason.
+     * @param position    the position of the offending character within the region, or {@link #NONE}.
+     * @param checkDigits the expected check digits as a two-digit number, or {@link #NONE}.
+     * @return the packed diagnosis.
+     */
+    public static long pack(ValidationReason reason, int position, int checkDigits) {
+        var diagnosis = (long) position << POSITION_SHIFT | reason.ordinal();
+        if (checkDigits != NONE) {
+            diagnosis |= HAS_CHECK_DIGITS | (long) checkDigits << CHECK_DIGITS_SHIFT;
+        }
+        return diagnosis;
+    }
+
+    /**
+     * Diagnoses a document whose structure is valid from its check digits.
+     *
+     * @param repeated                 whether every character of the document is the same.
+     * @param checkDigits              the check digits read from the document, as a two-digit number.
+     * @param expected                 the check digits computed from the base, as a two-digit number.
+     * @param firstCheckDigitPosition  the position of the first check digit within the region.
+     * @param secondCheckDigitPosition the position of the second check digit within the region.
+     * @return the packed diagnosis, carrying the expected check digits.
+     */
+    public static long diagnoseCheckDigits(boolean repeated, int checkDigits, int expected,
+                                           int firstCheckDigitPosition, int secondCheckDigitPosition) {
+        if (repeated) {
+            return pack(ValidationReason.REPEATED_DIGITS, NONE, expected);
+        }
+        if (checkDigits / 10 != expected / 10) {
+            return pack(ValidationReason.FIRST_CHECK_DIGIT_MISMATCH, firstCheckDigitPosition, expected);
+        }
+        if (checkDigits % 10 != expected % 10) {
+            return pack(ValidationReason.SECOND_CHECK_DIGIT_MISMATCH, secondCheckDigitPosition, expected);
+        }
+        return pack(ValidationReason.VALID, NONE, expected);
+    }
+
+    /**
+     * Returns the reason of a packed diagnosis.
+     *
+     * @param diagnosis the packed diagnosis.
+     * @return the reason.
+     */
+    public static ValidationReason reasonOf(long diagnosis) {
+        return REASONS[(int) diagnosis & REASON_MASK];
+    }
+
+    /**
+     * Returns the position of the offending character of a packed diagnosis.
+     *
+     * @param diagnosis the packed diagnosis.
+     * @return the position within the region, or {@link #NONE}.
+     */
+    public static int positionOf(long diagnosis) {
+        return (int) (diagnosis >> POSITION_SHIFT);
+    }
+
+    /**
+     * Returns the expected check digits of a packed diagnosis.
+     *
+     * @param diagnosis the packed diagnosis.
+     * @return the expected check digits as a two-digit number, or {@link #NONE}.
+     */
+    public static int checkDigitsOf(long diagnosis) {
+        return (diagnosis & HAS_CHECK_DIGITS) == 0
+                ? NONE
+                : (int) (diagnosis >>> CHECK_DIGITS_SHIFT) & CHECK_DIGITS_MASK;
+    }
+
+}
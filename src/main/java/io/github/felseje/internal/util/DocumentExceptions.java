@@ -0,0 +1,216 @@
+package io.github.felseje.internal.util;
+
+import io.github.felseje.cnpj.exception.InvalidCnpjBaseException;
+import io.github.felseje.cnpj.exception.InvalidCnpjException;
+import io.github.felseje.cnpj.exception.UnrecognizedCnpjTypeException;
+import io.github.felseje.cpf.exception.InvalidCpfBaseException;
+import io.github.felseje.cpf.exception.InvalidCpfException;
+import io.github.felseje.exception.InvalidDocumentException;
+import io.github.felseje.nfe.exception.InvalidAccessKeyException;
+
+import static io.github.felseje.internal.Constants.NOT_ALLOWED_INSTANTIATION_ERROR;
+
+/**
+ * Creates the exceptions thrown by the library for invalid documents.
+ *
+ * <p>By default every call creates a new exception, as a plain {@code throw new} would. When the
+ * {@value InvalidDocumentException#STACKLESS_PROPERTY} system property is {@code true}, document exceptions skip
+ * suppression and stack trace writing, and the ones with a fixed message are preallocated once and shared, so that
+ * rejecting malformed input costs no more than returning {@code false}.</p>
+ *
+ * <p>This class is final and cannot be instantiated.</p>
+ *
+ * @author felseje
+ * @since 1.0.0-alpha
+ */
+public final class DocumentExceptions {
+
+    /**
+     * Whether document exceptions are stackless, as read once from the
+     * {@value InvalidDocumentException#STACKLESS_PROPERTY} system property.
+     */
+    public static final boolean STACKLESS = Boolean.getBoolean(InvalidDocumentException.STACKLESS_PROPERTY);
+
+    /**
+     * Whether document exceptions record suppressed exceptions and their stack trace.
+     */
+    public static final boolean WRITABLE = !STACKLESS;
+
+    private static final String INVALID_CPF = "The CPF is not valid";
+    private static final String CPF_OUT_OF_RANGE = "The CPF must have at most 11 digits";
+    private static final String CPF_WRONG_LENGTH = "The CPF must be 11 characters long";
+    private static final String INVALID_CPF_BASE = "The CPF base informed is invalid";
+    private static final String UNNORMALIZED_CPF = "The CPF must be normalized";
+    private static final String INVALID_CNPJ = "The CNPJ is not valid";
+    private static final String UNMATCHED_CNPJ = "The CNPJ does not match any valid format";
+    private static final String CNPJ_OUT_OF_RANGE = "The CNPJ must have at most 14 digits";
+    private static final String CNPJ_WRONG_LENGTH = "The CNPJ must be 14 characters long";
+    private static final String INVALID_CNPJ_BASE = "The CNPJ base must be valid";
+    private static final String UNNORMALIZED_CNPJ = "The CNPJ must be normalized";
+    private static final String UNRECOGNIZED_CNPJ_TYPE =
+            "The CNPJ does not match any valid pattern. Make sure to use a normalized CNPJ.";
+    private static final String INVALID_ACCESS_KEY = "The access key must be valid";
+
+    /**
+     * Prevents instantiation of this utility class.
+     *
+     * @throws IllegalStateException always thrown to indicate this class should not be instantiated.
+     */
+    private DocumentExceptions() {
+        throw new IllegalStateException(NOT_ALLOWED_INSTANTIATION_ERROR);
+    }
+
+    /**
+     * Returns the exception for a CPF whose check digits do not match.
+     *
+     * @return the exception, shared when exceptions are stackless.
+     */
+    public static InvalidCpfException invalidCpf() {
+        return STACKLESS ? Shared.INVALID_CPF : new InvalidCpfException(INVALID_CPF);
+    }
+
+    /**
+     * Returns the exception for a CPF number that is negative or has more than 11 digits.
+     *
+     * @return the exception, shared when exceptions are stackless.
+     */
+    public static InvalidCpfException cpfOutOfRange() {
+        return STACKLESS ? Shared.CPF_OUT_OF_RANGE : new InvalidCpfException(CPF_OUT_OF_RANGE);
+    }
+
+    /**
+     * Returns the exception for a CPF that does not hold 11 digits.
+     *
+     * @return the exception, shared when exceptions are stackless.
+     */
+    public static InvalidCpfException cpfWrongLength() {
+        return STACKLESS ? Shared.CPF_WRONG_LENGTH : new InvalidCpfException(CPF_WRONG_LENGTH);
+    }
+
+    /**
+     * Returns the exception for a CPF base that check digits cannot be computed from.
+     *
+     * @return the exception, shared when exceptions are stackless.
+     */
+    public static InvalidCpfBaseException invalidCpfBase() {
+        return STACKLESS ? Shared.INVALID_CPF_BASE : new InvalidCpfBaseException(INVALID_CPF_BASE);
+    }
+
+    /**
+     * Returns the exception for a CPF expected to be normalized that does not hold 11 ASCII digits.
+     *
+     * @return the exception, shared when exceptions are stackless.
+     */
+    public static InvalidCpfException unnormalizedCpf() {
+        return STACKLESS ? Shared.UNNORMALIZED_CPF : new InvalidCpfException(UNNORMALIZED_CPF);
+    }
+
+    /**
+     * Returns the exception for a CNPJ whose check digits do not match.
+     *
+     * @return the exception, shared when exceptions are stackless.
+     */
+    public static InvalidCnpjException invalidCnpj() {
+        return STACKLESS ? Shared.INVALID_CNPJ : new InvalidCnpjException(INVALID_CNPJ);
+    }
+
+    /**
+     * Returns the exception for a CNPJ that is neither in the formatted nor in the unformatted shape.
+     *
+     * @return the exception, shared when exceptions are stackless.
+     */
+    public static InvalidCnpjException unmatchedCnpj() {
+        return STACKLESS ? Shared.UNMATCHED_CNPJ : new InvalidCnpjException(UNMATCHED_CNPJ);
+    }
+
+    /**
+     * Returns the exception for a CNPJ number that is negative or has more than 14 digits.
+     *
+     * @return the exception, shared when exceptions are stackless.
+     */
+    public static InvalidCnpjException cnpjOutOfRange() {
+        return STACKLESS ? Shared.CNPJ_OUT_OF_RANGE : new InvalidCnpjException(CNPJ_OUT_OF_RANGE);
+    }
+
+    /**
+     * Returns the exception for a CNPJ that does not hold 14 characters.
+     *
+     * @return the exception, shared when exceptions are stackless.
+     */
+    public static InvalidCnpjException cnpjWrongLength() {
+        return STACKLESS ? Shared.CNPJ_WRONG_LENGTH : new InvalidCnpjException(CNPJ_WRONG_LENGTH);
+    }
+
+    /**
+     * Returns the exception for a CNPJ base that check digits cannot be computed from.
+     *
+     * @return the exception, shared when exceptions are stackless.
+     */
+    public static InvalidCnpjBaseException invalidCnpjBase() {
+        return STACKLESS ? Shared.INVALID_CNPJ_BASE : new InvalidCnpjBaseException(INVALID_CNPJ_BASE);
+    }
+
+    /**
+     * Returns the exception for a CNPJ expected to be normalized that does not hold 12 ASCII digits or uppercase
+     * letters followed by 2 ASCII digits.
+     *
+     * @return the exception, shared when exceptions are stackless.
+     */
+    public static InvalidCnpjException unnormalizedCnpj() {
+        return STACKLESS ? Shared.UNNORMALIZED_CNPJ : new InvalidCnpjException(UNNORMALIZED_CNPJ);
+    }
+
+    /**
+     * Returns the exception for a normalized CNPJ matching neither the numeric nor the alphanumeric type.
+     *
+     * @return the exception, shared when exceptions are stackless.
+     */
+    public static UnrecognizedCnpjTypeException unrecognizedCnpjType() {
+        return STACKLESS ? Shared.UNRECOGNIZED_CNPJ_TYPE : new UnrecognizedCnpjTypeException(UNRECOGNIZED_CNPJ_TYPE);
+    }
+
+    /**
+     * Returns the exception for an access key that is not valid.
+     *
+     * @return the exception, shared when exceptions are stackless.
+     */
+    public static InvalidAccessKeyException invalidAccessKey() {
+        return STACKLESS ? Shared.INVALID_ACCESS_KEY : new InvalidAccessKeyException(INVALID_ACCESS_KEY);
+    }
+
+    /**
+     * Holds the preallocated exceptions, created on first use only when exceptions are stackless.
+     */
+    private static final class Shared {
+
+        static final InvalidCpfException INVALID_CPF = new InvalidCpfException(DocumentExceptions.INVALID_CPF);
+        static final InvalidCpfException CPF_OUT_OF_RANGE =
+                new InvalidCpfException(DocumentExceptions.CPF_OUT_OF_RANGE);
+        static final InvalidCpfException CPF_WRONG_LENGTH =
+                new InvalidCpfException(DocumentExceptions.CPF_WRONG_LENGTH);
+        static final InvalidCpfBaseException INVALID_CPF_BASE =
+                new InvalidCpfBaseException(DocumentExceptions.INVALID_CPF_BASE);
+        static final InvalidCpfException UNNORMALIZED_CPF =
+                new InvalidCpfException(DocumentExceptions.UNNORMALIZED_CPF);
+        static final InvalidCnpjException INVALID_CNPJ = new InvalidCnpjException(DocumentExceptions.INVALID_CNPJ);
+        static final InvalidCnpjException UNMATCHED_CNPJ =
+                new InvalidCnpjException(DocumentExceptions.UNMATCHED_CNPJ);
+        static final InvalidCnpjException CNPJ_OUT_OF_RANGE =
+                new InvalidCnpjException(DocumentExceptions.CNPJ_OUT_OF_RANGE);
+        static final InvalidCnpjException CNPJ_WRONG_LENGTH =
+                new InvalidCnpjException(DocumentExceptions.CNPJ_WRONG_LENGTH);
+        static final InvalidCnpjBaseException INVALID_CNPJ_BASE =
+                new InvalidCnpjBaseException(DocumentExceptions.INVALID_CNPJ_BASE);
+        static final InvalidCnpjException UNNORMALIZED_CNPJ =
+                new InvalidCnpjException(DocumentExceptions.UNNORMALIZED_CNPJ);
+        static final UnrecognizedCnpjTypeException UNRECOGNIZED_CNPJ_TYPE =
+                new UnrecognizedCnpjTypeException(DocumentExceptions.UNRECOGNIZED_CNPJ_TYPE);
+        static final InvalidAccessKeyException INVALID_ACCESS_KEY =
+                new InvalidAccessKeyException(DocumentExceptions.INVALID_ACCESS_KEY);
+
+        private Shared() {
+        }
+
+    }
+
+}
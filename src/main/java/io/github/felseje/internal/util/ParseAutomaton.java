@@ -0,0 +1,297 @@
+package io.github.felseje.internal.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Deterministic automaton telling, character by character, whether an input has the shape of a document and which of
+ * its characters are document characters.
+ *
+ * <p>Characters are first mapped to a small set of classes (digit, uppercase letter, lowercase letter, dot, slash,
+ * dash and anything else), then a precompiled table gives, for each state and class, the next state and whether the
+ * character belongs to the document. Reading an input is therefore one table lookup per character, with no regex
+ * and no backtracking; the caller accumulates the document characters it is handed in the same pass.</p>
+ *
+ * <p>Automata are built once, either from masks in which {@code '#'} stands for a document character and any other
+ * character must appear verbatim, or as a lenient automaton skipping every character that cannot belong to the
+ * document. Instances are immutable and can be shared between threads.</p>
+ *
+ * @author felseje
+ * @since 1.0.0-alpha
+ */
+public final class ParseAutomaton {
+
+    /**
+     * The class of ASCII digits.
+     */
+    public static final int DIGIT = 0;
+
+    /**
+     * The class of ASCII uppercase letters.
+     */
+    public static final int UPPERCASE = 1;
+
+    /**
+     * The class of ASCII lowercase letters.
+     */
+    public static final int LOWERCASE = 2;
+
+    /**
+     * The class of the dot separator.
+     */
+    public static final int DOT = 3;
+
+    /**
+     * The class of the slash separator.
+     */
+    public static final int SLASH = 4;
+
+    /**
+     * The class of the dash separator.
+     */
+    public static final int DASH = 5;
+
+    /**
+     * The class of every other character.
+     */
+    public static final int OTHER = 6;
+
+    /**
+     * The state every read starts from.
+     */
+    public static final int START = 0;
+
+    /**
+     * The transition returned for a character that breaks the shape.
+     */
+    public static final int REJECT = -1;
+
+    private static final int CLASS_COUNT = 7;
+    private static final char MASK_PLACEHOLDER = '#';
+    private static final byte[] CLASSES = new byte[128];
+
+    static {
+        Arrays.fill(CLASSES, (byte) OTHER);
+        for (var character = '0'; character <= '9'; character++) {
+            CLASSES[character] = DIGIT;
+        }
+        for (var character = 'A'; character <= 'Z'; character++) {
+            CLASSES[character] = UPPERCASE;
+            CLASSES[character + ('a' - 'A')] = LOWERCASE;
+        }
+        CLASSES['.'] = DOT;
+        CLASSES['/'] = SLASH;
+        CLASSES['-'] = DASH;
+    }
+
+    private final int[] transitions;
+    private final boolean[] accepting;
+
+    private ParseAutomaton(final int[] transitions, final boolean[] accepting) {
+        this.transitions = transitions;
+        this.accepting = accepting;
+    }
+
+    /**
+     * Returns the class of a character.
+     *
+     * @param character the character.
+     * @return one of the class constants of this class.
+     */
+    public static int classOf(final char character) {
+        return character < CLASSES.length ? CLASSES[character] : OTHER;
+    }
+
+    /**
+     * Builds an automaton accepting exactly the given masks.
+     *
+     * @param slotClasses the classes allowed at each document position, as bit sets of {@code 1 << class}.
+     * @param masks       the accepted masks; {@code '#'} stands for the next document character.
+     * @return the automaton.
+     * @throws IllegalArgumentException if a mask does not hold one placeholder per document position, or holds a
+     *                                  literal that is not a dot, a slash or a dash.
+     */
+    public static ParseAutomaton ofMasks(final int[] slotClasses, final String... masks) throws IllegalArgumentException {
+        for (final var mask : masks) {
+            if (mask.chars().filter(character -> character == MASK_PLACEHOLDER).count() != slotClasses.length) {
+                throw new IllegalArgumentException("The mask " + mask + " does not match the document length");
+            }
+            for (final var character : mask.toCharArray()) {
+                final var type = classOf(character);
+                if (character != MASK_PLACEHOLDER && (type < DOT || type == OTHER)) {
+                    throw new IllegalArgumentException("The mask " + mask + " has an unsupported literal");
+                }
+            }
+        }
+        // A state is the index reached in the input together with the set of masks still matching it. Masks still
+        // matching together agree on every character read so far, so they have emitted the same number of document
+        // characters.
+        final var states = new HashMap<Long, Integer>();
+        final var pending = new ArrayList<long[]>();
+        final var table = new ArrayList<int[]>();
+        final var accepts = new ArrayList<Boolean>();
+        final var all = (1L << masks.length) - 1;
+        intern(states, pending, table, accepts, masks, 0, all);
+        for (var next = 0; next < pending.size(); next++) {
+            final var index = (int) pending.get(next)[0];
+            final var alive = pending.get(next)[1];
+            final var row = table.get(next);
+            for (var type = 0; type < CLASS_COUNT; type++) {
+                var matching = 0L;
+                var emits = false;
+                for (var mask = 0; mask < masks.length; mask++) {
+                    if ((alive >>> mask & 1) == 0 || index >= masks[mask].length()) {
+                        continue;
+                    }
+                    final var expected = masks[mask].charAt(index);
+                    if (expected == MASK_PLACEHOLDER) {
+                        final var position = countPlaceholders(masks[mask], index);
+                        if ((slotClasses[position] >>> type & 1) != 0) {
+                            matching |= 1L << mask;
+                            emits = true;
+                        }
+                    } else if (classOf(expected) == type) {
+                        matching |= 1L << mask;
+                    }
+                }
+                row[type] = matching == 0
+                        ? REJECT
+                        : pack(intern(states, pending, table, accepts, masks, index + 1, matching), emits);
+            }
+        }
+        return build(table, accepts);
+    }
+
+    /**
+     * Builds an automaton skipping every character whose class cannot appear at any document position.
+     *
+     * <p>A character whose class appears at some document position but not at the current one, or that comes after
+     * the last document position, is rejected.</p>
+     *
+     * @param slotClasses the classes allowed at each document position, as bit sets of {@code 1 << class}.
+     * @return the automaton.
+     */
+    public static ParseAutomaton lenient(final int[] slotClasses) {
+        return lenient(slotClasses, 0);
+    }
+
+    /**
+     * Builds an automaton skipping every character whose class cannot appear at any document position, except for the
+     * given classes, which are never skipped.
+     *
+     * <p>A kept class allowed at no document position is therefore always rejected, as lowercase letters are by a
+     * reader that only knows uppercase ones.</p>
+     *
+     * @param slotClasses the classes allowed at each document position, as bit sets of {@code 1 << class}.
+     * @param keptClasses the classes never skipped, as a bit set of {@code 1 << class}.
+     * @return the automaton.
+     */
+    public static ParseAutomaton lenient(final int[] slotClasses, final int keptClasses) {
+        var documentClasses = keptClasses;
+        for (final var classes : slotClasses) {
+            documentClasses |= classes;
+        }
+        final var table = new ArrayList<int[]>();
+        final var accepts = new ArrayList<Boolean>();
+        for (var position = 0; position <= slotClasses.length; position++) {
+            final var row = new int[CLASS_COUNT];
+            for (var type = 0; type < CLASS_COUNT; type++) {
+                if ((documentClasses >>> type & 1) == 0) {
+                    row[type] = pack(position, false);
+                } else if (position < slotClasses.length && (slotClasses[position] >>> type & 1) != 0) {
+                    row[type] = pack(position + 1, true);
+                } else {
+                    row[type] = REJECT;
+                }
+            }
+            table.add(row);
+            accepts.add(position == slotClasses.length);
+        }
+        return build(table, accepts);
+    }
+
+    /**
+     * Reads one character.
+     *
+     * @param state     the current state, {@link #START} for the first character.
+     * @param character the character read.
+     * @return the transition, to be read with {@link #stateOf(int)} and {@link #emits(int)}, or {@link #REJECT} if the
+     * character breaks the shape.
+     */
+    public int transition(final int state, final char character) {
+        return transitions[state * CLASS_COUNT + classOf(character)];
+    }
+
+    /**
+     * Returns the state a transition leads to.
+     *
+     * @param transition a transition other than {@link #REJECT}.
+     * @return the next state.
+     */
+    public static int stateOf(final int transition) {
+        return transition >>> 1;
+    }
+
+    /**
+     * Tells whether the character of a transition is a document character.
+     *
+     * @param transition a transition other than {@link #REJECT}.
+     * @return {@code true} if the character belongs to the document; {@code false} if it is a separator or skipped.
+     */
+    public static boolean emits(final int transition) {
+        return (transition & 1) != 0;
+    }
+
+    /**
+     * Tells whether the input read so far has a complete document shape.
+     *
+     * @param state the state reached after the last character.
+     * @return {@code true} if the input can end in this state; {@code false} otherwise.
+     */
+    public boolean isAccepting(final int state) {
+        return accepting[state];
+    }
+
+    private static int pack(final int state, final boolean emits) {
+        return state << 1 | (emits ? 1 : 0);
+    }
+
+    private static int countPlaceholders(final String mask, final int end) {
+        var count = 0;
+        for (var index = 0; index < end; index++) {
+            if (mask.charAt(index) == MASK_PLACEHOLDER) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static int intern(final Map<Long, Integer> states, final List<long[]> pending, final List<int[]> table,
+                              final List<Boolean> accepts, final String[] masks, final int index, final long alive) {
+        final var key = (long) index << masks.length | alive;
+        return states.computeIfAbsent(key, ignored -> {
+            var accepting = false;
+            for (var mask = 0; mask < masks.length; mask++) {
+                accepting |= (alive >>> mask & 1) != 0 && masks[mask].length() == index;
+            }
+            pending.add(new long[]{index, alive});
+            table.add(new int[CLASS_COUNT]);
+            accepts.add(accepting);
+            return table.size() - 1;
+        });
+    }
+
+    private static ParseAutomaton build(final List<int[]> table, final List<Boolean> accepts) {
+        final var transitions = new int[table.size() * CLASS_COUNT];
+        final var accepting = new boolean[table.size()];
+        for (var state = 0; state < table.size(); state++) {
+            System.arraycopy(table.get(state), 0, transitions, state * CLASS_COUNT, CLASS_COUNT);
+            accepting[state] = accepts.get(state);
+        }
+        return new ParseAutomaton(transitions, accepting);
+    }
+
+}
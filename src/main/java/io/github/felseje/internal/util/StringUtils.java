@@ -1,5 +1,7 @@
 package io.github.felseje.internal.util;
 
+import java.util.Objects;
+
 import static io.github.felseje.internal.Constants.NOT_ALLOWED_INSTANTIATION_ERROR;
 
 /**
@@ -9,7 +11,7 @@ import static io.github.felseje.internal.Constants.NOT_ALLOWED_INSTANTIATION_ERR
  *
  * <p>Primary functionality includes:
  * <ul>
- *   <li>Checking whether a string is null or blank</li>
+ *   <li>Checking whether a string, or a region of any {@link CharSequence}, is null or blank</li>
  *   <li>Asserting that a string is not blank, throwing an {@link IllegalArgumentException} if it is</li>
  * </ul>
  *
@@ -67,4 +69,59 @@ public final class StringUtils {
         }
     }
 
+    /**
+     * Checks if a region of a given character sequence is {@code null} or blank (empty or only whitespace).
+     *
+     * <p>The sequence is read in place; no copy is made.</p>
+     *
+     * @param sequence the character sequence to check
+     * @param offset   the index of the first character of the region
+     * @param length   the number of characters in the region
+     * @return {@code true} if the sequence is {@code null} or the region is blank; {@code false} otherwise
+     * @throws IndexOutOfBoundsException if the region is out of the sequence bounds
+     */
+    public static boolean isNullOrBlank(CharSequence sequence, int offset, int length) throws IndexOutOfBoundsException {
+        if (sequence == null) {
+            return true;
+        }
+        Objects.checkFromIndexSize(offset, length, sequence.length());
+        for (int i = offset, end = offset + length; i < end; i++) {
+            if (!Character.isWhitespace(sequence.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Asserts that the provided character sequence is not {@code null} and that the given region is not blank.
+     *
+     * @param sequence     the character sequence to validate
+     * @param offset       the index of the first character of the region
+     * @param length       the number of characters in the region
+     * @param errorMessage the message to include in the exception if validation fails
+     * @throws IllegalArgumentException  if the sequence is {@code null} or the region is blank,
+     *                                   or if the {@code errorMessage} is {@code null} or blank
+     * @throws IndexOutOfBoundsException if the region is out of the sequence bounds
+     */
+    public static void requireNonBlank(CharSequence sequence, int offset, int length, String errorMessage)
+            throws IllegalArgumentException, IndexOutOfBoundsException {
+        if (isNullOrBlank(errorMessage)) {
+            throw new IllegalArgumentException("The error message must not be null or blank");
+        }
+        if (isNullOrBlank(sequence, offset, length)) {
+            throw new IllegalArgumentException(errorMessage);
+        }
+    }
+
+    /**
+     * Returns the length of the given character sequence, treating {@code null} as empty.
+     *
+     * @param sequence the character sequence; may be {@code null}
+     * @return the sequence length, or {@code 0} if it is {@code null}
+     */
+    public static int lengthOf(CharSequence sequence) {
+        return sequence == null ? 0 : sequence.length();
+    }
+
 }
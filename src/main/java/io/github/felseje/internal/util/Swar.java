@@ -0,0 +1,209 @@
+package io.github.felseje.internal.util;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.function.IntUnaryOperator;
+
+import static io.github.felseje.internal.Constants.NOT_ALLOWED_INSTANTIATION_ERROR;
+
+/**
+ * Utility class for SIMD-within-a-register (SWAR) processing of ASCII digits, eight bytes at a time.
+ *
+ * <p>Eight bytes are loaded into one {@code long} in little-endian order, so the first byte of the region sits in the
+ * lowest byte of the word. A word is checked for being made only of ASCII digits with a few bitwise operations, and
+ * the weighted sum of its digits is computed with two multiplications: the even and the odd bytes are spread into
+ * four 16-bit lanes each, and multiplying by a constant holding the weights in reverse lane order gathers the sum of
+ * the products in the top lane.</p>
+ *
+ * <p>The same loads are used to search a buffer for a byte value, such as a line break, a word at a time.</p>
+ *
+ * <p>Usage example:
+ * <pre>{@code
+ *     long word = Swar.load(bytes, offset);
+ *     if (Swar.isDigits(word)) {
+ *         int sum = Swar.weightedSum(Swar.digitsOf(word), EVEN_WEIGHTS, ODD_WEIGHTS);
+ *     }
+ * }</pre>
+ *
+ * <p>This class is not instantiable and all its methods are static.</p>
+ *
+ * @author felseje
+ * @since 1.0.0-alpha
+ */
+public final class Swar {
+
+    /**
+     * The number of bytes processed at a time.
+     */
+    public static final int WORD_SIZE = Long.BYTES;
+
+    private static final VarHandle ARRAY_VIEW = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle BUFFER_VIEW = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final long ONES = 0x0101010101010101L;
+    private static final long ZEROS = 0x3030303030303030L;
+    private static final long SIXES = 0x0606060606060606L;
+    private static final long THREES = 0x3333333333333333L;
+    private static final long HIGH_NIBBLES = 0xF0F0F0F0F0F0F0F0L;
+    private static final long HIGH_BITS = 0x8080808080808080L;
+    private static final long LANE_MASK = 0x00FF00FF00FF00FFL;
+    private static final int LANE_BITS = 16;
+    private static final int LANES = WORD_SIZE / 2;
+    private static final int TOP_LANE_SHIFT = (LANES - 1) * LANE_BITS;
+
+    /**
+     * Prevents instantiation of this utility class.
+     *
+     * @throws IllegalStateException always thrown to indicate this class should not be instantiated.
+     */
+    private Swar() {
+        throw new IllegalStateException(NOT_ALLOWED_INSTANTIATION_ERROR);
+    }
+
+    /**
+     * Loads eight bytes of an array into a word, the first byte in the lowest position.
+     *
+     * @param bytes the byte array.
+     * @param index the index of the first byte; {@code index + 8} must not exceed the array length.
+     * @return the loaded word.
+     */
+    public static long load(byte[] bytes, int index) {
+        return (long) ARRAY_VIEW.get(bytes, index);
+    }
+
+    /**
+     * Loads eight bytes of a buffer, from an absolute index, into a word, the first byte in the lowest position.
+     *
+     * <p>The buffer byte order, position and limit are ignored and left untouched.</p>
+     *
+     * @param buffer the byte buffer.
+     * @param index  the absolute index of the first byte; {@code index + 8} must not exceed the buffer limit.
+     * @return the loaded word.
+     */
+    public static long load(ByteBuffer buffer, int index) {
+        return (long) BUFFER_VIEW.get(buffer, index);
+    }
+
+    /**
+     * Tells whether every byte of a word is an ASCII digit.
+     *
+     * <p>A byte is a digit when its high nibble is {@code 3} and adding {@code 6} does not carry into that nibble.
+     * A carry between bytes only comes from a byte of at least {@code 0xFA}, which already fails the test.</p>
+     *
+     * @param word the word to test.
+     * @return {@code true} if the eight bytes are all between {@code '0'} and {@code '9'}; {@code false} otherwise.
+     */
+    public static boolean isDigits(long word) {
+        return ((word & HIGH_NIBBLES) | (((word + SIXES) & HIGH_NIBBLES) >>> 4)) == THREES;
+    }
+
+    /**
+     * Converts a word of ASCII digits into a word of digit values.
+     *
+     * @param word a word for which {@link #isDigits(long)} holds.
+     * @return the word with every byte reduced to its digit value (0–9).
+     */
+    public static long digitsOf(long word) {
+        return word - ZEROS;
+    }
+
+    /**
+     * Tells whether the eight bytes of a word are all the same.
+     *
+     * @param word the word to test.
+     * @return {@code true} if every byte equals the first one; {@code false} otherwise.
+     */
+    public static boolean isRepeated(long word) {
+        return word == (word & 0xFF) * ONES;
+    }
+
+    /**
+     * Returns the byte at a position of a word.
+     *
+     * @param word     the word.
+     * @param position the position of the byte (0–7), 0 being the first loaded byte.
+     * @return the byte as an unsigned value.
+     */
+    public static int byteAt(long word, int position) {
+        return (int) (word >>> (position * Byte.SIZE)) & 0xFF;
+    }
+
+    /**
+     * Finds the first occurrence of a byte value in a region of a buffer.
+     *
+     * <p>Each word is XORed with the value repeated eight times, and the lowest zero byte of the result is located
+     * with the classic {@code (x - 0x01..01) & ~x & 0x80..80} test, which is exact for the lowest byte. The last
+     * bytes of the region, fewer than eight, are compared one by one.</p>
+     *
+     * @param buffer the byte buffer.
+     * @param from   the absolute index where the search starts.
+     * @param to     the absolute index where the search stops, exclusive; must not exceed the buffer limit.
+     * @param value  the byte value to find.
+     * @return the absolute index of the first byte equal to {@code value} in the region, or {@code -1} if none.
+     */
+    public static int indexOf(ByteBuffer buffer, int from, int to, byte value) {
+        final var pattern = (value & 0xFF) * ONES;
+        var index = from;
+        for (; index <= to - WORD_SIZE; index += WORD_SIZE) {
+            final var word = load(buffer, index) ^ pattern;
+            final var found = (word - ONES) & ~word & HIGH_BITS;
+            if (found != 0) {
+                return index + (Long.numberOfTrailingZeros(found) >>> 3);
+            }
+        }
+        for (; index < to; index++) {
+            if (buffer.get(index) == value) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Builds the multiplier that weights the even bytes (0, 2, 4 and 6) of a word in {@link #weightedSum}.
+     *
+     * @param weightOfByte the weight of the byte at each position (0–7); zero leaves a byte out of the sum.
+     * @return the multiplier of the even bytes.
+     */
+    public static long evenMultiplier(IntUnaryOperator weightOfByte) {
+        return multiplier(weightOfByte, 0);
+    }
+
+    /**
+     * Builds the multiplier that weights the odd bytes (1, 3, 5 and 7) of a word in {@link #weightedSum}.
+     *
+     * @param weightOfByte the weight of the byte at each position (0–7); zero leaves a byte out of the sum.
+     * @return the multiplier of the odd bytes.
+     */
+    public static long oddMultiplier(IntUnaryOperator weightOfByte) {
+        return multiplier(weightOfByte, 1);
+    }
+
+    /**
+     * Computes the weighted sum of the eight byte values of a word with two multiplications.
+     *
+     * <p>Each lane product, and the sum of products gathered in any lane, must stay below 65536; digit values with
+     * weights below 256 always do.</p>
+     *
+     * @param values         the word of byte values, e.g. from {@link #digitsOf(long)}.
+     * @param evenMultiplier the multiplier built by {@link #evenMultiplier(IntUnaryOperator)}.
+     * @param oddMultiplier  the multiplier built by {@link #oddMultiplier(IntUnaryOperator)}.
+     * @return the sum of every byte value times its weight.
+     */
+    public static int weightedSum(long values, long evenMultiplier, long oddMultiplier) {
+        final var even = ((values & LANE_MASK) * evenMultiplier) >>> TOP_LANE_SHIFT;
+        final var odd = (((values >>> Byte.SIZE) & LANE_MASK) * oddMultiplier) >>> TOP_LANE_SHIFT;
+        return (int) (even + odd);
+    }
+
+    private static long multiplier(final IntUnaryOperator weightOfByte, final int parity) {
+        var multiplier = 0L;
+        for (int lane = 0; lane < LANES; lane++) {
+            final long weight = weightOfByte.applyAsInt(2 * lane + parity);
+            multiplier |= weight << ((LANES - 1 - lane) * LANE_BITS);
+        }
+        return multiplier;
+    }
+
+}
@@ -0,0 +1,264 @@
+package io.github.felseje.nfe;
+
+import io.github.felseje.cnpj.Cnpj;
+import io.github.felseje.internal.cnpj.util.CnpjCodec;
+import io.github.felseje.internal.nfe.AccessKeyScanner;
+import io.github.felseje.internal.util.DocumentExceptions;
+import io.github.felseje.nfe.exception.InvalidAccessKeyException;
+
+/**
+ * Represents the 44-digit access key (chave de acesso) of an NF-e, NFC-e, CT-e or MDF-e fiscal document.
+ *
+ * <p> A key is laid out as the UF code (2 digits), the issue year and month (4), the issuer CNPJ (14), the model (2),
+ * the series (3), the number (9), the emission type (1), the numeric code (8) and the check digit (1), e.g.
+ * "35240811222333000181550010000012341000012344". </p>
+ * <p> The key is validated once, its check digit and the check digits of its issuer CNPJ in the same pass, and stored
+ * as its numeric fields and the packed key of the issuer CNPJ. Every accessor returns a stored value; no substring is
+ * taken, and the text of the key is rebuilt on demand. </p>
+ *
+ * @author felseje
+ * @since 1.0.0-alpha
+ */
+public final class AccessKey {
+
+    /**
+     * Access key length constant.
+     */
+    public static final int LENGTH = AccessKeyScanner.LENGTH;
+
+    private final long issuer;
+    private final int uf;
+    private final int yearMonth;
+    private final int model;
+    private final int series;
+    private final int number;
+    private final int emissionType;
+    private final int numericCode;
+    private final int checkDigit;
+
+    /**
+     * Build an instance of the {@link AccessKey} using a string representation.
+     *
+     * @param raw the 44-character access key, without separators.
+     * @throws IllegalArgumentException  if the {@code raw} is null or blank.
+     * @throws InvalidAccessKeyException if the {@code raw} or its issuer CNPJ is not valid.
+     */
+    public AccessKey(CharSequence raw) throws IllegalArgumentException, InvalidAccessKeyException {
+        if (raw == null || raw.toString().isBlank()) {
+            throw new IllegalArgumentException("The access key must not be null or blank");
+        }
+        final var key = AccessKeyScanner.scan(raw, 0, raw.length());
+        if (key == CnpjCodec.INVALID) {
+            throw DocumentExceptions.invalidAccessKey();
+        }
+        this.issuer = key;
+        this.uf = AccessKeyScanner.numberOf(raw, 0, 2);
+        this.yearMonth = AccessKeyScanner.numberOf(raw, 2, 6);
+        this.model = AccessKeyScanner.numberOf(raw, 20, 22);
+        this.series = AccessKeyScanner.numberOf(raw, 22, 25);
+        this.number = AccessKeyScanner.numberOf(raw, 25, 34);
+        this.emissionType = AccessKeyScanner.numberOf(raw, 34, 35);
+        this.numericCode = AccessKeyScanner.numberOf(raw, 35, 43);
+        this.checkDigit = AccessKeyScanner.numberOf(raw, 43, 44);
+    }
+
+    /**
+     * Returns the IBGE code of the UF (federative unit) of the issuer.
+     *
+     * <p>Example:</p>
+     * <pre>{@code
+     * AccessKey key = new AccessKey("35240811222333000181550010000012341000012344");
+     * System.out.println(key.getUf()); // prints 35
+     * }</pre>
+     *
+     * @return the UF code (positions 1 to 2).
+     */
+    public int getUf() {
+        return uf;
+    }
+
+    /**
+     * Returns the year and month of issue as written in the key, as {@code YYMM}.
+     *
+     * <p>Example:</p>
+     * <pre>{@code
+     * AccessKey key = new AccessKey("35240811222333000181550010000012341000012344");
+     * System.out.println(key.getYearMonth()); // prints 2408
+     * }</pre>
+     *
+     * @return the year and month of issue (positions 3 to 6).
+     */
+    public int getYearMonth() {
+        return yearMonth;
+    }
+
+    /**
+     * Returns the year of issue.
+     *
+     * @return the four-digit year of issue.
+     */
+    public int getYear() {
+        return 2000 + yearMonth / 100;
+    }
+
+    /**
+     * Returns the month of issue.
+     *
+     * @return the month of issue, as written in the key.
+     */
+    public int getMonth() {
+        return yearMonth % 100;
+    }
+
+    /**
+     * Returns the issuer CNPJ.
+     *
+     * <p>Example:</p>
+     * <pre>{@code
+     * AccessKey key = new AccessKey("35240811222333000181550010000012341000012344");
+     * System.out.println(key.getIssuer()); // prints "11.222.333/0001-81"
+     * }</pre>
+     *
+     * @return the issuer CNPJ (positions 7 to 20).
+     */
+    public Cnpj getIssuer() {
+        return Cnpj.fromKey(issuer);
+    }
+
+    /**
+     * Returns the canonical key of the issuer CNPJ, as produced by
+     * {@link io.github.felseje.cnpj.CnpjUtils#toKey(CharSequence)}.
+     *
+     * @return the issuer CNPJ key.
+     */
+    public long getIssuerKey() {
+        return issuer;
+    }
+
+    /**
+     * Returns the model of the document, e.g. {@code 55} for NF-e, {@code 57} for CT-e or {@code 65} for NFC-e.
+     *
+     * @return the model (positions 21 to 22).
+     */
+    public int getModel() {
+        return model;
+    }
+
+    /**
+     * Returns the series of the document.
+     *
+     * @return the series (positions 23 to 25).
+     */
+    public int getSeries() {
+        return series;
+    }
+
+    /**
+     * Returns the number of the document.
+     *
+     * @return the number (positions 26 to 34).
+     */
+    public int getNumber() {
+        return number;
+    }
+
+    /**
+     * Returns the emission type of the document, e.g. {@code 1} for normal emission.
+     *
+     * @return the emission type (position 35).
+     */
+    public int getEmissionType() {
+        return emissionType;
+    }
+
+    /**
+     * Returns the numeric code chosen by the issuer.
+     *
+     * @return the numeric code (positions 36 to 43).
+     */
+    public int getNumericCode() {
+        return numericCode;
+    }
+
+    /**
+     * Returns the check digit of the key.
+     *
+     * @return the check digit (position 44).
+     */
+    public int getCheckDigit() {
+        return checkDigit;
+    }
+
+    /**
+     * Returns the 44-character access key.
+     *
+     * @return the access key, as read.
+     */
+    public String getValue() {
+        return toString();
+    }
+
+    /**
+     * Returns a hash code value for this access key.
+     *
+     * <p> This ensures consistency with the {@link #equals(Object)} method. </p>
+     *
+     * @return the hash code value for this access key.
+     */
+    @Override
+    public int hashCode() {
+        var hash = Long.hashCode(issuer);
+        hash = 31 * hash + uf * 10_000 + yearMonth;
+        hash = 31 * hash + model * 1_000 + series;
+        hash = 31 * hash + number;
+        return 31 * hash + emissionType * 100_000_000 + numericCode;
+    }
+
+    /**
+     * Compares this {@code AccessKey} to another object for equality.
+     *
+     * <p>Two {@code AccessKey} instances are equal if and only if every field of their keys is equal.</p>
+     *
+     * @param object the object to compare with this {@code AccessKey}.
+     * @return {@code true} if the given object is also an {@code AccessKey} with the same fields; {@code false}
+     * otherwise.
+     */
+    @Override
+    public boolean equals(Object object) {
+        if (!(object instanceof AccessKey other)) {
+            return false;
+        }
+        return issuer == other.issuer && uf == other.uf && yearMonth == other.yearMonth && model == other.model
+                && series == other.series && number == other.number && emissionType == other.emissionType
+                && numericCode == other.numericCode;
+    }
+
+    /**
+     * Returns the 44-character access key.
+     *
+     * @return the access key, e.g. {@code 35240811222333000181550010000012341000012344}.
+     */
+    @Override
+    public String toString() {
+        final var characters = new char[LENGTH];
+        write(characters, 0, 2, uf);
+        write(characters, 2, 6, yearMonth);
+        CnpjCodec.decode(issuer, characters, AccessKeyScanner.CNPJ_OFFSET);
+        write(characters, 20, 22, model);
+        write(characters, 22, 25, series);
+        write(characters, 25, 34, number);
+        write(characters, 34, 35, emissionType);
+        write(characters, 35, 43, numericCode);
+        write(characters, 43, 44, checkDigit);
+        return new String(characters);
+    }
+
+    private static void write(final char[] characters, final int from, final int to, final int value) {
+        var rest = value;
+        for (int index = to - 1; index >= from; index--) {
+            characters[index] = (char) ('0' + rest % 10);
+            rest /= 10;
+        }
+    }
+
+}
@@ -0,0 +1,219 @@
+package io.github.felseje.nfe;
+
+import io.github.felseje.internal.batch.BatchValidator;
+import io.github.felseje.internal.cnpj.util.CnpjCodec;
+import io.github.felseje.internal.nfe.AccessKeyScanner;
+import io.github.felseje.internal.util.DocumentExceptions;
+import io.github.felseje.nfe.exception.InvalidAccessKeyException;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+import static io.github.felseje.internal.Constants.NOT_ALLOWED_INSTANTIATION_ERROR;
+
+/**
+ * Utility class for validating the 44-digit access keys (chaves de acesso) of NF-e, NFC-e, CT-e and MDF-e documents.
+ *
+ * <p> A key is valid when its last digit matches the modulo 11 of the first 43 characters, weighted 2 to 9 from the
+ * right, and when the issuer CNPJ it embeds at positions 7 to 20 is valid, numeric or alphanumeric. Both check digits
+ * are verified in a single pass over the key, without building any intermediate string. Keys of issuers identified
+ * by a CPF are not supported. </p>
+ *
+ * <p> Keys held as ASCII bytes in a {@code byte[]} or a {@link ByteBuffer}, heap or direct, are validated in place.
+ * Buffer regions are given in absolute indexes and never change the buffer position or limit. Large volumes of keys
+ * laid out as fixed-length records can be validated in batches into a bitmask, see
+ * {@link #isValidBatch(ByteBuffer, int, int, int, long[])}. </p>
+ *
+ * @author felseje
+ * @since 1.0.0-alpha
+ */
+public final class AccessKeyUtils {
+
+    /**
+     * Prevents instantiation of this utility class.
+     *
+     * @throws IllegalStateException always thrown to indicate this class should not be instantiated.
+     */
+    private AccessKeyUtils() {
+        throw new IllegalStateException(NOT_ALLOWED_INSTANTIATION_ERROR);
+    }
+
+    /**
+     * Validates an access key.
+     *
+     * <p> Example: </p>
+     * <pre>{@code
+     * AccessKeyUtils.isValid("35240811222333000181550010000012341000012344"); // true
+     * }</pre>
+     *
+     * @param key the 44-character access key, without separators
+     * @return {@code true} if the key and its issuer CNPJ are valid; {@code false} otherwise, {@code null} included
+     */
+    public static boolean isValid(CharSequence key) {
+        return key != null && AccessKeyScanner.scan(key, 0, key.length()) != CnpjCodec.INVALID;
+    }
+
+    /**
+     * Validates the access key found in a region of the given character sequence.
+     *
+     * @param key    the character sequence holding the key
+     * @param offset the index of the first character of the region
+     * @param length the number of characters in the region
+     * @return {@code true} if the region holds a valid key with a valid issuer CNPJ; {@code false} otherwise
+     * @throws IllegalArgumentException  if {@code key} is {@code null}
+     * @throws IndexOutOfBoundsException if the region is out of the {@code key} bounds
+     */
+    public static boolean isValid(CharSequence key, int offset, int length)
+            throws IllegalArgumentException, IndexOutOfBoundsException {
+        requireNonNull(key);
+        return AccessKeyScanner.scan(key, offset, length) != CnpjCodec.INVALID;
+    }
+
+    /**
+     * Validates the access key held in a region of ASCII bytes.
+     *
+     * @param key    the bytes holding the key
+     * @param offset the index of the first byte of the region
+     * @param length the number of bytes in the region
+     * @return {@code true} if the region holds a valid key with a valid issuer CNPJ; {@code false} otherwise
+     * @throws IllegalArgumentException  if {@code key} is {@code null}
+     * @throws IndexOutOfBoundsException if the region is out of the {@code key} bounds
+     */
+    public static boolean isValid(byte[] key, int offset, int length)
+            throws IllegalArgumentException, IndexOutOfBoundsException {
+        requireNonNull(key);
+        Objects.checkFromIndexSize(offset, length, key.length);
+        return AccessKeyScanner.scan(ByteBuffer.wrap(key), offset, length) != CnpjCodec.INVALID;
+    }
+
+    /**
+     * Validates the access key held in a region of an ASCII byte buffer.
+     *
+     * @param key    the buffer holding the key
+     * @param offset the absolute index of the first byte of the region
+     * @param length the number of bytes in the region
+     * @return {@code true} if the region holds a valid key with a valid issuer CNPJ; {@code false} otherwise
+     * @throws IllegalArgumentException  if {@code key} is {@code null}
+     * @throws IndexOutOfBoundsException if the region is out of the buffer limit
+     */
+    public static boolean isValid(ByteBuffer key, int offset, int length)
+            throws IllegalArgumentException, IndexOutOfBoundsException {
+        requireNonNull(key);
+        return AccessKeyScanner.scan(key, offset, length) != CnpjCodec.INVALID;
+    }
+
+    /**
+     * Validates an access key, throwing an exception if it is not valid.
+     *
+     * @param key the 44-character access key, without separators
+     * @throws IllegalArgumentException   if {@code key} is {@code null} or blank
+     * @throws InvalidAccessKeyException if {@code key} or its issuer CNPJ is not valid
+     */
+    public static void validate(CharSequence key) throws IllegalArgumentException, InvalidAccessKeyException {
+        if (key == null || key.toString().isBlank()) {
+            throw new IllegalArgumentException("The access key must not be null or blank");
+        }
+        if (AccessKeyScanner.scan(key, 0, key.length()) == CnpjCodec.INVALID) {
+            throw DocumentExceptions.invalidAccessKey();
+        }
+    }
+
+    /**
+     * Validates the access key held in a region of an ASCII byte buffer and returns the key of its issuer CNPJ.
+     *
+     * <p> The issuer is read in the same pass that validates the key, so keys can be joined on their issuer without
+     * decoding them. </p>
+     *
+     * @param key    the buffer holding the key
+     * @param offset the absolute index of the first byte of the region
+     * @param length the number of bytes in the region
+     * @return the issuer CNPJ key, as by {@link io.github.felseje.cnpj.CnpjUtils#toKey(CharSequence)}, or {@code -1}
+     * if the region does not hold a valid access key
+     * @throws IllegalArgumentException  if {@code key} is {@code null}
+     * @throws IndexOutOfBoundsException if the region is out of the buffer limit
+     * @see io.github.felseje.cnpj.Cnpj#fromKey(long)
+     */
+    public static long toIssuerKey(ByteBuffer key, int offset, int length)
+            throws IllegalArgumentException, IndexOutOfBoundsException {
+        requireNonNull(key);
+        return AccessKeyScanner.scan(key, offset, length);
+    }
+
+    /**
+     * Validates a batch of access keys laid out as fixed-length ASCII records.
+     *
+     * <p> Record {@code i} is the 44 bytes starting at {@code offset + i * stride}; bytes between records, such as
+     * separators or line breaks, are ignored. Bit {@code i % 64} of {@code validity[i / 64]} is set when record
+     * {@code i} is a valid access key with a valid issuer CNPJ. </p>
+     *
+     * @param batch    the bytes holding the records
+     * @param offset   the index of the first byte of the first record
+     * @param stride   the distance, in bytes, between the starts of two consecutive records; at least 44
+     * @param count    the number of records
+     * @param validity the bitmask receiving one bit per record; its first {@code (count + 63) / 64} words are
+     *                 overwritten
+     * @return the number of valid records
+     * @throws IllegalArgumentException  if {@code batch} or {@code validity} is {@code null}, or {@code stride} is
+     *                                   smaller than 44
+     * @throws IndexOutOfBoundsException if {@code count} is negative, the records do not fit in {@code batch}, or
+     *                                   {@code validity} is too short
+     */
+    public static int isValidBatch(byte[] batch, int offset, int stride, int count, long[] validity)
+            throws IllegalArgumentException, IndexOutOfBoundsException {
+        if (batch == null) {
+            throw new IllegalArgumentException("The batch must not be null");
+        }
+        return isValidBatch(ByteBuffer.wrap(batch), offset, stride, count, validity);
+    }
+
+    /**
+     * Validates a batch of access keys laid out as fixed-length ASCII records in a byte buffer, heap or direct.
+     *
+     * <p> Indexes are absolute; the buffer position and limit are left untouched. </p>
+     *
+     * @param batch    the buffer holding the records
+     * @param offset   the absolute index of the first byte of the first record
+     * @param stride   the distance, in bytes, between the starts of two consecutive records; at least 44
+     * @param count    the number of records
+     * @param validity the bitmask receiving one bit per record; its first {@code (count + 63) / 64} words are
+     *                 overwritten
+     * @return the number of valid records
+     * @throws IllegalArgumentException  if {@code batch} or {@code validity} is {@code null}, or {@code stride} is
+     *                                   smaller than 44
+     * @throws IndexOutOfBoundsException if {@code count} is negative, the records do not fit in the buffer limit, or
+     *                                   {@code validity} is too short
+     * @see #isValidBatch(byte[], int, int, int, long[])
+     */
+    public static int isValidBatch(ByteBuffer batch, int offset, int stride, int count, long[] validity)
+            throws IllegalArgumentException, IndexOutOfBoundsException {
+        if (batch == null) {
+            throw new IllegalArgumentException("The batch must not be null");
+        }
+        if (validity == null) {
+            throw new IllegalArgumentException("The validity mask must not be null");
+        }
+        if (stride < AccessKeyScanner.LENGTH) {
+            throw new IllegalArgumentException("The stride must not be smaller than " + AccessKeyScanner.LENGTH);
+        }
+        if (count < 0) {
+            throw new IndexOutOfBoundsException("The record count must not be negative: " + count);
+        }
+        Objects.checkFromIndexSize(0, BatchValidator.wordsFor(count), validity.length);
+        if (count == 0) {
+            return 0;
+        }
+        final var span = (long) (count - 1) * stride + AccessKeyScanner.LENGTH;
+        if (offset < 0 || offset + span > batch.limit()) {
+            throw new IndexOutOfBoundsException("The records do not fit in the batch: offset " + offset
+                    + ", span " + span + ", length " + batch.limit());
+        }
+        return AccessKeyScanner.scanBatch(batch, offset, stride, count, validity);
+    }
+
+    private static void requireNonNull(final Object key) {
+        if (key == null) {
+            throw new IllegalArgumentException("The access key must not be null");
+        }
+    }
+
+}
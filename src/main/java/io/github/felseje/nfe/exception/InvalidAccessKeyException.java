@@ -0,0 +1,41 @@
+package io.github.felseje.nfe.exception;
+
+import io.github.felseje.exception.InvalidDocumentException;
+
+import java.io.Serial;
+
+/**
+ * Exception thrown to indicate that an NF-e, NFC-e, CT-e or MDF-e access key is invalid or malformed.
+ * <p>
+ * This exception typically signals a failure in validation logic, such as
+ * incorrect length, invalid characters, a failed key check digit or an invalid issuer CNPJ.
+ * </p>
+ *
+ * @author felseje
+ * @since 1.0.0-alpha
+ */
+public class InvalidAccessKeyException extends InvalidDocumentException {
+
+    @Serial
+    private static final long serialVersionUID = 3148726590417263815L;
+
+    /**
+     * Constructs a new {@link InvalidAccessKeyException} with the specified detail message.
+     *
+     * @param message the detail message describing the reason for the exception.
+     */
+    public InvalidAccessKeyException(String message) {
+        super(message);
+    }
+
+    /**
+     * Constructs a new {@link InvalidAccessKeyException} with the specified detail message and cause.
+     *
+     * @param message the detail message describing the reason for the exception.
+     * @param cause the cause of the exception (can be retrieved later by {@link #getCause()}).
+     */
+    public InvalidAccessKeyException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+}
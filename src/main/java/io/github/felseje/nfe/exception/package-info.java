@@ -0,0 +1,9 @@
+/**
+ * Exceptions related to access key operations.
+ *
+ * <p>Handles invalid access key formats and validation-specific errors.</p>
+ *
+ * @author felseje
+ * @since 1.0.0-alpha
+ */
+package io.github.felseje.nfe.exception;
\ No newline at end of file
@@ -0,0 +1,10 @@
+/**
+ * Core classes for the access keys (chaves de acesso) of NF-e, NFC-e, CT-e and MDF-e fiscal documents.
+ *
+ * <p>Includes a model exposing the fields of a key, its issuer CNPJ among them, and utility functions validating keys
+ * one at a time or in batches.</p>
+ *
+ * @author felseje
+ * @since 1.0.0-alpha
+ */
+package io.github.felseje.nfe;
\ No newline at end of file
@@ -0,0 +1,102 @@
+package io.github.felseje.pix;
+
+import java.util.Objects;
+
+/**
+ * A classified PIX key: its {@link PixKeyType} and its normalized form, as registered in the DICT.
+ *
+ * <p> Keys are obtained from {@link PixKeyUtils#parse(CharSequence)}, which never throws: input that is not a valid
+ * key of any type yields the shared {@link #INVALID} instance, whose value is empty. </p>
+ *
+ * <p>Example:</p>
+ * <pre>{@code
+ * PixKey key = PixKeyUtils.parse("+55 (11) 98765-4321");
+ * System.out.println(key.getType());  // prints PHONE
+ * System.out.println(key.getValue()); // prints "+5511987654321"
+ * }</pre>
+ *
+ * <p> Instances are immutable. </p>
+ *
+ * @author felseje
+ * @since 1.0.0-alpha
+ */
+public final class PixKey {
+
+    /**
+     * The result of parsing input that is not a valid key of any type.
+     */
+    public static final PixKey INVALID = new PixKey(PixKeyType.INVALID, "");
+
+    private final PixKeyType type;
+    private final String value;
+
+    PixKey(final PixKeyType type, final String value) {
+        this.type = type;
+        this.value = value;
+    }
+
+    /**
+     * Returns the type of the key.
+     *
+     * @return the key type, {@link PixKeyType#INVALID} for the {@link #INVALID} key.
+     */
+    public PixKeyType getType() {
+        return type;
+    }
+
+    /**
+     * Returns the normalized key.
+     *
+     * @return the key without formatting, lowercased for e-mail and EVP keys; empty for the {@link #INVALID} key.
+     */
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * Tells whether the key is valid.
+     *
+     * @return {@code true} if the key has a type other than {@link PixKeyType#INVALID}; {@code false} otherwise.
+     */
+    public boolean isValid() {
+        return type != PixKeyType.INVALID;
+    }
+
+    /**
+     * Returns a hash code value for this key.
+     *
+     * @return the hash code value for this key.
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, value);
+    }
+
+    /**
+     * Compares this {@code PixKey} to another object for equality.
+     *
+     * <p>Two keys are equal if and only if their types and normalized values are equal.</p>
+     *
+     * @param object the object to compare with this {@code PixKey}.
+     * @return {@code true} if the given object is a {@code PixKey} of the same type and value; {@code false}
+     * otherwise.
+     */
+    @Override
+    public boolean equals(Object object) {
+        if (!(object instanceof PixKey other)) {
+            return false;
+        }
+        return type == other.type && value.equals(other.value);
+    }
+
+    /**
+     * Returns the normalized key.
+     *
+     * @return the normalized key, as {@link #getValue()}.
+     */
+    @Override
+    public String toString() {
+        return value;
+    }
+
+}
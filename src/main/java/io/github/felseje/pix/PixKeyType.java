@@ -0,0 +1,42 @@
+package io.github.felseje.pix;
+
+/**
+ * The types of the keys of the PIX instant payment system, as registered in the DICT.
+ *
+ * @author felseje
+ * @since 1.0.0-alpha
+ */
+public enum PixKeyType {
+
+    /**
+     * A CPF key, e.g. {@code "52998224725"}.
+     */
+    CPF,
+
+    /**
+     * A CNPJ key, numeric or alphanumeric, e.g. {@code "11222333000181"}.
+     */
+    CNPJ,
+
+    /**
+     * A Brazilian phone key, e.g. {@code "+5511987654321"}.
+     */
+    PHONE,
+
+    /**
+     * An e-mail key, e.g. {@code "fulano@exemplo.com.br"}.
+     */
+    EMAIL,
+
+    /**
+     * A random key (EVP, endereço virtual de pagamento), a UUID, e.g.
+     * {@code "123e4567-e89b-12d3-a456-426614174000"}.
+     */
+    EVP,
+
+    /**
+     * Not a valid key of any type.
+     */
+    INVALID
+
+}
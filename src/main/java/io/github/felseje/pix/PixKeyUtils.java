@@ -0,0 +1,106 @@
+package io.github.felseje.pix;
+
+import io.github.felseje.internal.pix.PixKeyClassifier;
+
+import static io.github.felseje.internal.Constants.NOT_ALLOWED_INSTANTIATION_ERROR;
+
+/**
+ * Utility class for classifying and normalizing untyped PIX keys.
+ *
+ * <p> A key is classified in a single pass over its characters, following the CPF, CNPJ, phone, e-mail and EVP
+ * formats at the same time; CPF and CNPJ keys are then validated with the check digits of the active
+ * {@link io.github.felseje.spi.ValidationEngine}. No regex is involved and no exception is thrown for invalid keys,
+ * whatever the input. Classifying allocates nothing; parsing allocates the normalized key only when the key is
+ * valid. </p>
+ *
+ * <p> Formatted CPFs and CNPJs ({@code ###.###.###-##}, {@code ##.###.###/####-##}) and phones with spaces, hyphens
+ * or parentheses are accepted and normalized; e-mail and EVP keys are accepted in any case and lowercased. </p>
+ *
+ * @author felseje
+ * @since 1.0.0-alpha
+ */
+public final class PixKeyUtils {
+
+    /**
+     * Prevents instantiation of this utility class.
+     *
+     * @throws IllegalStateException always thrown to indicate this class should not be instantiated.
+     */
+    private PixKeyUtils() {
+        throw new IllegalStateException(NOT_ALLOWED_INSTANTIATION_ERROR);
+    }
+
+    /**
+     * Classifies a PIX key.
+     *
+     * <p> Example: </p>
+     * <pre>{@code
+     * PixKeyUtils.classify("529.982.247-25");                       // CPF
+     * PixKeyUtils.classify("Fulano@Exemplo.com.br");                // EMAIL
+     * PixKeyUtils.classify("123e4567-e89b-12d3-a456-426614174000"); // EVP
+     * PixKeyUtils.classify("529.982.247-24");                       // INVALID
+     * }</pre>
+     *
+     * @param key the key to classify; may be {@code null}
+     * @return the key type, or {@link PixKeyType#INVALID} if {@code key} is {@code null} or not a valid key
+     */
+    public static PixKeyType classify(CharSequence key) {
+        return key == null ? PixKeyType.INVALID : PixKeyClassifier.classify(key, 0, key.length());
+    }
+
+    /**
+     * Classifies the PIX key found in a region of the given character sequence.
+     *
+     * @param key    the character sequence holding the key; may be {@code null}
+     * @param offset the index of the first character of the region
+     * @param length the number of characters in the region
+     * @return the key type, or {@link PixKeyType#INVALID} if {@code key} is {@code null} or the region is not a valid
+     * key
+     * @throws IndexOutOfBoundsException if {@code key} is not {@code null} and the region is out of its bounds
+     * @see #classify(CharSequence)
+     */
+    public static PixKeyType classify(CharSequence key, int offset, int length) throws IndexOutOfBoundsException {
+        return PixKeyClassifier.classify(key, offset, length);
+    }
+
+    /**
+     * Tells whether the given input is a valid PIX key of any type.
+     *
+     * @param key the key to check; may be {@code null}
+     * @return {@code true} if {@code key} is a valid key; {@code false} otherwise
+     */
+    public static boolean isValid(CharSequence key) {
+        return classify(key) != PixKeyType.INVALID;
+    }
+
+    /**
+     * Classifies and normalizes a PIX key.
+     *
+     * @param key the key to parse; may be {@code null}
+     * @return the classified, normalized key, or {@link PixKey#INVALID} if {@code key} is {@code null} or not a valid
+     * key
+     */
+    public static PixKey parse(CharSequence key) {
+        return key == null ? PixKey.INVALID : parse(key, 0, key.length());
+    }
+
+    /**
+     * Classifies and normalizes the PIX key found in a region of the given character sequence.
+     *
+     * @param key    the character sequence holding the key; may be {@code null}
+     * @param offset the index of the first character of the region
+     * @param length the number of characters in the region
+     * @return the classified, normalized key, or {@link PixKey#INVALID} if {@code key} is {@code null} or the region
+     * is not a valid key
+     * @throws IndexOutOfBoundsException if {@code key} is not {@code null} and the region is out of its bounds
+     * @see #parse(CharSequence)
+     */
+    public static PixKey parse(CharSequence key, int offset, int length) throws IndexOutOfBoundsException {
+        final var type = PixKeyClassifier.classify(key, offset, length);
+        if (type == PixKeyType.INVALID) {
+            return PixKey.INVALID;
+        }
+        return new PixKey(type, PixKeyClassifier.normalize(key, offset, length, type));
+    }
+
+}
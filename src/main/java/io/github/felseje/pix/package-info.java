@@ -0,0 +1,10 @@
+/**
+ * Classes for the keys of the PIX instant payment system.
+ *
+ * <p>Includes the key types and utility functions classifying and normalizing untyped keys: CPF, CNPJ, phone, e-mail
+ * and random (EVP) keys.</p>
+ *
+ * @author felseje
+ * @since 1.0.0-alpha
+ */
+package io.github.felseje.pix;
\ No newline at end of file
@@ -0,0 +1,194 @@
+package io.github.felseje.spi;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Engine performing the validation behind {@link io.github.felseje.cpf.CpfUtils} and
+ * {@link io.github.felseje.cnpj.CnpjUtils}.
+ *
+ * <p>Engines are registered as {@link java.util.ServiceLoader} providers of this interface, either with a
+ * {@code provides} clause in a module declaration or with a {@code META-INF/services} entry on the class path. The
+ * engine in use is chosen once, when validation is first needed, see {@link ValidationEngines}.</p>
+ *
+ * <p>Every engine must give the same result as the built-in ones for every input; engines only differ in how fast
+ * they get there. Implementations must be thread-safe and have a public no-argument constructor.</p>
+ *
+ * <p>Regions are given as an offset and a length, and buffer regions in absolute indexes. The facades do not check
+ * region bounds before calling an engine: a {@code null} input is not a valid document, and a region out of the
+ * bounds of a non-null input throws {@link IndexOutOfBoundsException}.</p>
+ *
+ * @author felseje
+ * @since 1.0.0-alpha
+ */
+public interface ValidationEngine {
+
+    /**
+     * Returns the name of this engine, used to select it through {@link ValidationEngines#ENGINE_PROPERTY}.
+     *
+     * @return the engine name, unique among the registered engines.
+     */
+    String name();
+
+    /**
+     * Returns the priority of this engine when no engine is requested by name.
+     *
+     * <p>Among the supported engines, the one with the highest priority is selected. Built-in engines use priorities
+     * from {@code 0} to {@code 100}.</p>
+     *
+     * @return the engine priority; {@code 0} by default.
+     */
+    default int priority() {
+        return 0;
+    }
+
+    /**
+     * Tells whether this engine can run on the current JVM and hardware.
+     *
+     * <p>Engines relying on optional modules, recent JDK features or CPU features report here whether those are
+     * available. Unsupported engines are never selected, not even by name.</p>
+     *
+     * @return {@code true} if the engine can be used; {@code true} by default.
+     */
+    default boolean isSupported() {
+        return true;
+    }
+
+    /**
+     * Validates the CPF found in a region of a character sequence, formatted or not.
+     *
+     * @param cpf    the character sequence holding the CPF.
+     * @param offset the index of the first character of the region.
+     * @param length the number of characters in the region.
+     * @return {@code true} if the region holds a valid CPF; {@code false} otherwise.
+     * @throws IndexOutOfBoundsException if {@code cpf} is not {@code null} and the region is out of its bounds.
+     */
+    boolean isValidCpf(CharSequence cpf, int offset, int length) throws IndexOutOfBoundsException;
+
+    /**
+     * Validates the CPF found in a region of ASCII bytes, formatted or not.
+     *
+     * @param cpf    the bytes holding the CPF.
+     * @param offset the index of the first byte of the region.
+     * @param length the number of bytes in the region.
+     * @return {@code true} if the region holds a valid CPF; {@code false} otherwise.
+     * @throws IndexOutOfBoundsException if {@code cpf} is not {@code null} and the region is out of its bounds.
+     */
+    boolean isValidCpf(byte[] cpf, int offset, int length) throws IndexOutOfBoundsException;
+
+    /**
+     * Validates the CPF found in a region of an ASCII byte buffer, formatted or not.
+     *
+     * @param cpf    the buffer holding the CPF.
+     * @param offset the absolute index of the first byte of the region.
+     * @param length the number of bytes in the region.
+     * @return {@code true} if the region holds a valid CPF; {@code false} otherwise.
+     * @throws IndexOutOfBoundsException if {@code cpf} is not {@code null} and the region is out of its limit.
+     */
+    boolean isValidCpf(ByteBuffer cpf, int offset, int length) throws IndexOutOfBoundsException;
+
+    /**
+     * Validates the CNPJ, numeric or alphanumeric, found in a region of a character sequence, formatted or not.
+     *
+     * @param cnpj   the character sequence holding the CNPJ.
+     * @param offset the index of the first character of the region.
+     * @param length the number of characters in the region.
+     * @return {@code true} if the region holds a valid CNPJ; {@code false} otherwise.
+     * @throws IndexOutOfBoundsException if {@code cnpj} is not {@code null} and the region is out of its bounds.
+     */
+    boolean isValidCnpj(CharSequence cnpj, int offset, int length) throws IndexOutOfBoundsException;
+
+    /**
+     * Validates the CNPJ, numeric or alphanumeric, found in a region of ASCII bytes, formatted or not.
+     *
+     * @param cnpj   the bytes holding the CNPJ.
+     * @param offset the index of the first byte of the region.
+     * @param length the number of bytes in the region.
+     * @return {@code true} if the region holds a valid CNPJ; {@code false} otherwise.
+     * @throws IndexOutOfBoundsException if {@code cnpj} is not {@code null} and the region is out of its bounds.
+     */
+    boolean isValidCnpj(byte[] cnpj, int offset, int length) throws IndexOutOfBoundsException;
+
+    /**
+     * Validates the CNPJ, numeric or alphanumeric, found in a region of an ASCII byte buffer, formatted or not.
+     *
+     * @param cnpj   the buffer holding the CNPJ.
+     * @param offset the absolute index of the first byte of the region.
+     * @param length the number of bytes in the region.
+     * @return {@code true} if the region holds a valid CNPJ; {@code false} otherwise.
+     * @throws IndexOutOfBoundsException if {@code cnpj} is not {@code null} and the region is out of its limit.
+     */
+    boolean isValidCnpj(ByteBuffer cnpj, int offset, int length) throws IndexOutOfBoundsException;
+
+    /**
+     * Validates the CNPJ, numeric or alphanumeric, found in a region of a character sequence that must be exactly in
+     * the formatted or the unformatted shape.
+     *
+     * <p>Unlike {@link #isValidCnpj(CharSequence, int, int)}, no character is skipped: a region with any character
+     * outside those shapes, such as spaces or lowercase letters, is not a valid CNPJ.</p>
+     *
+     * @param cnpj   the character sequence holding the CNPJ.
+     * @param offset the index of the first character of the region.
+     * @param length the number of characters in the region.
+     * @return {@code true} if the region holds a valid CNPJ in the exact shape; {@code false} otherwise.
+     * @throws IndexOutOfBoundsException if {@code cnpj} is not {@code null} and the region is out of its bounds.
+     */
+    boolean isValidStrictCnpj(CharSequence cnpj, int offset, int length) throws IndexOutOfBoundsException;
+
+    /**
+     * Validates the CNPJ, numeric or alphanumeric, found in a region of ASCII bytes that must be exactly in the
+     * formatted or the unformatted shape.
+     *
+     * @param cnpj   the bytes holding the CNPJ.
+     * @param offset the index of the first byte of the region.
+     * @param length the number of bytes in the region.
+     * @return {@code true} if the region holds a valid CNPJ in the exact shape; {@code false} otherwise.
+     * @throws IndexOutOfBoundsException if {@code cnpj} is not {@code null} and the region is out of its bounds.
+     * @see #isValidStrictCnpj(CharSequence, int, int)
+     */
+    boolean isValidStrictCnpj(byte[] cnpj, int offset, int length) throws IndexOutOfBoundsException;
+
+    /**
+     * Validates the CNPJ, numeric or alphanumeric, found in a region of an ASCII byte buffer that must be exactly in
+     * the formatted or the unformatted shape.
+     *
+     * @param cnpj   the buffer holding the CNPJ.
+     * @param offset the absolute index of the first byte of the region.
+     * @param length the number of bytes in the region.
+     * @return {@code true} if the region holds a valid CNPJ in the exact shape; {@code false} otherwise.
+     * @throws IndexOutOfBoundsException if {@code cnpj} is not {@code null} and the region is out of its limit.
+     * @see #isValidStrictCnpj(CharSequence, int, int)
+     */
+    boolean isValidStrictCnpj(ByteBuffer cnpj, int offset, int length) throws IndexOutOfBoundsException;
+
+    /**
+     * Validates a batch of normalized CPFs laid out as fixed-length records.
+     *
+     * <p>Arguments are already checked: the records fit in {@code batch}, {@code stride} is at least 11 and
+     * {@code count} is positive. The first {@code (count + 63) / 64} words of {@code validity} are already cleared;
+     * the engine only sets bit {@code i % 64} of word {@code i / 64} for each valid record {@code i}.</p>
+     *
+     * @param batch    the bytes holding the records.
+     * @param offset   the index of the first byte of the first record.
+     * @param stride   the distance, in bytes, between the starts of two consecutive records.
+     * @param count    the number of records.
+     * @param validity the cleared bitmask receiving one bit per record.
+     * @return the number of valid records.
+     */
+    int validateCpfBatch(byte[] batch, int offset, int stride, int count, long[] validity);
+
+    /**
+     * Validates a batch of normalized CNPJs, numeric or alphanumeric, laid out as fixed-length records.
+     *
+     * <p>Arguments are checked as for {@link #validateCpfBatch(byte[], int, int, int, long[])}, with records of 14
+     * bytes.</p>
+     *
+     * @param batch    the bytes holding the records.
+     * @param offset   the index of the first byte of the first record.
+     * @param stride   the distance, in bytes, between the starts of two consecutive records.
+     * @param count    the number of records.
+     * @param validity the cleared bitmask receiving one bit per record.
+     * @return the number of valid records.
+     */
+    int validateCnpjBatch(byte[] batch, int offset, int stride, int count, long[] validity);
+
+}
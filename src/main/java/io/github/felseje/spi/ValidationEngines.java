@@ -0,0 +1,131 @@
+package io.github.felseje.spi;
+
+import io.github.felseje.internal.engine.ScalarEngine;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+import static io.github.felseje.internal.Constants.NOT_ALLOWED_INSTANTIATION_ERROR;
+
+/**
+ * Selects the {@link ValidationEngine} used by {@link io.github.felseje.cpf.CpfUtils} and
+ * {@link io.github.felseje.cnpj.CnpjUtils}.
+ *
+ * <p>The engines are loaded with {@link ServiceLoader} the first time validation is needed, and those not supported on
+ * the running JVM are discarded. If the system property {@value #ENGINE_PROPERTY} names one of the remaining engines,
+ * that engine is selected; otherwise the one with the highest {@link ValidationEngine#priority() priority} is. A
+ * property naming an unknown or unsupported engine is ignored. The selection is made once and kept for the lifetime of
+ * the JVM.</p>
+ *
+ * <p>Built-in engines:</p>
+ * <ul>
+ *   <li>{@code scalar}: single-pass scanners with table-driven check digits and a SWAR fast path for clean digit
+ *   regions; batches are validated one record at a time. Always supported.</li>
+ *   <li>{@code vector}: the same single-document validation, with batches validated several records per instruction
+ *   through the Vector API. Supported when the {@code jdk.incubator.vector} module is resolved.</li>
+ * </ul>
+ *
+ * <p>Example, forcing the scalar engine on a JVM started with the Vector API:</p>
+ * <pre>{@code
+ * java --add-modules jdk.incubator.vector -Dcpf.cnpj.utils.engine=scalar ...
+ * ValidationEngines.active().name(); // "scalar"
+ * }</pre>
+ *
+ * <p>This class is final and cannot be instantiated.</p>
+ *
+ * @author felseje
+ * @since 1.0.0-alpha
+ */
+public final class ValidationEngines {
+
+    /**
+     * The system property naming the engine to select.
+     */
+    public static final String ENGINE_PROPERTY = "cpf.cnpj.utils.engine";
+
+    private ValidationEngines() {
+        throw new IllegalStateException(NOT_ALLOWED_INSTANTIATION_ERROR);
+    }
+
+    /**
+     * Returns the engine in use.
+     *
+     * @return the selected engine, never {@code null}.
+     */
+    public static ValidationEngine active() {
+        return EngineHolder.INSTANCE;
+    }
+
+    /**
+     * Returns the engines that could have been selected, in descending priority order.
+     *
+     * @return an unmodifiable list of the registered engines supported on this JVM; never empty.
+     */
+    public static List<ValidationEngine> available() {
+        return EngineHolder.AVAILABLE;
+    }
+
+    /**
+     * Loads the registered engines supported on this JVM.
+     *
+     * <p>Providers that fail to load or to report their support are skipped, so a broken third-party engine never
+     * prevents validation. The built-in scalar engine is added if no provider could be loaded at all.</p>
+     *
+     * @return the supported engines, highest priority first.
+     */
+    private static List<ValidationEngine> load() {
+        final var engines = new ArrayList<ValidationEngine>();
+        final var iterator = ServiceLoader.load(ValidationEngine.class).iterator();
+        while (true) {
+            try {
+                if (!iterator.hasNext()) {
+                    break;
+                }
+                final var engine = iterator.next();
+                if (engine.isSupported()) {
+                    engines.add(engine);
+                }
+            } catch (ServiceConfigurationError | LinkageError error) {
+                // skip the provider and go on with the next one
+            }
+        }
+        if (engines.isEmpty()) {
+            engines.add(new ScalarEngine());
+        }
+        engines.sort(Comparator.comparingInt(ValidationEngine::priority).reversed());
+        return List.copyOf(engines);
+    }
+
+    /**
+     * Selects an engine among the supported ones.
+     *
+     * @param engines   the supported engines, highest priority first.
+     * @param requested the requested engine name, possibly {@code null}.
+     * @return the engine named {@code requested}, ignoring case, or the first engine if there is none.
+     */
+    private static ValidationEngine select(final List<ValidationEngine> engines, final String requested) {
+        if (requested != null) {
+            for (final var engine : engines) {
+                if (engine.name().equalsIgnoreCase(requested.strip())) {
+                    return engine;
+                }
+            }
+        }
+        return engines.get(0);
+    }
+
+    /**
+     * Holds the engines loaded for this JVM and the selected one.
+     *
+     * <p>This leverages the initialization-on-demand holder idiom, so engines are only loaded on first use and the
+     * selected engine is a constant the JIT compiler can inline through.</p>
+     */
+    private static final class EngineHolder {
+        private static final List<ValidationEngine> AVAILABLE = load();
+        private static final ValidationEngine INSTANCE = select(AVAILABLE, System.getProperty(ENGINE_PROPERTY));
+    }
+
+}
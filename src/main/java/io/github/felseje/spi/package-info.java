@@ -0,0 +1,10 @@
+/**
+ * Service provider interface for the engines behind CPF and CNPJ validation.
+ *
+ * <p>Engines are discovered with {@link java.util.ServiceLoader} and one of them is selected once per JVM, either
+ * by name through a system property or by priority among the engines supported on the running platform.</p>
+ *
+ * @author felseje
+ * @since 1.0.0-alpha
+ */
+package io.github.felseje.spi;
@@ -6,13 +6,35 @@
  * as well as their respective exception types. It also includes a generic
  * exception package for common use cases.</p>
  *
+ * <p>The incubating Vector API is an optional dependency: batch validation uses it when the
+ * {@code jdk.incubator.vector} module is resolved (e.g. with {@code --add-modules jdk.incubator.vector})
+ * and falls back to scalar code otherwise.</p>
+ *
+ * <p>Validation runs on a {@link io.github.felseje.spi.ValidationEngine} loaded with {@link java.util.ServiceLoader}.
+ * Other modules may provide their own engines; the active one is selected at startup, see
+ * {@link io.github.felseje.spi.ValidationEngines}.</p>
+ *
  * @author felseje
  * @since 1.0.0-alpha
  */
 module cpf.cnpj.utils {
+    requires static jdk.incubator.vector;
+
     exports io.github.felseje.cpf;
     exports io.github.felseje.cpf.exception;
     exports io.github.felseje.cnpj;
     exports io.github.felseje.cnpj.exception;
     exports io.github.felseje.exception;
+    exports io.github.felseje.spi;
+    exports io.github.felseje.bulk;
+    exports io.github.felseje.nfe;
+    exports io.github.felseje.nfe.exception;
+    exports io.github.felseje.pix;
+    exports io.github.felseje.document;
+
+    uses io.github.felseje.spi.ValidationEngine;
+
+    provides io.github.felseje.spi.ValidationEngine with
+            io.github.felseje.internal.engine.ScalarEngine,
+            io.github.felseje.internal.engine.VectorEngine;
 }
\ No newline at end of file
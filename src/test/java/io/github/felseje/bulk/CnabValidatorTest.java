@@ -0,0 +1,184 @@
+package io.github.felseje.bulk;
+
+import io.github.felseje.cnpj.CnpjType;
+import io.github.felseje.cnpj.CnpjUtils;
+import io.github.felseje.cpf.CpfUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CnabValidator class unit tests")
+class CnabValidatorTest {
+
+    private static final CnabValidator CNAB_240 = CnabLayout.CNAB_240.compile();
+    private static final CnabValidator CNAB_400 = CnabLayout.CNAB_400.compile();
+
+    @TempDir
+    Path directory;
+
+    /**
+     * Builds a blank record, filling the given one-based positions.
+     */
+    private static String record(int length, Object... fields) {
+        char[] record = " ".repeat(length).toCharArray();
+        for (int index = 0; index < fields.length; index += 2) {
+            String value = fields[index + 1].toString();
+            value.getChars(0, value.length(), record, (Integer) fields[index] - 1);
+        }
+        return new String(record);
+    }
+
+    /**
+     * Builds a CNAB 240 segment Q record with the given payer flag and number.
+     */
+    private static String segmentQ(String flag, String number) {
+        return record(240, 8, "3", 14, "Q", 18, flag, 19, number, 154, "0", 155, "0".repeat(15));
+    }
+
+    /**
+     * Provides CNAB 240 and 400 records with the mask expected from them.
+     */
+    private static Stream<Arguments> provideRecords() {
+        return Stream.of(
+                Arguments.of(CNAB_240, segmentQ("1", "0000" + "52998224725"), "Payer CPF", 0),
+                Arguments.of(CNAB_240, segmentQ("2", "0" + "11222333000181"), "Payer CNPJ", 0),
+                Arguments.of(CNAB_240, segmentQ("2", "0" + "12ABC34501DE35"), "Payer alphanumeric CNPJ", 0),
+                Arguments.of(CNAB_240, segmentQ("0", "0".repeat(15)), "Payer not informed", 0),
+                Arguments.of(CNAB_240, segmentQ(" ", " ".repeat(15)), "Blank payer", 0),
+                Arguments.of(CNAB_240, segmentQ("1", "0000" + "52998224724"), "Wrong CPF check digits", 0b10),
+                Arguments.of(CNAB_240, segmentQ("2", "0" + "11222333000182"), "Wrong CNPJ check digits", 0b10),
+                Arguments.of(CNAB_240, segmentQ("1", "0" + "11222333000181"), "CNPJ flagged as CPF", 0b10),
+                Arguments.of(CNAB_240, segmentQ("2", "0000" + "52998224725"), "CPF flagged as CNPJ", 0b10),
+                Arguments.of(CNAB_240, segmentQ("1", "1000" + "52998224725"), "Non-zero padding", 0b10),
+                Arguments.of(CNAB_240, segmentQ("3", "0000" + "52998224725"), "Unknown flag", 0b10),
+                Arguments.of(CNAB_240, segmentQ("X", "0000" + "52998224725"), "Non-numeric flag", 0b10),
+                Arguments.of(CNAB_240, segmentQ("1", "0000" + "00000000000"), "Repeated digits", 0b10),
+                Arguments.of(CNAB_240, record(240, 8, "3", 14, "Q", 18, "0", 154, "2", 155, "011222333000181"),
+                        "Guarantor CNPJ", 0),
+                Arguments.of(CNAB_240, record(240, 8, "3", 14, "Q", 18, "0", 154, "1", 155, "000011122233344"),
+                        "Invalid guarantor CPF", 0b100),
+                Arguments.of(CNAB_240, record(240, 8, "3", 14, "B", 18, "1", 19, "00052998224725"),
+                        "Segment B payee", 0),
+                Arguments.of(CNAB_240, record(240, 8, "3", 14, "T", 133, "2", 134, "011222333000182"),
+                        "Invalid segment T payer", 0b10000),
+                Arguments.of(CNAB_240, record(240, 8, "0", 18, "2", 19, "11222333000182"), "Invalid file header", 1),
+                Arguments.of(CNAB_240, record(240, 8, "3", 14, "P", 18, "2", 19, "11222333000182"),
+                        "Segment without document", 0),
+                Arguments.of(CNAB_240, record(240, 8, "9"), "File trailer", 0),
+                Arguments.of(CNAB_240, record(239, 8, "3", 14, "Q"), "Short record", CnabValidator.MALFORMED),
+                Arguments.of(CNAB_400, record(400, 1, "1", 2, "02", 4, "11222333000181", 219, "01", 221,
+                        "00052998224725"), "Detail record", 0),
+                Arguments.of(CNAB_400, record(400, 1, "1", 2, "02", 4, "11222333000181", 219, "01", 221,
+                        "00052998224724"), "Invalid detail payer", 0b10),
+                Arguments.of(CNAB_400, record(400, 1, "0", 2, "1REMESSA"), "Header record", 0)
+        );
+    }
+
+    @ParameterizedTest(name = "{2}")
+    @MethodSource("provideRecords")
+    @DisplayName("Should read the document-type flag and dispatch the padded number to its check digits")
+    void shouldValidateRecords(CnabValidator validator, String record, String reason, int expected) {
+        // Arrange
+        byte[] bytes = ("##" + record).getBytes(StandardCharsets.US_ASCII);
+
+        // Act
+        int mask = validator.validate(bytes, 2, bytes.length - 2);
+        int bufferMask = validator.validate(ByteBuffer.wrap(bytes), 2, bytes.length - 2);
+
+        // Assert
+        assertEquals(expected, mask, "Unexpected mask for " + reason.toLowerCase());
+        assertEquals(expected, bufferMask, "Unexpected buffer mask for " + reason.toLowerCase());
+    }
+
+    @Test
+    @DisplayName("Should report invalid records of a multi-chunk file by line and segment")
+    void shouldScanLargeFiles() throws IOException {
+        // Arrange
+        StringBuilder content = new StringBuilder(record(240, 8, "0", 18, "2", 19, "11222333000181")).append("\r\n");
+        List<Long> expectedLines = new ArrayList<>();
+        long line = 1;
+        while (content.length() < 3 << 20) {
+            line++;
+            String document = line % 3 == 0 ? CpfUtils.generate() : CnpjUtils.generate(CnpjType.NUMERIC);
+            if (line % 101 == 0) {
+                document = document.substring(0, document.length() - 1) + (char) ('0' + (document.charAt(
+                        document.length() - 1) - '0' + 1) % 10);
+                expectedLines.add(line);
+            }
+            String number = "0".repeat(15 - document.length()) + document;
+            content.append(segmentQ(document.length() == 11 ? "1" : "2", number)).append("\r\n");
+        }
+        content.append("\r\n").append(record(240, 8, "9")).append("\r\n");
+        Path file = Files.writeString(directory.resolve("COB240.REM"), content, StandardCharsets.US_ASCII);
+
+        // Act
+        CnabScanResult result = CNAB_240.scan(file);
+
+        // Assert
+        assertEquals(line + 2, result.getLines(), "Unexpected line count");
+        assertEquals(line + 1, result.getRecords(), "Unexpected record count");
+        assertEquals(expectedLines, result.getInvalidRecords().stream().map(CnabScanResult.InvalidRecord::getLine)
+                .toList(), "Unexpected invalid lines");
+        CnabScanResult.InvalidRecord first = result.getInvalidRecords().get(0);
+        assertEquals('3', first.getRecordType(), "Unexpected record type");
+        assertEquals('Q', first.getSegment(), "Unexpected segment");
+        assertEquals(List.of(CnabLayout.CNAB_240.getFields().get(1)), first.getInvalidFields(),
+                "Unexpected invalid fields");
+    }
+
+    @Test
+    @DisplayName("Should report records whose length does not match the layout as malformed")
+    void shouldReportMalformedRecords() {
+        // Arrange
+        byte[] bytes = (record(400, 1, "0") + "\n" + record(399, 1, "1") + "\n").getBytes(StandardCharsets.US_ASCII);
+
+        // Act
+        CnabScanResult result = CNAB_400.scan(bytes, 0, bytes.length);
+
+        // Assert
+        assertEquals(2, result.getRecords(), "Unexpected record count");
+        assertEquals(1, result.getValidRecords(), "Unexpected valid record count");
+        CnabScanResult.InvalidRecord invalid = result.getInvalidRecords().get(0);
+        assertEquals(2, invalid.getLine(), "Unexpected line");
+        assertTrue(invalid.isMalformed(), "The short record should be malformed");
+        assertEquals(List.of(), invalid.getInvalidFields(), "A malformed record should not list fields");
+    }
+
+    @Test
+    @DisplayName("Should reject invalid layouts and arguments")
+    void shouldRejectInvalidArguments() {
+        // Arrange
+        CnabField payer = CnabField.builder("pagador").recordType('3').segment('Q').flag(18, 1).number(19, 15).build();
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> CnabField.builder(" "));
+        assertThrows(IllegalArgumentException.class, () -> CnabField.builder("x").flag(1, 3));
+        assertThrows(IllegalArgumentException.class, () -> CnabField.builder("x").number(1, 11));
+        assertThrows(IllegalArgumentException.class, () -> CnabField.builder("x").flag(1, 1).number(2, 14).build());
+        assertThrows(IllegalArgumentException.class,
+                () -> CnabField.builder("x").recordType('1').flag(5, 1).number(2, 14).build());
+        assertThrows(IllegalArgumentException.class, () -> CnabLayout.builder(240).field(payer).build());
+        assertThrows(IllegalArgumentException.class, () -> CnabLayout.builder(30).field(payer));
+        assertThrows(IllegalArgumentException.class, () -> CnabLayout.builder(240).segmentAt(241));
+        assertThrows(IllegalArgumentException.class, () -> CnabLayout.builder(240).build());
+        assertThrows(IllegalArgumentException.class, () -> CNAB_240.validate((byte[]) null, 0, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> CNAB_240.validate(new byte[10], 5, 6));
+        assertThrows(IllegalArgumentException.class, () -> CNAB_240.scan((Path) null));
+        assertThrows(IOException.class, () -> CNAB_240.scan(directory.resolve("missing.REM")));
+    }
+
+}
@@ -0,0 +1,130 @@
+package io.github.felseje.bulk;
+
+import io.github.felseje.cnpj.Cnpj;
+import io.github.felseje.cnpj.CnpjType;
+import io.github.felseje.cnpj.CnpjUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("EstabelecimentosLoader class unit tests")
+class EstabelecimentosLoaderTest {
+
+    private static final String TAIL =
+            ";\"1\";\"PADARIA SÃO JOÃO\";\"02\";\"20150101\";\"00\";\"\";\"\";\"20150101\";\"4711302\"";
+
+    @TempDir
+    Path directory;
+
+    /**
+     * Provides single rows with the CNPJ expected from them, or {@code null} if the row is invalid.
+     */
+    private static Stream<Arguments> provideRows() {
+        return Stream.of(
+                Arguments.of("\"11222333\";\"0001\";\"81\"" + TAIL, "Quoted numeric CNPJ", "11222333000181"),
+                Arguments.of("\"12ABC345\";\"01DE\";\"35\"" + TAIL, "Quoted alphanumeric CNPJ", "12ABC34501DE35"),
+                Arguments.of("11222333;0001;81", "Unquoted fields without tail", "11222333000181"),
+                Arguments.of("\"0\";\"1\";\"91\"" + TAIL, "Fields missing leading zeros", "00000000000191"),
+                Arguments.of("\"11222333\";\"0001\";\"82\"" + TAIL, "Wrong check digits", null),
+                Arguments.of("\"00000000\";\"0000\";\"00\"" + TAIL, "Repeated digits", null),
+                Arguments.of("\"12abc345\";\"01DE\";\"35\"" + TAIL, "Lowercase letters", null),
+                Arguments.of("\"112223330\";\"001\";\"81\"" + TAIL, "Root longer than eight characters", null),
+                Arguments.of("\"11222333\";\"0001\"", "Missing check digits", null),
+                Arguments.of("\"11222333\";\"\";\"81\"" + TAIL, "Empty order", null),
+                Arguments.of("\"cnpj_basico\";\"cnpj_ordem\";\"cnpj_dv\"", "Header row", null),
+                Arguments.of("", "Blank row", null)
+        );
+    }
+
+    @ParameterizedTest(name = "{1}")
+    @MethodSource("provideRows")
+    @DisplayName("Should rebuild and verify the CNPJ split across the first three fields")
+    void shouldLoadRows(String row, String reason, String expected) throws IOException {
+        // Arrange
+        Path file = Files.write(directory.resolve("ESTABELE"), (row + "\r\n").getBytes(StandardCharsets.ISO_8859_1));
+
+        // Act
+        try (EstabelecimentosLoader loader = EstabelecimentosLoader.open(file)) {
+            List<Cnpj> cnpjs = loader.cnpjs(false).toList();
+            LineScanResult result = loader.scan();
+
+            // Assert
+            assertFalse(loader.isZipped(), "A plain file should not be read as a zip archive");
+            assertEquals(expected == null ? List.of() : List.of(new Cnpj(expected)), cnpjs,
+                    "Unexpected CNPJs for " + reason.toLowerCase());
+            assertEquals(1, result.getLines(), "Unexpected row count");
+            assertEquals(expected == null ? 1 : 0, result.getInvalidLines(), "Unexpected invalid row count");
+        }
+    }
+
+    @Test
+    @DisplayName("Should load plain and zipped multi-block files alike, in file order")
+    void shouldLoadLargeFiles() throws IOException {
+        // Arrange
+        List<Long> expectedKeys = new ArrayList<>();
+        List<Long> expectedInvalid = new ArrayList<>();
+        StringBuilder content = new StringBuilder();
+        for (int row = 0; content.length() < 10 << 20; row++) {
+            String cnpj = CnpjUtils.generate(row % 10 == 0 ? CnpjType.ALPHANUMERIC : CnpjType.NUMERIC);
+            String checkDigits = cnpj.substring(12);
+            if (row % 7 == 0) {
+                checkDigits = String.valueOf((Integer.parseInt(checkDigits) + 1) % 100);
+                expectedInvalid.add((long) content.length());
+            } else {
+                expectedKeys.add(CnpjUtils.toKey(cnpj));
+            }
+            content.append('"').append(cnpj, 0, 8).append("\";\"").append(cnpj, 8, 12).append("\";\"")
+                    .append(checkDigits).append('"').append(TAIL).append('\n');
+        }
+        byte[] bytes = content.toString().getBytes(StandardCharsets.ISO_8859_1);
+        Path plain = Files.write(directory.resolve("K3241.K03200Y0.D40511.ESTABELE"), bytes);
+        Path zipped = directory.resolve("Estabelecimentos0.zip");
+        try (OutputStream output = Files.newOutputStream(zipped); ZipOutputStream zip = new ZipOutputStream(output)) {
+            zip.putNextEntry(new ZipEntry("K3241.K03200Y0.D40511.ESTABELE"));
+            zip.write(bytes);
+            zip.closeEntry();
+        }
+        long[] keys = expectedKeys.stream().mapToLong(Long::longValue).toArray();
+        long[] invalid = expectedInvalid.stream().mapToLong(Long::longValue).toArray();
+
+        // Act & Assert
+        for (Path file : List.of(plain, zipped)) {
+            try (EstabelecimentosLoader loader = EstabelecimentosLoader.open(file)) {
+                String name = file.getFileName().toString();
+                LineScanResult result = loader.scan();
+                assertEquals(file == zipped, loader.isZipped(), "Unexpected zip detection for " + name);
+                assertArrayEquals(keys, loader.keys(false).toArray(), "Unexpected keys for " + name);
+                assertArrayEquals(keys, loader.keys(true).toArray(), "Unexpected parallel keys for " + name);
+                assertEquals(keys.length + invalid.length, result.getLines(), "Unexpected row count for " + name);
+                assertArrayEquals(invalid, result.getInvalidOffsets(), "Unexpected invalid offsets for " + name);
+                assertEquals(Cnpj.fromKey(keys[1]), loader.cnpjs(true).skip(1).findFirst().orElseThrow(),
+                        "Unexpected second CNPJ for " + name);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject missing arguments and missing files")
+    void shouldRejectInvalidArguments() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> EstabelecimentosLoader.open(null));
+        assertThrows(IOException.class, () -> EstabelecimentosLoader.open(directory.resolve("missing.zip")));
+    }
+
+}
@@ -0,0 +1,133 @@
+package io.github.felseje.bulk;
+
+import io.github.felseje.cnpj.CnpjType;
+import io.github.felseje.cnpj.CnpjUtils;
+import io.github.felseje.cpf.CpfUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("LineScanner class unit tests")
+class LineScannerTest {
+
+    @TempDir
+    Path directory;
+
+    /**
+     * Provides small files with their expected line counts and invalid line offsets.
+     */
+    private static Stream<Arguments> provideSmallFiles() {
+        return Stream.of(
+                Arguments.of("", "Empty file", DocumentKind.CPF, 0L, new long[0]),
+                Arguments.of("01234567890\n", "Single valid line", DocumentKind.CPF, 1L, new long[0]),
+                Arguments.of("01234567890", "Line without line break", DocumentKind.CPF, 1L, new long[0]),
+                Arguments.of("012.345.678-90\r\n111.111.111-11\r\n", "Formatted CRLF lines", DocumentKind.CPF, 2L,
+                        new long[]{16}),
+                Arguments.of("\n01234567890\n\n", "Blank lines", DocumentKind.CPF, 3L, new long[]{0, 13}),
+                Arguments.of("11.222.333/0001-81\n12ABC34501DE35\n12ABC34501DE36\n", "Mixed CNPJs",
+                        DocumentKind.CNPJ, 3L, new long[]{34})
+        );
+    }
+
+    @ParameterizedTest(name = "{1}")
+    @MethodSource("provideSmallFiles")
+    @DisplayName("Should count lines and locate invalid lines of small files")
+    void shouldScanSmallFiles(String content, String reason, DocumentKind kind, long lines, long[] invalid)
+            throws IOException {
+        // Arrange
+        Path file = Files.writeString(directory.resolve("documents.txt"), content, StandardCharsets.US_ASCII);
+
+        // Act
+        try (LineScanner scanner = LineScanner.open(file, kind)) {
+            LineScanResult result = scanner.scan();
+
+            // Assert
+            assertEquals(lines, result.getLines(), "Unexpected line count for " + reason.toLowerCase());
+            assertEquals(lines - invalid.length, result.getValidLines(), "Unexpected valid line count");
+            assertArrayEquals(invalid, result.getInvalidOffsets(), "Unexpected invalid line offsets");
+            assertArrayEquals(invalid, scanner.invalidLineStream(false).toArray(), "Unexpected streamed offsets");
+        }
+    }
+
+    @Test
+    @DisplayName("Should validate every line of a multi-chunk file like each line on its own")
+    void shouldScanLargeFile() throws IOException {
+        // Arrange
+        String[] samples = {"11.222.333/0001-81", "12ABC34501DE35", "12ABC34501DE36", "", "11111111111111"};
+        List<Long> expectedInvalid = new ArrayList<>();
+        StringBuilder content = new StringBuilder();
+        long expectedLines = 0;
+        while (content.length() < 3 << 20) {
+            String line = expectedLines % 3 == 0
+                    ? CnpjUtils.generate(CnpjType.values()[(int) (expectedLines % 2)])
+                    : samples[(int) (expectedLines % samples.length)];
+            if (!CnpjUtils.isValid(line, CnpjType.NUMERIC)) {
+                expectedInvalid.add((long) content.length());
+            }
+            content.append(line).append(expectedLines % 4 == 0 ? "\r\n" : "\n");
+            expectedLines++;
+        }
+        Path file = Files.writeString(directory.resolve("cnpjs.txt"), content, StandardCharsets.US_ASCII);
+        long[] expected = expectedInvalid.stream().mapToLong(Long::longValue).toArray();
+
+        // Act
+        try (LineScanner scanner = LineScanner.open(file, DocumentKind.CNPJ)) {
+            LineScanResult result = scanner.scan();
+
+            // Assert
+            assertEquals(file.toFile().length(), scanner.size(), "Unexpected file size");
+            assertEquals(expectedLines, result.getLines(), "Unexpected line count");
+            assertEquals(expected.length, result.getInvalidLines(), "Unexpected invalid line count");
+            assertArrayEquals(expected, result.getInvalidOffsets(), "Unexpected invalid line offsets");
+            assertArrayEquals(expected, scanner.invalidLineStream(true).toArray(), "Unexpected parallel offsets");
+            assertNotNull(scanner.invalidLines().trySplit(), "A multi-chunk file should split");
+        }
+    }
+
+    @Test
+    @DisplayName("Should match CpfUtils on a file of generated and corrupted CPFs")
+    void shouldMatchCpfUtils() throws IOException {
+        // Arrange
+        StringBuilder content = new StringBuilder();
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            String cpf = CpfUtils.generate(i % 2 == 0);
+            String line = i % 5 == 0 ? cpf.substring(0, cpf.length() - 1) + (char) ('0' + i % 10) : cpf;
+            lines.add(line);
+            content.append(line).append('\n');
+        }
+        Path file = Files.writeString(directory.resolve("cpfs.txt"), content, StandardCharsets.US_ASCII);
+
+        // Act
+        try (LineScanner scanner = LineScanner.open(file, DocumentKind.CPF)) {
+            LineScanResult result = scanner.scan();
+
+            // Assert
+            assertEquals(lines.stream().filter(CpfUtils::isValid).count(), result.getValidLines(),
+                    "Unexpected valid line count");
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject missing arguments and missing files")
+    void shouldRejectInvalidArguments() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> LineScanner.open(null, DocumentKind.CPF));
+        assertThrows(IllegalArgumentException.class, () -> LineScanner.open(directory, null));
+        assertThrows(IOException.class, () -> LineScanner.open(directory.resolve("missing.txt"), DocumentKind.CPF));
+    }
+
+}
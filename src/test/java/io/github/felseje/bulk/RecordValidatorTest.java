@@ -0,0 +1,173 @@
+package io.github.felseje.bulk;
+
+import io.github.felseje.cnpj.CnpjType;
+import io.github.felseje.cnpj.CnpjUtils;
+import io.github.felseje.cpf.CpfUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RecordValidator class unit tests")
+class RecordValidatorTest {
+
+    private static final RecordValidator PAYMENTS = RecordLayout.builder()
+            .delimiter(';')
+            .cpfOrCnpj(1)
+            .cnpj(3, CnpjType.NUMERIC)
+            .cpf(4)
+            .build()
+            .compile();
+
+    @TempDir
+    Path directory;
+
+    /**
+     * Provides payment records with their expected masks: payer CPF or CNPJ, numeric payee CNPJ, beneficiary CPF.
+     */
+    private static Stream<Arguments> provideRecords() {
+        return Stream.of(
+                Arguments.of("1;012.345.678-90;x;11.222.333/0001-81;01234567890", "Every field valid", 0b111L),
+                Arguments.of("1;12ABC34501DE35;x;11222333000181;012.345.678-90;tail", "Alphanumeric payer", 0b111L),
+                Arguments.of("1;012.345.678-91;x;11222333000181;01234567890", "Invalid payer", 0b110L),
+                Arguments.of("1;01234567890;x;12ABC34501DE35;01234567890", "Alphanumeric payee", 0b101L),
+                Arguments.of("1;\"012.345.678-90\";\"a;b\";\"11222333000181\";01234567890", "Quoted fields", 0b111L),
+                Arguments.of("1;\"0123\"\"4567890\";x;11222333000181;\"01234567890\"x",
+                        "Escaped quote and text after a closing quote", 0b011L),
+                Arguments.of("1;\"01234567890;x;11222333000181;01234567890", "Unclosed quote", 0b000L),
+                Arguments.of("1;;x;11222333000181;", "Empty fields", 0b010L),
+                Arguments.of("1;01234567890;x", "Missing fields", 0b001L),
+                Arguments.of("", "Blank record", 0b000L)
+        );
+    }
+
+    @ParameterizedTest(name = "{1}")
+    @MethodSource("provideRecords")
+    @DisplayName("Should validate every document field of a record in one pass")
+    void shouldValidateRecords(String record, String reason, long expected) {
+        // Arrange
+        byte[] bytes = ("##" + record + "##").getBytes(StandardCharsets.US_ASCII);
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length).put(bytes);
+
+        // Act
+        long mask = PAYMENTS.validate(bytes, 2, record.length());
+
+        // Assert
+        assertEquals(expected, mask, "Unexpected mask for " + reason.toLowerCase());
+        assertEquals(expected, PAYMENTS.validate(direct, 2, record.length()), "Unexpected direct buffer mask");
+    }
+
+    @Test
+    @DisplayName("Should keep declaration order in masks whatever the field order")
+    void shouldKeepDeclarationOrder() {
+        // Arrange
+        RecordValidator validator = RecordLayout.builder().noQuote().cnpj(2).cpf(0).build().compile();
+        byte[] record = "01234567890,x,11222333000180".getBytes(StandardCharsets.US_ASCII);
+
+        // Act
+        long mask = validator.validate(record, 0, record.length);
+
+        // Assert
+        assertEquals(0b10L, mask, "Only the CPF, declared second, should be valid");
+        assertEquals(2, validator.getLayout().getFieldIndex(0), "The first declared field should be the CNPJ");
+    }
+
+    @Test
+    @DisplayName("Should validate every record of a multi-chunk file like each field on its own")
+    void shouldScanLargeFile() throws IOException {
+        // Arrange
+        List<Long> masks = new ArrayList<>();
+        StringBuilder content = new StringBuilder();
+        while (content.length() < 3 << 20) {
+            int row = masks.size();
+            String payer = row % 3 == 0 ? CnpjUtils.generate(CnpjType.ALPHANUMERIC) : CpfUtils.generate(row % 2 == 0);
+            String payee = row % 7 == 0
+                    ? CnpjUtils.generate(CnpjType.ALPHANUMERIC)
+                    : CnpjUtils.generate(CnpjType.NUMERIC, row % 2 == 0);
+            String beneficiary = row % 5 == 0 ? "111.111.111-11" : CpfUtils.generate(false);
+            if (row % 11 == 0) {
+                payer = payer.substring(1);
+            }
+            masks.add((CpfUtils.isValid(payer) || CnpjUtils.isValid(payer, CnpjType.ALPHANUMERIC) ? 1L : 0L)
+                    | (row % 7 == 0 ? 0L : 2L)
+                    | (CpfUtils.isValid(beneficiary) ? 4L : 0L));
+            content.append(row).append(";\"").append(payer).append("\";").append("name;").append(payee).append(';')
+                    .append(beneficiary).append(row % 4 == 0 ? "\r\n" : "\n");
+        }
+        Path file = Files.writeString(directory.resolve("payments.csv"), content, StandardCharsets.US_ASCII);
+
+        // Act
+        RecordScanResult result = PAYMENTS.scan(file);
+
+        // Assert
+        assertEquals(masks.size(), result.getRecords(), "Unexpected record count");
+        assertEquals(3, result.getDocumentFieldCount(), "Unexpected document field count");
+        BitSet validPayers = new BitSet();
+        for (int row = 0; row < masks.size(); row++) {
+            assertEquals(masks.get(row), result.getRecordMask(row), "Unexpected mask for record " + row);
+            if ((masks.get(row) & 1L) != 0) {
+                validPayers.set(row);
+            }
+        }
+        assertEquals(validPayers, result.getValidRecords(0), "Unexpected valid payers");
+        assertEquals(validPayers.cardinality(), result.getValidCount(0), "Unexpected valid payer count");
+        assertEquals(masks.stream().filter(mask -> (mask & 4L) != 0).count(), result.getValidCount(2),
+                "Unexpected valid beneficiary count");
+    }
+
+    @Test
+    @DisplayName("Should validate the records of a byte region like a file")
+    void shouldScanByteRegion() {
+        // Arrange
+        byte[] records = "#1;01234567890;x;11222333000181;01234567890\r\n1;1;x;1;1\n\n#"
+                .getBytes(StandardCharsets.US_ASCII);
+
+        // Act
+        RecordScanResult result = PAYMENTS.scan(records, 1, records.length - 2);
+
+        // Assert
+        assertEquals(3, result.getRecords(), "Unexpected record count");
+        assertEquals(0b111L, result.getRecordMask(0), "Unexpected mask for the valid record");
+        assertEquals(0L, result.getRecordMask(1), "Unexpected mask for the invalid record");
+        assertFalse(result.isValid(2, 0), "A blank record should be invalid");
+        assertArrayEquals(new long[]{1L}, result.getMask(1), "Unexpected payee mask");
+        assertThrows(IndexOutOfBoundsException.class, () -> result.isValid(3, 0));
+    }
+
+    @Test
+    @DisplayName("Should reject invalid layouts and arguments")
+    void shouldRejectInvalidArguments() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> RecordLayout.builder().build());
+        assertThrows(IllegalArgumentException.class, () -> RecordLayout.builder().cpf(1).cnpj(1));
+        assertThrows(IllegalArgumentException.class, () -> RecordLayout.builder().cpf(-1));
+        assertThrows(IllegalArgumentException.class, () -> RecordLayout.builder().cnpj(0, null));
+        assertThrows(IllegalArgumentException.class, () -> RecordLayout.builder().delimiter('\n'));
+        assertThrows(IllegalArgumentException.class, () -> RecordLayout.builder().quote('é'));
+        assertThrows(IllegalArgumentException.class, () -> RecordLayout.builder().delimiter('"').cpf(0).build());
+        RecordLayout.Builder builder = RecordLayout.builder();
+        for (int field = 0; field < RecordLayout.MAX_DOCUMENT_FIELDS; field++) {
+            builder.cpf(field);
+        }
+        assertThrows(IllegalArgumentException.class, () -> builder.cpf(RecordLayout.MAX_DOCUMENT_FIELDS));
+        assertThrows(IllegalArgumentException.class, () -> PAYMENTS.validate((byte[]) null, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> PAYMENTS.scan((Path) null));
+        assertThrows(IndexOutOfBoundsException.class, () -> PAYMENTS.validate(new byte[4], 2, 3));
+        assertThrows(IOException.class, () -> PAYMENTS.scan(directory.resolve("missing.csv")));
+    }
+
+}
@@ -258,4 +258,63 @@ class CnpjTest {
         }
     }
 
+    private static Stream<Arguments> edgeCnpjProvider() {
+        return Stream.of(
+                Arguments.of("00.000.000/0001-91", CnpjType.NUMERIC, "00000000", "0001", "91"),
+                Arguments.of("0000000Z000100", CnpjType.ALPHANUMERIC, "0000000Z", "0001", "00"),
+                Arguments.of("12.ABC.345/01DE-35", CnpjType.ALPHANUMERIC, "12ABC345", "01DE", "35"),
+                Arguments.of("ZZ.ZZZ.ZZZ/ZZZY-81", CnpjType.ALPHANUMERIC, "ZZZZZZZZ", "ZZZY", "81")
+        );
+    }
+
+    @ParameterizedTest(name = "{index} => input=''{0}'', type={1}")
+    @MethodSource("edgeCnpjProvider")
+    @DisplayName("Every part of the CNPJ should be restored, leading zeros and letters included")
+    void shouldRestoreCnpjParts(String raw, CnpjType type, String root, String order, String checkDigits) {
+        // Act
+        Cnpj cnpj = new Cnpj(raw);
+
+        // Assert
+        assertEquals(type, cnpj.getType(), "Type must match the CNPJ contents");
+        assertEquals(root, cnpj.getRoot(), "Root must be restored");
+        assertEquals(order, cnpj.getOrder(), "Order must be restored");
+        assertEquals(checkDigits, cnpj.getCheckDigits(), "Check digits must be derived from the base");
+        assertEquals(root + order + checkDigits, cnpj.getValue(), "Value must be restored");
+        assertEquals(CnpjUtils.format(cnpj.getValue()), cnpj.toString(), "toString must return formatted CNPJ");
+    }
+
+    @Test
+    @DisplayName("Generated CNPJs should survive the compact representation unchanged")
+    void generatedCnpjsShouldRoundTrip() {
+        for (int i = 0; i < 1_000; i++) {
+            // Arrange
+            CnpjType type = i % 2 == 0 ? CnpjType.NUMERIC : CnpjType.ALPHANUMERIC;
+            String generated = CnpjUtils.generate(type);
+
+            // Act
+            Cnpj cnpj = new Cnpj(generated);
+
+            // Assert
+            assertEquals(generated, cnpj.getValue(), "Value must be restored for " + generated);
+            assertEquals(cnpj, new Cnpj(cnpj.toString()), "Formatted CNPJ must be equal to " + generated);
+        }
+    }
+
+    @ParameterizedTest(name = "{index} => input=''{0}'', type={1}")
+    @MethodSource("edgeCnpjProvider")
+    @DisplayName("The method 'fromKey()' should restore the CNPJ and its type from its key")
+    void fromKeyShouldRestoreCnpj(String raw, CnpjType type, String root, String order, String checkDigits) {
+        // Arrange
+        long key = CnpjUtils.toKey(raw);
+
+        // Act
+        Cnpj cnpj = Cnpj.fromKey(key);
+
+        // Assert
+        assertEquals(new Cnpj(raw), cnpj, "The restored CNPJ must equal the parsed one");
+        assertEquals(type, cnpj.getType(), "Type must match the CNPJ contents");
+        assertEquals(key, cnpj.getKey(), "Key must be kept");
+        assertThrows(IllegalArgumentException.class, () -> Cnpj.fromKey(CnpjUtils.INVALID_KEY));
+    }
+
 }
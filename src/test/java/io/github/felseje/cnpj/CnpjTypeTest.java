@@ -6,6 +6,7 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.api.Test;
 
+import java.nio.CharBuffer;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -196,4 +197,37 @@ class CnpjTypeTest {
                         expectedRegex, result, type.name(), formatted));
     }
 
+    @ParameterizedTest(name = "[{index}] input=''{0}'', type={1}, expectedMatch={2}")
+    @MethodSource("provideInputsForMatching")
+    @DisplayName("Should match CNPJ inputs held in any CharSequence to expected type")
+    void shouldMatchExpectedTypeInCharSequence(String input, CnpjType type, String description, boolean expectedMatch) {
+        // Arrange
+        CharSequence buffer = input == null ? null : CharBuffer.wrap(input);
+
+        // Act
+        boolean result = type.matches(buffer);
+
+        // Assert
+        assertEquals(expectedMatch, result, "Match result mismatch for input: " + input + " with type: " + type);
+    }
+
+    @Test
+    @DisplayName("Should detect and match the CnpjType of a region of a larger sequence")
+    void shouldDetectTypeFromRegion() {
+        // Arrange
+        CharSequence record = new StringBuilder("[12.ABC.345/01DE-35][12345678000195]");
+
+        // Act
+        Optional<CnpjType> alphanumeric = CnpjType.detectFrom(record, 1, 18);
+        Optional<CnpjType> numeric = CnpjType.detectFrom(record, 21, 14);
+
+        // Assert
+        assertEquals(Optional.of(CnpjType.ALPHANUMERIC), alphanumeric);
+        assertEquals(Optional.of(CnpjType.NUMERIC), numeric);
+        assertTrue(CnpjType.NUMERIC.matches(record, 21, 14));
+        assertFalse(CnpjType.NUMERIC.matches(record, 1, 18));
+        assertTrue(CnpjType.detectFrom(record, 0, 18).isEmpty());
+        assertThrows(IndexOutOfBoundsException.class, () -> CnpjType.detectFrom(record, 30, 14));
+    }
+
 }
@@ -1,6 +1,7 @@
 package io.github.felseje.cnpj;
 
 import io.github.felseje.cnpj.exception.InvalidCnpjException;
+import io.github.felseje.cnpj.exception.UnrecognizedCnpjTypeException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.function.Executable;
@@ -8,8 +9,17 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedList;
+import java.util.List;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -33,6 +43,33 @@ class CnpjUtilsTest {
         );
     }
 
+    private static Stream<Arguments> provideCnpjsForValidation() {
+        return Stream.of(
+                Arguments.of("12.345.678/0001-95", "Formatted numeric", true),
+                Arguments.of("12345678000195", "Unformatted numeric", true),
+                Arguments.of("12.ABC.345/01DE-35", "Formatted alphanumeric", true),
+                Arguments.of("12ABC34501DE35", "Unformatted alphanumeric", true),
+                Arguments.of("12.345.678/0001-85", "Wrong first check digit", false),
+                Arguments.of("12.345.678/0001-96", "Wrong second check digit", false),
+                Arguments.of("12ABC34501DE36", "Wrong alphanumeric check digit", false),
+                Arguments.of("00.000.000/0000-00", "Repeated digits", false)
+        );
+    }
+
+    private static Stream<Arguments> provideCnpjsForTypedValidation() {
+        return Stream.of(
+                Arguments.of(" 12.345.678 / 0001-95 ", CnpjType.NUMERIC, "Numeric with spaces", true),
+                Arguments.of("12!345!678/0001-95", CnpjType.NUMERIC, "Numeric with unexpected symbols", true),
+                Arguments.of(" 12.ABC.345/01DE-35 ", CnpjType.ALPHANUMERIC, "Alphanumeric with spaces", true),
+                Arguments.of("12.abc.345/01de-35", CnpjType.ALPHANUMERIC, "Lowercase alphanumeric", false),
+                Arguments.of("12.ABC.345/01DE-3A", CnpjType.ALPHANUMERIC, "Letter in check digits", false),
+                Arguments.of("12.345.678/0001-955", CnpjType.NUMERIC, "Too many digits", false),
+                Arguments.of("12.345.678/0001-96", CnpjType.NUMERIC, "Wrong check digit", false),
+                Arguments.of(null, CnpjType.NUMERIC, "Null input", false),
+                Arguments.of("   ", CnpjType.ALPHANUMERIC, "Blank input", false)
+        );
+    }
+
     @Test
     @DisplayName("Should throw exception when trying to instantiate utility class")
     void shouldThrowOnInstantiation() throws Exception {
@@ -112,6 +149,39 @@ class CnpjUtilsTest {
         assertDoesNotThrow(() -> CnpjUtils.validate(cnpj, CnpjType.NUMERIC), "Expected valid numeric CNPJ to pass validation");
     }
 
+    @ParameterizedTest(name = "[{index}] input=''{0}'', reason=''{1}'', expected={2}")
+    @MethodSource("provideCnpjsForValidation")
+    @DisplayName("Should detect the type and validate well-shaped CNPJs")
+    void shouldValidateWellShapedCnpjs(String input, String reason, boolean expected) {
+        // Act
+        boolean result = CnpjUtils.isValid(input);
+
+        // Assert
+        assertEquals(expected, result, "Unexpected validation result for " + reason.toLowerCase());
+    }
+
+    @ParameterizedTest(name = "[{index}] input=''{0}'', type={1}, reason=''{2}'', expected={3}")
+    @MethodSource("provideCnpjsForTypedValidation")
+    @DisplayName("Should validate CNPJs against a given type ignoring separators")
+    void shouldValidateCnpjsWithType(String input, CnpjType type, String reason, boolean expected) {
+        // Act
+        boolean result = CnpjUtils.isValid(input, type);
+
+        // Assert
+        assertEquals(expected, result, "Unexpected validation result for " + reason.toLowerCase());
+    }
+
+    @Test
+    @DisplayName("Should throw InvalidCnpjException when a well-shaped CNPJ has wrong check digits")
+    void shouldThrowInvalidCnpjExceptionOnWrongCheckDigits() {
+        // Act
+        Executable executable = () -> CnpjUtils.validate("12.345.678/0001-96");
+
+        // Assert
+        InvalidCnpjException ex = assertThrows(InvalidCnpjException.class, executable);
+        assertEquals("The CNPJ is not valid", ex.getMessage(), "Expected a check digit validation failure");
+    }
+
     @Test
     @DisplayName("Should clear CNPJ input")
     void shouldClearCnpjInput() {
@@ -216,4 +286,395 @@ class CnpjUtilsTest {
         assertEquals("The CNPJ cannot be null or blank", ex.getMessage(), "Expected correct exception message");
     }
 
+    @ParameterizedTest(name = "[{index}] input=''{0}'', reason=''{1}'', expected={2}")
+    @MethodSource("provideCnpjsForValidation")
+    @DisplayName("Should detect the type and validate well-shaped CNPJs held in any CharSequence")
+    void shouldValidateWellShapedCnpjsInAnyCharSequence(String input, String reason, boolean expected) {
+        // Act
+        boolean fromBuilder = CnpjUtils.isValid(new StringBuilder(input));
+        boolean fromBuffer = CnpjUtils.isValid(CharBuffer.wrap(input));
+
+        // Assert
+        assertEquals(expected, fromBuilder, "Unexpected StringBuilder validation result for " + reason.toLowerCase());
+        assertEquals(expected, fromBuffer, "Unexpected CharBuffer validation result for " + reason.toLowerCase());
+    }
+
+    @ParameterizedTest(name = "[{index}] input=''{0}'', type={1}, reason=''{2}'', expected={3}")
+    @MethodSource("provideCnpjsForTypedValidation")
+    @DisplayName("Should validate CNPJs held in a CharSequence against a given type")
+    void shouldValidateCnpjsInCharSequenceWithType(String input, CnpjType type, String reason, boolean expected) {
+        // Arrange
+        CharSequence builder = input == null ? null : new StringBuilder(input);
+
+        // Act
+        boolean result = CnpjUtils.isValid(builder, type);
+
+        // Assert
+        assertEquals(expected, result, "Unexpected validation result for " + reason.toLowerCase());
+    }
+
+    @Test
+    @DisplayName("Should read a CNPJ in place from a region of a larger sequence")
+    void shouldReadCnpjFromRegion() {
+        // Arrange
+        CharSequence record = new StringBuilder("cnpj=12.abc.345/01de-35;cnpj=12.ABC.345/01DE-35;");
+        int lowercase = 5;
+        int uppercase = 29;
+        int length = 18;
+
+        // Act & Assert
+        assertTrue(CnpjUtils.isValid(record, uppercase, length), "Expected the CNPJ region to be valid");
+        assertTrue(CnpjUtils.isValid(record, uppercase, length, CnpjType.ALPHANUMERIC), "Expected the typed CNPJ region to be valid");
+        assertFalse(CnpjUtils.isValid(record, lowercase, length, CnpjType.ALPHANUMERIC), "Expected lowercase region to be invalid");
+        assertDoesNotThrow(() -> CnpjUtils.validate(record, uppercase, length), "Expected no exception for valid CNPJ region");
+        assertEquals("12abc34501de35", CnpjUtils.clear(record, lowercase, length), "Cleared region should match expected value");
+        assertEquals("12ABC34501DE35", CnpjUtils.normalize(record, lowercase, length), "Normalized region should be uppercase");
+        assertEquals("12.ABC.345/01DE-35", CnpjUtils.format(record, lowercase, length), "Formatted region should match expected value");
+        assertEquals(CnpjType.ALPHANUMERIC, CnpjUtils.classify("x12ABC34501DE35x", 1, 14), "Expected classification to be ALPHANUMERIC");
+    }
+
+    @Test
+    @DisplayName("Should report a region holding no CNPJ shape as invalid without throwing")
+    void shouldReturnFalseOnShapelessRegion() {
+        // Act
+        boolean valid = CnpjUtils.isValid("12.345.678/0001-95", 0, 17);
+
+        // Assert
+        assertFalse(valid, "A shapeless region should not be valid");
+        assertFalse(CnpjUtils.isValid((String) null), "A null CNPJ should not be valid");
+        assertFalse(CnpjUtils.isValid("n/a".getBytes(), 0, 3), "Shapeless bytes should not be valid");
+        InvalidCnpjException ex = assertThrows(InvalidCnpjException.class,
+                () -> CnpjUtils.validate("12.345.678/0001-95", 0, 17));
+        assertEquals("The CNPJ does not match any valid format", ex.getMessage(), "Expected a format detection failure");
+    }
+
+    @Test
+    @DisplayName("Should throw IndexOutOfBoundsException for a region outside the sequence")
+    void shouldThrowOnRegionOutOfBounds() {
+        // Arrange
+        CharSequence cnpj = CharBuffer.wrap("12.345.678/0001-95");
+
+        // Act & Assert
+        assertThrows(IndexOutOfBoundsException.class, () -> CnpjUtils.isValid(cnpj, 1, 18));
+        assertThrows(IndexOutOfBoundsException.class, () -> CnpjUtils.isValid(cnpj, -1, 18, CnpjType.NUMERIC));
+        assertThrows(IndexOutOfBoundsException.class, () -> CnpjUtils.normalize(cnpj, 0, 19));
+    }
+
+    @ParameterizedTest(name = "[{index}] input=''{0}'', reason=''{1}'', expected={2}")
+    @MethodSource("provideCnpjsForValidation")
+    @DisplayName("Should detect the type and validate CNPJ bytes exactly as the decoded string")
+    void shouldValidateWellShapedCnpjBytes(String input, String reason, boolean expected) {
+        // Arrange
+        byte[] bytes = ("|" + input + "|").getBytes(StandardCharsets.US_ASCII);
+        int length = bytes.length - 2;
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length).put(bytes);
+
+        // Act
+        boolean fromArray = CnpjUtils.isValid(bytes, 1, length);
+        boolean fromHeap = CnpjUtils.isValid(ByteBuffer.wrap(bytes), 1, length);
+        boolean fromDirect = CnpjUtils.isValid(direct, 1, length);
+
+        // Assert
+        assertEquals(expected, fromArray, "Unexpected byte[] result for " + reason.toLowerCase());
+        assertEquals(expected, fromHeap, "Unexpected heap ByteBuffer result for " + reason.toLowerCase());
+        assertEquals(expected, fromDirect, "Unexpected direct ByteBuffer result for " + reason.toLowerCase());
+    }
+
+    @ParameterizedTest(name = "[{index}] input=''{0}'', type={1}, reason=''{2}'', expected={3}")
+    @MethodSource("provideCnpjsForTypedValidation")
+    @DisplayName("Should validate CNPJ bytes against a given type exactly as the decoded string")
+    void shouldValidateCnpjBytesWithType(String input, CnpjType type, String reason, boolean expected) {
+        // Arrange
+        byte[] bytes = input == null ? null : input.getBytes(StandardCharsets.UTF_8);
+        int length = bytes == null ? 0 : bytes.length;
+        ByteBuffer direct = bytes == null ? null : ByteBuffer.allocateDirect(length).put(bytes);
+
+        // Act
+        boolean fromArray = CnpjUtils.isValid(bytes, 0, length, type);
+        boolean fromDirect = CnpjUtils.isValid(direct, 0, length, type);
+
+        // Assert
+        assertEquals(expected, fromArray, "Unexpected byte[] result for " + reason.toLowerCase());
+        assertEquals(expected, fromDirect, "Unexpected direct ByteBuffer result for " + reason.toLowerCase());
+    }
+
+    @Test
+    @DisplayName("Should classify and normalize CNPJ bytes without moving the buffer position")
+    void shouldClassifyAndNormalizeCnpjBytes() {
+        // Arrange
+        byte[] record = "cnpj=12.abc.345/01de-35;raw=12ABC34501DE35;".getBytes(StandardCharsets.US_ASCII);
+        ByteBuffer heapSlice = ByteBuffer.wrap(record).slice(24, 18);
+        ByteBuffer direct = ByteBuffer.allocateDirect(record.length).put(record).flip();
+
+        // Act & Assert
+        assertEquals("12ABC34501DE35", CnpjUtils.normalize(record, 5, 18), "Normalized byte[] region should be uppercase");
+        assertEquals("12ABC34501DE35", CnpjUtils.normalize(direct, 5, 18), "Normalized direct region should be uppercase");
+        assertEquals("12ABC34501DE35", CnpjUtils.normalize(heapSlice, 4, 14), "Normalized heap region should match");
+        assertEquals(CnpjType.ALPHANUMERIC, CnpjUtils.classify(record, 28, 14), "Expected classification to be ALPHANUMERIC");
+        assertEquals(CnpjType.ALPHANUMERIC, CnpjUtils.classify(direct, 28, 14), "Expected classification to be ALPHANUMERIC");
+        assertEquals(CnpjType.ALPHANUMERIC, CnpjUtils.classify(heapSlice, 4, 14), "Expected classification to be ALPHANUMERIC");
+        assertEquals(0, direct.position(), "Buffer position should be left untouched");
+        assertThrows(UnrecognizedCnpjTypeException.class, () -> CnpjUtils.classify(record, 5, 14));
+        assertThrows(InvalidCnpjException.class, () -> CnpjUtils.normalize(record, 5, 17));
+        assertThrows(IndexOutOfBoundsException.class, () -> CnpjUtils.isValid(heapSlice, 4, 15));
+    }
+
+    private static Stream<Arguments> provideKeyInputs() {
+        return Stream.of(
+                Arguments.of("11.222.333/0001-81", true, "Formatted numeric CNPJ"),
+                Arguments.of("11222333000181", true, "Normalized numeric CNPJ"),
+                Arguments.of("12.ABC.345/01DE-35", true, "Formatted alphanumeric CNPJ"),
+                Arguments.of("12.abc.345/01de-35", false, "Lowercase alphanumeric CNPJ"),
+                Arguments.of("12ABC34501DE36", false, "Wrong check digit"),
+                Arguments.of("1222333000181", false, "Too short"),
+                Arguments.of("", false, "Empty input"),
+                Arguments.of(null, false, "Null input")
+        );
+    }
+
+    @ParameterizedTest(name = "{2}")
+    @MethodSource("provideKeyInputs")
+    @DisplayName("Should turn raw CNPJs into canonical keys")
+    void shouldTurnCnpjIntoKey(String input, boolean valid, String reason) {
+        // Act
+        long key = CnpjUtils.toKey(input);
+
+        // Assert
+        assertEquals(valid, key != CnpjUtils.INVALID_KEY, "Unexpected key validity for " + reason.toLowerCase());
+        if (valid) {
+            assertEquals(CnpjUtils.normalize(input), CnpjUtils.fromKey(key), "Key should decode to the normalized CNPJ");
+            assertEquals(CnpjUtils.format(input), CnpjUtils.formatKey(key), "Key should decode to the formatted CNPJ");
+            assertEquals(key, new Cnpj(input).getKey(), "Cnpj key should match the utility key");
+        }
+    }
+
+    @Test
+    @DisplayName("Should order CNPJ keys like normalized CNPJs and reject out of range keys")
+    void shouldOrderCnpjKeys() {
+        // Arrange
+        String record = "a=12.ABC.345/01DE-35;b=11.222.333/0001-81";
+
+        // Act
+        long first = CnpjUtils.toKey(record, 2, 18);
+        long second = CnpjUtils.toKey(record, 23, 18);
+
+        // Assert
+        assertEquals("12ABC34501DE35", CnpjUtils.fromKey(first), "Region key should decode to the first CNPJ");
+        assertEquals(Integer.signum(CnpjUtils.fromKey(first).compareTo(CnpjUtils.fromKey(second))),
+                Long.signum(Long.compare(first, second)), "Keys should order like normalized CNPJs");
+        assertThrows(IllegalArgumentException.class, () -> CnpjUtils.fromKey(CnpjUtils.INVALID_KEY));
+        assertThrows(IllegalArgumentException.class, () -> CnpjUtils.formatKey(Long.MAX_VALUE));
+        assertThrows(IndexOutOfBoundsException.class, () -> CnpjUtils.toKey(record, 30, 18));
+    }
+
+    private static Stream<Arguments> provideNumericCnpjs() {
+        return Stream.of(
+                Arguments.of(11222333000181L, "Full length CNPJ"),
+                Arguments.of(191L, "Leading zeros CNPJ"),
+                Arguments.of(6990590000123L, "Thirteen digits CNPJ"),
+                Arguments.of(11222333000182L, "Wrong check digit"),
+                Arguments.of(11111111111111L, "Repeated digits"),
+                Arguments.of(0L, "Zero"),
+                Arguments.of(-11222333000181L, "Negative number"),
+                Arguments.of(111222333000181L, "Fifteen digits")
+        );
+    }
+
+    @ParameterizedTest(name = "{1}")
+    @MethodSource("provideNumericCnpjs")
+    @DisplayName("Should validate numeric CNPJs like their zero-padded strings")
+    void shouldValidateNumericCnpj(long number, String reason) {
+        // Arrange
+        String padded = number >= 0 ? String.format("%014d", number) : String.valueOf(number);
+        boolean expected = number >= 0 && number < 100_000_000_000_000L && CnpjUtils.isValid(padded, CnpjType.NUMERIC);
+
+        // Act
+        boolean valid = CnpjUtils.isValid(number);
+
+        // Assert
+        assertEquals(expected, valid, "Unexpected result for " + reason.toLowerCase());
+        assertEquals(expected ? CnpjUtils.toKey(padded) : CnpjUtils.INVALID_KEY, CnpjUtils.toKey(number),
+                "Numeric key should match the text key");
+        if (expected) {
+            assertDoesNotThrow(() -> CnpjUtils.validate(number));
+            assertEquals(new Cnpj(padded), new Cnpj(number), "Cnpj built from a number should match");
+            assertEquals(padded, new Cnpj(number).getValue(), "Leading zeros should be restored");
+            assertEquals(CnpjType.NUMERIC, new Cnpj(number).getType(), "Numeric CNPJ type expected");
+        } else {
+            assertThrows(InvalidCnpjException.class, () -> CnpjUtils.validate(number));
+            assertThrows(InvalidCnpjException.class, () -> new Cnpj(number));
+        }
+    }
+
+    @Test
+    @DisplayName("Should format and generate numeric CNPJs")
+    void shouldFormatAndGenerateNumericCnpj() {
+        // Act
+        long generated = CnpjUtils.generateNumber();
+
+        // Assert
+        assertEquals("00.000.000/0001-91", CnpjUtils.format(191L), "Leading zeros should be restored");
+        assertEquals("11.222.333/0001-82", CnpjUtils.format(11222333000182L), "Check digits should be kept as given");
+        assertTrue(CnpjUtils.isValid(CnpjUtils.format(generated)), "Generated number should format into a valid CNPJ");
+        assertThrows(InvalidCnpjException.class, () -> CnpjUtils.format(-1L));
+        assertThrows(InvalidCnpjException.class, () -> CnpjUtils.format(100_000_000_000_000L));
+    }
+
+    private static Stream<Arguments> provideCleanDigitCnpjs() {
+        return Stream.of(
+                Arguments.of("11222333000181", "Valid CNPJ"),
+                Arguments.of("00000000000191", "Valid CNPJ with leading zeros"),
+                Arguments.of("11222333000182", "Wrong second check digit"),
+                Arguments.of("11222333000171", "Wrong first check digit"),
+                Arguments.of("11222333000281", "Wrong last base digit"),
+                Arguments.of("11111111111111", "Repeated digits"),
+                Arguments.of("12ABC34501DE35", "Alphanumeric CNPJ"),
+                Arguments.of("1122233300018:", "Colon right after the digits")
+        );
+    }
+
+    @ParameterizedTest(name = "{1}")
+    @MethodSource("provideCleanDigitCnpjs")
+    @DisplayName("Should validate 14-byte regions like strings")
+    void shouldValidateFourteenByteRegions(String source, String reason) {
+        // Arrange
+        byte[] exact = source.getBytes(StandardCharsets.US_ASCII);
+        byte[] padded = ("0000" + source + "1").getBytes(StandardCharsets.US_ASCII);
+        ByteBuffer direct = ByteBuffer.allocateDirect(padded.length).put(padded);
+
+        // Act & Assert
+        for (CnpjType type : CnpjType.values()) {
+            boolean expected = CnpjUtils.isValid(source, type);
+            assertEquals(expected, CnpjUtils.isValid(exact, 0, exact.length, type), "Unexpected exact array result for " + reason.toLowerCase());
+            assertEquals(expected, CnpjUtils.isValid(padded, 4, exact.length, type), "Unexpected padded array result for " + reason.toLowerCase());
+            assertEquals(expected, CnpjUtils.isValid(direct, 4, exact.length, type), "Unexpected direct buffer result for " + reason.toLowerCase());
+        }
+    }
+
+    @Test
+    @DisplayName("Should validate a batch of numeric and alphanumeric CNPJ records like each record on its own")
+    void shouldValidateCnpjBatch() {
+        // Arrange
+        int stride = Cnpj.LENGTH + 2;
+        int count = 130;
+        byte[] batch = new byte[count * stride];
+        String[] samples = {"11222333000181", "12ABC34501DE35", "12abc34501de35", "11111111111111", "12ABC34501DE36",
+                "1122233300018A"};
+        for (int i = 0; i < count; i++) {
+            String record = i % 5 == 0 ? CnpjUtils.generate(CnpjType.values()[i % 2]) : samples[i % samples.length];
+            System.arraycopy(record.getBytes(StandardCharsets.US_ASCII), 0, batch, i * stride, Cnpj.LENGTH);
+        }
+        long[] validity = new long[3];
+
+        // Act
+        int valid = CnpjUtils.isValidBatch(batch, 0, stride, count, validity);
+
+        // Assert
+        int expectedValid = 0;
+        for (int i = 0; i < count; i++) {
+            boolean expected = CnpjUtils.isValid(batch, i * stride, Cnpj.LENGTH, CnpjType.ALPHANUMERIC);
+            expectedValid += expected ? 1 : 0;
+            assertEquals(expected, (validity[i / 64] & 1L << i) != 0, "Unexpected validity bit for record " + i);
+        }
+        assertEquals(expectedValid, valid, "Valid record count should match the bits set");
+        assertThrows(IllegalArgumentException.class, () -> CnpjUtils.isValidBatch(batch, 0, 13, 2, new long[1]));
+        assertThrows(IndexOutOfBoundsException.class, () -> CnpjUtils.isValidBatch(batch, 3, stride, count, validity));
+    }
+
+    @Test
+    @DisplayName("Should validate arrays and lists of CNPJs like each CNPJ on its own")
+    void shouldValidateAllCnpjs() {
+        // Arrange
+        String[] samples = {"11.222.333/0001-81", "12ABC34501DE35", "12.abc.345/01de-35", "12ABC34501DE36",
+                "INVALID_CNPJ", "11 222 333 0001 81", "x11.222.333/0001-81y", null};
+        int count = 20_000;
+        List<CharSequence> cnpjs = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            cnpjs.add(i % 7 == 0 ? CnpjUtils.generate(CnpjType.values()[i % 2]) : samples[i % samples.length]);
+        }
+        CharSequence[] array = cnpjs.toArray(new CharSequence[0]);
+        long[] validity = new long[(count + 63) / 64];
+
+        // Act
+        int valid = CnpjUtils.validateAll(array, validity);
+        BitSet fromArray = CnpjUtils.validateAll(array);
+        BitSet fromList = CnpjUtils.validateAll(new LinkedList<>(cnpjs));
+
+        // Assert
+        int expectedValid = 0;
+        for (int i = 0; i < count; i++) {
+            boolean expected = CnpjUtils.isValid(array[i]);
+            expectedValid += expected ? 1 : 0;
+            assertEquals(expected, (validity[i / 64] & 1L << i) != 0, "Unexpected validity bit for CNPJ " + i);
+        }
+        assertEquals(expectedValid, valid, "Valid CNPJ count should match the bits set");
+        assertEquals(BitSet.valueOf(validity), fromArray, "The bit set should match the mask");
+        assertEquals(fromArray, fromList, "Lists should be validated like arrays");
+        assertEquals(1, CnpjUtils.validateAll(new String[]{"INVALID_CNPJ", "12ABC34501DE35"}).cardinality(),
+                "Values matching no format should be invalid without throwing");
+        assertFalse(CnpjUtils.isValid("11 222 333 0001 81"), "A separator-mangled CNPJ should be invalid");
+        assertTrue(CnpjUtils.validateAll(new String[]{"11 222 333 0001 81", "x11.222.333/0001-81y"}).isEmpty(),
+                "Separator-mangled CNPJs should be invalid like for isValid");
+        assertThrows(IllegalArgumentException.class, () -> CnpjUtils.validateAll((List<String>) null));
+    }
+
+    @Test
+    @DisplayName("Should format keys and normalized CNPJs into buffers and appendables like format does")
+    void shouldFormatIntoTargets() throws IOException {
+        for (int index = 0; index < 1_000; index++) {
+            // Arrange
+            String cnpj = CnpjUtils.normalize(CnpjUtils.generate(index % 2 == 0 ? CnpjType.NUMERIC : CnpjType.ALPHANUMERIC));
+            String expected = CnpjUtils.format(cnpj);
+            long key = CnpjUtils.toKey(cnpj);
+            char[] chars = new char[20];
+            byte[] bytes = new byte[20];
+            char[] fromNormalized = new char[18];
+            byte[] bytesFromNormalized = new byte[18];
+
+            // Act
+            int charsEnd = CnpjUtils.formatKey(key, chars, 1);
+            int bytesEnd = CnpjUtils.formatKey(key, bytes, 2);
+            StringBuilder builder = CnpjUtils.formatKey(key, new StringBuilder("cnpj="));
+            Appendable writer = CnpjUtils.formatKey(key, (Appendable) new StringWriter());
+            CnpjUtils.formatNormalized("x" + cnpj, 1, fromNormalized, 0);
+            CnpjUtils.formatNormalized(cnpj, 0, bytesFromNormalized, 0);
+
+            // Assert
+            assertEquals(19, charsEnd, "Unexpected end of the formatted CNPJ");
+            assertEquals(20, bytesEnd, "Unexpected end of the formatted CNPJ bytes");
+            assertEquals(expected, new String(chars, 1, 18), "Unexpected CNPJ characters for " + cnpj);
+            assertEquals(expected, new String(bytes, 2, 18, StandardCharsets.US_ASCII), "Unexpected CNPJ bytes");
+            assertEquals("cnpj=" + expected, builder.toString(), "Unexpected CNPJ appended to the builder");
+            assertEquals(expected, writer.toString(), "Unexpected CNPJ appended to the writer");
+            assertEquals(expected, new String(fromNormalized), "Unexpected CNPJ formatted from the normalized region");
+            assertEquals(expected, new String(bytesFromNormalized, StandardCharsets.US_ASCII),
+                    "Unexpected CNPJ bytes formatted from the normalized region");
+            assertEquals(expected, CnpjUtils.formatNormalized(cnpj, 0, new StringBuilder()).toString(),
+                    "Unexpected CNPJ appended from the normalized region");
+        }
+    }
+
+    @Test
+    @DisplayName("Should format a column of CNPJ keys into one buffer and reject invalid arguments")
+    void shouldFormatKeyColumns() {
+        // Arrange
+        long[] keys = {CnpjUtils.toKey("11222333000181"), CnpjUtils.toKey("12ABC34501DE35")};
+        char[] column = new char[2 * 19];
+        column[18] = ';';
+        column[37] = ';';
+
+        // Act
+        int end = CnpjUtils.formatKeys(keys, column, 0, 19);
+
+        // Assert
+        assertEquals(37, end, "Unexpected end of the column");
+        assertEquals("11.222.333/0001-81;12.ABC.345/01DE-35;", new String(column), "Unexpected column");
+        assertThrows(InvalidCnpjException.class, () -> CnpjUtils.formatNormalized("12abc34501de35", 0, column, 0));
+        assertThrows(InvalidCnpjException.class, () -> CnpjUtils.formatNormalized("12ABC34501DE3A", 0, column, 0));
+        assertThrows(IllegalArgumentException.class, () -> CnpjUtils.formatKey(-1L, new StringBuilder()));
+        assertThrows(IllegalArgumentException.class, () -> CnpjUtils.formatKeys(keys, new byte[40], 0, 17));
+        assertThrows(IndexOutOfBoundsException.class, () -> CnpjUtils.formatKeys(keys, new byte[35], 0, 18));
+        assertThrows(IndexOutOfBoundsException.class, () -> CnpjUtils.formatKey(keys[0], new byte[18], 1));
+    }
+
 }
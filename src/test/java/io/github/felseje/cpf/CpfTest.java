@@ -140,4 +140,31 @@ class CpfTest {
         assertEquals("012.345.678-90", formatted, "Formatted CPF is not equal to expected");
     }
 
+    /**
+     * Provides CPFs at the edges of the packed representation, with their expected parts.
+     *
+     * @return a {@link Stream} of {@link Arguments} containing the raw CPF, its base, check digits and formatted form.
+     */
+    private static Stream<Arguments> provideEdgeCpfs() {
+        return Stream.of(
+                Arguments.of("00000000191", "000000001", "91", "000.000.001-91"),
+                Arguments.of("012.345.678-90", "012345678", "90", "012.345.678-90"),
+                Arguments.of("99999999808", "999999998", "08", "999.999.998-08")
+        );
+    }
+
+    @ParameterizedTest(name = "[{index}] input=''{0}''")
+    @MethodSource("provideEdgeCpfs")
+    @DisplayName("Should restore every part of the CPF, leading zeros included")
+    void shouldRestoreCpfParts(String raw, String base, String checkDigits, String formatted) {
+        // Act
+        Cpf cpf = new Cpf(raw);
+
+        // Assert
+        assertEquals(base, cpf.getBase(), "CPF base is not the expected one");
+        assertEquals(checkDigits, cpf.getCheckDigits(), "CPF check digits are not the expected ones");
+        assertEquals(base + checkDigits, cpf.getValue(), "CPF value is not the expected one");
+        assertEquals(formatted, cpf.toString(), "CPF formatted value is not the expected one");
+    }
+
 }
@@ -8,8 +8,17 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedList;
+import java.util.List;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -34,10 +43,27 @@ class CpfUtilsTest {
     private static Stream<Arguments> provideInvalidInputsForCpfValidation() {
         return Stream.concat(provideInvalidInputs(), Stream.of(
                 Arguments.of("12345678900", "Invalid CPF"),
-                Arguments.of("111.111.111-11", "Repeated digits")
+                Arguments.of("111.111.111-11", "Repeated digits"),
+                Arguments.of("012.345.678-80", "Wrong first check digit"),
+                Arguments.of("012.345.678-91", "Wrong second check digit"),
+                Arguments.of("012.345.678-9", "Too short"),
+                Arguments.of("012.345.678-900", "Too long"),
+                Arguments.of("０１２.３４５.６７８-９０", "Non-ASCII digits")
         ));
     }
 
+    /**
+     * Provides valid CPFs written in different shapes.
+     */
+    private static Stream<Arguments> provideValidCpfInputs() {
+        return Stream.of(
+                Arguments.of("01234567890", "Unformatted CPF"),
+                Arguments.of("012.345.678-90", "Formatted CPF"),
+                Arguments.of(" 012 .345. 678 -x 90 ", "Dirty CPF"),
+                Arguments.of("529.982.247-25", "Another formatted CPF")
+        );
+    }
+
     @Test
     @DisplayName("Should throw exception when trying to instantiate utility class")
     void shouldThrowOnInstantiation() throws Exception {
@@ -108,6 +134,14 @@ class CpfUtilsTest {
         assertTrue(result, "Expected valid CPF to return true");
     }
 
+    @ParameterizedTest(name = "[{index}] input=''{0}'', description=''{1}''")
+    @MethodSource("provideValidCpfInputs")
+    @DisplayName("Should return true for valid CPFs in any shape")
+    void shouldReturnTrueForValidCpfsInAnyShape(String source, String description) {
+        // Act & Assertion
+        assertTrue(CpfUtils.isValid(source), "Expected true for ".concat(description.toLowerCase()));
+    }
+
     @ParameterizedTest(name = "[{index}] input=''{0}'', description=''{1}''")
     @MethodSource("provideInvalidInputsForCpfValidation")
     @DisplayName("Should return false for invalid CPFs")
@@ -314,4 +348,435 @@ class CpfUtilsTest {
         );
     }
 
+    @ParameterizedTest(name = "[{index}] input=''{0}'', description=''{1}''")
+    @MethodSource("provideValidCpfInputs")
+    @DisplayName("Should return true for valid CPFs held in any CharSequence")
+    void shouldReturnTrueForValidCpfsInAnyCharSequence(String source, String description) {
+        // Arrange
+        CharSequence builder = new StringBuilder(source);
+        CharSequence buffer = CharBuffer.wrap(source);
+
+        // Act & Assertion
+        assertTrue(CpfUtils.isValid(builder), "Expected true for StringBuilder with ".concat(description.toLowerCase()));
+        assertTrue(CpfUtils.isValid(buffer), "Expected true for CharBuffer with ".concat(description.toLowerCase()));
+    }
+
+    @ParameterizedTest(name = "[{index}] input=''{0}'', description=''{1}''")
+    @MethodSource("provideInvalidInputsForCpfValidation")
+    @DisplayName("Should return false for invalid CPFs held in a CharSequence")
+    void shouldReturnFalseForInvalidCpfsInCharSequence(String source, String description) {
+        // Arrange
+        CharSequence builder = source == null ? null : new StringBuilder(source);
+
+        // Act & Assertion
+        assertFalse(CpfUtils.isValid(builder), "Expected false for ".concat(description.toLowerCase()));
+    }
+
+    @Test
+    @DisplayName("Should read a CPF in place from a region of a larger sequence")
+    void shouldReadCpfFromRegion() {
+        // Arrange
+        CharSequence record = new StringBuilder("id=7;cpf=012.345.678-90;status=ok");
+        int offset = 9;
+        int length = 14;
+
+        // Act & Assert
+        assertTrue(CpfUtils.isValid(record, offset, length), "Expected the CPF region to be valid");
+        assertFalse(CpfUtils.isValid(record, offset, length - 1), "Expected a truncated CPF region to be invalid");
+        assertDoesNotThrow(() -> CpfUtils.validate(record, offset, length), "Expected no exception for valid CPF region");
+        assertEquals("01234567890", CpfUtils.clear(record, offset, length), "Cleared region should match expected value");
+        assertEquals("01234567890", CpfUtils.normalize(record, offset, length), "Normalized region should match expected value");
+        assertEquals("012.345.678-90", CpfUtils.format(record, offset, length), "Formatted region should match expected value");
+    }
+
+    @Test
+    @DisplayName("Should throw IllegalArgumentException when validating a blank region")
+    void shouldThrowOnBlankRegion() {
+        // Arrange
+        CharSequence record = "012.345.678-90    ";
+
+        // Act
+        Executable executable = () -> CpfUtils.validate(record, 14, 4);
+
+        // Assert
+        IllegalArgumentException ex = assertThrows(
+                IllegalArgumentException.class,
+                executable,
+                "Expected IllegalArgumentException for blank region"
+        );
+        assertEquals(
+                "The CPF cannot be null or blank",
+                ex.getMessage(),
+                "Exception message should be equal to expected"
+        );
+    }
+
+    @Test
+    @DisplayName("Should throw IndexOutOfBoundsException for a region outside the sequence")
+    void shouldThrowOnRegionOutOfBounds() {
+        // Arrange
+        CharSequence cpf = CharBuffer.wrap("012.345.678-90");
+
+        // Act & Assert
+        assertThrows(IndexOutOfBoundsException.class, () -> CpfUtils.isValid(cpf, 1, 14));
+        assertThrows(IndexOutOfBoundsException.class, () -> CpfUtils.normalize(cpf, -1, 5));
+        assertThrows(IndexOutOfBoundsException.class, () -> CpfUtils.format(cpf, 0, 15));
+    }
+
+    /**
+     * Provides every non-null CPF input used by the string validation tests, valid or not.
+     */
+    private static Stream<Arguments> provideNonNullCpfInputs() {
+        return Stream.concat(provideValidCpfInputs(), provideInvalidInputsForCpfValidation())
+                .filter(arguments -> arguments.get()[0] != null);
+    }
+
+    @ParameterizedTest(name = "[{index}] input=''{0}'', description=''{1}''")
+    @MethodSource("provideNonNullCpfInputs")
+    @DisplayName("Should validate CPF bytes exactly as the decoded string")
+    void shouldValidateCpfBytesAsDecodedString(String source, String description) {
+        // Arrange
+        byte[] bytes = ("##" + source + "##").getBytes(StandardCharsets.UTF_8);
+        int length = bytes.length - 4;
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length).put(bytes);
+        boolean expected = CpfUtils.isValid(source);
+
+        // Act
+        boolean fromArray = CpfUtils.isValid(bytes, 2, length);
+        boolean fromHeap = CpfUtils.isValid(ByteBuffer.wrap(bytes), 2, length);
+        boolean fromDirect = CpfUtils.isValid(direct, 2, length);
+
+        // Assert
+        assertEquals(expected, fromArray, "Unexpected byte[] result for ".concat(description.toLowerCase()));
+        assertEquals(expected, fromHeap, "Unexpected heap ByteBuffer result for ".concat(description.toLowerCase()));
+        assertEquals(expected, fromDirect, "Unexpected direct ByteBuffer result for ".concat(description.toLowerCase()));
+    }
+
+    @Test
+    @DisplayName("Should normalize CPF bytes without moving the buffer position")
+    void shouldNormalizeCpfBytes() {
+        // Arrange
+        byte[] record = "id=7;cpf=012.345.678-90;".getBytes(StandardCharsets.US_ASCII);
+        ByteBuffer heapSlice = ByteBuffer.wrap(record).slice(5, 19);
+        ByteBuffer direct = ByteBuffer.allocateDirect(record.length).put(record).flip();
+
+        // Act
+        String fromArray = CpfUtils.normalize(record, 9, 14);
+        String fromHeapSlice = CpfUtils.normalize(heapSlice, 4, 14);
+        String fromDirect = CpfUtils.normalize(direct, 9, 14);
+
+        // Assert
+        assertEquals("01234567890", fromArray, "Normalized byte[] region should match expected value");
+        assertEquals("01234567890", fromHeapSlice, "Normalized heap ByteBuffer region should match expected value");
+        assertEquals("01234567890", fromDirect, "Normalized direct ByteBuffer region should match expected value");
+        assertEquals(0, direct.position(), "Buffer position should be left untouched");
+        assertThrows(InvalidCpfException.class, () -> CpfUtils.normalize(record, 9, 13));
+        assertThrows(IllegalArgumentException.class, () -> CpfUtils.normalize(direct, 4, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> CpfUtils.isValid(heapSlice, 6, 14));
+    }
+
+    private static Stream<Arguments> provideKeyInputs() {
+        return Stream.of(
+                Arguments.of("012.345.678-90", 1234567890L, "Formatted CPF"),
+                Arguments.of("01234567890", 1234567890L, "Normalized CPF"),
+                Arguments.of(" 012 345 678 90 ", 1234567890L, "Dirty CPF"),
+                Arguments.of("00000000191", 191L, "Leading zeros CPF"),
+                Arguments.of("012.345.678-91", CpfUtils.INVALID_KEY, "Wrong check digit"),
+                Arguments.of("111.111.111-11", CpfUtils.INVALID_KEY, "Repeated digits"),
+                Arguments.of("0123456789", CpfUtils.INVALID_KEY, "Too short"),
+                Arguments.of("", CpfUtils.INVALID_KEY, "Empty input"),
+                Arguments.of(null, CpfUtils.INVALID_KEY, "Null input")
+        );
+    }
+
+    @ParameterizedTest(name = "{2}")
+    @MethodSource("provideKeyInputs")
+    @DisplayName("Should turn raw CPFs into canonical keys")
+    void shouldTurnCpfIntoKey(String input, long expectedKey, String description) {
+        // Act
+        long key = CpfUtils.toKey(input);
+
+        // Assert
+        assertEquals(expectedKey, key, "Unexpected key for ".concat(description.toLowerCase()));
+        if (key != CpfUtils.INVALID_KEY) {
+            assertEquals(CpfUtils.normalize(input), CpfUtils.fromKey(key), "Key should decode to the normalized CPF");
+            assertEquals(CpfUtils.format(input), CpfUtils.formatKey(key), "Key should decode to the formatted CPF");
+            assertEquals(key, new Cpf(input).getKey(), "Cpf key should match the utility key");
+        }
+    }
+
+    @Test
+    @DisplayName("Should order CPF keys like normalized CPFs and reject out of range keys")
+    void shouldOrderCpfKeys() {
+        // Arrange
+        String record = "a=529.982.247-25;b=012.345.678-90";
+
+        // Act
+        long first = CpfUtils.toKey(record, 2, 14);
+        long second = CpfUtils.toKey(record, 19, 14);
+
+        // Assert
+        assertEquals("52998224725", CpfUtils.fromKey(first), "Region key should decode to the first CPF");
+        assertEquals(Integer.signum(CpfUtils.fromKey(first).compareTo(CpfUtils.fromKey(second))),
+                Long.signum(Long.compare(first, second)), "Keys should order like normalized CPFs");
+        assertThrows(IllegalArgumentException.class, () -> CpfUtils.fromKey(CpfUtils.INVALID_KEY));
+        assertThrows(IllegalArgumentException.class, () -> CpfUtils.formatKey(100_000_000_000L));
+        assertThrows(IndexOutOfBoundsException.class, () -> CpfUtils.toKey(record, 30, 14));
+    }
+
+    private static Stream<Arguments> provideNumericCpfs() {
+        return Stream.of(
+                Arguments.of(1234567890L, "Leading zero CPF"),
+                Arguments.of(191L, "Eight leading zeros CPF"),
+                Arguments.of(52998224725L, "Full length CPF"),
+                Arguments.of(52998224726L, "Wrong check digit"),
+                Arguments.of(11111111111L, "Repeated digits"),
+                Arguments.of(0L, "Zero"),
+                Arguments.of(-52998224725L, "Negative number"),
+                Arguments.of(152998224725L, "Twelve digits")
+        );
+    }
+
+    @ParameterizedTest(name = "{1}")
+    @MethodSource("provideNumericCpfs")
+    @DisplayName("Should validate numeric CPFs like their zero-padded strings")
+    void shouldValidateNumericCpf(long number, String description) {
+        // Arrange
+        boolean expected = number >= 0 && CpfUtils.isValid(String.format("%011d", number));
+
+        // Act
+        boolean valid = CpfUtils.isValid(number);
+
+        // Assert
+        assertEquals(expected, valid, "Unexpected result for ".concat(description.toLowerCase()));
+        assertEquals(expected ? CpfUtils.toKey(String.format("%011d", number)) : CpfUtils.INVALID_KEY,
+                CpfUtils.toKey(number), "Numeric key should match the text key");
+        if (expected) {
+            assertDoesNotThrow(() -> CpfUtils.validate(number));
+            assertEquals(new Cpf(String.format("%011d", number)), new Cpf(number), "Cpf built from a number should match");
+            assertEquals(String.format("%011d", number), CpfUtils.fromKey(new Cpf(number).getKey()));
+        } else {
+            assertThrows(InvalidCpfException.class, () -> CpfUtils.validate(number));
+            assertThrows(InvalidCpfException.class, () -> new Cpf(number));
+        }
+    }
+
+    @Test
+    @DisplayName("Should format and generate numeric CPFs")
+    void shouldFormatAndGenerateNumericCpf() {
+        // Act
+        long generated = CpfUtils.generateNumber();
+
+        // Assert
+        assertEquals("012.345.678-90", CpfUtils.format(1234567890L), "Leading zeros should be restored");
+        assertEquals("000.000.001-91", CpfUtils.format(191L), "Leading zeros should be restored");
+        assertTrue(CpfUtils.isValid(CpfUtils.format(generated)), "Generated number should format into a valid CPF");
+        assertThrows(InvalidCpfException.class, () -> CpfUtils.format(-1L));
+        assertThrows(InvalidCpfException.class, () -> CpfUtils.format(100_000_000_000L));
+    }
+
+    private static Stream<Arguments> provideCleanDigitCpfs() {
+        return Stream.of(
+                Arguments.of("01234567890", "Valid CPF"),
+                Arguments.of("52998224725", "Valid CPF without leading zero"),
+                Arguments.of("01234567891", "Wrong second check digit"),
+                Arguments.of("01234567880", "Wrong first check digit"),
+                Arguments.of("52998224735", "Wrong last base digit"),
+                Arguments.of("00000000000", "Repeated zeros"),
+                Arguments.of("99999999999", "Repeated nines"),
+                Arguments.of("0123456789:", "Colon right after the digits"),
+                Arguments.of("/1234567890", "Slash right before the digits")
+        );
+    }
+
+    @ParameterizedTest(name = "{1}")
+    @MethodSource("provideCleanDigitCpfs")
+    @DisplayName("Should validate 11-byte regions like strings")
+    void shouldValidateElevenByteRegions(String source, String description) {
+        // Arrange
+        byte[] exact = source.getBytes(StandardCharsets.US_ASCII);
+        byte[] padded = ("0000" + source + "1").getBytes(StandardCharsets.US_ASCII);
+        ByteBuffer direct = ByteBuffer.allocateDirect(padded.length).put(padded);
+        boolean expected = CpfUtils.isValid(source);
+
+        // Act & Assert
+        assertEquals(expected, CpfUtils.isValid(exact, 0, exact.length), "Unexpected exact array result for ".concat(description.toLowerCase()));
+        assertEquals(expected, CpfUtils.isValid(padded, 4, exact.length), "Unexpected padded array result for ".concat(description.toLowerCase()));
+        assertEquals(expected, CpfUtils.isValid(direct, 4, exact.length), "Unexpected direct buffer result for ".concat(description.toLowerCase()));
+    }
+
+    @Test
+    @DisplayName("Should validate a batch of CPF records like each record on its own")
+    void shouldValidateCpfBatch() {
+        // Arrange
+        int stride = Cpf.LENGTH + 1;
+        int count = 150;
+        byte[] batch = new byte[2 + count * stride];
+        String[] samples = {"01234567890", "52998224725", "01234567891", "11111111111", "0123456789x", "52998224725"};
+        for (int i = 0; i < count; i++) {
+            String record = i % 7 == 0 ? CpfUtils.generate() : samples[i % samples.length];
+            System.arraycopy(record.getBytes(StandardCharsets.US_ASCII), 0, batch, 2 + i * stride, Cpf.LENGTH);
+            batch[2 + i * stride + Cpf.LENGTH] = '\n';
+        }
+        long[] validity = {-1L, -1L, -1L, -1L};
+
+        // Act
+        int valid = CpfUtils.isValidBatch(batch, 2, stride, count, validity);
+
+        // Assert
+        int expectedValid = 0;
+        for (int i = 0; i < count; i++) {
+            boolean expected = CpfUtils.isValid(batch, 2 + i * stride, Cpf.LENGTH);
+            expectedValid += expected ? 1 : 0;
+            assertEquals(expected, (validity[i / 64] & 1L << i) != 0, "Unexpected validity bit for record " + i);
+        }
+        assertEquals(expectedValid, valid, "Valid record count should match the bits set");
+        assertEquals(0L, validity[2] >>> (count % 64), "Bits after the last record should be cleared");
+        assertEquals(-1L, validity[3], "Words after the batch should be left untouched");
+    }
+
+    @Test
+    @DisplayName("Should reject CPF batches that do not fit")
+    void shouldRejectInvalidCpfBatch() {
+        // Arrange
+        byte[] batch = "01234567890;52998224725".getBytes(StandardCharsets.US_ASCII);
+
+        // Act & Assert
+        assertEquals(2, CpfUtils.isValidBatch(batch, 0, 12, 2, new long[1]));
+        assertEquals(0, CpfUtils.isValidBatch(batch, 0, 12, 0, new long[0]));
+        assertThrows(IllegalArgumentException.class, () -> CpfUtils.isValidBatch(null, 0, 12, 2, new long[1]));
+        assertThrows(IllegalArgumentException.class, () -> CpfUtils.isValidBatch(batch, 0, 12, 2, null));
+        assertThrows(IllegalArgumentException.class, () -> CpfUtils.isValidBatch(batch, 0, 10, 2, new long[1]));
+        assertThrows(IndexOutOfBoundsException.class, () -> CpfUtils.isValidBatch(batch, 1, 12, 2, new long[1]));
+        assertThrows(IndexOutOfBoundsException.class, () -> CpfUtils.isValidBatch(batch, 0, 12, -1, new long[1]));
+        assertThrows(IndexOutOfBoundsException.class, () -> CpfUtils.isValidBatch(batch, 0, 12, 2, new long[0]));
+    }
+
+    @Test
+    @DisplayName("Should validate arrays and lists of CPFs like each CPF on its own")
+    void shouldValidateAllCpfs() {
+        // Arrange
+        String[] samples = {"012.345.678-90", "52998224725", "111.111.111-11", "012.345.678-91", "", null};
+        int count = 20_000;
+        List<CharSequence> cpfs = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            cpfs.add(i % 7 == 0 ? CpfUtils.generate(i % 2 == 0) : samples[i % samples.length]);
+        }
+        CharSequence[] array = cpfs.toArray(new CharSequence[0]);
+        long[] validity = new long[(count + 63) / 64];
+
+        // Act
+        int valid = CpfUtils.validateAll(array, validity);
+        BitSet fromArray = CpfUtils.validateAll(array);
+        BitSet fromList = CpfUtils.validateAll(new LinkedList<>(cpfs));
+
+        // Assert
+        int expectedValid = 0;
+        for (int i = 0; i < count; i++) {
+            boolean expected = CpfUtils.isValid(array[i]);
+            expectedValid += expected ? 1 : 0;
+            assertEquals(expected, (validity[i / 64] & 1L << i) != 0, "Unexpected validity bit for CPF " + i);
+        }
+        assertEquals(expectedValid, valid, "Valid CPF count should match the bits set");
+        assertEquals(BitSet.valueOf(validity), fromArray, "The bit set should match the mask");
+        assertEquals(fromArray, fromList, "Lists should be validated like arrays");
+    }
+
+    @Test
+    @DisplayName("Should validate small CPF arrays inline and reject missing arguments")
+    void shouldValidateAllSmallCpfArrays() {
+        // Arrange
+        String[] cpfs = {"012.345.678-90", "111.111.111-11", null};
+
+        // Act
+        BitSet valid = CpfUtils.validateAll(cpfs);
+
+        // Assert
+        assertEquals(1, valid.cardinality(), "Only the first CPF should be valid");
+        assertTrue(valid.get(0), "The first CPF should be valid");
+        assertTrue(CpfUtils.validateAll(List.of()).isEmpty(), "An empty list should have no valid CPF");
+        assertThrows(IllegalArgumentException.class, () -> CpfUtils.validateAll((CharSequence[]) null));
+        assertThrows(IllegalArgumentException.class, () -> CpfUtils.validateAll(cpfs, null));
+        assertThrows(IndexOutOfBoundsException.class, () -> CpfUtils.validateAll(cpfs, new long[0]));
+    }
+
+    @Test
+    @DisplayName("Should format keys and normalized CPFs into buffers and appendables like format does")
+    void shouldFormatIntoTargets() throws IOException {
+        for (int index = 0; index < 1_000; index++) {
+            // Arrange
+            String cpf = CpfUtils.generate();
+            String expected = CpfUtils.format(cpf);
+            long key = CpfUtils.toKey(cpf);
+            char[] chars = new char[16];
+            byte[] bytes = new byte[16];
+            char[] fromNormalized = new char[14];
+            byte[] bytesFromNormalized = new byte[14];
+
+            // Act
+            int charsEnd = CpfUtils.formatKey(key, chars, 1);
+            int bytesEnd = CpfUtils.formatKey(key, bytes, 2);
+            StringBuilder builder = CpfUtils.formatKey(key, new StringBuilder("cpf="));
+            Appendable writer = CpfUtils.formatKey(key, (Appendable) new StringWriter());
+            CpfUtils.formatNormalized("x" + cpf, 1, fromNormalized, 0);
+            CpfUtils.formatNormalized(cpf, 0, bytesFromNormalized, 0);
+
+            // Assert
+            assertEquals(15, charsEnd, "Unexpected end of the formatted CPF");
+            assertEquals(16, bytesEnd, "Unexpected end of the formatted CPF bytes");
+            assertEquals(expected, new String(chars, 1, 14), "Unexpected CPF characters for " + cpf);
+            assertEquals(expected, new String(bytes, 2, 14, StandardCharsets.US_ASCII), "Unexpected CPF bytes");
+            assertEquals("cpf=" + expected, builder.toString(), "Unexpected CPF appended to the builder");
+            assertEquals(expected, writer.toString(), "Unexpected CPF appended to the writer");
+            assertEquals(expected, new String(fromNormalized), "Unexpected CPF formatted from the normalized region");
+            assertEquals(expected, new String(bytesFromNormalized, StandardCharsets.US_ASCII),
+                    "Unexpected CPF bytes formatted from the normalized region");
+            assertEquals(expected, CpfUtils.formatNormalized(cpf, 0, new StringBuilder()).toString(),
+                    "Unexpected CPF appended from the normalized region");
+        }
+    }
+
+    @Test
+    @DisplayName("Should format a column of CPF keys into one buffer, keeping the separators")
+    void shouldFormatKeyColumns() {
+        // Arrange
+        long[] keys = {1234567890L, 52998224725L, 0L};
+        byte[] column = "##############\n##############\n##############\n".getBytes(StandardCharsets.US_ASCII);
+        char[] chars = new char[3 * 15];
+
+        // Act
+        int end = CpfUtils.formatKeys(keys, column, 0, 15);
+        int charsEnd = CpfUtils.formatKeys(keys, chars, 0, 15);
+
+        // Assert
+        assertEquals(44, end, "Unexpected end of the column");
+        assertEquals(44, charsEnd, "Unexpected end of the character column");
+        assertEquals("012.345.678-90\n529.982.247-25\n000.000.000-00\n",
+                new String(column, StandardCharsets.US_ASCII), "Unexpected column");
+        assertEquals("529.982.247-25", new String(chars, 15, 14), "Unexpected record in the character column");
+        assertEquals(5, CpfUtils.formatKeys(new long[0], column, 5, 15), "An empty column should write nothing");
+    }
+
+    @Test
+    @DisplayName("Should reject formatting targets and inputs that do not fit, leaving the target untouched")
+    void shouldRejectInvalidFormattingTargets() {
+        // Arrange
+        char[] destination = new char[20];
+
+        // Act & Assert
+        assertThrows(IndexOutOfBoundsException.class, () -> CpfUtils.formatKey(1234567890L, destination, 7));
+        assertThrows(IllegalArgumentException.class, () -> CpfUtils.formatKey(-1L, destination, 0));
+        assertThrows(IllegalArgumentException.class, () -> CpfUtils.formatKey(0L, (char[]) null, 0));
+        assertThrows(IllegalArgumentException.class, () -> CpfUtils.formatKey(100_000_000_000L, new StringBuilder()));
+        assertThrows(InvalidCpfException.class, () -> CpfUtils.formatNormalized("529.982.247", 0, destination, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> CpfUtils.formatNormalized("52998224725", 1, destination, 0));
+        assertThrows(IllegalArgumentException.class, () -> CpfUtils.formatNormalized(null, 0, destination, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> CpfUtils.formatKeys(new long[]{0L, -1L}, destination, 0, 14));
+        assertThrows(IllegalArgumentException.class, () -> CpfUtils.formatKeys(new long[]{0L}, destination, 0, 13));
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> CpfUtils.formatKeys(new long[]{0L, 0L}, destination, 0, 14));
+        assertArrayEquals(new char[20], destination, "Rejected calls should not write anything");
+    }
+
 }
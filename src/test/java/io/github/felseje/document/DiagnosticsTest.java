@@ -0,0 +1,164 @@
+package io.github.felseje.document;
+
+import io.github.felseje.cnpj.CnpjType;
+import io.github.felseje.cnpj.CnpjUtils;
+import io.github.felseje.cnpj.exception.InvalidCnpjException;
+import io.github.felseje.cpf.CpfUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Diagnostics class unit tests")
+class DiagnosticsTest {
+
+    /**
+     * Provides CPFs with the reason, position and expected check digits of their diagnosis.
+     */
+    private static Stream<Arguments> provideCpfs() {
+        return Stream.of(
+                Arguments.of("529.982.247-25", "Valid formatted CPF", ValidationReason.VALID, -1, 25),
+                Arguments.of("52998224725", "Valid raw CPF", ValidationReason.VALID, -1, 25),
+                Arguments.of(null, "Null CPF", ValidationReason.BLANK, -1, -1),
+                Arguments.of("  ", "Blank CPF", ValidationReason.BLANK, -1, -1),
+                Arguments.of("n/a", "CPF without digits", ValidationReason.WRONG_LENGTH, -1, -1),
+                Arguments.of("529.982.247-2", "Short CPF", ValidationReason.WRONG_LENGTH, -1, -1),
+                Arguments.of("529.982.247-251", "Long CPF", ValidationReason.WRONG_LENGTH, 14, -1),
+                Arguments.of("111.111.111-11", "Repeated CPF", ValidationReason.REPEATED_DIGITS, -1, 11),
+                Arguments.of("529.982.247-35", "Wrong first check digit", ValidationReason.FIRST_CHECK_DIGIT_MISMATCH,
+                        12, 25),
+                Arguments.of("529.982.247-24 ", "Wrong second check digit",
+                        ValidationReason.SECOND_CHECK_DIGIT_MISMATCH, 13, 25)
+        );
+    }
+
+    /**
+     * Provides CNPJs with the reason, position and expected check digits of their diagnosis.
+     */
+    private static Stream<Arguments> provideCnpjs() {
+        return Stream.of(
+                Arguments.of("11.222.333/0001-81", "Valid formatted CNPJ", ValidationReason.VALID, -1, 81),
+                Arguments.of("12ABC34501DE35", "Valid alphanumeric CNPJ", ValidationReason.VALID, -1, 35),
+                Arguments.of(null, "Null CNPJ", ValidationReason.BLANK, -1, -1),
+                Arguments.of("", "Empty CNPJ", ValidationReason.BLANK, -1, -1),
+                Arguments.of("1122233300018", "Short CNPJ", ValidationReason.WRONG_LENGTH, -1, -1),
+                Arguments.of("11.222.333-0001-81", "Misplaced separator", ValidationReason.ILLEGAL_CHARACTER, 10, -1),
+                Arguments.of("11222333000l81", "Lowercase letter", ValidationReason.ILLEGAL_CHARACTER, 11, -1),
+                Arguments.of("11.222.333/0001-8X", "Letter in a check digit", ValidationReason.UNKNOWN_CNPJ_TYPE, 17,
+                        -1),
+                Arguments.of("00000000000000", "Repeated CNPJ", ValidationReason.REPEATED_DIGITS, -1, 0),
+                Arguments.of("11.222.333/0001-91", "Wrong first check digit",
+                        ValidationReason.FIRST_CHECK_DIGIT_MISMATCH, 16, 81),
+                Arguments.of("12ABC34501DE36", "Wrong second check digit",
+                        ValidationReason.SECOND_CHECK_DIGIT_MISMATCH, 13, 35)
+        );
+    }
+
+    @ParameterizedTest(name = "{1}")
+    @MethodSource("provideCpfs")
+    @DisplayName("Should diagnose CPFs with a reason, a position and the expected check digits")
+    void shouldDiagnoseCpfs(String cpf, String reason, ValidationReason expected, int position, int checkDigits) {
+        // Act
+        long diagnosis = CpfUtils.diagnose(cpf);
+
+        // Assert
+        assertEquals(expected, Diagnostics.reasonOf(diagnosis), "Unexpected reason for " + reason.toLowerCase());
+        assertEquals(position, Diagnostics.positionOf(diagnosis), "Unexpected position for " + reason.toLowerCase());
+        assertEquals(checkDigits, Diagnostics.expectedCheckDigitsOf(diagnosis),
+                "Unexpected check digits for " + reason.toLowerCase());
+        assertEquals(CpfUtils.isValid(cpf), Diagnostics.isValid(diagnosis),
+                "The diagnosis should agree with isValid for " + reason.toLowerCase());
+    }
+
+    @ParameterizedTest(name = "{1}")
+    @MethodSource("provideCnpjs")
+    @DisplayName("Should diagnose CNPJs with a reason, a position and the expected check digits")
+    void shouldDiagnoseCnpjs(String cnpj, String reason, ValidationReason expected, int position, int checkDigits) {
+        // Act
+        long diagnosis = CnpjUtils.diagnose(cnpj);
+
+        // Assert
+        assertEquals(expected, Diagnostics.reasonOf(diagnosis), "Unexpected reason for " + reason.toLowerCase());
+        assertEquals(position, Diagnostics.positionOf(diagnosis), "Unexpected position for " + reason.toLowerCase());
+        assertEquals(checkDigits, Diagnostics.expectedCheckDigitsOf(diagnosis),
+                "Unexpected check digits for " + reason.toLowerCase());
+    }
+
+    @Test
+    @DisplayName("Should agree with isValid on mutated documents")
+    void shouldAgreeWithIsValid() {
+        // Arrange
+        Random random = new Random(42);
+        String alphabet = "0123456789ABZaz./- ";
+
+        for (int index = 0; index < 5_000; index++) {
+            String cpf = mutate(CpfUtils.generate(index % 2 == 0), random, alphabet);
+            String cnpj = mutate(CnpjUtils.generate(index % 2 == 0 ? CnpjType.NUMERIC : CnpjType.ALPHANUMERIC,
+                    index % 3 == 0), random, alphabet);
+
+            // Act
+            long cpfDiagnosis = CpfUtils.diagnose(cpf);
+            long cnpjDiagnosis = CnpjUtils.diagnose(cnpj);
+
+            // Assert
+            assertEquals(CpfUtils.isValid(cpf), Diagnostics.isValid(cpfDiagnosis), "Disagreement on " + cpf);
+            assertEquals(isValidCnpj(cnpj), Diagnostics.isValid(cnpjDiagnosis), "Disagreement on " + cnpj);
+        }
+    }
+
+    @Test
+    @DisplayName("Should describe diagnoses and read regions in place")
+    void shouldDescribeDiagnoses() {
+        // Arrange
+        String line = "cpf=529.982.247-35;";
+
+        // Act
+        long diagnosis = CpfUtils.diagnose(line, 4, 14);
+
+        // Assert
+        assertEquals("The first check digit does not match at position 12, expected 25",
+                Diagnostics.describe(diagnosis), "Unexpected description");
+        assertEquals("The document is valid", Diagnostics.describe(CnpjUtils.diagnose("11222333000181")),
+                "Unexpected description of a valid document");
+        assertEquals("The CNPJ does not match any known type at position 17",
+                Diagnostics.describe(CnpjUtils.diagnose("x11.222.333/0001-8X", 1, 18)),
+                "Unexpected description of a region");
+        assertThrows(IndexOutOfBoundsException.class, () -> CpfUtils.diagnose(line, 10, 14));
+        assertThrows(IndexOutOfBoundsException.class, () -> CnpjUtils.diagnose(line, 10, 14));
+    }
+
+    /**
+     * Replaces, inserts or removes one character at a random position, or leaves the document unchanged.
+     */
+    private static String mutate(String document, Random random, String alphabet) {
+        StringBuilder builder = new StringBuilder(document);
+        int position = random.nextInt(document.length());
+        char character = alphabet.charAt(random.nextInt(alphabet.length()));
+        switch (random.nextInt(4)) {
+            case 0 -> builder.setCharAt(position, character);
+            case 1 -> builder.insert(position, character);
+            case 2 -> builder.deleteCharAt(position);
+            default -> {
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Validates a CNPJ, treating inputs without a CNPJ shape as invalid.
+     */
+    private static boolean isValidCnpj(String cnpj) {
+        try {
+            return CnpjUtils.isValid(cnpj);
+        } catch (InvalidCnpjException exception) {
+            return false;
+        }
+    }
+
+}
@@ -0,0 +1,141 @@
+package io.github.felseje.document;
+
+import io.github.felseje.cnpj.CnpjType;
+import io.github.felseje.cnpj.CnpjUtils;
+import io.github.felseje.cnpj.exception.InvalidCnpjException;
+import io.github.felseje.cpf.CpfUtils;
+import io.github.felseje.cpf.exception.InvalidCpfException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("DocumentMask class unit tests")
+class DocumentMaskTest {
+
+    /**
+     * Provides masks with a document in any format and the masked document expected from them.
+     */
+    private static Stream<Arguments> provideMasks() {
+        return Stream.of(
+                Arguments.of(DocumentMask.CPF_LGPD, "LGPD CPF mask", "529.982.247-25", "***.982.247-**"),
+                Arguments.of(DocumentMask.CPF_LGPD, "LGPD CPF mask on a raw CPF", "01234567890", "***.345.678-**"),
+                Arguments.of(DocumentMask.cpf("#########**"), "Unformatted CPF mask", "529.982.247-25",
+                        "529982247**"),
+                Arguments.of(DocumentMask.cpf("XXX XXX ###/##"), "CPF mask replacing separators", "52998224725",
+                        "XXX XXX 247/25"),
+                Arguments.of(DocumentMask.CNPJ_LGPD, "LGPD CNPJ mask", "11222333000181", "11.***.***/0001-**"),
+                Arguments.of(DocumentMask.CNPJ_LGPD, "LGPD CNPJ mask on an alphanumeric CNPJ", "12.ABC.345/01DE-35",
+                        "12.***.***/01DE-**"),
+                Arguments.of(DocumentMask.cnpj("**.***.***/****-##"), "CNPJ mask revealing the check digits",
+                        "12ABC34501DE35", "**.***.***/****-35"),
+                Arguments.of(DocumentMask.cnpj("########******"), "Unformatted CNPJ mask", "11.222.333/0001-81",
+                        "11222333******")
+        );
+    }
+
+    @ParameterizedTest(name = "{1}")
+    @MethodSource("provideMasks")
+    @DisplayName("Should mask documents identically into every target")
+    void shouldMaskIntoEveryTarget(DocumentMask mask, String reason, String document, String expected)
+            throws IOException {
+        // Arrange
+        boolean cpf = Documents.typeOf(document) == DocumentType.CPF;
+        long key = cpf ? CpfUtils.toKey(document) : CnpjUtils.toKey(document);
+        String normalized = cpf ? CpfUtils.normalize(document) : CnpjUtils.normalize(document);
+        char[] chars = new char[expected.length() + 2];
+        byte[] bytes = new byte[expected.length()];
+        char[] fromNormalized = new char[expected.length()];
+
+        // Act
+        int end = mask.maskKey(key, chars, 2);
+        mask.maskKey(key, bytes, 0);
+        mask.maskNormalized("|" + normalized, 1, fromNormalized, 0);
+
+        // Assert
+        assertEquals(expected, mask.mask(document), "Unexpected mask for " + reason.toLowerCase());
+        assertEquals(expected.length() + 2, end, "Unexpected end for " + reason.toLowerCase());
+        assertEquals(expected, new String(chars, 2, expected.length()), "Unexpected characters");
+        assertEquals(expected, new String(bytes, StandardCharsets.US_ASCII), "Unexpected bytes");
+        assertEquals(expected, new String(fromNormalized), "Unexpected mask of the normalized document");
+        assertEquals("doc=" + expected, mask.mask(document, new StringBuilder("doc=")).toString(),
+                "Unexpected mask appended to the builder");
+        assertEquals(expected, mask.mask(document, (Appendable) new StringWriter()).toString(),
+                "Unexpected mask appended to the writer");
+        assertEquals(expected, mask.maskKey(key, new StringBuilder()).toString(), "Unexpected mask of the key");
+        assertEquals(expected, mask.maskNormalized(normalized, 0, new StringBuilder()).toString(),
+                "Unexpected mask of the normalized document appended to the builder");
+    }
+
+    @Test
+    @DisplayName("Should mask generated documents like masking their formatted text")
+    void shouldMaskGeneratedDocuments() {
+        for (int index = 0; index < 1_000; index++) {
+            // Arrange
+            String cpf = CpfUtils.format(CpfUtils.generate());
+            String cnpj = CnpjUtils.format(CnpjUtils.generate(index % 2 == 0 ? CnpjType.NUMERIC
+                    : CnpjType.ALPHANUMERIC));
+
+            // Act & Assert
+            assertEquals("***" + cpf.substring(3, 12) + "**", DocumentMask.CPF_LGPD.mask(cpf),
+                    "Unexpected CPF mask: " + cpf);
+            assertEquals(cnpj.substring(0, 2) + ".***.***" + cnpj.substring(10, 15) + "-**",
+                    DocumentMask.CNPJ_LGPD.mask(cnpj), "Unexpected CNPJ mask: " + cnpj);
+        }
+    }
+
+    @Test
+    @DisplayName("Should mask a column of keys into one buffer, keeping the separators")
+    void shouldMaskKeyColumns() {
+        // Arrange
+        long[] keys = {CpfUtils.toKey("01234567890"), CpfUtils.toKey("52998224725")};
+        byte[] column = "..............\n..............\n".getBytes(StandardCharsets.US_ASCII);
+        char[] chars = new char[2 * 15];
+
+        // Act
+        int end = DocumentMask.CPF_LGPD.maskKeys(keys, column, 0, 15);
+        int charsEnd = DocumentMask.CPF_LGPD.maskKeys(keys, chars, 0, 15);
+
+        // Assert
+        assertEquals(29, end, "Unexpected end of the column");
+        assertEquals(29, charsEnd, "Unexpected end of the character column");
+        assertEquals("***.345.678-**\n***.982.247-**\n", new String(column, StandardCharsets.US_ASCII),
+                "Unexpected column");
+        assertEquals("***.982.247-**", new String(chars, 15, 14), "Unexpected record in the character column");
+    }
+
+    @Test
+    @DisplayName("Should reject invalid patterns, documents and targets")
+    void shouldRejectInvalidArguments() {
+        // Arrange
+        char[] destination = new char[20];
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> DocumentMask.cpf(null));
+        assertThrows(IllegalArgumentException.class, () -> DocumentMask.cpf("***.###.##"));
+        assertThrows(IllegalArgumentException.class, () -> DocumentMask.cpf("***####.###-**"));
+        assertThrows(IllegalArgumentException.class, () -> DocumentMask.cnpj("••.***.***/####-**"));
+        assertThrows(InvalidCpfException.class, () -> DocumentMask.CPF_LGPD.mask("529.982.247-24"));
+        assertThrows(InvalidCnpjException.class, () -> DocumentMask.CNPJ_LGPD.mask("11.222.333/0001-82"));
+        assertThrows(IllegalArgumentException.class, () -> DocumentMask.CPF_LGPD.mask(null));
+        assertThrows(InvalidCpfException.class,
+                () -> DocumentMask.CPF_LGPD.maskNormalized("529.982.247", 0, destination, 0));
+        assertThrows(IllegalArgumentException.class, () -> DocumentMask.CPF_LGPD.maskKey(-1L, destination, 0));
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> DocumentMask.CNPJ_LGPD.maskKey(0L, destination, 3));
+        assertThrows(IllegalArgumentException.class,
+                () -> DocumentMask.CPF_LGPD.maskKeys(new long[]{0L}, destination, 0, 13));
+        assertArrayEquals(new char[20], destination, "Rejected calls should not write anything");
+        assertEquals("***.###.###-**", DocumentMask.CPF_LGPD.toString(), "Unexpected pattern");
+        assertEquals("##.***.***/####-**", DocumentMask.CNPJ_LGPD.pattern(), "Unexpected pattern");
+    }
+
+}
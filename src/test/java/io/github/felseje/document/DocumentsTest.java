@@ -0,0 +1,211 @@
+package io.github.felseje.document;
+
+import io.github.felseje.cnpj.CnpjType;
+import io.github.felseje.cnpj.CnpjUtils;
+import io.github.felseje.cpf.CpfUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Documents class unit tests")
+class DocumentsTest {
+
+    /**
+     * Provides inputs with the type, validity and normalized form expected from them.
+     */
+    private static Stream<Arguments> provideDocuments() {
+        return Stream.of(
+                Arguments.of("52998224725", "Raw CPF", DocumentType.CPF, true, "52998224725"),
+                Arguments.of("529.982.247-25", "Formatted CPF", DocumentType.CPF, true, "52998224725"),
+                Arguments.of(" 529 982 247 25 ", "CPF with spaces", DocumentType.CPF, true, "52998224725"),
+                Arguments.of("529.982.247-24", "CPF with wrong check digits", DocumentType.CPF, false, ""),
+                Arguments.of("111.111.111-11", "CPF with repeated digits", DocumentType.CPF, false, ""),
+                Arguments.of("11222333000181", "Raw numeric CNPJ", DocumentType.CNPJ_NUMERIC, true,
+                        "11222333000181"),
+                Arguments.of("11.222.333/0001-81", "Formatted numeric CNPJ", DocumentType.CNPJ_NUMERIC, true,
+                        "11222333000181"),
+                Arguments.of("11.222.333/0001-82", "Numeric CNPJ with wrong check digits", DocumentType.CNPJ_NUMERIC,
+                        false, ""),
+                Arguments.of("00000000000000", "CNPJ with repeated digits", DocumentType.CNPJ_NUMERIC, false, ""),
+                Arguments.of("12ABC34501DE35", "Raw alphanumeric CNPJ", DocumentType.CNPJ_ALPHANUMERIC, true,
+                        "12ABC34501DE35"),
+                Arguments.of("12.ABC.345/01DE-35", "Formatted alphanumeric CNPJ", DocumentType.CNPJ_ALPHANUMERIC,
+                        true, "12ABC34501DE35"),
+                Arguments.of("12.ABC.345/01DE-36", "Alphanumeric CNPJ with wrong check digits",
+                        DocumentType.CNPJ_ALPHANUMERIC, false, ""),
+                Arguments.of("12.abc.345/01de-35", "Lowercase CNPJ", DocumentType.INVALID, false, ""),
+                Arguments.of("12ABC34501DE3A", "Letter in the check digits", DocumentType.INVALID, false, ""),
+                Arguments.of("5299822472A", "Letter in a CPF", DocumentType.INVALID, false, ""),
+                Arguments.of("52998224725a", "CPF followed by a lowercase letter", DocumentType.CPF, true,
+                        "52998224725"),
+                Arguments.of("x202692.85334", "CPF with a leading letter", DocumentType.CPF, true, "20269285334"),
+                Arguments.of("12 345 678 0001 95", "CNPJ with spaces", DocumentType.INVALID, false, ""),
+                Arguments.of("12ABC34501DE35 ", "CNPJ with a trailing space", DocumentType.INVALID, false, ""),
+                Arguments.of("5299822472", "Ten digits", DocumentType.INVALID, false, ""),
+                Arguments.of("112223330001810", "Fifteen digits", DocumentType.INVALID, false, ""),
+                Arguments.of("", "Empty input", DocumentType.INVALID, false, ""),
+                Arguments.of("n/a", "Placeholder", DocumentType.INVALID, false, "")
+        );
+    }
+
+    @ParameterizedTest(name = "{1}")
+    @MethodSource("provideDocuments")
+    @DisplayName("Should detect the type, validity and normalized form of a document in a single call")
+    void shouldDetectDocuments(String input, String reason, DocumentType type, boolean valid, String value) {
+        // Act
+        DetectedDocument document = Documents.detect(input);
+
+        // Assert
+        assertEquals(type, document.getType(), "Unexpected type for " + reason.toLowerCase());
+        assertEquals(valid, document.isValid(), "Unexpected validity for " + reason.toLowerCase());
+        assertEquals(value, document.getValue(), "Unexpected value for " + reason.toLowerCase());
+        assertEquals(type, Documents.typeOf(input), "Unexpected detected type for " + reason.toLowerCase());
+        assertEquals(valid, Documents.isValid(input), "Unexpected validity check for " + reason.toLowerCase());
+    }
+
+    @Test
+    @DisplayName("Should agree with the CPF and CNPJ utilities on generated documents")
+    void shouldAgreeWithDocumentUtilities() {
+        for (int index = 0; index < 1_000; index++) {
+            // Arrange
+            String cpf = CpfUtils.generate();
+            String numeric = CnpjUtils.generate(CnpjType.NUMERIC, index % 2 == 0);
+            String alphanumeric = CnpjUtils.generate(CnpjType.ALPHANUMERIC, index % 2 == 0);
+
+            // Act & Assert
+            assertEquals(DocumentType.CPF, Documents.typeOf(cpf), "Unexpected type for " + cpf);
+            assertTrue(Documents.isValid(cpf), "The generated CPF should be valid: " + cpf);
+            assertEquals(DocumentType.CNPJ_NUMERIC, Documents.typeOf(numeric), "Unexpected type for " + numeric);
+            assertTrue(Documents.isValid(numeric), "The generated CNPJ should be valid: " + numeric);
+            assertEquals(DocumentType.CNPJ_ALPHANUMERIC, Documents.typeOf(alphanumeric),
+                    "Unexpected type for " + alphanumeric);
+            assertTrue(Documents.isValid(alphanumeric), "The generated CNPJ should be valid: " + alphanumeric);
+        }
+    }
+
+    @Test
+    @DisplayName("Should agree with the CPF and CNPJ utilities on altered documents")
+    void shouldAgreeWithDocumentUtilitiesOnAlteredDocuments() {
+        for (int index = 0; index < 1_000; index++) {
+            // Arrange
+            String document = switch (index % 3) {
+                case 0 -> CpfUtils.generate(index % 2 == 0);
+                case 1 -> CnpjUtils.generate(CnpjType.NUMERIC, index % 2 == 0);
+                default -> CnpjUtils.generate(CnpjType.ALPHANUMERIC, index % 2 == 0);
+            };
+            int position = index % document.length();
+            String altered = switch (index % 5) {
+                case 0 -> document.toLowerCase();
+                case 1 -> document + (char) ('a' + index % 26);
+                case 2 -> document.substring(0, position) + ' ' + document.substring(position);
+                case 3 -> document.replace('.', ' ');
+                default -> (char) ('A' + index % 26) + document;
+            };
+
+            // Act
+            boolean valid = Documents.isValid(altered);
+
+            // Assert
+            boolean cpf = CpfUtils.isValid(altered);
+            assertEquals(cpf || CnpjUtils.isValid(altered), valid, "Unexpected validity for " + altered);
+            if (cpf) {
+                assertEquals(DocumentType.CPF, Documents.typeOf(altered), "Unexpected type for " + altered);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should share the result of invalid documents and read regions in place")
+    void shouldShareInvalidResults() {
+        // Arrange
+        String line = "CPF=52998224725;CNPJ=11222333000181";
+
+        // Act
+        DetectedDocument cpf = Documents.detect(line, 4, 11);
+        DetectedDocument cnpj = Documents.detect(line, 21, 14);
+
+        // Assert
+        assertEquals("52998224725", cpf.getValue(), "Unexpected CPF value");
+        assertEquals(DocumentType.CNPJ_NUMERIC, cnpj.getType(), "Unexpected CNPJ type");
+        assertSame(DetectedDocument.INVALID, Documents.detect(null), "A null input should be invalid");
+        assertSame(DetectedDocument.INVALID, Documents.detect("abc"), "A shapeless input should be invalid");
+        assertSame(Documents.detect("529.982.247-24"), Documents.detect("111.111.111-11"),
+                "Invalid CPFs should share their result");
+        assertEquals(Documents.detect("529.982.247-25"), Documents.detect("52998224725"),
+                "Formatted and raw CPFs should be equal");
+        assertFalse(Documents.isValid(null), "A null input should not be valid");
+        assertEquals(DocumentType.INVALID, Documents.typeOf(null), "A null input should have no type");
+        assertTrue(DocumentType.CNPJ_ALPHANUMERIC.isCnpj(), "An alphanumeric CNPJ should be a CNPJ");
+        assertFalse(DocumentType.CPF.isCnpj(), "A CPF should not be a CNPJ");
+        assertThrows(IndexOutOfBoundsException.class, () -> Documents.detect(line, 30, 14));
+    }
+
+    @Test
+    @DisplayName("Should detect a mixed column into types and a validity bitmask")
+    void shouldDetectMixedColumns() {
+        // Arrange
+        List<String> column = new ArrayList<>();
+        for (int index = 0; index < 200; index++) {
+            column.add(switch (index % 4) {
+                case 0 -> CpfUtils.generate();
+                case 1 -> CnpjUtils.generate(CnpjType.NUMERIC, true);
+                case 2 -> CnpjUtils.generate(CnpjType.ALPHANUMERIC);
+                default -> index % 8 == 3 ? "529.982.247-24" : null;
+            });
+        }
+        DocumentType[] types = new DocumentType[column.size()];
+        long[] validity = new long[4];
+        DocumentType[] linkedTypes = new DocumentType[column.size()];
+        long[] linkedValidity = new long[4];
+
+        // Act
+        int valid = Documents.detectAll(column, types, validity);
+        int linkedValid = Documents.detectAll(new LinkedList<>(column), linkedTypes, linkedValidity);
+
+        // Assert
+        assertEquals(150, valid, "Unexpected valid count");
+        for (int index = 0; index < column.size(); index++) {
+            DocumentType expected = column.get(index) == null ? DocumentType.INVALID
+                    : Documents.typeOf(column.get(index));
+            assertEquals(expected, types[index], "Unexpected type at " + index);
+            assertEquals(index % 4 != 3, (validity[index / 64] >>> index & 1) == 1, "Unexpected bit at " + index);
+        }
+        assertEquals(valid, linkedValid, "Unexpected valid count for a linked list");
+        assertArrayEquals(types, linkedTypes, "Unexpected types for a linked list");
+        assertArrayEquals(validity, linkedValidity, "Unexpected bitmask for a linked list");
+        assertEquals(1, Documents.detectAll(new CharSequence[]{"n/a", "52998224725"}, new DocumentType[2],
+                new long[1]), "Unexpected valid count for an array");
+        assertEquals(Arrays.asList(DocumentType.CPF, DocumentType.INVALID), Arrays.asList(types[0], types[7]),
+                "Unexpected types of the first values");
+    }
+
+    @Test
+    @DisplayName("Should reject invalid batch arguments")
+    void shouldRejectInvalidBatchArguments() {
+        // Arrange
+        List<String> column = List.of("52998224725", "11222333000181");
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> Documents.detectAll((List<String>) null, new DocumentType[2], new long[1]));
+        assertThrows(IllegalArgumentException.class,
+                () -> Documents.detectAll((CharSequence[]) null, new DocumentType[2], new long[1]));
+        assertThrows(IllegalArgumentException.class, () -> Documents.detectAll(column, null, new long[1]));
+        assertThrows(IllegalArgumentException.class, () -> Documents.detectAll(column, new DocumentType[2], null));
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> Documents.detectAll(column, new DocumentType[1], new long[1]));
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> Documents.detectAll(column, new DocumentType[2], new long[0]));
+    }
+
+}
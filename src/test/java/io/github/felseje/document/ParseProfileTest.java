@@ -0,0 +1,134 @@
+package io.github.felseje.document;
+
+import io.github.felseje.cnpj.CnpjType;
+import io.github.felseje.cnpj.CnpjUtils;
+import io.github.felseje.cpf.CpfUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ParseProfile enum unit tests")
+class ParseProfileTest {
+
+    /**
+     * Provides CPF inputs with their acceptance by the canonical, formatted, standard and lenient profiles.
+     */
+    private static Stream<Arguments> provideCpfs() {
+        return Stream.of(
+                Arguments.of("52998224725", "Raw CPF", true, false, true, true),
+                Arguments.of("529.982.247-25", "Formatted CPF", false, true, true, true),
+                Arguments.of("529982247-25", "Partially formatted CPF", false, false, false, true),
+                Arguments.of(" 529.982.247-25", "CPF with a leading space", false, false, false, true),
+                Arguments.of("abc529.982.247-25xyz", "CPF surrounded by letters", false, false, false, true),
+                Arguments.of("529.982.247/25", "CPF with a misplaced separator", false, false, false, true),
+                Arguments.of("529.982.247-24", "CPF with wrong check digits", false, false, false, false),
+                Arguments.of("111.111.111-11", "CPF with repeated digits", false, false, false, false),
+                Arguments.of("529982247250", "Twelve digits", false, false, false, false),
+                Arguments.of("5299822472", "Ten digits", false, false, false, false),
+                Arguments.of("", "Empty input", false, false, false, false)
+        );
+    }
+
+    /**
+     * Provides CNPJ inputs with their acceptance by the canonical, formatted, standard and lenient profiles.
+     */
+    private static Stream<Arguments> provideCnpjs() {
+        return Stream.of(
+                Arguments.of("11222333000181", "Raw numeric CNPJ", true, false, true, true),
+                Arguments.of("11.222.333/0001-81", "Formatted numeric CNPJ", false, true, true, true),
+                Arguments.of("12ABC34501DE35", "Raw alphanumeric CNPJ", true, false, true, true),
+                Arguments.of("12.ABC.345/01DE-35", "Formatted alphanumeric CNPJ", false, true, true, true),
+                Arguments.of("12.abc.345/01de-35", "Lowercase CNPJ", false, false, false, false),
+                Arguments.of("12abc34501de35", "Raw lowercase CNPJ", false, false, false, false),
+                Arguments.of("12 ABC 345 01DE 35", "CNPJ with spaces", false, false, false, true),
+                Arguments.of("11.222.333-0001/81", "CNPJ with swapped separators", false, false, false, true),
+                Arguments.of("CNPJ: 11.222.333/0001-81", "CNPJ with a prefix", false, false, false, false),
+                Arguments.of("#11.222.333/0001-81", "CNPJ with a leading symbol", false, false, false, true),
+                Arguments.of("12ABC34501DE3A", "Letter in the check digits", false, false, false, false),
+                Arguments.of("11.222.333/0001-82", "CNPJ with wrong check digits", false, false, false, false),
+                Arguments.of("00000000000000", "CNPJ with repeated digits", false, false, false, false),
+                Arguments.of("112223330001810", "Fifteen digits", false, false, false, false)
+        );
+    }
+
+    @ParameterizedTest(name = "{1}")
+    @MethodSource("provideCpfs")
+    @DisplayName("Should accept a CPF only in the shapes of each profile")
+    void shouldParseCpfsByProfile(String input, String reason, boolean canonical, boolean formatted,
+                                  boolean standard, boolean lenient) {
+        // Act & Assert
+        assertEquals(canonical, CpfUtils.isValid(input, ParseProfile.CANONICAL), "Canonical: " + reason);
+        assertEquals(formatted, CpfUtils.isValid(input, ParseProfile.FORMATTED), "Formatted: " + reason);
+        assertEquals(standard, CpfUtils.isValid(input, ParseProfile.STANDARD), "Standard: " + reason);
+        assertEquals(lenient, CpfUtils.isValid(input, ParseProfile.LENIENT), "Lenient: " + reason);
+        assertEquals(CpfUtils.toKey(input), CpfUtils.toKey(input, ParseProfile.LENIENT),
+                "The lenient profile should agree with the profile-less key for " + reason.toLowerCase());
+    }
+
+    @ParameterizedTest(name = "{1}")
+    @MethodSource("provideCnpjs")
+    @DisplayName("Should accept a CNPJ only in the shapes of each profile")
+    void shouldParseCnpjsByProfile(String input, String reason, boolean canonical, boolean formatted,
+                                   boolean standard, boolean lenient) {
+        // Act & Assert
+        assertEquals(canonical, CnpjUtils.isValid(input, ParseProfile.CANONICAL), "Canonical: " + reason);
+        assertEquals(formatted, CnpjUtils.isValid(input, ParseProfile.FORMATTED), "Formatted: " + reason);
+        assertEquals(standard, CnpjUtils.isValid(input, ParseProfile.STANDARD), "Standard: " + reason);
+        assertEquals(lenient, CnpjUtils.isValid(input, ParseProfile.LENIENT), "Lenient: " + reason);
+        assertEquals(CnpjUtils.isValid(input), standard,
+                "The standard profile should agree with the strict validation for " + reason.toLowerCase());
+        assertEquals(CnpjUtils.toKey(input), CnpjUtils.toKey(input, ParseProfile.LENIENT),
+                "The lenient profile should agree with the profile-less key for " + reason.toLowerCase());
+    }
+
+    @Test
+    @DisplayName("Should extract the same key as the profile-less methods on generated documents")
+    void shouldExtractKeys() {
+        for (int index = 0; index < 1_000; index++) {
+            // Arrange
+            String cpf = CpfUtils.generate();
+            String cnpj = CnpjUtils.generate(index % 2 == 0 ? CnpjType.NUMERIC : CnpjType.ALPHANUMERIC);
+            String rawCnpj = CnpjUtils.normalize(cnpj);
+
+            // Act & Assert
+            assertEquals(CpfUtils.toKey(cpf), CpfUtils.toKey(CpfUtils.format(cpf), ParseProfile.FORMATTED),
+                    "Unexpected formatted key: " + cpf);
+            assertEquals(CpfUtils.toKey(cpf), CpfUtils.toKey(CpfUtils.normalize(cpf), ParseProfile.CANONICAL),
+                    "Unexpected canonical key: " + cpf);
+            assertEquals(CnpjUtils.toKey(cnpj), CnpjUtils.toKey(cnpj, ParseProfile.STANDARD),
+                    "Unexpected key: " + cnpj);
+            assertEquals(CnpjUtils.toKey(rawCnpj), CnpjUtils.toKey(rawCnpj, ParseProfile.CANONICAL),
+                    "Unexpected canonical key: " + cnpj);
+            assertEquals(CnpjUtils.toKey(rawCnpj), CnpjUtils.toKey(" " + cnpj + " ", ParseProfile.LENIENT),
+                    "Unexpected lenient key: " + cnpj);
+            assertEquals(CnpjUtils.toKey(rawCnpj.toLowerCase()),
+                    CnpjUtils.toKey(rawCnpj.toLowerCase(), ParseProfile.LENIENT),
+                    "The lenient profile should read lowercase letters as the profile-less key does: " + cnpj);
+        }
+    }
+
+    @Test
+    @DisplayName("Should read regions in place and reject a null profile")
+    void shouldReadRegions() {
+        // Arrange
+        String line = "cpf=529.982.247-25;cnpj=12ABC34501DE35";
+
+        // Act & Assert
+        assertEquals(52998224725L, CpfUtils.toKey(line, 4, 14, ParseProfile.FORMATTED), "Unexpected CPF key");
+        assertEquals(CnpjUtils.toKey("12ABC34501DE35"), CnpjUtils.toKey(line, 24, 14, ParseProfile.CANONICAL),
+                "Unexpected CNPJ key");
+        assertEquals(CpfUtils.INVALID_KEY, CpfUtils.toKey(null, ParseProfile.STANDARD), "A null CPF should be invalid");
+        assertEquals(CnpjUtils.INVALID_KEY, CnpjUtils.toKey(null, ParseProfile.STANDARD),
+                "A null CNPJ should be invalid");
+        assertThrows(IllegalArgumentException.class, () -> CpfUtils.isValid("52998224725", null));
+        assertThrows(IllegalArgumentException.class, () -> CnpjUtils.toKey("11222333000181", null));
+        assertThrows(IndexOutOfBoundsException.class, () -> CpfUtils.toKey(line, 30, 14, ParseProfile.LENIENT));
+    }
+
+}
@@ -0,0 +1,80 @@
+package io.github.felseje.exception;
+
+import io.github.felseje.cnpj.Cnpj;
+import io.github.felseje.cnpj.CnpjUtils;
+import io.github.felseje.cnpj.exception.InvalidCnpjException;
+import io.github.felseje.cpf.Cpf;
+import io.github.felseje.cpf.CpfUtils;
+import io.github.felseje.cpf.exception.InvalidCpfException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("InvalidDocumentException class unit tests")
+class InvalidDocumentExceptionTest {
+
+    /**
+     * Provides library calls rejecting their input, with the exception type and message expected from them.
+     */
+    private static Stream<Arguments> provideRejections() {
+        return Stream.of(
+                Arguments.of((Executable) () -> CpfUtils.validate("529.982.247-24"), "CPF validation",
+                        InvalidCpfException.class, "The CPF is not valid"),
+                Arguments.of((Executable) () -> new Cpf("529.982.247-24"), "CPF construction",
+                        InvalidCpfException.class, "The CPF is not valid"),
+                Arguments.of((Executable) () -> CnpjUtils.validate("11.222.333/0001-82"), "CNPJ validation",
+                        InvalidCnpjException.class, "The CNPJ is not valid"),
+                Arguments.of((Executable) () -> new Cnpj("11.222.333/0001-82"), "CNPJ construction",
+                        InvalidCnpjException.class, "The CNPJ is not valid"),
+                Arguments.of((Executable) () -> new Cnpj("11.222.333-0001/81"), "Shapeless CNPJ construction",
+                        InvalidCnpjException.class, "The CNPJ does not match any valid format"),
+                Arguments.of((Executable) () -> new Cnpj("12.abc.345/01de-35"), "Lowercase CNPJ construction",
+                        InvalidCnpjException.class, "The CNPJ does not match any valid format")
+        );
+    }
+
+    @ParameterizedTest(name = "{1}")
+    @MethodSource("provideRejections")
+    @DisplayName("Should keep the exception types, messages and stack traces by default")
+    void shouldKeepTypesAndMessages(Executable call, String reason, Class<? extends InvalidDocumentException> type,
+                                    String message) {
+        // Act
+        InvalidDocumentException first = assertThrows(type, call, "Unexpected exception for " + reason.toLowerCase());
+        InvalidDocumentException second = assertThrows(type, call, "Unexpected exception for " + reason.toLowerCase());
+
+        // Assert
+        assertEquals(message, first.getMessage(), "Unexpected message for " + reason.toLowerCase());
+        assertNotSame(first, second, "Exceptions should not be shared by default");
+        assertTrue(first.getStackTrace().length > 0, "The stack trace should be filled in by default");
+    }
+
+    @Test
+    @DisplayName("Should create stackless exceptions without suppressed exceptions")
+    void shouldCreateStacklessExceptions() {
+        // Arrange
+        class StacklessException extends InvalidDocumentException {
+            StacklessException() {
+                super("The document is not valid", null, false, false);
+            }
+        }
+
+        // Act
+        InvalidDocumentException exception = new StacklessException();
+        exception.addSuppressed(new IllegalStateException("suppressed"));
+
+        // Assert
+        assertEquals("The document is not valid", exception.getMessage(), "Unexpected message");
+        assertEquals(0, exception.getStackTrace().length, "The stack trace should not be filled in");
+        assertEquals(0, exception.getSuppressed().length, "Suppressed exceptions should not be recorded");
+        assertEquals("cpf.cnpj.utils.exceptions.stackless", InvalidDocumentException.STACKLESS_PROPERTY,
+                "Unexpected property name");
+    }
+
+}
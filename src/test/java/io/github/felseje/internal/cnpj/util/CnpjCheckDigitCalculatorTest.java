@@ -0,0 +1,133 @@
+package io.github.felseje.internal.cnpj.util;
+
+import io.github.felseje.cnpj.CnpjType;
+import io.github.felseje.cnpj.exception.InvalidCnpjBaseException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CnpjCheckDigitCalculator class unit tests")
+class CnpjCheckDigitCalculatorTest {
+
+    private static final int[] WEIGHTS = {2, 3, 4, 5, 6, 7, 8, 9, 2, 3, 4, 5, 6};
+    private static final String ALPHANUMERIC = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+
+    /**
+     * Computes one check digit with the plain weights-and-modulo algorithm, each character counting its ASCII code
+     * minus 48.
+     */
+    private static int referenceCheckDigit(char[] digits, int length, Set<Integer> rests) {
+        int sum = 0;
+        for (int i = 0; i < length; i++) {
+            sum += (digits[i] - 48) * WEIGHTS[length - 1 - i];
+        }
+        int rest = sum % 11;
+        rests.add(rest);
+        return rest < 2 ? 0 : 11 - rest;
+    }
+
+    /**
+     * Computes both check digits with the plain weights-and-modulo algorithm.
+     */
+    private static char[] referenceCheckDigits(char[] base, Set<Integer> rests) {
+        char[] digits = new char[CnpjCheckDigitCalculator.BASE_SIZE + 1];
+        System.arraycopy(base, 0, digits, 0, base.length);
+        digits[base.length] = (char) ('0' + referenceCheckDigit(digits, base.length, rests));
+        return new char[]{digits[base.length], (char) ('0' + referenceCheckDigit(digits, digits.length, rests))};
+    }
+
+    /**
+     * Provides bases holding characters outside the digits and uppercase letters.
+     */
+    private static Stream<Arguments> provideUntabledBases() {
+        return Stream.of(
+                Arguments.of("12abc34501de", "Lowercase letters"),
+                Arguments.of("12.345.678/0", "Punctuation"),
+                Arguments.of("12 ABC 345 0", "Spaces"),
+                Arguments.of("zzzzzzzzzzzz", "Last lowercase letter")
+        );
+    }
+
+    @Test
+    @DisplayName("Should compute the same check digits as the reference algorithm for alphanumeric bases")
+    void shouldMatchReferenceAlgorithmForAlphanumericBases() {
+        // Arrange
+        Random random = new Random(20_240_901L);
+        Set<Integer> rests = new HashSet<>();
+
+        for (int index = 0; index < 200_000; index++) {
+            char[] base = new char[CnpjCheckDigitCalculator.BASE_SIZE];
+            int sums = 0;
+            for (int i = 0; i < base.length; i++) {
+                base[i] = ALPHANUMERIC.charAt(random.nextInt(ALPHANUMERIC.length()));
+                sums += CnpjCheckDigitCalculator.contributionOf(i, base[i]);
+            }
+
+            // Act
+            char[] expected = referenceCheckDigits(base, rests);
+
+            // Assert
+            String message = "Base " + new String(base);
+            assertArrayEquals(expected, CnpjCheckDigitCalculator.calculateCheckDigits(base, CnpjType.ALPHANUMERIC),
+                    message);
+            assertEquals((expected[0] - '0') * 10 + expected[1] - '0', CnpjCheckDigitCalculator.checkDigitsOfSums(sums),
+                    message);
+        }
+        assertTrue(rests.containsAll(Set.of(0, 1, 10)), "The bases should reach the rests 0, 1 and 10");
+    }
+
+    @Test
+    @DisplayName("Should compute the same check digits as the reference algorithm for numeric bases given as numbers")
+    void shouldMatchReferenceAlgorithmForNumericBases() {
+        // Arrange
+        Random random = new Random(20_240_902L);
+        Set<Integer> rests = new HashSet<>();
+
+        for (int index = 0; index < 200_000; index++) {
+            long number = index == 0 ? 0 : index == 1 ? 999_999_999_999L : random.nextLong(1_000_000_000_000L);
+            char[] base = String.format("%012d", number).toCharArray();
+
+            // Act
+            char[] expected = referenceCheckDigits(base, rests);
+
+            // Assert
+            assertEquals((expected[0] - '0') * 10 + expected[1] - '0', CnpjCheckDigitCalculator.checkDigitsOf(number),
+                    "Chunked base " + number);
+        }
+        assertTrue(rests.containsAll(Set.of(0, 1, 10)), "The bases should reach the rests 0, 1 and 10");
+    }
+
+    @ParameterizedTest(name = "{1}")
+    @MethodSource("provideUntabledBases")
+    @DisplayName("Should keep computing check digits of bases with other characters as before")
+    void shouldKeepArithmeticForUntabledCharacters(String base, String reason) {
+        // Act
+        char[] checkDigits = CnpjCheckDigitCalculator.calculateCheckDigits(base.toCharArray(), CnpjType.NUMERIC);
+
+        // Assert
+        assertArrayEquals(referenceCheckDigits(base.toCharArray(), new HashSet<>()), checkDigits,
+                "Unexpected check digits for " + reason.toLowerCase());
+    }
+
+    @Test
+    @DisplayName("Should reject malformed bases and a null type")
+    void shouldRejectMalformedBases() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> CnpjCheckDigitCalculator.calculateCheckDigits(new char[12], null));
+        assertThrows(InvalidCnpjBaseException.class,
+                () -> CnpjCheckDigitCalculator.calculateCheckDigits(null, CnpjType.NUMERIC));
+        assertThrows(InvalidCnpjBaseException.class,
+                () -> CnpjCheckDigitCalculator.calculateCheckDigits(new char[11], CnpjType.NUMERIC));
+    }
+
+}
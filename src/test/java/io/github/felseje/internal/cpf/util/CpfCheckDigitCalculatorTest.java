@@ -0,0 +1,93 @@
+package io.github.felseje.internal.cpf.util;
+
+import io.github.felseje.cpf.exception.InvalidCpfBaseException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CpfCheckDigitCalculator class unit tests")
+class CpfCheckDigitCalculatorTest {
+
+    private static final int[] FIRST_WEIGHTS = {10, 9, 8, 7, 6, 5, 4, 3, 2};
+    private static final int[] SECOND_WEIGHTS = {11, 10, 9, 8, 7, 6, 5, 4, 3, 2};
+
+    /**
+     * Computes both check digits with the plain weights-and-modulo algorithm.
+     */
+    private static int[] referenceCheckDigits(int[] base, Set<Integer> rests) {
+        int first = 0;
+        for (int i = 0; i < base.length; i++) {
+            first += base[i] * FIRST_WEIGHTS[i];
+        }
+        int firstRest = first % 11;
+        int firstDigit = firstRest < 2 ? 0 : 11 - firstRest;
+        int second = firstDigit * SECOND_WEIGHTS[base.length];
+        for (int i = 0; i < base.length; i++) {
+            second += base[i] * SECOND_WEIGHTS[i];
+        }
+        int secondRest = second % 11;
+        rests.add(firstRest);
+        rests.add(secondRest);
+        return new int[]{firstDigit, secondRest < 2 ? 0 : 11 - secondRest};
+    }
+
+    @Test
+    @DisplayName("Should compute the same check digits as the reference algorithm through every path")
+    void shouldMatchReferenceAlgorithm() {
+        // Arrange
+        Random random = new Random(20_240_901L);
+        Set<Integer> rests = new HashSet<>();
+
+        for (int index = 0; index < 200_000; index++) {
+            long number = index == 0 ? 0 : index == 1 ? 999_999_999L : random.nextInt(1_000_000_000);
+            int[] base = new int[CpfCheckDigitCalculator.BASE_SIZE];
+            int sums = 0;
+            for (int i = 0, value = (int) number; i < base.length; i++) {
+                base[base.length - 1 - i] = value % 10;
+                value /= 10;
+            }
+            for (int i = 0; i < base.length; i++) {
+                sums += CpfCheckDigitCalculator.contributionOf(i, base[i]);
+            }
+
+            // Act
+            int[] expected = referenceCheckDigits(base, rests);
+
+            // Assert
+            int expectedNumber = expected[0] * 10 + expected[1];
+            assertArrayEquals(expected, CpfCheckDigitCalculator.calculateCheckDigits(base), "Base " + number);
+            assertEquals(expectedNumber, CpfCheckDigitCalculator.checkDigitsOf(number), "Chunked base " + number);
+            assertEquals(expectedNumber, CpfCheckDigitCalculator.checkDigitsOfSums(sums), "Summed base " + number);
+        }
+        assertTrue(rests.containsAll(Set.of(0, 1, 10)), "The bases should reach the rests 0, 1 and 10");
+    }
+
+    @Test
+    @DisplayName("Should apply the modulo 11 rule without branches")
+    void shouldApplyModuloRule() {
+        for (int sum = 0; sum < 2_000; sum++) {
+            // Arrange
+            int rest = sum % 11;
+
+            // Act & Assert
+            assertEquals(rest < 2 ? 0 : 11 - rest, CpfCheckDigitCalculator.checkDigitOf(sum), "Sum " + sum);
+        }
+        assertEquals(7 | 9 << 16, CpfCheckDigitCalculator.sumsOf(7, 9), "Unexpected packed sums");
+    }
+
+    @Test
+    @DisplayName("Should reject malformed bases")
+    void shouldRejectMalformedBases() {
+        // Act & Assert
+        assertThrows(InvalidCpfBaseException.class, () -> CpfCheckDigitCalculator.calculateCheckDigits(null));
+        assertThrows(InvalidCpfBaseException.class, () -> CpfCheckDigitCalculator.calculateCheckDigits(new int[8]));
+        assertThrows(InvalidCpfBaseException.class,
+                () -> CpfCheckDigitCalculator.calculateCheckDigits(new int[]{1, 2, 3, 4, 5, 6, 7, 8, 10}));
+    }
+
+}
@@ -0,0 +1,95 @@
+package io.github.felseje.nfe;
+
+import io.github.felseje.cnpj.Cnpj;
+import io.github.felseje.nfe.exception.InvalidAccessKeyException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AccessKey class unit tests")
+class AccessKeyTest {
+
+    private static final String NUMERIC_KEY = "35240811222333000181550010000012341000012344";
+    private static final String ALPHANUMERIC_KEY = "41260712ABC34501DE35570010000000421000000429";
+
+    private static Stream<Arguments> invalidAccessKeyProvider() {
+        return Stream.of(
+                Arguments.of("3524081122233300018155001000001234100001234", "Short access key"),
+                Arguments.of("35240811222333000181550010000012341000012345", "Wrong key check digit"),
+                Arguments.of("35240811222333000182550010000012341000012346", "Wrong issuer check digits"),
+                Arguments.of("35240800000000000000550010000012341000012341", "Repeated issuer digits"),
+                Arguments.of("3524 0811 2223 3300 0181 5500 1000 0012 3410 0001 2344", "Formatted access key"),
+                Arguments.of("41260712abc34501DE35570010000000421000000429", "Lowercase issuer letters")
+        );
+    }
+
+    @Test
+    @DisplayName("Should expose every field of a numeric access key")
+    void shouldExposeFields() {
+        // Act
+        AccessKey key = new AccessKey(NUMERIC_KEY);
+
+        // Assert
+        assertEquals(35, key.getUf(), "Unexpected UF");
+        assertEquals(2408, key.getYearMonth(), "Unexpected year and month");
+        assertEquals(2024, key.getYear(), "Unexpected year");
+        assertEquals(8, key.getMonth(), "Unexpected month");
+        assertEquals(new Cnpj("11.222.333/0001-81"), key.getIssuer(), "Unexpected issuer");
+        assertEquals(55, key.getModel(), "Unexpected model");
+        assertEquals(1, key.getSeries(), "Unexpected series");
+        assertEquals(1234, key.getNumber(), "Unexpected number");
+        assertEquals(1, key.getEmissionType(), "Unexpected emission type");
+        assertEquals(1234, key.getNumericCode(), "Unexpected numeric code");
+        assertEquals(4, key.getCheckDigit(), "Unexpected check digit");
+        assertEquals(NUMERIC_KEY, key.getValue(), "Unexpected value");
+    }
+
+    @Test
+    @DisplayName("Should accept an alphanumeric issuer CNPJ")
+    void shouldAcceptAlphanumericIssuer() {
+        // Act
+        AccessKey key = new AccessKey(ALPHANUMERIC_KEY);
+
+        // Assert
+        assertEquals(new Cnpj("12.ABC.345/01DE-35"), key.getIssuer(), "Unexpected issuer");
+        assertEquals(key.getIssuer().getKey(), key.getIssuerKey(), "Unexpected issuer key");
+        assertEquals(57, key.getModel(), "Unexpected model");
+        assertEquals(ALPHANUMERIC_KEY, key.toString(), "Unexpected text");
+    }
+
+    @Test
+    @DisplayName("Should be equal to an access key built from the same text")
+    void shouldBeEqualForSameKey() {
+        // Arrange
+        AccessKey key = new AccessKey(NUMERIC_KEY);
+        AccessKey same = new AccessKey(new StringBuilder(NUMERIC_KEY));
+
+        // Assert
+        assertEquals(key, same, "Keys from the same text should be equal");
+        assertEquals(key.hashCode(), same.hashCode(), "Equal keys should have the same hash code");
+        assertNotEquals(key, new AccessKey(ALPHANUMERIC_KEY), "Different keys should not be equal");
+    }
+
+    @ParameterizedTest(name = "{index} => input=''{0}'', description={1}")
+    @MethodSource("invalidAccessKeyProvider")
+    @DisplayName("Should throw InvalidAccessKeyException for invalid access keys")
+    void shouldThrowForInvalidAccessKeys(String raw, String description) {
+        // Act & Assert
+        assertThrows(InvalidAccessKeyException.class, () -> new AccessKey(raw), "Should throw for " + description);
+    }
+
+    @Test
+    @DisplayName("Should throw IllegalArgumentException for null or blank access keys")
+    void shouldThrowForNullOrBlankAccessKeys() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new AccessKey(null));
+        assertThrows(IllegalArgumentException.class, () -> new AccessKey("  "));
+    }
+
+}
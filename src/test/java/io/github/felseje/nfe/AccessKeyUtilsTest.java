@@ -0,0 +1,100 @@
+package io.github.felseje.nfe;
+
+import io.github.felseje.cnpj.CnpjUtils;
+import io.github.felseje.nfe.exception.InvalidAccessKeyException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AccessKeyUtils class unit tests")
+class AccessKeyUtilsTest {
+
+    private static final String NUMERIC_KEY = "35240811222333000181550010000012341000012344";
+    private static final String ALPHANUMERIC_KEY = "41260712ABC34501DE35570010000000421000000429";
+
+    /**
+     * Provides access keys with their expected validity.
+     */
+    private static Stream<Arguments> provideAccessKeys() {
+        return Stream.of(
+                Arguments.of(NUMERIC_KEY, "Numeric issuer", true),
+                Arguments.of(ALPHANUMERIC_KEY, "Alphanumeric issuer", true),
+                Arguments.of("35240811222333000181550010000012341000012345", "Wrong key check digit", false),
+                Arguments.of("35240811222333000182550010000012341000012346", "Wrong issuer check digits", false),
+                Arguments.of("352408112223330001815500100000123410000123A4", "Letter outside the issuer", false),
+                Arguments.of("3524081122233300018155001000001234100001234", "Short access key", false),
+                Arguments.of("", "Empty access key", false)
+        );
+    }
+
+    @ParameterizedTest(name = "{1}")
+    @MethodSource("provideAccessKeys")
+    @DisplayName("Should validate the key check digit and the issuer CNPJ check digits alike on every input")
+    void shouldValidateAccessKeys(String key, String reason, boolean expected) {
+        // Arrange
+        String padded = "<" + key + ">";
+        byte[] bytes = padded.getBytes(StandardCharsets.US_ASCII);
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length).put(bytes);
+
+        // Act & Assert
+        assertEquals(expected, AccessKeyUtils.isValid(key), "Unexpected validity for " + reason.toLowerCase());
+        assertEquals(expected, AccessKeyUtils.isValid(padded, 1, key.length()), "Unexpected region validity");
+        assertEquals(expected, AccessKeyUtils.isValid(bytes, 1, key.length()), "Unexpected byte validity");
+        assertEquals(expected, AccessKeyUtils.isValid(direct, 1, key.length()), "Unexpected buffer validity");
+        assertEquals(expected ? CnpjUtils.toKey(key.substring(6, 20)) : -1L,
+                AccessKeyUtils.toIssuerKey(direct, 1, key.length()), "Unexpected issuer key");
+    }
+
+    @Test
+    @DisplayName("Should validate a batch of line-separated access keys into a bitmask")
+    void shouldValidateBatch() {
+        // Arrange
+        String[] keys = {NUMERIC_KEY, ALPHANUMERIC_KEY, "35240811222333000181550010000012341000012345"};
+        StringBuilder content = new StringBuilder();
+        for (int index = 0; index < 130; index++) {
+            content.append(keys[index % keys.length]).append('\n');
+        }
+        byte[] batch = content.toString().getBytes(StandardCharsets.US_ASCII);
+        long[] validity = new long[3];
+
+        // Act
+        int valid = AccessKeyUtils.isValidBatch(batch, 0, 45, 130, validity);
+        long[] bufferValidity = new long[3];
+        int bufferValid = AccessKeyUtils.isValidBatch(ByteBuffer.wrap(batch), 0, 45, 130, bufferValidity);
+
+        // Assert
+        assertEquals(87, valid, "Unexpected valid count");
+        assertEquals(87, bufferValid, "Unexpected buffer valid count");
+        assertArrayEquals(validity, bufferValidity, "Unexpected buffer validity");
+        for (int index = 0; index < 130; index++) {
+            assertEquals(index % 3 != 2, (validity[index >>> 6] & 1L << index) != 0, "Unexpected bit " + index);
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject invalid arguments")
+    void shouldRejectInvalidArguments() {
+        // Act & Assert
+        assertFalse(AccessKeyUtils.isValid(null), "A null key should be invalid");
+        assertThrows(IllegalArgumentException.class, () -> AccessKeyUtils.validate(" "));
+        assertThrows(InvalidAccessKeyException.class, () -> AccessKeyUtils.validate("123"));
+        assertDoesNotThrow(() -> AccessKeyUtils.validate(NUMERIC_KEY));
+        assertThrows(IllegalArgumentException.class, () -> AccessKeyUtils.isValid((byte[]) null, 0, 44));
+        assertThrows(IndexOutOfBoundsException.class, () -> AccessKeyUtils.isValid(new byte[10], 0, 44));
+        assertThrows(IllegalArgumentException.class,
+                () -> AccessKeyUtils.isValidBatch(new byte[88], 0, 43, 2, new long[1]));
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> AccessKeyUtils.isValidBatch(new byte[88], 1, 44, 2, new long[1]));
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> AccessKeyUtils.isValidBatch(new byte[88], 0, 44, 65, new long[1]));
+    }
+
+}
@@ -0,0 +1,92 @@
+package io.github.felseje.pix;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PixKeyUtils class unit tests")
+class PixKeyUtilsTest {
+
+    /**
+     * Provides untyped keys with their expected type and normalized value.
+     */
+    private static Stream<Arguments> provideKeys() {
+        return Stream.of(
+                Arguments.of("52998224725", "Raw CPF", PixKeyType.CPF, "52998224725"),
+                Arguments.of("529.982.247-25", "Formatted CPF", PixKeyType.CPF, "52998224725"),
+                Arguments.of("11222333000181", "Raw CNPJ", PixKeyType.CNPJ, "11222333000181"),
+                Arguments.of("11.222.333/0001-81", "Formatted CNPJ", PixKeyType.CNPJ, "11222333000181"),
+                Arguments.of("12.ABC.345/01DE-35", "Formatted alphanumeric CNPJ", PixKeyType.CNPJ, "12ABC34501DE35"),
+                Arguments.of("12ABC34501DE35", "Raw alphanumeric CNPJ", PixKeyType.CNPJ, "12ABC34501DE35"),
+                Arguments.of("+5511987654321", "Mobile phone", PixKeyType.PHONE, "+5511987654321"),
+                Arguments.of("+55 (11) 98765-4321", "Formatted mobile phone", PixKeyType.PHONE, "+5511987654321"),
+                Arguments.of("+551133334444", "Landline phone", PixKeyType.PHONE, "+551133334444"),
+                Arguments.of("fulano@exemplo.com.br", "E-mail", PixKeyType.EMAIL, "fulano@exemplo.com.br"),
+                Arguments.of("Fulano.Silva+pix@Meu-Banco.COM", "Mixed-case e-mail", PixKeyType.EMAIL,
+                        "fulano.silva+pix@meu-banco.com"),
+                Arguments.of("52998224725@exemplo.com", "E-mail with a CPF local part", PixKeyType.EMAIL,
+                        "52998224725@exemplo.com"),
+                Arguments.of("123e4567-e89b-12d3-a456-426614174000", "EVP", PixKeyType.EVP,
+                        "123e4567-e89b-12d3-a456-426614174000"),
+                Arguments.of("123E4567-E89B-12D3-A456-426614174000", "Uppercase EVP", PixKeyType.EVP,
+                        "123e4567-e89b-12d3-a456-426614174000"),
+                Arguments.of("52998224724", "CPF with wrong check digits", PixKeyType.INVALID, ""),
+                Arguments.of("11111111111", "CPF with repeated digits", PixKeyType.INVALID, ""),
+                Arguments.of("529.982.247/25", "CPF with a misplaced separator", PixKeyType.INVALID, ""),
+                Arguments.of("11.222.333/0001-82", "CNPJ with wrong check digits", PixKeyType.INVALID, ""),
+                Arguments.of("12abc34501de35", "Lowercase alphanumeric CNPJ", PixKeyType.INVALID, ""),
+                Arguments.of("+5501987654321", "Phone with a zero in the area code", PixKeyType.INVALID, ""),
+                Arguments.of("+5511887654321", "Nine-digit phone not starting with nine", PixKeyType.INVALID, ""),
+                Arguments.of("+14155552671", "Foreign phone", PixKeyType.INVALID, ""),
+                Arguments.of("+55", "Country code only", PixKeyType.INVALID, ""),
+                Arguments.of("fulano@@exemplo.com", "E-mail with two at signs", PixKeyType.INVALID, ""),
+                Arguments.of("@exemplo.com", "E-mail without local part", PixKeyType.INVALID, ""),
+                Arguments.of("fulano@exemplo-.com", "E-mail label ending with a hyphen", PixKeyType.INVALID, ""),
+                Arguments.of("fulano@exemplo..com", "E-mail with an empty label", PixKeyType.INVALID, ""),
+                Arguments.of("fulano@exemplo.com.", "E-mail ending with a dot", PixKeyType.INVALID, ""),
+                Arguments.of("a".repeat(71) + "@ex.com", "E-mail longer than 77 characters", PixKeyType.INVALID, ""),
+                Arguments.of("123e4567-e89b-12d3-a456-42661417400g", "EVP with a non-hex digit", PixKeyType.INVALID,
+                        ""),
+                Arguments.of("", "Empty key", PixKeyType.INVALID, ""),
+                Arguments.of("   ", "Blank key", PixKeyType.INVALID, "")
+        );
+    }
+
+    @ParameterizedTest(name = "{1}")
+    @MethodSource("provideKeys")
+    @DisplayName("Should classify and normalize untyped keys in a single pass")
+    void shouldClassifyKeys(String key, String reason, PixKeyType expectedType, String expectedValue) {
+        // Arrange
+        String padded = "<" + key + ">";
+
+        // Act
+        PixKeyType type = PixKeyUtils.classify(key);
+        PixKey parsed = PixKeyUtils.parse(padded, 1, key.length());
+
+        // Assert
+        assertEquals(expectedType, type, "Unexpected type for " + reason.toLowerCase());
+        assertEquals(expectedType, parsed.getType(), "Unexpected parsed type for " + reason.toLowerCase());
+        assertEquals(expectedValue, parsed.getValue(), "Unexpected normalized key for " + reason.toLowerCase());
+        assertEquals(expectedType != PixKeyType.INVALID, PixKeyUtils.isValid(key), "Unexpected validity");
+    }
+
+    @Test
+    @DisplayName("Should return the shared invalid key without throwing")
+    void shouldReturnSharedInvalidKey() {
+        // Act & Assert
+        assertSame(PixKey.INVALID, PixKeyUtils.parse(null), "A null key should be the invalid key");
+        assertSame(PixKey.INVALID, PixKeyUtils.parse("not a key"), "An invalid key should be the shared one");
+        assertEquals(PixKeyType.INVALID, PixKeyUtils.classify(null), "A null key should be invalid");
+        assertFalse(PixKey.INVALID.isValid(), "The invalid key should not be valid");
+        assertEquals(PixKeyUtils.parse("529.982.247-25"), PixKeyUtils.parse("52998224725"),
+                "Keys with the same normalized value should be equal");
+        assertThrows(IndexOutOfBoundsException.class, () -> PixKeyUtils.classify("abc", 2, 2));
+    }
+
+}
@@ -0,0 +1,226 @@
+package io.github.felseje.spi;
+
+import io.github.felseje.cnpj.CnpjUtils;
+import io.github.felseje.cnpj.exception.InvalidCnpjException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ValidationEngines class unit tests")
+class ValidationEnginesTest {
+
+    /**
+     * Provides CPFs and CNPJs, valid or not, with their expected validity.
+     */
+    private static Stream<Arguments> provideDocuments() {
+        return Stream.of(
+                Arguments.of("012.345.678-90", "Valid formatted CPF", true, false),
+                Arguments.of("01234567890", "Valid unformatted CPF", true, false),
+                Arguments.of("012.345.678-91", "CPF with wrong check digit", false, false),
+                Arguments.of("111.111.111-11", "CPF with repeated digits", false, false),
+                Arguments.of("11.222.333/0001-81", "Valid formatted numeric CNPJ", false, true),
+                Arguments.of("12ABC34501DE35", "Valid unformatted alphanumeric CNPJ", false, true),
+                Arguments.of("12ABC34501DE36", "CNPJ with wrong check digit", false, false),
+                Arguments.of("", "Empty input", false, false)
+        );
+    }
+
+    @Test
+    @DisplayName("Should throw exception when trying to instantiate utility class")
+    void shouldThrowOnInstantiation() throws Exception {
+        // Arrange
+        Constructor<ValidationEngines> constructor = ValidationEngines.class.getDeclaredConstructor();
+        constructor.setAccessible(true);
+
+        // Act
+        Executable executable = constructor::newInstance;
+
+        // Assert
+        InvocationTargetException ex = assertThrows(InvocationTargetException.class, executable);
+        assertInstanceOf(IllegalStateException.class, ex.getCause(), "Expected cause to be IllegalStateException");
+    }
+
+    @Test
+    @DisplayName("Should list the built-in engines supported on this JVM by descending priority")
+    void shouldListAvailableEngines() {
+        // Act
+        List<ValidationEngine> engines = ValidationEngines.available();
+
+        // Assert
+        assertEquals(List.of("vector", "scalar"), engines.stream().map(ValidationEngine::name).toList(),
+                "The Vector API is resolved for tests, so both built-in engines should be available");
+        assertTrue(engines.stream().allMatch(ValidationEngine::isSupported), "Only supported engines should be listed");
+        assertThrows(UnsupportedOperationException.class, () -> engines.remove(0));
+    }
+
+    @Test
+    @DisplayName("Should select the supported engine with the highest priority when none is requested")
+    void shouldSelectHighestPriorityEngine() {
+        // Act
+        ValidationEngine engine = ValidationEngines.active();
+
+        // Assert
+        assertNull(System.getProperty(ValidationEngines.ENGINE_PROPERTY), "No engine should be requested for tests");
+        assertSame(ValidationEngines.available().get(0), engine, "The first available engine should be active");
+        assertEquals("vector", engine.name(), "The vector engine should be active");
+    }
+
+    @ParameterizedTest(name = "{1}")
+    @MethodSource("provideDocuments")
+    @DisplayName("Should validate documents alike on every available engine")
+    void shouldValidateAlikeOnEveryEngine(String input, String reason, boolean cpf, boolean cnpj) {
+        // Arrange
+        byte[] bytes = ("#" + input + "#").getBytes(StandardCharsets.US_ASCII);
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length).put(bytes);
+
+        // Act & Assert
+        for (ValidationEngine engine : ValidationEngines.available()) {
+            String message = "Unexpected " + engine.name() + " result for " + reason.toLowerCase();
+            assertEquals(cpf, engine.isValidCpf(input, 0, input.length()), message);
+            assertEquals(cpf, engine.isValidCpf(bytes, 1, input.length()), message);
+            assertEquals(cpf, engine.isValidCpf(direct, 1, input.length()), message);
+            assertEquals(cnpj, engine.isValidCnpj(input, 0, input.length()), message);
+            assertEquals(cnpj, engine.isValidCnpj(bytes, 1, input.length()), message);
+            assertEquals(cnpj, engine.isValidCnpj(direct, 1, input.length()), message);
+            assertEquals(cnpj, engine.isValidStrictCnpj(input, 0, input.length()), message);
+            assertEquals(cnpj, engine.isValidStrictCnpj(bytes, 1, input.length()), message);
+            assertEquals(cnpj, engine.isValidStrictCnpj(direct, 1, input.length()), message);
+            assertFalse(engine.isValidCpf((CharSequence) null, 0, 0), message);
+            assertFalse(engine.isValidCnpj((byte[]) null, 0, 0), message);
+        }
+    }
+
+    @Test
+    @DisplayName("Should validate batches alike on every available engine")
+    void shouldValidateBatchesAlikeOnEveryEngine() {
+        // Arrange
+        String[] samples = {"12ABC34501DE35", "11222333000181", "12ABC34501DE36", "00000000000000", "1122233300018A"};
+        int count = 70;
+        byte[] batch = new byte[count * 14];
+        for (int i = 0; i < count; i++) {
+            System.arraycopy(samples[i % samples.length].getBytes(StandardCharsets.US_ASCII), 0, batch, i * 14, 14);
+        }
+
+        // Act & Assert
+        for (ValidationEngine engine : ValidationEngines.available()) {
+            long[] validity = new long[2];
+            int valid = engine.validateCnpjBatch(batch, 0, 14, count, validity);
+            for (int i = 0; i < count; i++) {
+                assertEquals(i % samples.length < 2, (validity[i / 64] & 1L << i) != 0,
+                        "Unexpected " + engine.name() + " validity bit for record " + i);
+            }
+            assertEquals(28, valid, "Unexpected " + engine.name() + " valid record count");
+        }
+    }
+
+    @Test
+    @DisplayName("Should run untyped CNPJ validation on the active engine")
+    void shouldValidateCnpjsOnActiveEngine() {
+        // Arrange
+        StubEngine stub = new StubEngine(ValidationEngines.active());
+
+        try (MockedStatic<ValidationEngines> engines = Mockito.mockStatic(ValidationEngines.class)) {
+            engines.when(ValidationEngines::active).thenReturn(stub);
+
+            // Act & Assert
+            assertTrue(CnpjUtils.isValid("12.ABC.345/01DE-35"), "The stub should accept a valid CNPJ");
+            assertFalse(CnpjUtils.isValid("12 ABC 345 01DE 35"), "The stub should reject a loose CNPJ shape");
+            assertTrue(CnpjUtils.isValid("11222333000181".getBytes(StandardCharsets.US_ASCII), 0, 14));
+            assertTrue(CnpjUtils.isValid(ByteBuffer.wrap("11222333000181".getBytes(StandardCharsets.US_ASCII)), 0,
+                    14));
+            assertThrows(InvalidCnpjException.class, () -> CnpjUtils.validate("12ABC34501DE36"));
+            assertEquals(5, stub.strictCalls.get(), "Every untyped CNPJ validation should reach the engine");
+        }
+    }
+
+    /**
+     * Engine delegating to a built-in one and counting the strict CNPJ validations it is asked for.
+     */
+    private static final class StubEngine implements ValidationEngine {
+        private final ValidationEngine delegate;
+        private final AtomicInteger strictCalls = new AtomicInteger();
+
+        private StubEngine(ValidationEngine delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public String name() {
+            return "stub";
+        }
+
+        @Override
+        public boolean isValidCpf(CharSequence cpf, int offset, int length) {
+            return delegate.isValidCpf(cpf, offset, length);
+        }
+
+        @Override
+        public boolean isValidCpf(byte[] cpf, int offset, int length) {
+            return delegate.isValidCpf(cpf, offset, length);
+        }
+
+        @Override
+        public boolean isValidCpf(ByteBuffer cpf, int offset, int length) {
+            return delegate.isValidCpf(cpf, offset, length);
+        }
+
+        @Override
+        public boolean isValidCnpj(CharSequence cnpj, int offset, int length) {
+            return delegate.isValidCnpj(cnpj, offset, length);
+        }
+
+        @Override
+        public boolean isValidCnpj(byte[] cnpj, int offset, int length) {
+            return delegate.isValidCnpj(cnpj, offset, length);
+        }
+
+        @Override
+        public boolean isValidCnpj(ByteBuffer cnpj, int offset, int length) {
+            return delegate.isValidCnpj(cnpj, offset, length);
+        }
+
+        @Override
+        public boolean isValidStrictCnpj(CharSequence cnpj, int offset, int length) {
+            strictCalls.incrementAndGet();
+            return delegate.isValidStrictCnpj(cnpj, offset, length);
+        }
+
+        @Override
+        public boolean isValidStrictCnpj(byte[] cnpj, int offset, int length) {
+            strictCalls.incrementAndGet();
+            return delegate.isValidStrictCnpj(cnpj, offset, length);
+        }
+
+        @Override
+        public boolean isValidStrictCnpj(ByteBuffer cnpj, int offset, int length) {
+            strictCalls.incrementAndGet();
+            return delegate.isValidStrictCnpj(cnpj, offset, length);
+        }
+
+        @Override
+        public int validateCpfBatch(byte[] batch, int offset, int stride, int count, long[] validity) {
+            return delegate.validateCpfBatch(batch, offset, stride, count, validity);
+        }
+
+        @Override
+        public int validateCnpjBatch(byte[] batch, int offset, int stride, int count, long[] validity) {
+            return delegate.validateCnpjBatch(batch, offset, stride, count, validity);
+        }
+    }
+
+}